@@ -0,0 +1,85 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.BeanCollection2TextConverter;
+import org.jsapar.Text2BeanConverter;
+import org.jsapar.schema.Schema;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures conversion between text and beans in both directions by using {@link Text2BeanConverter} and
+ * {@link BeanCollection2TextConverter}. Uses the {@link InputShape#NUMERIC} shape which maps to {@link BenchmarkBean}.
+ * The byte counter reports the size of the text, input or output.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class BeanBenchmark {
+
+    @Param("10000")
+    private int lineCount;
+
+    private Schema              csvSchema;
+    private Schema              fixedWidthSchema;
+    private String              csvText;
+    private String              fixedWidthText;
+    private long                csvBytes;
+    private long                fixedWidthBytes;
+    private List<BenchmarkBean> beans;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        InputShape shape = InputShape.NUMERIC;
+        csvSchema = shape.makeCsvSchema();
+        fixedWidthSchema = shape.makeFixedWidthSchema();
+        csvText = shape.makeCsvText(lineCount);
+        fixedWidthText = shape.makeFixedWidthText(lineCount);
+        csvBytes = csvText.getBytes(StandardCharsets.UTF_8).length;
+        fixedWidthBytes = fixedWidthText.getBytes(StandardCharsets.UTF_8).length;
+
+        beans = new ArrayList<>(lineCount);
+        new Text2BeanConverter<BenchmarkBean>(csvSchema).convert(new StringReader(csvText), e -> beans.add(e.getBean()));
+    }
+
+    @Benchmark
+    public long csvToBean(ThroughputCounters counters, Blackhole blackhole) throws IOException {
+        long count = new Text2BeanConverter<BenchmarkBean>(csvSchema)
+                .convert(new StringReader(csvText), e -> blackhole.consume(e.getBean()));
+        counters.add(count, csvBytes);
+        return count;
+    }
+
+    @Benchmark
+    public long fixedWidthToBean(ThroughputCounters counters, Blackhole blackhole) throws IOException {
+        long count = new Text2BeanConverter<BenchmarkBean>(fixedWidthSchema)
+                .convert(new StringReader(fixedWidthText), e -> blackhole.consume(e.getBean()));
+        counters.add(count, fixedWidthBytes);
+        return count;
+    }
+
+    @Benchmark
+    public long beanToCsv(ThroughputCounters counters) throws IOException {
+        long count = new BeanCollection2TextConverter<BenchmarkBean>(csvSchema).convert(beans, Writer.nullWriter());
+        counters.add(count, csvBytes);
+        return count;
+    }
+
+    @Benchmark
+    public long beanToFixedWidth(ThroughputCounters counters) throws IOException {
+        long count = new BeanCollection2TextConverter<BenchmarkBean>(fixedWidthSchema)
+                .convert(beans, Writer.nullWriter());
+        counters.add(count, fixedWidthBytes);
+        return count;
+    }
+}
@@ -0,0 +1,89 @@
+package org.jsapar.benchmark;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Bean used while benchmarking conversion to and from beans. Matches the cells of {@link InputShape#NUMERIC}.
+ */
+public class BenchmarkBean {
+
+    private long          id;
+    private String        name;
+    private BigDecimal    amount;
+    private double        rate;
+    private LocalDate     date;
+    private LocalDateTime timestamp;
+    private boolean       flag;
+
+    public BenchmarkBean() {
+    }
+
+    public BenchmarkBean(long id, String name, BigDecimal amount, double rate, LocalDate date, LocalDateTime timestamp,
+                         boolean flag) {
+        this.id = id;
+        this.name = name;
+        this.amount = amount;
+        this.rate = rate;
+        this.date = date;
+        this.timestamp = timestamp;
+        this.flag = flag;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    public void setId(long id) {
+        this.id = id;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    public void setName(String name) {
+        this.name = name;
+    }
+
+    public BigDecimal getAmount() {
+        return amount;
+    }
+
+    public void setAmount(BigDecimal amount) {
+        this.amount = amount;
+    }
+
+    public double getRate() {
+        return rate;
+    }
+
+    public void setRate(double rate) {
+        this.rate = rate;
+    }
+
+    public LocalDate getDate() {
+        return date;
+    }
+
+    public void setDate(LocalDate date) {
+        this.date = date;
+    }
+
+    public LocalDateTime getTimestamp() {
+        return timestamp;
+    }
+
+    public void setTimestamp(LocalDateTime timestamp) {
+        this.timestamp = timestamp;
+    }
+
+    public boolean isFlag() {
+        return flag;
+    }
+
+    public void setFlag(boolean flag) {
+        this.flag = flag;
+    }
+}
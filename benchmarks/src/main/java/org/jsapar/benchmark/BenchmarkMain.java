@@ -0,0 +1,27 @@
+package org.jsapar.benchmark;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.openjdk.jmh.runner.Runner;
+
+/**
+ * Runs the benchmarks with the GC profiler added so that allocation rate is reported together with throughput. Any
+ * standard JMH command line options can be supplied, for instance a regular expression to select benchmarks:
+ * <pre>
+ * java -jar target/benchmarks.jar TextParseBenchmark -p shape=NUMERIC
+ * </pre>
+ */
+public class BenchmarkMain {
+
+    public static void main(String[] args) throws RunnerException, CommandLineOptionException {
+        Options options = new OptionsBuilder()
+                .parent(new CommandLineOptions(args))
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(options).run();
+    }
+}
@@ -0,0 +1,274 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.model.CellType;
+import org.jsapar.schema.*;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * The different shapes of synthetic input that the benchmarks are executed with. Each shape describes one or more
+ * line types and can produce both a csv and a fixed width schema together with matching input text.
+ */
+public enum InputShape {
+
+    /**
+     * Few short unquoted string cells per line.
+     */
+    NARROW(QuoteSyntax.FIRST_LAST,
+            line("narrow", null,
+                    cell("first", CellType.STRING, null, 12),
+                    cell("last", CellType.STRING, null, 12),
+                    cell("city", CellType.STRING, null, 12),
+                    cell("code", CellType.STRING, null, 6))),
+
+    /**
+     * Many unquoted string cells per line.
+     */
+    WIDE(QuoteSyntax.FIRST_LAST, line("wide", null, manyCells(40))),
+
+    /**
+     * String cells that are quoted and that contain cell separators and escaped quotes.
+     */
+    QUOTED(QuoteSyntax.RFC4180,
+            line("quoted", null,
+                    cell("id", CellType.STRING, null, 8),
+                    quotedCell("description", 40),
+                    quotedCell("address", 30),
+                    cell("code", CellType.STRING, null, 6),
+                    quotedCell("comment", 40))),
+
+    /**
+     * Several line types where the line type is determined by a control cell first on each line.
+     */
+    MULTI_TYPE(QuoteSyntax.FIRST_LAST,
+            line("header", "H",
+                    cell("type", CellType.STRING, null, 1),
+                    cell("batch", CellType.INTEGER, null, 8),
+                    cell("created", CellType.LOCAL_DATE, "yyyy-MM-dd", 10)),
+            line("detail", "D",
+                    cell("type", CellType.STRING, null, 1),
+                    cell("account", CellType.STRING, null, 12),
+                    cell("amount", CellType.DECIMAL, null, 12),
+                    cell("text", CellType.STRING, null, 20)),
+            line("trailer", "T",
+                    cell("type", CellType.STRING, null, 1),
+                    cell("count", CellType.INTEGER, null, 8))),
+
+    /**
+     * Typed cells with numbers, dates and booleans. The line type matches {@link BenchmarkBean} so that this shape can
+     * be used also for converting to and from beans.
+     */
+    NUMERIC(QuoteSyntax.FIRST_LAST,
+            line(BenchmarkBean.class.getName(), null,
+                    cell("id", CellType.INTEGER, null, 10),
+                    cell("name", CellType.STRING, null, 12),
+                    cell("amount", CellType.DECIMAL, null, 12),
+                    cell("rate", CellType.FLOAT, null, 10),
+                    cell("date", CellType.LOCAL_DATE, "yyyy-MM-dd", 10),
+                    cell("timestamp", CellType.LOCAL_DATE_TIME, "yyyy-MM-dd HH:mm:ss", 19),
+                    cell("flag", CellType.BOOLEAN, null, 5)));
+
+    private static final String CELL_SEPARATOR = ";";
+    private static final String LINE_SEPARATOR = "\n";
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final DateTimeFormatter DATE_TIME_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final QuoteSyntax quoteSyntax;
+    private final List<LineDef> lines;
+
+    InputShape(QuoteSyntax quoteSyntax, LineDef... lines) {
+        this.quoteSyntax = quoteSyntax;
+        this.lines = Collections.unmodifiableList(Arrays.asList(lines));
+    }
+
+    /**
+     * @return A csv schema that can be used to parse the csv input of this shape.
+     */
+    public CsvSchema makeCsvSchema() {
+        CsvSchema schema = new CsvSchema();
+        schema.setLineSeparator(LINE_SEPARATOR);
+        schema.setQuoteSyntax(quoteSyntax);
+        for (LineDef lineDef : lines) {
+            CsvSchemaLine schemaLine = new CsvSchemaLine(lineDef.lineType);
+            schemaLine.setCellSeparator(CELL_SEPARATOR);
+            for (CellDef cellDef : lineDef.cells) {
+                CsvSchemaCell schemaCell = new CsvSchemaCell(cellDef.name, cellDef.type, cellDef.pattern, Locale.US);
+                if (cellDef.quoted)
+                    schemaCell.setQuoteBehavior(QuoteBehavior.ALWAYS);
+                addLineCondition(lineDef, schemaCell);
+                schemaLine.addSchemaCell(schemaCell);
+            }
+            schema.addSchemaLine(schemaLine);
+        }
+        return schema;
+    }
+
+    /**
+     * @return A fixed width schema that can be used to parse the fixed width input of this shape.
+     */
+    public FixedWidthSchema makeFixedWidthSchema() {
+        FixedWidthSchema schema = new FixedWidthSchema();
+        schema.setLineSeparator(LINE_SEPARATOR);
+        for (LineDef lineDef : lines) {
+            FixedWidthSchemaLine schemaLine = new FixedWidthSchemaLine(lineDef.lineType);
+            for (CellDef cellDef : lineDef.cells) {
+                FixedWidthSchemaCell schemaCell = new FixedWidthSchemaCell(cellDef.name, cellDef.width,
+                        new SchemaCellFormat(cellDef.type, cellDef.pattern, Locale.US));
+                addLineCondition(lineDef, schemaCell);
+                schemaLine.addSchemaCell(schemaCell);
+            }
+            schema.addSchemaLine(schemaLine);
+        }
+        return schema;
+    }
+
+    private static void addLineCondition(LineDef lineDef, SchemaCell schemaCell) {
+        if (lineDef.controlValue != null && schemaCell.getName().equals("type"))
+            schemaCell.setLineCondition(new MatchingCellValueCondition(lineDef.controlValue));
+    }
+
+    /**
+     * @param lineCount The number of lines to generate.
+     * @return Csv input text of this shape with the supplied number of lines.
+     */
+    public String makeCsvText(int lineCount) {
+        StringBuilder sb = new StringBuilder(lineCount * 64);
+        for (int i = 0; i < lineCount; i++) {
+            LineDef lineDef = lineOf(i);
+            boolean first = true;
+            for (CellDef cellDef : lineDef.cells) {
+                if (!first)
+                    sb.append(CELL_SEPARATOR);
+                first = false;
+                String value = cellDef.valueOf(i, lineDef);
+                if (cellDef.quoted)
+                    sb.append('"').append(value.replace("\"", "\"\"")).append('"');
+                else
+                    sb.append(value);
+            }
+            sb.append(LINE_SEPARATOR);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * @param lineCount The number of lines to generate.
+     * @return Fixed width input text of this shape with the supplied number of lines.
+     */
+    public String makeFixedWidthText(int lineCount) {
+        StringBuilder sb = new StringBuilder(lineCount * 64);
+        for (int i = 0; i < lineCount; i++) {
+            LineDef lineDef = lineOf(i);
+            for (CellDef cellDef : lineDef.cells) {
+                String value = cellDef.valueOf(i, lineDef);
+                if (value.length() > cellDef.width)
+                    value = value.substring(0, cellDef.width);
+                sb.append(value);
+                for (int pad = value.length(); pad < cellDef.width; pad++)
+                    sb.append(' ');
+            }
+            sb.append(LINE_SEPARATOR);
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Header first in every block of ten lines, trailer last, details in between.
+     */
+    private LineDef lineOf(int lineIndex) {
+        if (lines.size() == 1)
+            return lines.get(0);
+        int inBlock = lineIndex % 10;
+        if (inBlock == 0)
+            return lines.get(0);
+        if (inBlock == 9)
+            return lines.get(lines.size() - 1);
+        return lines.get(1);
+    }
+
+    private static LineDef line(String lineType, String controlValue, CellDef... cells) {
+        return new LineDef(lineType, controlValue, Arrays.asList(cells));
+    }
+
+    private static CellDef cell(String name, CellType type, String pattern, int width) {
+        return new CellDef(name, type, pattern, width, false);
+    }
+
+    private static CellDef quotedCell(String name, int width) {
+        return new CellDef(name, CellType.STRING, null, width, true);
+    }
+
+    private static CellDef[] manyCells(int count) {
+        List<CellDef> cells = new ArrayList<>(count);
+        for (int i = 0; i < count; i++)
+            cells.add(cell("c" + i, CellType.STRING, null, 10));
+        return cells.toArray(new CellDef[0]);
+    }
+
+    /**
+     * Definition of one line type of a shape.
+     */
+    private static final class LineDef {
+        private final String        lineType;
+        private final String        controlValue;
+        private final List<CellDef> cells;
+
+        private LineDef(String lineType, String controlValue, List<CellDef> cells) {
+            this.lineType = lineType;
+            this.controlValue = controlValue;
+            this.cells = cells;
+        }
+    }
+
+    /**
+     * Definition of one cell of a line type. Generates deterministic values that varies between lines.
+     */
+    private static final class CellDef {
+        private final String   name;
+        private final CellType type;
+        private final String   pattern;
+        private final int      width;
+        private final boolean  quoted;
+
+        private CellDef(String name, CellType type, String pattern, int width, boolean quoted) {
+            this.name = name;
+            this.type = type;
+            this.pattern = pattern;
+            this.width = width;
+            this.quoted = quoted;
+        }
+
+        private String valueOf(int lineIndex, LineDef lineDef) {
+            if (lineDef.controlValue != null && name.equals("type"))
+                return lineDef.controlValue;
+            switch (type) {
+            case INTEGER:
+                return String.valueOf((lineIndex * 7919L) % 10_000_000L);
+            case DECIMAL:
+                return (lineIndex % 100_000) + "." + (10 + lineIndex % 90);
+            case FLOAT:
+                return String.valueOf((lineIndex % 1000) / 8.0);
+            case BOOLEAN:
+                return lineIndex % 3 == 0 ? "true" : "false";
+            case LOCAL_DATE:
+                return BASE_DATE.plusDays(lineIndex % 3650).format(DATE_FORMAT);
+            case LOCAL_DATE_TIME:
+                return LocalDateTime.of(BASE_DATE, java.time.LocalTime.MIDNIGHT)
+                        .plusSeconds(lineIndex * 61L).format(DATE_TIME_FORMAT);
+            default:
+                if (quoted)
+                    return "Text; with \"" + name + "\" " + lineIndex % 1000;
+                String value = name + (lineIndex % 997);
+                return value.length() > width ? value.substring(0, width) : value;
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.Text2TextConverter;
+import org.jsapar.schema.Schema;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Text2TextConverter#convert(java.io.Reader, Writer)}, i.e. parsing and composing in the same thread.
+ * Output is written to a writer that discards everything so that only parsing and composing is measured. The byte
+ * counter reports the size of the input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Text2TextBenchmark {
+
+    @Param
+    private InputShape shape;
+
+    @Param("10000")
+    private int lineCount;
+
+    private Schema csvSchema;
+    private Schema fixedWidthSchema;
+    private String csvText;
+    private String fixedWidthText;
+    private long   csvBytes;
+    private long   fixedWidthBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        csvSchema = shape.makeCsvSchema();
+        fixedWidthSchema = shape.makeFixedWidthSchema();
+        csvText = shape.makeCsvText(lineCount);
+        fixedWidthText = shape.makeFixedWidthText(lineCount);
+        csvBytes = csvText.getBytes(StandardCharsets.UTF_8).length;
+        fixedWidthBytes = fixedWidthText.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public long csvToCsv(ThroughputCounters counters) throws IOException {
+        long count = new Text2TextConverter(csvSchema, csvSchema).convert(new StringReader(csvText), Writer.nullWriter());
+        counters.add(count, csvBytes);
+        return count;
+    }
+
+    @Benchmark
+    public long csvToFixedWidth(ThroughputCounters counters) throws IOException {
+        long count = new Text2TextConverter(csvSchema, fixedWidthSchema)
+                .convert(new StringReader(csvText), Writer.nullWriter());
+        counters.add(count, csvBytes);
+        return count;
+    }
+
+    @Benchmark
+    public long fixedWidthToCsv(ThroughputCounters counters) throws IOException {
+        long count = new Text2TextConverter(fixedWidthSchema, csvSchema)
+                .convert(new StringReader(fixedWidthText), Writer.nullWriter());
+        counters.add(count, fixedWidthBytes);
+        return count;
+    }
+}
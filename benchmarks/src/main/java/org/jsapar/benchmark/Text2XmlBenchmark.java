@@ -0,0 +1,46 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.Text2XmlConverter;
+import org.jsapar.schema.Schema;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.StringReader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link Text2XmlConverter#convert(java.io.Reader, Writer)} from csv input. The xml output is discarded. The
+ * byte counter reports the size of the input.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class Text2XmlBenchmark {
+
+    @Param({"NARROW", "NUMERIC"})
+    private InputShape shape;
+
+    @Param("10000")
+    private int lineCount;
+
+    private Schema csvSchema;
+    private String csvText;
+    private long   csvBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        csvSchema = shape.makeCsvSchema();
+        csvText = shape.makeCsvText(lineCount);
+        csvBytes = csvText.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public void csvToXml(ThroughputCounters counters) {
+        new Text2XmlConverter(csvSchema).convert(new StringReader(csvText), Writer.nullWriter());
+        counters.add(lineCount, csvBytes);
+    }
+}
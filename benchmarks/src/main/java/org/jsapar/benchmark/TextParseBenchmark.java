@@ -0,0 +1,63 @@
+package org.jsapar.benchmark;
+
+import org.jsapar.TextParser;
+import org.jsapar.schema.Schema;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link TextParser#parse(java.io.Reader, org.jsapar.parse.LineEventListener)} of csv and fixed width input.
+ * The primary score is the number of complete inputs parsed per second, the auxiliary counters report lines/s and
+ * bytes/s.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TextParseBenchmark {
+
+    @Param
+    private InputShape shape;
+
+    @Param("10000")
+    private int lineCount;
+
+    private Schema csvSchema;
+    private Schema fixedWidthSchema;
+    private String csvText;
+    private String fixedWidthText;
+    private long   csvBytes;
+    private long   fixedWidthBytes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        csvSchema = shape.makeCsvSchema();
+        fixedWidthSchema = shape.makeFixedWidthSchema();
+        csvText = shape.makeCsvText(lineCount);
+        fixedWidthText = shape.makeFixedWidthText(lineCount);
+        csvBytes = csvText.getBytes(StandardCharsets.UTF_8).length;
+        fixedWidthBytes = fixedWidthText.getBytes(StandardCharsets.UTF_8).length;
+    }
+
+    @Benchmark
+    public long parseCsv(ThroughputCounters counters, Blackhole blackhole) throws IOException {
+        long count = new TextParser(csvSchema).parse(new StringReader(csvText), e -> blackhole.consume(e.getLine()));
+        counters.add(count, csvBytes);
+        return count;
+    }
+
+    @Benchmark
+    public long parseFixedWidth(ThroughputCounters counters, Blackhole blackhole) throws IOException {
+        long count = new TextParser(fixedWidthSchema)
+                .parse(new StringReader(fixedWidthText), e -> blackhole.consume(e.getLine()));
+        counters.add(count, fixedWidthBytes);
+        return count;
+    }
+}
@@ -0,0 +1,37 @@
+package org.jsapar.benchmark;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Secondary counters that JMH reports as rates next to the primary score, i.e. as lines/s and bytes/s. Each benchmark
+ * invocation adds the number of lines and the number of bytes it has processed.
+ */
+@State(Scope.Thread)
+@AuxCounters(AuxCounters.Type.OPERATIONS)
+public class ThroughputCounters {
+
+    /**
+     * Number of lines parsed or composed.
+     */
+    public long lines;
+
+    /**
+     * Number of UTF-8 encoded bytes of text read or written.
+     */
+    public long bytes;
+
+    @Setup(Level.Iteration)
+    public void clear() {
+        lines = 0;
+        bytes = 0;
+    }
+
+    void add(long lineCount, long byteCount) {
+        lines += lineCount;
+        bytes += byteCount;
+    }
+}
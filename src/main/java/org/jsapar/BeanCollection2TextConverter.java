@@ -112,6 +112,10 @@ public class BeanCollection2TextConverter<T> extends AbstractConverter {
         return new BeanParseTask<>(iterator, beanMap);
     }
 
+    public Schema getComposerSchema() {
+        return composerSchema;
+    }
+
     /**
      * Converts objects of supplied collection into a text output written to supplied writer.
      *
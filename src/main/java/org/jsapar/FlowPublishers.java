@@ -0,0 +1,69 @@
+package org.jsapar;
+
+import org.jsapar.model.Line;
+import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.text.TextParsePublisher;
+import org.jsapar.parse.text.TextParseTask;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.nio.charset.Charset;
+import java.util.concurrent.Flow;
+
+/**
+ * Creates {@link Flow.Publisher} instances that parse text lazily, one line at a time, according to the demand of
+ * their subscriber. Items are produced by the thread that calls {@link Flow.Subscription#request(long)} so no extra
+ * thread is involved. Cancelling the subscription stops parsing and closes the input. The input is also closed when
+ * all of it has been parsed or when parsing fails. Errors that are not handled by the error event listener of the
+ * parser or converter are delivered to the onError method of the subscriber.
+ * <p>
+ * Since the input can only be read once, each publisher accepts only one subscriber.
+ * <p>
+ * This class is only available on Java 9 or later. It is placed within the multi-release part of the jar file so that
+ * the rest of the library still runs on Java 8.
+ * @see TextParser
+ * @see Text2BeanConverter
+ */
+public final class FlowPublishers {
+
+    private FlowPublishers() {
+    }
+
+    /**
+     * Creates a publisher that parses text from the supplied reader lazily.
+     * @param parser The parser to parse with. Error event listener and line manipulators of the parser are used.
+     * @param reader The reader to read text from.
+     * @return A publisher of the parsed lines.
+     */
+    public static Flow.Publisher<Line> publisher(TextParser parser, Reader reader) {
+        return publisher(parser.makeParseTask(reader));
+    }
+
+    /**
+     * Creates a publisher that parses bytes from the supplied input stream lazily. The bytes are parsed in the same way
+     * as when calling {@link TextParser#parse(InputStream, Charset, LineEventListener)}.
+     * @param parser      The parser to parse with. Error event listener and line manipulators of the parser are used.
+     * @param inputStream The input stream to read text from.
+     * @param charset     The charset of the input.
+     * @return A publisher of the parsed lines.
+     */
+    public static Flow.Publisher<Line> publisher(TextParser parser, InputStream inputStream, Charset charset) {
+        return publisher(parser.makeParseTask(inputStream, charset));
+    }
+
+    private static Flow.Publisher<Line> publisher(TextParseTask parseTask) {
+        return new TextParsePublisher<>(parseTask, TextParser.makeConnector(parseTask));
+    }
+
+    /**
+     * Creates a publisher that converts text from the supplied reader to beans lazily.
+     * @param converter The converter to convert with.
+     * @param reader    The reader to read the text from.
+     * @param <T>       The common base class of the beans.
+     * @return A publisher of the converted beans.
+     */
+    public static <T> Flow.Publisher<T> publisher(Text2BeanConverter<T> converter, Reader reader) {
+        TextParseTask parseTask = converter.makeParseTask(reader);
+        return new TextParsePublisher<>(parseTask, converter.makeConnector(parseTask));
+    }
+}
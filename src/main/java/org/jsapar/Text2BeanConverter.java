@@ -5,13 +5,19 @@ import org.jsapar.convert.AbstractConverter;
 import org.jsapar.convert.ConvertTask;
 import org.jsapar.error.BeanException;
 import org.jsapar.bean.BeanMap;
+import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.bean.BeanBindingLineEventListener;
 import org.jsapar.text.TextParseConfig;
+import org.jsapar.parse.text.TextParseSpliterator;
 import org.jsapar.parse.text.TextParseTask;
 import org.jsapar.schema.Schema;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.util.List;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * Converts text input to Java bean objects. You can choose to use the standard behavior or you may customize assigning
@@ -23,11 +29,14 @@ import java.util.List;
  *
  * See {@link AbstractConverter} for details about error handling and manipulating data.
  * @see AbstractConverter
+ * @see FlowPublishers
  */
 public class Text2BeanConverter<T> extends AbstractConverter {
 
     private final Schema         parseSchema;
     private BeanFactory<T> beanFactory;
+    // The bean map of the bean factory or null if a custom bean factory is used.
+    private BeanMap        beanMap;
     private BeanComposeConfig composeConfig = new BeanComposeConfig();
     private TextParseConfig   parseConfig   = new TextParseConfig();
 
@@ -44,6 +53,7 @@ public class Text2BeanConverter<T> extends AbstractConverter {
     public Text2BeanConverter(Schema parseSchema, BeanMap beanMap) {
         this.parseSchema = parseSchema;
         this.beanFactory = new BeanFactoryByMap<>(beanMap);
+        this.beanMap = beanMap;
     }
 
     /**
@@ -66,6 +76,7 @@ public class Text2BeanConverter<T> extends AbstractConverter {
      */
     public void setBeanFactory(BeanFactory<T> beanFactory) {
         this.beanFactory = beanFactory;
+        this.beanMap = null;
     }
 
     /**
@@ -84,6 +95,49 @@ public class Text2BeanConverter<T> extends AbstractConverter {
         return execute(convertTask);
     }
 
+    /**
+     * Creates a stream of beans that converts text from the supplied reader lazily, one line at a time, only when the
+     * next bean is needed by the stream. Closing the stream closes the reader.
+     * <p>
+     * The stream may be parallel, in which case batches of beans are processed by other threads. Parsing is still done
+     * by one thread at a time. Errors that are not handled by the error event listener of this converter are thrown
+     * from the terminal operation of the stream. IO errors are thrown as {@link java.io.UncheckedIOException}.
+     * <p>
+     * Unless there are line manipulators or a custom bean factory, cells are assigned to the beans directly while
+     * parsing, without creating any {@link org.jsapar.model.Line} in between. This makes the stream a faster way to
+     * convert large inputs than {@link #convert(Reader, BeanEventListener)}.
+     * @param reader The reader to read the text from.
+     * @return A lazy stream of the converted beans.
+     */
+    public Stream<T> stream(Reader reader) {
+        TextParseTask parseTask = makeParseTask(reader);
+        TextParseSpliterator<T> spliterator = new TextParseSpliterator<>(parseTask, makeConnector(parseTask));
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    /**
+     * @return A connector that makes the parse task send each converted bean to a supplied consumer. If there are no
+     * line manipulators and the default bean factory is used, the parser assigns cells directly to the beans without
+     * creating any {@link org.jsapar.model.Line} for lines that are mapped to a bean class.
+     */
+    Consumer<Consumer<T>> makeConnector(TextParseTask parseTask) {
+        BeanComposer<T> composer = new BeanComposer<>(composeConfig, beanFactory);
+        ConvertTask convertTask = new ConvertTask(parseTask, composer);
+        configure(convertTask);
+        boolean bindDirectly = beanMap != null && !hasLineManipulators();
+        return sink -> {
+            composer.setComposedEventListener(event -> sink.accept(event.getBean()));
+            LineEventListener lineForwardListener = convertTask.new LineForwardListener();
+            parseTask.setLineEventListener(bindDirectly
+                    ? new BeanBindingLineEventListener<>(lineForwardListener, beanMap, sink)
+                    : lineForwardListener);
+        };
+    }
+
+    TextParseTask makeParseTask(Reader reader) {
+        return new TextParseTask(this.parseSchema, reader, parseConfig);
+    }
+
     public void setComposeConfig(BeanComposeConfig composeConfig) {
         this.composeConfig = composeConfig;
     }
@@ -4,14 +4,17 @@ import org.jsapar.compose.Composer;
 import org.jsapar.compose.internal.ComposerFactory;
 import org.jsapar.compose.internal.SchemaComposer;
 import org.jsapar.compose.internal.TextComposerFactory;
+import org.jsapar.compose.line.EncodingWriter;
 import org.jsapar.error.ErrorEventListener;
 import org.jsapar.model.Document;
 import org.jsapar.model.Line;
 import org.jsapar.schema.Schema;
 
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.UncheckedIOException;
 import java.io.Writer;
+import java.nio.charset.Charset;
 
 /**
  * This class contains methods for transforming a Document or Line into a text output. E.g. if you want to write
@@ -36,6 +39,25 @@ public class TextComposer implements Composer, AutoCloseable {
         this(schema, writer, new TextComposerFactory());
     }
 
+    /**
+     * Creates an TextComposer with a schema that writes encoded bytes directly to an output stream. Characters are
+     * encoded into a byte buffer without any intermediate {@link java.io.OutputStreamWriter}. Single byte charsets such
+     * as ISO-8859-1, US-ASCII or windows-1252 are encoded by a table lookup. Use
+     * {@link java.nio.channels.Channels#newOutputStream(java.nio.channels.WritableByteChannel)} in order to write to a
+     * channel.
+     * <p>
+     * Bytes are buffered, so the {@link #close()} method of the created instance needs to be called when all lines are
+     * composed.
+     *
+     * @param schema       The schema to use.
+     * @param outputStream The output stream to write encoded text output to. Closed by the close method of the
+     *                     created instance.
+     * @param charset      The charset to use when encoding the text output.
+     */
+    public TextComposer(Schema schema, OutputStream outputStream, Charset charset) {
+        this(schema, new EncodingWriter(outputStream, charset));
+    }
+
     /**
      * Creates an TextComposer with a schema allowing to add custom {@link SchemaComposer}.
      *
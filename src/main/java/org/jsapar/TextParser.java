@@ -1,13 +1,24 @@
 package org.jsapar;
 
 import org.jsapar.parse.AbstractParser;
+import org.jsapar.parse.LineBatchEventListener;
+import org.jsapar.model.Line;
 import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.text.MappedFileInputStream;
+import org.jsapar.parse.text.ParallelTextParseTask;
+import org.jsapar.parse.text.TextParseSpliterator;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.parse.text.TextParseTask;
 import org.jsapar.schema.Schema;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.io.Reader;
+import java.nio.charset.Charset;
+import java.nio.file.Path;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * This class is the starting point for parsing a text (like a text file). <br>
@@ -29,6 +40,7 @@ import java.io.Reader;
  * @see TextComposer
  * @see Text2TextConverter
  * @see TextParseTask
+ * @see FlowPublishers
  */
 public class TextParser extends AbstractParser {
 
@@ -56,6 +68,167 @@ public class TextParser extends AbstractParser {
         return execute(parseTask, lineEventListener);
     }
 
+    /**
+     * Reads text from supplied reader and parses each line. Parsed lines are delivered in batches to the
+     * lineBatchEventListener. The last batch may contain fewer lines.
+     * @param reader The reader to read text from.
+     * @param lineBatchEventListener The call-back interface.
+     * @param batchSize The maximum number of lines in each batch.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     * @see org.jsapar.parse.BatchingLineEventListener
+     */
+    public long parse(Reader reader, LineBatchEventListener lineBatchEventListener, int batchSize) throws IOException {
+        TextParseTask parseTask = new TextParseTask(this.parseSchema, reader, parseConfig);
+        return execute(parseTask, lineBatchEventListener, batchSize);
+    }
+
+    /**
+     * Reads bytes from supplied input stream and parses each line. Each parsed line generates a call-back to the
+     * lineEventListener.
+     * <p>
+     * For CSV schemas where the charset is ASCII transparent, e.g. UTF-8, ISO-8859-1 or US-ASCII, and where all
+     * separators and quote characters are ASCII characters, the bytes are scanned directly and each cell is decoded
+     * only when its value is needed. This is faster than supplying a reader to {@link #parse(Reader, LineEventListener)}.
+     * Note that the maximum line length of the {@link TextParseConfig} is then counted in bytes instead of characters.
+     * In all other cases the input is decoded by an {@link java.io.InputStreamReader} and the maximum line length is
+     * counted in characters.
+     * @param inputStream The input stream to read text from.
+     * @param charset The charset of the input.
+     * @param lineEventListener The call-back interface.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     */
+    public long parse(InputStream inputStream, Charset charset, LineEventListener lineEventListener) throws IOException {
+        TextParseTask parseTask = new TextParseTask(this.parseSchema, inputStream, charset, parseConfig);
+        return execute(parseTask, lineEventListener);
+    }
+
+    /**
+     * Reads bytes from supplied input stream and parses each line in the same way as
+     * {@link #parse(InputStream, Charset, LineEventListener)}. Parsed lines are delivered in batches to the
+     * lineBatchEventListener. The last batch may contain fewer lines.
+     * @param inputStream The input stream to read text from.
+     * @param charset The charset of the input.
+     * @param lineBatchEventListener The call-back interface.
+     * @param batchSize The maximum number of lines in each batch.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     */
+    public long parse(InputStream inputStream, Charset charset, LineBatchEventListener lineBatchEventListener, int batchSize) throws IOException {
+        TextParseTask parseTask = new TextParseTask(this.parseSchema, inputStream, charset, parseConfig);
+        return execute(parseTask, lineBatchEventListener, batchSize);
+    }
+
+    /**
+     * Memory maps the supplied file and parses each line. Each parsed line generates a call-back to the
+     * lineEventListener. The file is mapped in windows that are slided forward as the file is parsed, which means that
+     * there is no limit in file size. This avoids the read system calls of regular file reading, although the bytes are
+     * still copied into the read buffer of the parser, and is the preferred way to parse large files.
+     * <p>
+     * The mapped bytes are parsed in the same way as when calling {@link #parse(InputStream, Charset, LineEventListener)}.
+     * @param path The path of the file to parse.
+     * @param charset The charset of the file.
+     * @param lineEventListener The call-back interface.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     * @see MappedFileInputStream
+     */
+    public long parse(Path path, Charset charset, LineEventListener lineEventListener) throws IOException {
+        try(InputStream inputStream = new MappedFileInputStream(path)) {
+            return parse(inputStream, charset, lineEventListener);
+        }
+    }
+
+    /**
+     * Memory maps the supplied file and parses each line in the same way as
+     * {@link #parse(Path, Charset, LineEventListener)}. Parsed lines are delivered in batches to the
+     * lineBatchEventListener. The last batch may contain fewer lines.
+     * @param path The path of the file to parse.
+     * @param charset The charset of the file.
+     * @param lineBatchEventListener The call-back interface.
+     * @param batchSize The maximum number of lines in each batch.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     */
+    public long parse(Path path, Charset charset, LineBatchEventListener lineBatchEventListener, int batchSize) throws IOException {
+        try(InputStream inputStream = new MappedFileInputStream(path)) {
+            return parse(inputStream, charset, lineBatchEventListener, batchSize);
+        }
+    }
+
+    /**
+     * Parses the supplied file by splitting it into chunks that are parsed in parallel by the threads of the common
+     * {@link java.util.concurrent.ForkJoinPool}. Line numbers are the same as when parsing sequentially. See
+     * {@link ParallelTextParseTask} for the conditions that the schema needs to fulfill. If these are not fulfilled,
+     * the file is parsed sequentially.
+     * @param path The path of the file to parse.
+     * @param charset The charset of the file.
+     * @param lineEventListener The call-back interface. If ordered is false, it needs to be thread safe. The same goes
+     *                          for any error event listener.
+     * @param ordered If true, events are delivered in the order of the lines within the file by the calling thread.
+     *                If false, events are delivered as soon as lines are parsed by the threads that parses them.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     * @see ParallelTextParseTask
+     */
+    public long parseParallel(Path path, Charset charset, LineEventListener lineEventListener, boolean ordered) throws IOException {
+        ParallelTextParseTask parseTask = new ParallelTextParseTask(this.parseSchema, path, charset, parseConfig, ordered);
+        return execute(parseTask, lineEventListener);
+    }
+
+    /**
+     * Creates a stream of lines that parses text from the supplied reader lazily, one line at a time, only when the
+     * next line is needed by the stream. This means that lines that are not needed are never parsed and that all
+     * lines never need to be kept in memory at the same time. Closing the stream closes the reader.
+     * <p>
+     * The stream may be parallel, in which case batches of parsed lines are processed by other threads. Parsing is
+     * still done by one thread at a time. Errors that are not handled by the error event listener of this parser are
+     * thrown from the terminal operation of the stream. IO errors are thrown as
+     * {@link java.io.UncheckedIOException}.
+     * @param reader The reader to read text from.
+     * @return A lazy stream of the parsed lines.
+     */
+    public Stream<Line> stream(Reader reader) {
+        return stream(makeParseTask(reader));
+    }
+
+    /**
+     * Creates a stream of lines that parses bytes from the supplied input stream lazily in the same way as
+     * {@link #stream(Reader)}. The bytes are parsed in the same way as when calling
+     * {@link #parse(InputStream, Charset, LineEventListener)}. Closing the stream closes the input stream.
+     * @param inputStream The input stream to read text from.
+     * @param charset The charset of the input.
+     * @return A lazy stream of the parsed lines.
+     */
+    public Stream<Line> stream(InputStream inputStream, Charset charset) {
+        return stream(makeParseTask(inputStream, charset));
+    }
+
+    private Stream<Line> stream(TextParseTask parseTask) {
+        TextParseSpliterator<Line> spliterator = new TextParseSpliterator<>(parseTask, makeConnector(parseTask));
+        return StreamSupport.stream(spliterator, false).onClose(spliterator::close);
+    }
+
+    TextParseTask makeParseTask(Reader reader) {
+        TextParseTask parseTask = new TextParseTask(this.parseSchema, reader, parseConfig);
+        configure(parseTask);
+        return parseTask;
+    }
+
+    TextParseTask makeParseTask(InputStream inputStream, Charset charset) {
+        TextParseTask parseTask = new TextParseTask(this.parseSchema, inputStream, charset, parseConfig);
+        configure(parseTask);
+        return parseTask;
+    }
+
+    /**
+     * @return A connector that makes the parse task send each parsed line to a supplied consumer.
+     */
+    static Consumer<Consumer<Line>> makeConnector(TextParseTask parseTask) {
+        return sink -> parseTask.setLineEventListener(event -> sink.accept(event.getLine()));
+    }
+
     public TextParseConfig getParseConfig() {
         return parseConfig;
     }
@@ -6,7 +6,6 @@ import org.jsapar.compose.line.ValidationHandler;
 import org.jsapar.error.ErrorEvent;
 import org.jsapar.error.ErrorEventListener;
 import org.jsapar.error.ExceptionErrorEventListener;
-import org.jsapar.model.Cell;
 import org.jsapar.model.Line;
 
 import java.lang.reflect.InvocationTargetException;
@@ -134,22 +133,8 @@ public class BeanComposer<T> implements Composer, BeanEventListener<T>, ErrorEve
      */
     private T assign(Line line, T objectToAssign) {
 
-        for (Cell cell : line) {
-            String sName = cell.getName();
-            if (sName == null || sName.isEmpty() || cell.isEmpty())
-                continue;
-
-            try {
-                beanFactory.assignCellToBean(line.getLineType(), objectToAssign, cell);
-            } catch (BeanComposeException
-                    | IllegalArgumentException
-                    | IllegalAccessException
-                    | InvocationTargetException
-                    | NoSuchMethodException
-                    | InstantiationException e) {
-                errorEventListener.errorEvent(new ErrorEvent(this, new ComposeException(e.getMessage() + " while handling cell " + cell, e)));
-            }
-        }
+        beanFactory.assignCellsToBean(line, objectToAssign, (cell, e) -> errorEventListener.errorEvent(
+                new ErrorEvent(this, new ComposeException(e.getMessage() + " while handling cell " + cell, e))));
         return objectToAssign;
     }
 
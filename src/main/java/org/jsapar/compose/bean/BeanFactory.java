@@ -5,6 +5,7 @@ import org.jsapar.model.Cell;
 import org.jsapar.model.Line;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.function.BiConsumer;
 
 /**
  * Interface for a bean factory that creates bean instances based on line content. Create your own implementation of this
@@ -43,4 +44,32 @@ public interface BeanFactory<T> {
      */
     void assignCellToBean(String lineType, T bean, Cell cell) throws BeanComposeException, InvocationTargetException, InstantiationException, IllegalAccessException, NoSuchMethodException;
 
+    /** Should assign the values of all cells of a line to the proper bean properties. The default implementation calls
+     * {@link #assignCellToBean(String, Object, Cell)} for each cell that has a name and that is not empty. Override
+     * this method if assigning can be done more efficiently for a whole line at a time.
+     *
+     * @param line The line to assign cells from.
+     * @param bean The bean to assign to.
+     * @param errorHandler Should be called with the cell and the exception for each cell that could not be assigned.
+     *                     The calling {@link BeanComposer} converts these into {@link org.jsapar.error.ErrorEvent}.
+     */
+    default void assignCellsToBean(Line line, T bean, BiConsumer<Cell, Exception> errorHandler) {
+        for (Cell cell : line) {
+            String sName = cell.getName();
+            if (sName == null || sName.isEmpty() || cell.isEmpty())
+                continue;
+
+            try {
+                assignCellToBean(line.getLineType(), bean, cell);
+            } catch (BeanComposeException
+                    | IllegalArgumentException
+                    | IllegalAccessException
+                    | InvocationTargetException
+                    | NoSuchMethodException
+                    | InstantiationException e) {
+                errorHandler.accept(cell, e);
+            }
+        }
+    }
+
 }
@@ -1,12 +1,14 @@
 package org.jsapar.compose.bean;
 
 import org.jsapar.model.Cell;
+import org.jsapar.model.CellIndex;
 import org.jsapar.model.Line;
 import org.jsapar.parse.bean.Bean2Cell;
 import org.jsapar.bean.BeanMap;
 import org.jsapar.parse.bean.BeanPropertyMap;
 
 import java.lang.reflect.InvocationTargetException;
+import java.util.function.BiConsumer;
 
 /**
  * Class that creates beans based on a {@link BeanMap}. The {@link BeanMap} have the information about how the beans
@@ -38,4 +40,19 @@ public class BeanFactoryByMap<T> implements BeanFactory<T>{
             bean2Cell.assign(bean, cell);
     }
 
+    /**
+     * Assigns cells of lines that were created with a {@link org.jsapar.model.CellIndex} by using a binding plan that
+     * is compiled once for each line type. Other lines are assigned one cell at a time.
+     */
+    @Override
+    public void assignCellsToBean(Line line, T bean, BiConsumer<Cell, Exception> errorHandler) {
+        CellIndex cellIndex = line.getCellIndex();
+        BeanPropertyMap beanPropertyMap = beanMap.getBeanPropertyMap(line.getLineType());
+        if (cellIndex == null || beanPropertyMap == null) {
+            BeanFactory.super.assignCellsToBean(line, bean, errorHandler);
+            return;
+        }
+        beanPropertyMap.bindingPlanOf(cellIndex).assign(line, bean, errorHandler);
+    }
+
 }
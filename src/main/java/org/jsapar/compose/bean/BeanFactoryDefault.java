@@ -2,14 +2,32 @@ package org.jsapar.compose.bean;
 
 import org.jsapar.model.Cell;
 import org.jsapar.model.Line;
+import org.jsapar.parse.bean.reflect.BeanInfo;
+import org.jsapar.parse.bean.reflect.BeanInfoReflection;
+import org.jsapar.parse.bean.reflect.PropertyAccessor;
 
 import java.lang.reflect.InvocationTargetException;
-import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
+/**
+ * Creates beans by using the line type as class name and assigns cells to bean properties by using the cell name as
+ * property name. Cell names containing dots assign properties of child beans, e.g. "address.street" assigns the
+ * street property of the bean returned by getAddress(). Missing child beans are created.
+ * <p>
+ * Classes and the getters and setters of each class are only looked up once and are then called through accessors
+ * that are shared between all instances.
+ * @param <T> common base class of all the expected beans. Use Object as base class if there is no common base class for all beans.
+ */
 public class BeanFactoryDefault<T> implements BeanFactory<T> {
     private static final String GET_PREFIX = "get";
     private static final String SET_PREFIX = "set";
 
+    private final Map<String, Class<?>> classesByLineType = new ConcurrentHashMap<>();
+    private final Map<String, CellPath> cellPathsByName   = new ConcurrentHashMap<>();
+
     @SuppressWarnings("WeakerAccess")
     public BeanFactoryDefault() {
     }
@@ -21,27 +39,29 @@ public class BeanFactoryDefault<T> implements BeanFactory<T> {
     @SuppressWarnings("unchecked")
     @Override
     public T createBean(Line line) throws ClassNotFoundException, InstantiationException, IllegalAccessException, ClassCastException, NoSuchMethodException, InvocationTargetException {
-        Class<?> c = Class.forName(line.getLineType());
-        return (T) c.getConstructor().newInstance();
+        Class<?> c = classesByLineType.get(line.getLineType());
+        if (c == null) {
+            c = Class.forName(line.getLineType());
+            classesByLineType.put(line.getLineType(), c);
+        }
+        return (T) BeanInfoReflection.of(c).newInstance();
     }
 
     @Override
     public void assignCellToBean(String lineType, T bean, Cell cell) throws BeanComposeException {
-        String sName = cell.getName();
+        CellPath cellPath = cellPathsByName.computeIfAbsent(cell.getName(), CellPath::new);
         try {
-            String[] nameLevels = sName.split("\\.");
             Object currentObject = bean;
-            for (int i = 0; i + 1 < nameLevels.length; i++) {
+            for (int i = 0; i < cellPath.childNames.length; i++) {
                 try {
                     // Continue looping to next object.
-                    currentObject = findOrCreateChildBean(currentObject, nameLevels[i]);
+                    currentObject = findOrCreateChildBean(currentObject, cellPath, i);
                 } catch (InstantiationException e) {
                     throw new BeanComposeException("Skipped assigning cell - Failed to execute default constructor for class accessed by "
-                                    + nameLevels[i], e);
+                                    + cellPath.childNames[i], e);
                 }
             }
-            sName = nameLevels[nameLevels.length - 1];
-            assignAttribute(cell, sName, currentObject);
+            assignAttribute(cell, cellPath.setMethodName, currentObject);
         } catch (InvocationTargetException | IllegalArgumentException e) {
             throw new BeanComposeException("Skipped assigning cell - Failed to execute getter or setter method in class " + bean
                             .getClass().getName(), e);
@@ -57,34 +77,77 @@ public class BeanFactoryDefault<T> implements BeanFactory<T> {
     }
 
     /**
-     * This implementation uses reflection methods to assign correct object.
+     * The cell name split into levels together with the names of the getter and setter methods of each level. Created
+     * once for each cell name.
+     */
+    private static final class CellPath {
+        private final String[] childNames;
+        private final String[] getMethodNames;
+        private final String[] setMethodNames;
+        private final String   setMethodName;
+
+        private CellPath(String cellName) {
+            String[] nameLevels = cellName.split("\\.");
+            int children = nameLevels.length - 1;
+            childNames = Arrays.copyOf(nameLevels, children);
+            getMethodNames = new String[children];
+            setMethodNames = new String[children];
+            for (int i = 0; i < children; i++) {
+                getMethodNames[i] = createGetMethodName(nameLevels[i]);
+                setMethodNames[i] = createSetMethodName(nameLevels[i]);
+            }
+            setMethodName = createSetMethodName(nameLevels[children]);
+        }
+    }
+
+    /**
+     * This implementation uses the accessors of the parent bean class to get or create the child bean.
      * @param parentBean The parent to create child of
-     * @param childBeanName The name of the child property.
-     * @return A newly created instance of the child bean
+     * @param cellPath   The path of the cell.
+     * @param level      The level of the child within the path.
+     * @return The existing or a newly created instance of the child bean
      */
-    private Object findOrCreateChildBean(Object parentBean, String childBeanName) throws InstantiationException,
+    private Object findOrCreateChildBean(Object parentBean, CellPath cellPath, int level) throws InstantiationException,
             IllegalAccessException, NoSuchMethodException, SecurityException, IllegalArgumentException,
             InvocationTargetException {
-        String getterMethodName = createGetMethodName(childBeanName);
-        Method getterMethod = parentBean.getClass().getMethod(getterMethodName);
-        Object childBean = getterMethod.invoke(parentBean);
+        BeanInfo parentInfo = BeanInfo.ofClass(parentBean.getClass());
+        PropertyAccessor getter = parentInfo.getGetterAccessor(cellPath.getMethodNames[level]);
+        if (getter == null)
+            throw new NoSuchMethodException(parentBean.getClass().getName() + "." + cellPath.getMethodNames[level] + "()");
+        Object childBean = getter.get(parentBean);
         if (childBean == null) {
             // If there was no object we have to create it..
-            Class<?> nextClass = getterMethod.getReturnType();
-            childBean = nextClass.getConstructor().newInstance();
+            Class<?> nextClass = getter.getReadType();
+            childBean = BeanInfoReflection.of(nextClass).newInstance();
             // And assign it by using the setter.
-            String setterMethodName = createSetMethodName(childBeanName);
-            parentBean.getClass().getMethod(setterMethodName, nextClass).invoke(parentBean, childBean);
+            findSetter(parentInfo, cellPath.setMethodNames[level], nextClass)
+                    .orElseThrow(() -> new NoSuchMethodException(parentBean.getClass().getName() + "."
+                            + cellPath.setMethodNames[level] + "(" + nextClass.getName() + ")"))
+                    .set(parentBean, childBean);
         }
         return childBean;
     }
 
+    /**
+     * @param beanInfo       The bean info of the class to find setter in.
+     * @param sSetMethodName The name of the setter.
+     * @param type           The parameter type of the setter.
+     * @return The setter that takes exactly supplied type as parameter.
+     */
+    private static Optional<PropertyAccessor> findSetter(BeanInfo beanInfo, String sSetMethodName, Class<?> type) {
+        for (PropertyAccessor setter : beanInfo.getSetterAccessors(sSetMethodName)) {
+            if (setter.getWriteType() == type)
+                return Optional.of(setter);
+        }
+        return Optional.empty();
+    }
+
     /**
      * Creates a set method name based on attribute name.
      * @param sAttributeName The attribute name
      * @return The set method that corresponds to this attribute.
      */
-    private String createSetMethodName(String sAttributeName) {
+    private static String createSetMethodName(String sAttributeName) {
         return createBeanMethodName(SET_PREFIX, sAttributeName);
     }
 
@@ -93,7 +156,7 @@ public class BeanFactoryDefault<T> implements BeanFactory<T> {
      * @param sAttributeName The attribute name
      * @return The get method that corresponds to this attribute.
      */
-    private String createGetMethodName(String sAttributeName) {
+    private static String createGetMethodName(String sAttributeName) {
         return createBeanMethodName(GET_PREFIX, sAttributeName);
     }
 
@@ -103,30 +166,31 @@ public class BeanFactoryDefault<T> implements BeanFactory<T> {
      * @param sAttributeName The attribute name.
      * @return The setter or setter method that corresponds to this attribute.
      */
-    private String createBeanMethodName(String prefix, String sAttributeName) {
+    private static String createBeanMethodName(String prefix, String sAttributeName) {
         return prefix + sAttributeName.substring(0, 1).toUpperCase() + sAttributeName.substring(1);
     }
 
     /**
      * Assigns an attribute value to supplied object.
      *  @param cell           The cell to get the value from
-     * @param sName          The name of the field
+     * @param sSetMethodName The name of the setter
      * @param objectToAssign The object to assign to
      */
-    private void assignAttribute(Cell cell, String sName, Object objectToAssign) throws BeanComposeException, InvocationTargetException, IllegalAccessException {
+    private void assignAttribute(Cell cell, String sSetMethodName, Object objectToAssign) throws BeanComposeException, InvocationTargetException, IllegalAccessException {
         if (cell.isEmpty())
             return;
 
-        String sSetMethodName = createSetMethodName(sName);
-        boolean success = assignParameterBySignature(objectToAssign, sSetMethodName, cell);
+        BeanInfo beanInfo = BeanInfo.ofClass(objectToAssign.getClass());
+        boolean success = assignParameterBySignature(beanInfo, objectToAssign, sSetMethodName, cell);
         if (!success) // Try again but use the name and try to cast.
-            assignParameterByName(objectToAssign, sSetMethodName, cell);
+            assignParameterByName(beanInfo, objectToAssign, sSetMethodName, cell);
     }
 
     /**
      * Assigns the cells of a line as attributes to an object.
      *
      * @param <B>            The type of the object to assign
+     * @param beanInfo       The bean info of the class of the object.
      * @param cell           The cell to get the parameter from.
      * @param objectToAssign The object to assign cell attributes to. The object will be modified.
      * @return True if the parameter was assigned to the object, false otherwise.
@@ -134,25 +198,22 @@ public class BeanFactoryDefault<T> implements BeanFactory<T> {
      * @throws IllegalAccessException if this Method object is enforcing Java language access control and the underlying method is inaccessible.
      * @throws IllegalArgumentException if the method is an instance method and the specified object argument is not an instance of the class or interface declaring the underlying method (or of a subclass or implementor thereof); if the number of actual and formal parameters differ; if an unwrapping conversion for primitive arguments fails; or if, after possible unwrapping, a parameter value cannot be converted to the corresponding formal parameter type by a method invocation conversion.
      */
-    private <B> boolean assignParameterBySignature(B objectToAssign, String sSetMethodName, Cell cell)
+    private <B> boolean assignParameterBySignature(BeanInfo beanInfo, B objectToAssign, String sSetMethodName, Cell cell)
             throws IllegalArgumentException, IllegalAccessException, InvocationTargetException {
 
         if (cell.getValue() == null)
             return false;
-        try {
-            Class<?> type = cell.getValue().getClass();
-            Method f = objectToAssign.getClass().getMethod(sSetMethodName, type);
-            f.invoke(objectToAssign, cell.getValue());
-            return true;
-        } catch (NoSuchMethodException e) {
-            // We don't care here since we will try again if this method fails.
-        }
-        return false;
+        Optional<PropertyAccessor> setter = findSetter(beanInfo, sSetMethodName, cell.getValue().getClass());
+        if (!setter.isPresent())
+            return false;
+        setter.get().set(objectToAssign, cell.getValue());
+        return true;
     }
 
     /**
      * Assigns the cells of a line as attributes to an object.
      *
+     * @param beanInfo       The bean info of the class of the object.
      * @param objectToAssign The object to assign cell attributes to. The object will be modified.
      * @param sSetMethodName The name of the setter
      * @param cell           The cell to get the parameter from.
@@ -163,56 +224,45 @@ public class BeanFactoryDefault<T> implements BeanFactory<T> {
      * @throws BeanComposeException In case of unable to create or assign bean.
      */
     @SuppressWarnings("unchecked")
-    private <B> void assignParameterByName(B objectToAssign, String sSetMethodName, Cell cell)
+    private <B> void assignParameterByName(BeanInfo beanInfo, B objectToAssign, String sSetMethodName, Cell cell)
             throws IllegalArgumentException, IllegalAccessException, InvocationTargetException, BeanComposeException {
 
-        try {
-            Method[] methods = objectToAssign.getClass().getMethods();
-            for (Method f : methods) {
-                Class<?>[] paramTypes = f.getParameterTypes();
-                if (paramTypes.length != 1 || !f.getName().equals(sSetMethodName))
-                    continue;
-
-                Object value = cell.getValue();
-                // Casts between simple types does not work automatically
-                Class<?> paramType = paramTypes[0];
-                if (paramType == Integer.TYPE && value instanceof Number)
-                    f.invoke(objectToAssign, ((Number) value).intValue());
-                else if (paramType == Short.TYPE && value instanceof Number)
-                    f.invoke(objectToAssign, ((Number) value).shortValue());
-                else if (paramType == Byte.TYPE && value instanceof Number)
-                    f.invoke(objectToAssign, ((Number) value).byteValue());
-                else if (paramType == Float.TYPE && value instanceof Number)
-                    f.invoke(objectToAssign, ((Number) value).floatValue());
-                    // Will squeeze in first character of any datatype's string representation.
-                else if (paramType == Character.TYPE) {
-                    if (value instanceof Character) {
-                        f.invoke(objectToAssign, (Character) value);
-                    } else {
-                        String sValue = value.toString();
-                        if (!sValue.isEmpty())
-                            f.invoke(objectToAssign, sValue.charAt(0));
-                    }
-                } else if (Enum.class.isAssignableFrom(paramType) && value instanceof String) {
-                    f.invoke(objectToAssign, Enum.valueOf((Class<Enum>) paramType, String.valueOf(value)));
+        for (PropertyAccessor f : beanInfo.getSetterAccessors(sSetMethodName)) {
+            Object value = cell.getValue();
+            // Casts between simple types does not work automatically
+            Class<?> paramType = f.getWriteType();
+            if (paramType == Integer.TYPE && value instanceof Number)
+                f.setInt(objectToAssign, ((Number) value).intValue());
+            else if (paramType == Short.TYPE && value instanceof Number)
+                f.setShort(objectToAssign, ((Number) value).shortValue());
+            else if (paramType == Byte.TYPE && value instanceof Number)
+                f.setByte(objectToAssign, ((Number) value).byteValue());
+            else if (paramType == Float.TYPE && value instanceof Number)
+                f.setFloat(objectToAssign, ((Number) value).floatValue());
+                // Will squeeze in first character of any datatype's string representation.
+            else if (paramType == Character.TYPE) {
+                if (value instanceof Character) {
+                    f.setChar(objectToAssign, (Character) value);
                 } else {
-                    try {
-                        f.invoke(objectToAssign, value);
-                    } catch (IllegalArgumentException e) {
-                        // There may be more methods that fits the name.
-                        continue;
-                    }
+                    String sValue = value.toString();
+                    if (!sValue.isEmpty())
+                        f.setChar(objectToAssign, sValue.charAt(0));
+                }
+            } else if (Enum.class.isAssignableFrom(paramType) && value instanceof String) {
+                f.set(objectToAssign, Enum.valueOf((Class<Enum>) paramType, String.valueOf(value)));
+            } else {
+                try {
+                    f.set(objectToAssign, value);
+                } catch (IllegalArgumentException e) {
+                    // There may be more methods that fits the name.
+                    continue;
                 }
-                return;
             }
-            throw new BeanComposeException(
-                    "Skipped assigning cell - No method called " + sSetMethodName + "() found in class "
-                            + objectToAssign.getClass().getName() + " that fits the cell ");
-        } catch (SecurityException e) {
-            throw new BeanComposeException(
-                    "Skipped assigning cell - The method " + sSetMethodName + "() in class " + objectToAssign.getClass()
-                            .getName() + " does not have public access", e);
+            return;
         }
+        throw new BeanComposeException(
+                "Skipped assigning cell - No method called " + sSetMethodName + "() found in class "
+                        + objectToAssign.getClass().getName() + " that fits the cell ");
     }
 
 
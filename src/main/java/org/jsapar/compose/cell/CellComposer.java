@@ -1,8 +1,14 @@
 package org.jsapar.compose.cell;
 
+import org.jsapar.model.BooleanCell;
 import org.jsapar.model.Cell;
+import org.jsapar.model.FloatCell;
+import org.jsapar.model.IntegerCell;
+import org.jsapar.model.StringCell;
 import org.jsapar.schema.SchemaCell;
+import org.jsapar.text.DirectFormat;
 
+import java.text.FieldPosition;
 import java.text.Format;
 
 /**
@@ -12,6 +18,10 @@ public class CellComposer {
 
     private static final String         EMPTY_STRING          = "";
 
+    // Re-used when formatting into a line buffer. Instances of this class are therefore not thread safe.
+    private final StringBuffer  formatBuffer  = new StringBuffer();
+    private final FieldPosition fieldPosition = new FieldPosition(0);
+
     /**
      * Formats a cell to a string according to the rules of this schema.
      *
@@ -33,6 +43,56 @@ public class CellComposer {
         return format != null ? format.format(cell.getValue()) : cell.getStringValue();
     }
 
+    /**
+     * Formats a cell according to the rules of this schema and appends the result to a line buffer. Same as
+     * {@link #format(Cell, SchemaCell)} but integer, boolean and string values are appended without creating any
+     * intermediate string. Formats that implement {@link DirectFormat} are given the chance to format the value
+     * directly into the line buffer before falling back to {@link Format#format(Object, StringBuffer, FieldPosition)}.
+     *
+     * @param cell       The cell to format. If this parameter is null or an empty string, the default value will be
+     *                   appended or if there is no default value, nothing is appended.
+     * @param schemaCell The cell schema to use for this cell
+     * @param line       The line buffer to append the formatted value to.
+     */
+    public void format(Cell cell, SchemaCell schemaCell, StringBuilder line) {
+        if (schemaCell.isIgnoreWrite())
+            return;
+
+        if (cell == null || cell.isEmpty()) {
+            if (schemaCell.isDefaultValue())
+                line.append(schemaCell.getDefaultValue());
+            return;
+        }
+        Format format = schemaCell.getCellFormat().getFormat();
+        if (format != null) {
+            if (format instanceof DirectFormat && formatDirect((DirectFormat) format, cell, line))
+                return;
+            formatBuffer.setLength(0);
+            format.format(cell.getValue(), formatBuffer, fieldPosition);
+            line.append(formatBuffer);
+        } else if (cell instanceof StringCell) {
+            line.append(((StringCell) cell).getValue());
+        } else if (cell instanceof IntegerCell) {
+            line.append(((IntegerCell) cell).getLong());
+        } else if (cell instanceof BooleanCell) {
+            line.append(((BooleanCell) cell).getBoolean());
+        } else {
+            line.append(cell.getStringValue());
+        }
+    }
+
+    /**
+     * Formats primitive integer and float values without boxing them.
+     * @return True if the cell was formatted, false if it needs to be formatted by the {@link Format}.
+     */
+    private static boolean formatDirect(DirectFormat format, Cell cell, StringBuilder line) {
+        if (cell instanceof IntegerCell)
+            return format.formatDirect(((IntegerCell) cell).getLong(), line);
+        if (cell instanceof FloatCell)
+            return format.formatDirect(((FloatCell) cell).getDouble(), line);
+        return format.formatDirect(cell.getValue(), line);
+    }
+
     /**
      * @return The default value if it is not null or empty string otherwise.
      * @param schemaCell The cell schema to use
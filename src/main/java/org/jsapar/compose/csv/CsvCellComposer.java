@@ -13,7 +13,7 @@ import java.io.Writer;
  */
 class CsvCellComposer {
     private CsvSchemaCell schemaCell;
-    private final static CellComposer cellComposer = new CellComposer();
+    private final CellComposer cellComposer = new CellComposer();
     private Quoter quoter;
 
     CsvCellComposer(CsvSchemaCell schemaCell, Quoter quoter)
@@ -32,5 +32,16 @@ class CsvCellComposer {
         quoter.writeValue(writer, cellComposer.format(cell, schemaCell));
     }
 
+    /**
+     * Appends the cell to the supplied line buffer, including quote character if necessary.
+     * @param line The buffer of the line that is composed.
+     * @param cell The cell to compose output for.
+     */
+    void compose(StringBuilder line, Cell cell) {
+        int start = line.length();
+        cellComposer.format(cell, schemaCell, line);
+        quoter.composeValue(line, start);
+    }
+
 
 }
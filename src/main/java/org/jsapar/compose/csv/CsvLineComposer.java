@@ -1,5 +1,6 @@
 package org.jsapar.compose.csv;
 
+import org.jsapar.compose.line.LineBuffer;
 import org.jsapar.compose.line.LineComposer;
 import org.jsapar.compose.csv.quote.*;
 import org.jsapar.model.Cell;
@@ -29,6 +30,7 @@ class CsvLineComposer implements LineComposer {
     private QuoteSyntax quoteSyntax;
     private Map<String, CsvCellComposer> cellComposers;
     private boolean firstRow=true;
+    private final LineBuffer lineBuffer = new LineBuffer();
 
     CsvLineComposer(Writer writer, CsvSchemaLine schemaLine, String lineSeparator, QuoteSyntax quoteSyntax) {
         this.writer = writer;
@@ -94,16 +96,18 @@ class CsvLineComposer implements LineComposer {
             firstRow = false;
             String sCellSeparator = schemaLine.getCellSeparator();
 
+            StringBuilder lineChars = lineBuffer.begin();
             Iterator<CsvSchemaCell> iter = schemaLine.iterator();
             while (iter.hasNext()) {
                 CsvSchemaCell schemaCell = iter.next();
                 Cell cell = line.getCell(schemaCell.getName()).orElse(schemaCell.makeEmptyCell());
                 CsvCellComposer cellComposer = cellComposers.get(schemaCell.getName());
-                cellComposer.compose(writer, cell);
+                cellComposer.compose(lineChars, cell);
 
                 if (iter.hasNext())
-                    writer.write(sCellSeparator);
+                    lineChars.append(sCellSeparator);
             }
+            lineBuffer.writeTo(writer);
         } catch (IOException e) {
             throw new UncheckedIOException(e);
         }
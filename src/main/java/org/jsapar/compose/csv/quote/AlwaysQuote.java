@@ -2,9 +2,6 @@ package org.jsapar.compose.csv.quote;
 
 import org.jsapar.schema.QuoteSyntax;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  * Always quotes supplied value and limits length to supplied max length.
  */
@@ -29,10 +26,35 @@ public class AlwaysQuote implements Quoter {
     }
 
     @Override
-    public void writeValue(Writer writer, String value) throws IOException {
-        writer.write(quoteChar);
-        valueComposer.writeValue(writer, value);
-        writer.write(quoteChar);
+    public void composeValue(StringBuilder line, int start) {
+        valueComposer.composeValue(line, start);
+        line.insert(start, quoteChar);
+        line.append(quoteChar);
+    }
+
+    /**
+     * Inserts an escape character before each quote character of the value, moving characters only once.
+     * @param line  The line buffer.
+     * @param start The position where the value starts within the line buffer.
+     * @param escapeChar The escape character.
+     */
+    private void escapeQuotes(StringBuilder line, int start, char escapeChar) {
+        int end = line.length();
+        int quotes = 0;
+        for (int i = start; i < end; i++) {
+            if (line.charAt(i) == quoteChar)
+                quotes++;
+        }
+        if (quotes == 0)
+            return;
+        line.setLength(end + quotes);
+        int target = end + quotes - 1;
+        for (int i = end - 1; i >= start && target > i; i--) {
+            char ch = line.charAt(i);
+            line.setCharAt(target--, ch);
+            if (ch == quoteChar)
+                line.setCharAt(target--, escapeChar);
+        }
     }
 
     /**
@@ -49,19 +71,19 @@ public class AlwaysQuote implements Quoter {
         }
 
         @Override
-        public void writeValue(Writer writer, String value) throws IOException {
+        public void composeValue(StringBuilder line, int start) {
             int written=0;
-            for(int i=0; i<value.length() && written<maxLength; i++){
-                char ch = value.charAt(i);
-                if(ch == quoteChar) {
+            int i=start;
+            for(; i<line.length() && written<maxLength; i++){
+                if(line.charAt(i) == quoteChar) {
                     if(written+2>maxLength)
                         break;
-                    writer.write(escapeChar);
                     written++;
                 }
-                writer.write(ch);
                 written++;
             }
+            line.setLength(i);
+            escapeQuotes(line, start, escapeChar);
         }
     }
 
@@ -76,15 +98,9 @@ public class AlwaysQuote implements Quoter {
         }
 
         @Override
-        public void writeValue(Writer writer, String value) throws IOException {
-            for(int i=0; i<value.length(); i++){
-                char ch = value.charAt(i);
-                if(ch == quoteChar) {
-                    writer.write(escapeChar);
-                }
-                writer.write(ch);
-            }
+        public void composeValue(StringBuilder line, int start) {
+            escapeQuotes(line, start, escapeChar);
         }
     }
 
-}
\ No newline at end of file
+}
@@ -1,8 +1,5 @@
 package org.jsapar.compose.csv.quote;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  */
 public class MaxLengthComposer implements ValueComposer {
@@ -13,10 +10,8 @@ public class MaxLengthComposer implements ValueComposer {
     }
 
     @Override
-    public void writeValue(Writer writer, String value) throws IOException {
-        if(value.length() > maxLength)
-            writer.write(value,0, maxLength);
-        else
-            writer.write(value);
+    public void composeValue(StringBuilder line, int start) {
+        if(line.length() - start > maxLength)
+            line.setLength(start + maxLength);
     }
 }
@@ -1,8 +1,5 @@
 package org.jsapar.compose.csv.quote;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  * Never quotes and never alters the value except for limiting number of characters written.
  */
@@ -14,8 +11,8 @@ public class NeverQuote implements Quoter {
     }
 
     @Override
-    public void writeValue(Writer writer, String value) throws IOException {
-        valueComposer.writeValue(writer, value);
+    public void composeValue(StringBuilder line, int start) {
+        valueComposer.composeValue(line, start);
     }
 
 }
@@ -1,7 +1,5 @@
 package org.jsapar.compose.csv.quote;
 
-import java.io.IOException;
-import java.io.Writer;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -40,24 +38,28 @@ public class NeverQuoteButReplace implements Quoter {
 
 
     @Override
-    public void writeValue(Writer writer, String value) throws IOException {
-        if(shouldReplace(value)) {
+    public void composeValue(StringBuilder line, int start) {
+        if(shouldReplace(line, start)) {
+            String value = line.substring(start);
             value = cellSeparatorPattern.matcher(value).replaceAll(quotedReplacement);
             value = lineSeparatorPattern.matcher(value).replaceAll(quotedReplacement);
+            line.setLength(start);
+            line.append(value);
         }
-        neverQuote.writeValue(writer, value);
+        neverQuote.composeValue(line, start);
     }
 
     /**
      * Slight optimization. Avoid the overhead of doing full replacement if none of the first characters are present.
      * This way we normally only have to loop once but we take a penalty if we hit one of the first characters.
-     * @param value The value to write.
+     * @param line  The line buffer.
+     * @param start The position where the value starts within the line buffer.
      * @return True if there is a risk that there needs to be a replacement. False if it is safe to use the original
      * value.
      */
-    private boolean shouldReplace(String value) {
-        for(int i=0; i<value.length();i++){
-            if(value.charAt(i)== cellSeparatorFirst || value.charAt(i)==lineSeparatorFirst){
+    private boolean shouldReplace(StringBuilder line, int start) {
+        for(int i=start; i<line.length();i++){
+            if(line.charAt(i)== cellSeparatorFirst || line.charAt(i)==lineSeparatorFirst){
                 return true;
             }
         }
@@ -2,9 +2,6 @@ package org.jsapar.compose.csv.quote;
 
 import org.jsapar.schema.QuoteSyntax;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
  * Quotes cell only if needed because it contains either cellSeparator, quote character or lineSeparator.
  */
@@ -32,39 +29,47 @@ public class QuoteIfNeeded implements Quoter {
     }
 
     @Override
-    public void writeValue(Writer writer, String value) throws IOException {
-        if(value.isEmpty())
-            neverQuote.writeValue(writer, value);
-        else if (shouldQuote(value)){
-            alwaysQuote.writeValue(writer, value);
+    public void composeValue(StringBuilder line, int start) {
+        if(line.length() == start)
+            neverQuote.composeValue(line, start);
+        else if (shouldQuote(line, start)){
+            alwaysQuote.composeValue(line, start);
         }
         else
-            neverQuote.writeValue(writer, value);
+            neverQuote.composeValue(line, start);
     }
 
     /**
      * Only loop once unless some suspicious character is found.
-     * @param value  The value to search
+     * @param line  The line buffer.
+     * @param start The position where the value to search starts within the line buffer.
      * @return True if value should be quoted, false otherwise.
      */
-    private boolean shouldQuote(String value){
-        for(int i=0; i<value.length(); i++){
-            final char ch = value.charAt(i);
+    private boolean shouldQuote(StringBuilder line, int start){
+        for(int i=start; i<line.length(); i++){
+            final char ch = line.charAt(i);
             if(ch == quoteChar)
                 return true;
             if(ch == cellSeparatorFirst){
-                return cellSeparator.length() == 1 || containsSpecial(value);
+                return cellSeparator.length() == 1 || containsSpecial(line, i);
             }
             if(ch == lineSeparatorFirst){
-                return lineSeparator.length() == 1 || containsSpecial(value);
+                return lineSeparator.length() == 1 || containsSpecial(line, i);
             }
         }
         return false;
     }
 
-    private boolean containsSpecial(String value){
-        return value.contains(cellSeparator)
-                || value.indexOf(quoteChar) >=0
-                || value.contains(lineSeparator);
+    /**
+     * @param from Position to search from. There is no quote character before this position.
+     */
+    private boolean containsSpecial(StringBuilder line, int from){
+        if(line.indexOf(cellSeparator, from) >= 0 || line.indexOf(lineSeparator, from) >= 0)
+            return true;
+        for(int i=from; i<line.length(); i++){
+            if(line.charAt(i) == quoteChar)
+                return true;
+        }
+        return false;
     }
 }
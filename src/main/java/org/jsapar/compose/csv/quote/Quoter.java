@@ -1,18 +1,9 @@
 package org.jsapar.compose.csv.quote;
 
-import java.io.IOException;
-import java.io.Writer;
-
 /**
- * Interface for different quote strategies.
+ * Interface for different quote strategies. Implementations apply the quote behavior of the strategy either to a value
+ * that is already appended to a line buffer, where quotes are inserted and characters are escaped in place, or while
+ * writing the value to a writer.
  */
 public interface Quoter extends ValueComposer {
-
-    /**
-     * Writes the value to the writer and applies the quote behavior of the strategy implementation.
-     * @param writer  The writer to write the quoted value to.
-     * @param value The value to quote
-     * @throws IOException In case there was an error writing to output.
-     */
-    void writeValue(Writer writer, String value) throws IOException;
 }
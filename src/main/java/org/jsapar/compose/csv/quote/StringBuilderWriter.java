@@ -0,0 +1,60 @@
+package org.jsapar.compose.csv.quote;
+
+import java.io.Writer;
+
+/**
+ * A writer that appends everything that is written to a StringBuilder without any intermediate buffer.
+ */
+class StringBuilderWriter extends Writer {
+    private final StringBuilder builder;
+
+    /**
+     * @param builder The StringBuilder to append to.
+     */
+    StringBuilderWriter(StringBuilder builder) {
+        this.builder = builder;
+    }
+
+    @Override
+    public void write(int c) {
+        builder.append((char) c);
+    }
+
+    @Override
+    public void write(char[] cbuf, int off, int len) {
+        builder.append(cbuf, off, len);
+    }
+
+    @Override
+    public void write(String str, int off, int len) {
+        builder.append(str, off, off + len);
+    }
+
+    @Override
+    public Writer append(CharSequence csq) {
+        builder.append(csq);
+        return this;
+    }
+
+    @Override
+    public Writer append(CharSequence csq, int start, int end) {
+        builder.append(csq, start, end);
+        return this;
+    }
+
+    @Override
+    public Writer append(char c) {
+        builder.append(c);
+        return this;
+    }
+
+    @Override
+    public void flush() {
+        // Nothing is buffered.
+    }
+
+    @Override
+    public void close() {
+        // Nothing to close.
+    }
+}
@@ -1,18 +1,48 @@
 package org.jsapar.compose.csv.quote;
 
 import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.io.Writer;
 
 /**
+ * Implementations need to override at least one of {@link #composeValue(StringBuilder, int)} and
+ * {@link #writeValue(Writer, String)} since the default implementations delegate to each other.
  */
 public interface ValueComposer {
 
+    /**
+     * Applies any transforming strategy of the strategy implementation to a value that is already appended to a line
+     * buffer. The value is transformed in place so that no intermediate strings are needed.
+     * <p>
+     * The default implementation removes the value from the line buffer and lets
+     * {@link #writeValue(Writer, String)} append it again through a writer. Override to transform the value in place.
+     * @param line  The buffer of the line that is composed.
+     * @param start The position within the line buffer where the value starts. The value ends at the end of the line
+     *              buffer.
+     */
+    default void composeValue(StringBuilder line, int start) {
+        String value = line.substring(start);
+        line.setLength(start);
+        try {
+            writeValue(new StringBuilderWriter(line), value);
+        } catch (IOException e) {
+            // Never thrown while appending to a StringBuilder.
+            throw new UncheckedIOException(e);
+        }
+    }
+
     /**
      * Writes the value to the writer and applies any transforming strategy of the strategy implementation.
+     * <p>
+     * The default implementation applies {@link #composeValue(StringBuilder, int)} to a copy of the value.
      * @param writer  The writer to write the quoted value to.
      * @param value The value to write
      * @throws IOException In case there was an error writing to output.
      */
-    void writeValue(Writer writer, String value) throws IOException;
+    default void writeValue(Writer writer, String value) throws IOException {
+        StringBuilder line = new StringBuilder(value);
+        composeValue(line, 0);
+        writer.append(line);
+    }
 
 }
@@ -1,6 +1,7 @@
 package org.jsapar.compose.fixed;
 
 import org.jsapar.compose.cell.CellComposer;
+import org.jsapar.compose.line.LineBuffer;
 import org.jsapar.model.Cell;
 import org.jsapar.schema.FixedWidthSchemaCell;
 
@@ -12,8 +13,9 @@ import java.io.Writer;
  */
 class FixedWidthCellComposer {
 
-    private CellComposer cellComposer = new CellComposer();
-    private Writer writer;
+    private final CellComposer cellComposer = new CellComposer();
+    private final Writer writer;
+    private LineBuffer cellBuffer;
 
     FixedWidthCellComposer(Writer writer) {
         if(writer == null)
@@ -22,7 +24,7 @@ class FixedWidthCellComposer {
     }
 
     /**
-     * Writes a cell to the supplied writer using supplied fill character.
+     * Writes a cell to the writer of this composer.
      *
      * @param cell
      *            The cell to write
@@ -30,100 +32,110 @@ class FixedWidthCellComposer {
      * @throws IOException If there is an error writing characters
      */
     void compose(Cell cell, FixedWidthSchemaCell schemaCell) throws IOException {
-        String sValue = cellComposer.format(cell, schemaCell);
-        compose(sValue, schemaCell.getPadCharacter(), schemaCell.getLength(), schemaCell.getAlignment());
+        if (cellBuffer == null)
+            cellBuffer = new LineBuffer();
+        compose(cellBuffer.begin(), cell, schemaCell);
+        cellBuffer.writeTo(writer);
     }
 
     /**
-     * Writes a cell to the supplied writer using supplied fill character.
+     * Appends a cell to the supplied line buffer, cut or padded to the length of the schema cell.
      *
-     * @param sValue
-     *            The value to write
-     * @param fillCharacter
-     *            The fill character to fill empty spaces.
-     * @param length
-     *            The number of characters to write.
-     * @param alignment
-     *            The alignment of the cell content if the content is smaller than the cell length.
-     * @throws IOException If there is an error writing characters
+     * @param line       The buffer of the line that is composed.
+     * @param cell       The cell to write
+     * @param schemaCell The schema of the cell
      */
-    private void compose(String sValue, char fillCharacter, int length, FixedWidthSchemaCell.Alignment alignment)
-            throws IOException{
-        if (sValue.length() == length) {
-            writer.write(sValue);
-        } else if (sValue.length() > length) {
+    void compose(StringBuilder line, Cell cell, FixedWidthSchemaCell schemaCell) {
+        int start = line.length();
+        cellComposer.format(cell, schemaCell, line);
+        int valueLength = line.length() - start;
+        int length = schemaCell.getLength();
+        if (valueLength > length) {
             // If the cell value is larger than the cell length, we have to cut the value.
-            fit(alignment, sValue, length);
-        } else {
+            fit(schemaCell.getAlignment(), line, start, valueLength, length);
+        } else if (valueLength < length) {
             // Otherwise use the alignment of the schema.
-            int nToFill = length - sValue.length();
-            pad(alignment, nToFill, sValue, fillCharacter);
+            pad(schemaCell.getAlignment(), line, start, length - valueLength, schemaCell.getPadCharacter());
         }
     }
 
     /**
-     * Fits supplied value to supplied length, cutting in the correct end.
+     * Fits the value at the end of the line to supplied length, cutting in the correct end.
      * @param alignment The alignment to use.
-     * @param sValue The value to write. Needs to be longer than or equal to supplied length
-     * @param length The maximum number of characters to write.
-     * @throws IOException If there is an error writing characters
+     * @param line The buffer of the line that is composed.
+     * @param start The position within the line where the value starts.
+     * @param valueLength The length of the value. Needs to be longer than supplied length.
+     * @param length The maximum number of characters to keep.
      */
-    private void fit(FixedWidthSchemaCell.Alignment alignment, String sValue, int length) throws IOException {
+    private void fit(FixedWidthSchemaCell.Alignment alignment, StringBuilder line, int start, int valueLength, int length) {
         switch (alignment) {
             case LEFT:
-                writer.write(sValue, 0, length);
                 break;
             case CENTER:
-                writer.write(sValue, (sValue.length()-length)/2, length);
+                line.delete(start, start + (valueLength - length) / 2);
                 break;
             case RIGHT:
-                writer.write(sValue, sValue.length() - length, length);
+                line.delete(start, start + valueLength - length);
                 break;
         }
+        line.setLength(start + length);
     }
 
     /**
-     * Padds supplied value in the correct end with the supplied number of characters
+     * Padds the value at the end of the line in the correct end with the supplied number of characters
      *
      * @param alignment How to allign the value of the cell.
+     * @param line The buffer of the line that is composed.
+     * @param start The position within the line where the value starts.
      * @param nToFill Number of characters to fill
-     * @param sValue The value to write
      * @param fillCharacter The fill character to use.
-     * @throws IOException If there is an error writing characters
      */
     private void pad(FixedWidthSchemaCell.Alignment alignment,
+                     StringBuilder line,
+                     int start,
                      int nToFill,
-                     String sValue,
-                     char fillCharacter) throws IOException {
+                     char fillCharacter) {
         switch (alignment) {
 
         case LEFT:
-            writer.write(sValue);
-            fill(writer, fillCharacter, nToFill);
+            fill(line, fillCharacter, nToFill);
             break;
         case CENTER:
             int nLeft = nToFill / 2;
-            fill(writer, fillCharacter, nLeft);
-            writer.write(sValue);
-            fill(writer, fillCharacter, nToFill - nLeft);
+            insertFill(line, start, fillCharacter, nLeft);
+            fill(line, fillCharacter, nToFill - nLeft);
             break;
         case RIGHT:
-            fill(writer, fillCharacter, nToFill);
-            writer.write(sValue);
+            insertFill(line, start, fillCharacter, nToFill);
             break;
         }
     }
 
     /**
-     * Writes specified fill character specified number of times.
-     * @param writer The writer to write to
+     * Inserts specified fill character specified number of times at supplied position, moving the rest of the line.
+     */
+    private static void insertFill(StringBuilder line, int position, char ch, int nSize) {
+        if (nSize <= 0)
+            return;
+        int oldLength = line.length();
+        line.setLength(oldLength + nSize);
+        for (int i = oldLength - 1; i >= position; i--) {
+            line.setCharAt(i + nSize, line.charAt(i));
+        }
+        for (int i = position; i < position + nSize; i++) {
+            line.setCharAt(i, ch);
+        }
+    }
+
+    /**
+     * Appends specified fill character specified number of times.
+     * @param line The buffer to append to
      * @param ch The character to write
      * @param nSize Number of times to write the character
-     * @throws IOException If there is an error writing characters
      */
-    static void fill(Writer writer, char ch, int nSize) throws IOException {
+    static void fill(StringBuilder line, char ch, int nSize) {
         for (int i = 0; i < nSize; i++) {
-            writer.write(ch);
+            line.append(ch);
         }
     }
 
@@ -1,5 +1,6 @@
 package org.jsapar.compose.fixed;
 
+import org.jsapar.compose.line.LineBuffer;
 import org.jsapar.compose.line.LineComposer;
 import org.jsapar.model.Cell;
 import org.jsapar.model.Line;
@@ -20,6 +21,7 @@ class FixedWidthLineComposer implements LineComposer {
     private final Writer writer;
     private final FixedWidthSchemaLine lineSchema;
     private final FixedWidthCellComposer cellComposer;
+    private final LineBuffer lineBuffer = new LineBuffer();
 
     FixedWidthLineComposer(Writer writer, FixedWidthSchemaLine lineSchema) {
         if(writer == null)
@@ -47,6 +49,7 @@ class FixedWidthLineComposer implements LineComposer {
         try {
             if (lineSchema.isIgnoreWrite())
                 return;
+            StringBuilder lineChars = lineBuffer.begin();
             Iterator<FixedWidthSchemaCell> iter = lineSchema.getSchemaCells().iterator();
 
             // Iterate all schema cells.
@@ -55,11 +58,12 @@ class FixedWidthLineComposer implements LineComposer {
                 FixedWidthSchemaCell schemaCell = iter.next();
                 totalLength += schemaCell.getLength();
                 Optional<Cell> oCell = line.getCell(schemaCell.getName());
-                cellComposer.compose(oCell.orElse(schemaCell.makeEmptyCell()), schemaCell);
+                cellComposer.compose(lineChars, oCell.orElse(schemaCell.makeEmptyCell()), schemaCell);
             }
             if (lineSchema.getMinLength() > totalLength) {
-                FixedWidthCellComposer.fill(writer, lineSchema.getPadCharacter(), lineSchema.getMinLength() - totalLength);
+                FixedWidthCellComposer.fill(lineChars, lineSchema.getPadCharacter(), lineSchema.getMinLength() - totalLength);
             }
+            lineBuffer.writeTo(writer);
         }
         catch (IOException e){
             throw new UncheckedIOException(e);
@@ -0,0 +1,301 @@
+package org.jsapar.compose.line;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.CharacterCodingException;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetDecoder;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CoderResult;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Internal class. A writer that encodes characters into a byte buffer and writes the bytes directly to an
+ * {@link OutputStream}. Compared to an {@link java.io.OutputStreamWriter}, characters of single byte charsets, such as
+ * ISO-8859-1, US-ASCII or windows-1252, are encoded by a table lookup without involving any {@link CharsetEncoder}.
+ * Other charsets are encoded by a {@link CharsetEncoder} into the same byte buffer.
+ * <p>
+ * Characters that can not be encoded are replaced by the replacement bytes of the charset, in the same way as
+ * {@link java.io.OutputStreamWriter} does. A surrogate pair is one character that is replaced once, also when the pair
+ * is split between two writes.
+ * <p>
+ * Bytes are written to the output stream only when the buffer is full or when {@link #flush()} or {@link #close()} is
+ * called. Instances are not thread safe.
+ */
+public final class EncodingWriter extends Writer {
+
+    private static final int DEFAULT_BUFFER_SIZE = 8192;
+
+    /**
+     * Encoding tables of single byte charsets by charset. Each table maps a character to its byte.
+     */
+    private static final Map<Charset, byte[]> encodeTables = new ConcurrentHashMap<>();
+
+    private final OutputStream   outputStream;
+    private final byte[]         buffer;
+    private       int            position = 0;
+    /**
+     * Table lookup to use for single byte charsets. Null if the charset is not single byte.
+     */
+    private final byte[]         encodeTable;
+    private final CharsetEncoder encoder;
+    private final ByteBuffer     byteBuffer;
+    /**
+     * A high surrogate that was the last character of the previous write and that is waiting for its low surrogate.
+     */
+    private       char           pendingSurrogate = 0;
+    /**
+     * True if the last character of the previous write was a high surrogate that is already replaced by the table
+     * lookup, so that a low surrogate at the start of next write completes the pair and is skipped.
+     */
+    private       boolean        replacedHighSurrogate = false;
+    private       boolean        closed = false;
+
+    /**
+     * @param outputStream The output stream to write encoded bytes to.
+     * @param charset      The charset to use when encoding characters.
+     */
+    public EncodingWriter(OutputStream outputStream, Charset charset) {
+        this(outputStream, charset, DEFAULT_BUFFER_SIZE);
+    }
+
+    /**
+     * @param outputStream The output stream to write encoded bytes to.
+     * @param charset      The charset to use when encoding characters.
+     * @param bufferSize   The size of the byte buffer.
+     */
+    public EncodingWriter(OutputStream outputStream, Charset charset, int bufferSize) {
+        if (outputStream == null)
+            throw new IllegalArgumentException("Output stream of writer cannot be null");
+        if (charset == null)
+            throw new IllegalArgumentException("Charset of writer cannot be null");
+        if (bufferSize < 16)
+            throw new IllegalArgumentException("Buffer size of writer needs to be at least 16 bytes");
+        this.outputStream = outputStream;
+        this.buffer = new byte[bufferSize];
+        this.encodeTable = isSingleByte(charset) ? encodeTables.computeIfAbsent(charset, EncodingWriter::makeEncodeTable) : null;
+        if (encodeTable == null) {
+            this.encoder = charset.newEncoder()
+                    .onMalformedInput(CodingErrorAction.REPLACE)
+                    .onUnmappableCharacter(CodingErrorAction.REPLACE);
+            this.byteBuffer = ByteBuffer.wrap(buffer);
+        } else {
+            this.encoder = null;
+            this.byteBuffer = null;
+        }
+    }
+
+    /**
+     * @param charset The charset to test.
+     * @return True if supplied charset encodes each character into exactly one byte so that it can be encoded by a
+     * table lookup.
+     */
+    public static boolean isSingleByte(Charset charset) {
+        return charset.canEncode() && charset.newEncoder().maxBytesPerChar() == 1.0f;
+    }
+
+    /**
+     * Creates a table that maps each character to its byte by decoding all 256 byte values. Characters that are not
+     * the result of any byte, including all surrogates, are mapped to the replacement byte of the charset. The low
+     * surrogate of a surrogate pair is skipped by the writer so that the pair is only replaced once.
+     */
+    private static byte[] makeEncodeTable(Charset charset) {
+        byte replacement = charset.newEncoder().replacement()[0];
+        byte[] table = new byte[Character.MAX_VALUE + 1];
+        Arrays.fill(table, replacement);
+        CharsetDecoder decoder = charset.newDecoder()
+                .onMalformedInput(CodingErrorAction.REPORT)
+                .onUnmappableCharacter(CodingErrorAction.REPORT);
+        for (int b = 0; b <= 0xFF; b++) {
+            try {
+                CharBuffer decoded = decoder.reset().decode(ByteBuffer.wrap(new byte[]{(byte) b}));
+                if (decoded.length() == 1)
+                    table[decoded.charAt(0)] = (byte) b;
+            } catch (CharacterCodingException e) {
+                // Byte value not used by this charset.
+            }
+        }
+        return table;
+    }
+
+    @Override
+    public void write(int c) throws IOException {
+        if (encodeTable != null) {
+            ensureOpen();
+            if (completesReplacedPair((char) c))
+                return;
+            if (position == buffer.length)
+                flushBuffer();
+            buffer[position++] = encodeTable[(char) c];
+            replacedHighSurrogate = Character.isHighSurrogate((char) c);
+        } else {
+            write(new char[]{(char) c}, 0, 1);
+        }
+    }
+
+    @Override
+    public void write(char[] chars, int offset, int length) throws IOException {
+        ensureOpen();
+        if (encodeTable != null)
+            writeSingleByte(chars, offset, length);
+        else
+            writeEncoded(CharBuffer.wrap(chars, offset, length));
+    }
+
+    @Override
+    public void write(String str, int offset, int length) throws IOException {
+        ensureOpen();
+        if (encodeTable == null) {
+            writeEncoded(CharBuffer.wrap(str, offset, offset + length));
+            return;
+        }
+        final byte[] table = encodeTable;
+        final int end = offset + length;
+        if (offset < end && completesReplacedPair(str.charAt(offset)))
+            offset++;
+        while (offset < end) {
+            if (position == buffer.length)
+                flushBuffer();
+            int stop = Math.min(end, offset + buffer.length - position);
+            while (offset < stop) {
+                final char c = str.charAt(offset++);
+                buffer[position++] = table[c];
+                if (Character.isHighSurrogate(c)) {
+                    if (offset == end)
+                        replacedHighSurrogate = true;
+                    else if (Character.isLowSurrogate(str.charAt(offset)))
+                        offset++;
+                }
+            }
+        }
+    }
+
+    /**
+     * The single byte fast path. Each character is encoded by a table lookup directly into the byte buffer. The low
+     * surrogate of a surrogate pair is skipped since the high surrogate is already replaced.
+     */
+    private void writeSingleByte(char[] chars, int offset, int length) throws IOException {
+        final byte[] table = encodeTable;
+        final int end = offset + length;
+        if (offset < end && completesReplacedPair(chars[offset]))
+            offset++;
+        while (offset < end) {
+            if (position == buffer.length)
+                flushBuffer();
+            int stop = Math.min(end, offset + buffer.length - position);
+            while (offset < stop) {
+                final char c = chars[offset++];
+                buffer[position++] = table[c];
+                if (Character.isHighSurrogate(c)) {
+                    if (offset == end)
+                        replacedHighSurrogate = true;
+                    else if (Character.isLowSurrogate(chars[offset]))
+                        offset++;
+                }
+            }
+        }
+    }
+
+    /**
+     * Called with the first character of each write to the single byte path.
+     * @param c The first character of a write.
+     * @return True if supplied character is the low surrogate of a high surrogate that ended previous write and that
+     * is already replaced.
+     */
+    private boolean completesReplacedPair(char c) {
+        final boolean completes = replacedHighSurrogate && Character.isLowSurrogate(c);
+        replacedHighSurrogate = false;
+        return completes;
+    }
+
+    private void writeEncoded(CharBuffer chars) throws IOException {
+        if (pendingSurrogate != 0 && chars.hasRemaining()) {
+            char high = pendingSurrogate;
+            pendingSurrogate = 0;
+            CharBuffer pair = CharBuffer.wrap(new char[]{high, chars.get()});
+            encode(pair);
+            if (pair.hasRemaining()) {
+                // Not a pair but two high surrogates. The second one is encoded together with the rest of the chars.
+                chars.position(chars.position() - 1);
+            }
+        }
+        encode(chars);
+        if (chars.hasRemaining()) {
+            // Only a trailing high surrogate can remain since its low surrogate is part of next write.
+            pendingSurrogate = chars.get();
+        }
+    }
+
+    private void encode(CharBuffer chars) throws IOException {
+        byteBuffer.position(position);
+        while (true) {
+            CoderResult result = encoder.encode(chars, byteBuffer, false);
+            position = byteBuffer.position();
+            if (result.isOverflow()) {
+                flushBuffer();
+                byteBuffer.position(0);
+            } else {
+                return;
+            }
+        }
+    }
+
+    private void flushBuffer() throws IOException {
+        if (position > 0) {
+            outputStream.write(buffer, 0, position);
+            position = 0;
+        }
+    }
+
+    private void ensureOpen() throws IOException {
+        if (closed)
+            throw new IOException("Writer is closed");
+    }
+
+    /**
+     * Writes all buffered bytes to the output stream and flushes the output stream.
+     *
+     * @throws IOException If there is an error writing to the output stream.
+     */
+    @Override
+    public void flush() throws IOException {
+        ensureOpen();
+        flushBuffer();
+        outputStream.flush();
+    }
+
+    /**
+     * Writes all buffered bytes and closes the output stream. A high surrogate that was never followed by a low
+     * surrogate is encoded as malformed input.
+     *
+     * @throws IOException If there is an error writing to or closing the output stream.
+     */
+    @Override
+    public void close() throws IOException {
+        if (closed)
+            return;
+        try {
+            if (encoder != null) {
+                CharBuffer remaining = pendingSurrogate != 0 ? CharBuffer.wrap(new char[]{pendingSurrogate}) : CharBuffer.allocate(0);
+                pendingSurrogate = 0;
+                byteBuffer.position(position);
+                while (encoder.encode(remaining, byteBuffer, true).isOverflow() || encoder.flush(byteBuffer).isOverflow()) {
+                    position = byteBuffer.position();
+                    flushBuffer();
+                    byteBuffer.position(0);
+                }
+                position = byteBuffer.position();
+            }
+            flushBuffer();
+        } finally {
+            closed = true;
+            outputStream.close();
+        }
+    }
+}
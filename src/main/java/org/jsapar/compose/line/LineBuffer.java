@@ -0,0 +1,38 @@
+package org.jsapar.compose.line;
+
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * Internal class. A buffer that is re-used for each line that is composed. All cells of a line are formatted, padded and
+ * quoted within the buffer and then the whole line is written to the writer with a single call.
+ */
+public final class LineBuffer {
+
+    private final StringBuilder line  = new StringBuilder(256);
+    private       char[]        chars = new char[256];
+
+    /**
+     * Clears the buffer before composing a new line.
+     *
+     * @return The empty buffer to compose the line into.
+     */
+    public StringBuilder begin() {
+        line.setLength(0);
+        return line;
+    }
+
+    /**
+     * Writes the composed line to supplied writer.
+     *
+     * @param writer The writer to write to.
+     * @throws IOException If there is an error writing to the writer.
+     */
+    public void writeTo(Writer writer) throws IOException {
+        int length = line.length();
+        if (length > chars.length)
+            chars = new char[Math.max(length, chars.length * 2)];
+        line.getChars(0, length, chars, 0);
+        writer.write(chars, 0, length);
+    }
+}
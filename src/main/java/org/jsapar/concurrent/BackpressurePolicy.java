@@ -0,0 +1,21 @@
+package org.jsapar.concurrent;
+
+/**
+ * Decides what a {@link ConcurrentLineEventListener} does with a new event when its queue is full because the
+ * consumer thread has fallen behind.
+ */
+public enum BackpressurePolicy {
+    /**
+     * The producing thread waits until there is room in the queue. This is the default.
+     */
+    BLOCK,
+    /**
+     * The event is dropped and an error event is fired for the dropped lines. The producing thread never waits.
+     */
+    DROP,
+    /**
+     * The event is written to a temporary file and handed over to the consumer thread, in the original order, as soon
+     * as there is room in the queue. The producing thread only waits while closing. Lines need to be serializable.
+     */
+    SPILL
+}
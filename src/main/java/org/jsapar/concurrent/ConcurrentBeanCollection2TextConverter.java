@@ -8,6 +8,8 @@ import org.jsapar.schema.Schema;
 import java.io.IOException;
 import java.io.Writer;
 import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 import java.util.stream.Stream;
 
 /**
@@ -33,14 +35,77 @@ public class ConcurrentBeanCollection2TextConverter<T> extends BeanCollection2Te
 
     @Override
     public long convert(Stream<? extends T> stream, Writer writer) throws IOException {
-        execute(convertTaskFactory.makeConvertTask(makeParseTask(stream), makeComposer(writer)));
-        return 0;
+        return execute(convertTaskFactory.makeConvertTask(makeParseTask(stream), makeComposer(writer)));
     }
 
     @Override
     public long convert(Iterator<? extends T> iterator, Writer writer) throws IOException {
-        execute(convertTaskFactory.makeConvertTask(makeParseTask(iterator), makeComposer(writer)));
-        return 0;
+        return execute(convertTaskFactory.makeConvertTask(makeParseTask(iterator), makeComposer(writer)));
+    }
+
+    /**
+     * Sets the thread factory that creates the worker thread of each conversion. On Java 21 or later, use for
+     * instance <code>Thread.ofVirtual().factory()</code> to run the composer on a virtual thread, which makes it
+     * possible to run a large number of conversions at the same time.
+     * @param threadFactory The thread factory to use or null to create a new platform thread for each conversion.
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.convertTaskFactory.setThreadFactory(threadFactory);
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return this.convertTaskFactory.getThreadFactory();
+    }
+
+    /**
+     * Sets an executor that runs the worker of each conversion instead of creating a new thread. This makes it
+     * possible to share a thread pool, for instance an {@link java.util.concurrent.ExecutorService}, between
+     * converters. Each conversion occupies one thread of the executor until it is done.
+     * @param executor The executor to use or null to create a new thread for each conversion.
+     */
+    public void setExecutor(Executor executor) {
+        this.convertTaskFactory.setExecutor(executor);
+    }
+
+    public Executor getExecutor() {
+        return this.convertTaskFactory.getExecutor();
+    }
+
+    /**
+     * @param queueSize Maximum number of lines waiting to be composed before the backpressure policy is applied.
+     *                  Default is {@link ConcurrentLineEventListener#DEFAULT_QUEUE_SIZE}.
+     */
+    public void setQueueSize(int queueSize) {
+        this.convertTaskFactory.setQueueSize(queueSize);
+    }
+
+    public int getQueueSize() {
+        return this.convertTaskFactory.getQueueSize();
+    }
+
+    /**
+     * Sets what to do when the composer falls behind and the queue is full. Lines that are dropped by
+     * {@link BackpressurePolicy#DROP} are reported to the error event listener of this converter.
+     * @param backpressurePolicy The backpressure policy to use. Default is {@link BackpressurePolicy#BLOCK}.
+     */
+    public void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+        this.convertTaskFactory.setBackpressurePolicy(backpressurePolicy);
+    }
+
+    public BackpressurePolicy getBackpressurePolicy() {
+        return this.convertTaskFactory.getBackpressurePolicy();
+    }
+
+    /**
+     * @param queueMetrics Metrics that the queue metrics of each conversion are added to when it is done, or null
+     *                     if no metrics are needed.
+     */
+    public void setQueueMetrics(QueueMetrics queueMetrics) {
+        this.convertTaskFactory.setQueueMetrics(queueMetrics);
+    }
+
+    public QueueMetrics getQueueMetrics() {
+        return this.convertTaskFactory.getQueueMetrics();
     }
 
     public void registerOnStart(Runnable onStart) {
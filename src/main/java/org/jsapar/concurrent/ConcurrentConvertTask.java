@@ -2,10 +2,13 @@ package org.jsapar.concurrent;
 
 import org.jsapar.compose.Composer;
 import org.jsapar.convert.ConvertTask;
+import org.jsapar.error.ErrorEventListener;
 import org.jsapar.model.Line;
 import org.jsapar.parse.ParseTask;
 
 import java.io.IOException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Concurrent version of the {@link ConvertTask}. The composer is executed in a separate worker thread. Also the line
@@ -25,13 +28,35 @@ import java.io.IOException;
  *
  */
 public class ConcurrentConvertTask extends ConvertTask implements ConcurrentStartStop{
-    private ConcurrentLineEventListener concurrentLineEventListener = new ConcurrentLineEventListener(new LineForwardListener());
+    private final ConcurrentLineEventListener concurrentLineEventListener;
     /** Creates a converter
      * @param parseTask The parseTask to use while parsing
      * @param composer The composer to use while composing.
      */
     public ConcurrentConvertTask(ParseTask parseTask, Composer composer) {
+        this(parseTask, composer, ConcurrentLineEventListener.DEFAULT_QUEUE_SIZE);
+    }
+
+    /** Creates a converter
+     * @param parseTask The parseTask to use while parsing
+     * @param composer The composer to use while composing.
+     * @param queueSize Maximum number of lines waiting to be composed before the backpressure policy is applied.
+     */
+    public ConcurrentConvertTask(ParseTask parseTask, Composer composer, int queueSize) {
         super(parseTask, composer);
+        this.concurrentLineEventListener = new ConcurrentLineEventListener(new LineForwardListener(), queueSize);
+    }
+
+    /**
+     * Sets new error listener to the parse task, the composer and the concurrent listener. Can be called after creation
+     * but before calling {@link #execute()}.
+     *
+     * @param errorListener The new error event listener to use.
+     */
+    @Override
+    public void setErrorEventListener(ErrorEventListener errorListener) {
+        super.setErrorEventListener(errorListener);
+        this.concurrentLineEventListener.setErrorEventListener(errorListener);
     }
 
     public long execute() throws IOException {
@@ -43,6 +68,44 @@ public class ConcurrentConvertTask extends ConvertTask implements ConcurrentStar
     }
 
 
+    /**
+     * @param threadFactory The thread factory that creates the worker thread or null to create a new platform thread.
+     * @see ConcurrentLineEventListener#setThreadFactory(ThreadFactory)
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.concurrentLineEventListener.setThreadFactory(threadFactory);
+    }
+
+    /**
+     * @param executor The executor that runs the worker or null to create a new thread.
+     * @see ConcurrentLineEventListener#setExecutor(Executor)
+     */
+    public void setExecutor(Executor executor) {
+        this.concurrentLineEventListener.setExecutor(executor);
+    }
+
+    /**
+     * @param backpressurePolicy What to do when the composer falls behind and the queue is full.
+     * @see ConcurrentLineEventListener#setBackpressurePolicy(BackpressurePolicy)
+     */
+    public void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+        this.concurrentLineEventListener.setBackpressurePolicy(backpressurePolicy);
+    }
+
+    /**
+     * @return Metrics about the queue of lines waiting to be composed.
+     */
+    public QueueMetrics getQueueMetrics() {
+        return this.concurrentLineEventListener.getQueueMetrics();
+    }
+
+    /**
+     * @param queueMetrics Metrics that the queue metrics of this task are added to when it is done.
+     */
+    public void setSharedQueueMetrics(QueueMetrics queueMetrics) {
+        this.concurrentLineEventListener.setSharedQueueMetrics(queueMetrics);
+    }
+
     public void registerOnStart(Runnable onStart){
         this.concurrentLineEventListener.registerOnStart(onStart);
     }
@@ -6,6 +6,8 @@ import org.jsapar.parse.ParseTask;
 
 import java.util.LinkedList;
 import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Internal class for creating concurrent convert task with registered runnable. Makes it possible to first register
@@ -15,8 +17,13 @@ import java.util.List;
  *
  */
 class ConcurrentConvertTaskFactory implements ConcurrentStartStop{
-    private final List<Runnable>  onStart     = new LinkedList<>();
-    private final List<Runnable>  onStop      = new LinkedList<>();
+    private final List<Runnable>     onStart            = new LinkedList<>();
+    private final List<Runnable>     onStop             = new LinkedList<>();
+    private       ThreadFactory      threadFactory;
+    private       Executor           executor;
+    private       int                queueSize          = ConcurrentLineEventListener.DEFAULT_QUEUE_SIZE;
+    private       BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+    private       QueueMetrics       queueMetrics;
 
 
     /**
@@ -25,12 +32,58 @@ class ConcurrentConvertTaskFactory implements ConcurrentStartStop{
      * @return Number of converted lines.
      */
     ConvertTask makeConvertTask(ParseTask parseTask, Composer composer)  {
-        ConcurrentConvertTask convertTask = new ConcurrentConvertTask(parseTask, composer);
+        ConcurrentConvertTask convertTask = new ConcurrentConvertTask(parseTask, composer, queueSize);
         onStart.forEach(convertTask::registerOnStart);
         onStop.forEach(convertTask::registerOnStop);
+        convertTask.setThreadFactory(threadFactory);
+        convertTask.setExecutor(executor);
+        convertTask.setBackpressurePolicy(backpressurePolicy);
+        convertTask.setSharedQueueMetrics(queueMetrics);
         return convertTask;
     }
 
+    void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    Executor getExecutor() {
+        return executor;
+    }
+
+    void setQueueSize(int queueSize) {
+        if (queueSize <= 0)
+            throw new IllegalArgumentException("Queue size needs to be at least 1");
+        this.queueSize = queueSize;
+    }
+
+    int getQueueSize() {
+        return queueSize;
+    }
+
+    void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
+    BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    void setQueueMetrics(QueueMetrics queueMetrics) {
+        this.queueMetrics = queueMetrics;
+    }
+
+    QueueMetrics getQueueMetrics() {
+        return queueMetrics;
+    }
+
 
     public void registerOnStart(Runnable onStart){
         this.onStart.add(onStart);
@@ -1,14 +1,24 @@
 package org.jsapar.concurrent;
 
+import org.jsapar.error.ErrorEvent;
+import org.jsapar.error.ErrorEventListener;
+import org.jsapar.error.ExceptionErrorEventListener;
 import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.parse.LineBatchEventListener;
 import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.LineParseException;
 import org.jsapar.parse.LineParsedEvent;
 import org.jsapar.parse.ParseTask;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.concurrent.BlockingQueue;
-import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
 
 /**
  * Makes it possible to handle line events in a different thread than the {@link ParseTask}. Please note
@@ -24,17 +34,54 @@ import java.util.concurrent.LinkedBlockingQueue;
  * If a worker thread event listener should throw an exception, the worker thread is immediately terminated and the
  * exception is encapsulated in a {@link JSaParException} and forwarded to the calling thread upon first available occasion.
  * <p>
- * When the internal queue is full, the producing thread starts blocking. This means that it waits for an available slot
- * in the queue before it continues parsing.
+ * When the internal queue is full, the producing thread starts blocking by default. This means that it waits for an
+ * available slot in the queue before it continues parsing. Other ways to handle a full queue can be chosen with
+ * {@link #setBackpressurePolicy(BackpressurePolicy)}. Metrics about the queue are available from
+ * {@link #getQueueMetrics()}.
+ * <p>
+ * The internal queue is a lock free ring buffer that is only safe for one producing thread. All calls to
+ * {@link #lineParsedEvent(LineParsedEvent)}, {@link #lineBatchParsedEvent(List)}, {@link #flush()} and
+ * {@link #close()} need to be done by the same thread, which is normally the case since they are called by one
+ * {@link ParseTask}. The consumer thread removes all pending events in one batch each time it wakes up. How the
+ * threads wait for each other is decided by the {@link WaitStrategy}, see {@link #setWaitStrategy(WaitStrategy)}.
+ * <p>
+ * The worker thread is created by a {@link ThreadFactory} if one is set, see {@link #setThreadFactory(ThreadFactory)}.
+ * Instead of creating a thread, the worker can be run by an {@link Executor}, see {@link #setExecutor(Executor)}.
+ * A running worker is stopped if the JVM shuts down. All instances share one single JVM shutdown hook.
+ * <p>
+ * When created with a {@link LineBatchEventListener}, lines are collected into batches by the producing thread and
+ * each batch is handed over to the consumer thread as one element of the queue. Batches received by
+ * {@link #lineBatchParsedEvent(List)} are handed over as they are. Call {@link #flush()} or {@link #close()} to hand
+ * over the last lines.
  */
-public class ConcurrentLineEventListener implements LineEventListener, AutoCloseable, Stoppable, ConcurrentStartStop {
+public class ConcurrentLineEventListener implements LineEventListener, LineBatchEventListener, AutoCloseable, Stoppable, ConcurrentStartStop {
+
+    public static final int DEFAULT_QUEUE_SIZE = 1000;
 
-    private BlockingQueue<LineParsedEvent> events;
+    private static final int DRAIN_LIMIT = 256;
+    private static final int DEPTH_SAMPLE_MASK = 63;
+
+    // Contains either single events or batches of lines.
+    private final SpscRingBuffer<Object> events;
     private volatile boolean shouldStop = false;
+    private volatile boolean closing = false;
     private volatile boolean running = false;
+    private CountDownLatch started;
+    private CountDownLatch stopped;
     private LineEventListener listener;
+    private LineBatchEventListener batchListener;
+    private int batchSize;
+    private List<Line> batch;
     private Throwable exception = null;
-    private Thread thread;
+    private volatile Thread thread;
+    private ThreadFactory threadFactory;
+    private Executor executor;
+    private BackpressurePolicy backpressurePolicy = BackpressurePolicy.BLOCK;
+    private ErrorEventListener errorEventListener = new ExceptionErrorEventListener();
+    private SpillFile spillFile;
+    private final QueueMetrics queueMetrics = new QueueMetrics();
+    private QueueMetrics sharedQueueMetrics;
+    private long putCount = 0L;
     private List<Runnable> onStart = new LinkedList<>();
     private List<Runnable> onStop = new LinkedList<>();
 
@@ -43,30 +90,226 @@ public class ConcurrentLineEventListener implements LineEventListener, AutoClose
      * @param lineEventListener The line event listener that will be called by consumer thread.
      */
     public ConcurrentLineEventListener(LineEventListener lineEventListener) {
-        this(lineEventListener, 1000);
+        this(lineEventListener, DEFAULT_QUEUE_SIZE);
     }
 
     /**
      * Creates a concurrent line event listener with specified queue size.
      * @param lineEventListener The line event listener that will be called by consumer thread.
-     * @param queueSize   Maximum size of the queue before the producing thread starts blocking.
+     * @param queueSize   Maximum size of the queue before the backpressure policy is applied.
      */
     public ConcurrentLineEventListener(LineEventListener lineEventListener, int queueSize) {
-        events = new LinkedBlockingQueue<>(queueSize);
-        Runtime.getRuntime().addShutdownHook(new Thread(this::stop));
+        events = new SpscRingBuffer<>(queueSize);
         this.listener = lineEventListener;
     }
 
+    /**
+     * Creates a concurrent line event listener that hands over lines to the consumer thread in batches.
+     * @param lineBatchEventListener The line batch event listener that will be called by consumer thread.
+     * @param queueSize   Maximum number of batches in the queue before the backpressure policy is applied.
+     * @param batchSize   The maximum number of lines in each batch.
+     */
+    public ConcurrentLineEventListener(LineBatchEventListener lineBatchEventListener, int queueSize, int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("Batch size needs to be at least 1");
+        events = new SpscRingBuffer<>(queueSize);
+        this.batchListener = lineBatchEventListener;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
     @Override
     public void lineParsedEvent(LineParsedEvent event)  {
-        try {
-            events.put(event);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
+        if (batch != null) {
+            batch.add(event.getLine());
+            if (batch.size() >= batchSize)
+                flush();
+            else
+                checkException();
+            return;
+        }
+        put(event);
+    }
+
+    @Override
+    public void lineBatchParsedEvent(List<Line> lines) {
+        flush();
+        put(lines);
+    }
+
+    /**
+     * Hands over lines that have been collected into a batch so far, if any, to the consumer thread. Has no effect
+     * unless this instance was created with a {@link LineBatchEventListener}.
+     */
+    public void flush() {
+        if (batch == null || batch.isEmpty())
+            return;
+        List<Line> full = batch;
+        batch = new ArrayList<>(batchSize);
+        put(full);
+    }
+
+    private void put(Object event) {
+        if (spillFile != null && !moveSpilled(false)) {
+            // Events that are already spilled need to be handed over first.
+            spill(event);
+        } else if (events.offer(event)) {
+            if ((++putCount & DEPTH_SAMPLE_MASK) == 0)
+                queueMetrics.queueDepth(events.size());
+        } else {
+            queueMetrics.queueDepth(events.size());
+            switch (backpressurePolicy) {
+            case DROP:
+                drop(event);
+                break;
+            case SPILL:
+                spill(event);
+                break;
+            default:
+                block(event);
+            }
         }
         checkException();
     }
 
+    private void block(Object event) {
+        long begin = System.nanoTime();
+        // Gives up waiting for a free slot if the consumer thread has terminated.
+        events.put(event, () -> shouldStop);
+        queueMetrics.stall(System.nanoTime() - begin);
+    }
+
+    @SuppressWarnings("unchecked")
+    private void drop(Object event) {
+        queueMetrics.dropped();
+        String message;
+        long lineNumber;
+        if (event instanceof LineParsedEvent) {
+            lineNumber = ((LineParsedEvent) event).getLine().getLineNumber();
+            message = "Line was dropped since the queue of the concurrent listener was full";
+        } else {
+            List<Line> lines = (List<Line>) event;
+            lineNumber = lines.isEmpty() ? 0L : lines.get(0).getLineNumber();
+            message = "Batch of " + lines.size() + " lines was dropped since the queue of the concurrent listener was full";
+        }
+        errorEventListener.errorEvent(new ErrorEvent(this, new LineParseException(lineNumber, message)));
+    }
+
+    private void spill(Object event) {
+        if (spillFile == null)
+            spillFile = new SpillFile();
+        queueMetrics.spilled();
+        // Events are not serializable together with their source so only the line is stored.
+        spillFile.write(event instanceof LineParsedEvent ? ((LineParsedEvent) event).getLine() : event);
+    }
+
+    /**
+     * Moves spilled events into the queue, as many as there is room for. Deletes the spill file when it is empty.
+     * @param wait If true, waits for room in the queue until all spilled events are moved.
+     * @return True if there are no more spilled events.
+     */
+    private boolean moveSpilled(boolean wait) {
+        Object spilled;
+        while ((spilled = spillFile.peek()) != null) {
+            Object event = spilled instanceof Line ? new LineParsedEvent(this, (Line) spilled) : spilled;
+            if (wait ? !events.put(event, () -> shouldStop) : !events.offer(event))
+                return false;
+            spillFile.remove();
+        }
+        closeSpillFile();
+        return true;
+    }
+
+    private void closeSpillFile() {
+        try {
+            spillFile.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            spillFile = null;
+        }
+    }
+
+    /**
+     * Sets what to do when the queue is full. Default is {@link BackpressurePolicy#BLOCK}.
+     * @param backpressurePolicy The backpressure policy to use.
+     */
+    public void setBackpressurePolicy(BackpressurePolicy backpressurePolicy) {
+        this.backpressurePolicy = backpressurePolicy;
+    }
+
+    public BackpressurePolicy getBackpressurePolicy() {
+        return backpressurePolicy;
+    }
+
+    /**
+     * Sets the error event listener that is called by the producing thread when lines are dropped due to
+     * {@link BackpressurePolicy#DROP}. Default is to throw an exception.
+     * @param errorEventListener The error event listener to use.
+     */
+    public void setErrorEventListener(ErrorEventListener errorEventListener) {
+        this.errorEventListener = errorEventListener;
+    }
+
+    /**
+     * @return Metrics about the queue of this listener. Updated by the producing thread without synchronization.
+     */
+    public QueueMetrics getQueueMetrics() {
+        return queueMetrics;
+    }
+
+    /**
+     * @param sharedQueueMetrics Metrics that the metrics of this listener are added to when it is closed.
+     */
+    public void setSharedQueueMetrics(QueueMetrics sharedQueueMetrics) {
+        this.sharedQueueMetrics = sharedQueueMetrics;
+    }
+
+    /**
+     * Sets how the producing and the consuming threads wait for each other when the queue is full or empty. Default
+     * is {@link WaitStrategy#PARK}.
+     * @param waitStrategy The wait strategy to use.
+     */
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        events.setWaitStrategy(waitStrategy);
+    }
+
+    /**
+     * @return The wait strategy that is used when the queue is full or empty.
+     */
+    public WaitStrategy getWaitStrategy() {
+        return events.getWaitStrategy();
+    }
+
+    /**
+     * Sets the thread factory that creates the worker thread when calling {@link #start()}. On Java 21 or later, use
+     * for instance <code>Thread.ofVirtual().factory()</code> to run the worker on a virtual thread. By default, a new
+     * platform thread is created.
+     * @param threadFactory The thread factory to use or null to use the default.
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    /**
+     * Sets an executor that runs the worker when calling {@link #start()} instead of creating a new thread. This makes
+     * it possible to share a thread pool between listeners. Please note that the worker occupies a thread of the
+     * executor until this listener is closed, so the executor needs to have at least as many threads as there are
+     * listeners running at the same time.
+     * @param executor The executor to use or null to create a new thread.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
     private void checkException() {
         synchronized (this) {
             if (exception != null) {
@@ -79,27 +322,63 @@ public class ConcurrentLineEventListener implements LineEventListener, AutoClose
         }
     }
 
+    private void deliver(LineParsedEvent event) {
+        if (listener != null)
+            listener.lineParsedEvent(event);
+        else {
+            List<Line> lines = new ArrayList<>(1);
+            lines.add(event.getLine());
+            batchListener.lineBatchParsedEvent(lines);
+        }
+    }
+
+    private void deliver(List<Line> lines) {
+        if (batchListener != null)
+            batchListener.lineBatchParsedEvent(lines);
+        else
+            lines.forEach(line -> listener.lineParsedEvent(new LineParsedEvent(this, line)));
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(Object event) {
+        if (shouldStop)
+            return; // Pending events are discarded when stopped.
+        if (event instanceof LineParsedEvent)
+            deliver((LineParsedEvent) event);
+        else
+            deliver((List<Line>) event);
+    }
+
     private void run() {
+        thread = Thread.currentThread();
         try {
             onStart.forEach(Runnable::run);
             running = true;
+            started.countDown();
             while (!shouldStop) {
-                LineParsedEvent event = events.take();
-                // Check if it is just an event to release wait block.
-                if (event.getLine() != null) {
-                    listener.lineParsedEvent(event);
-                }
+                if (events.drain(this::deliver, DRAIN_LIMIT) > 0)
+                    continue;
+                // Closing is checked before the queue so that no event handed over before closing is missed.
+                if (closing && events.isEmpty())
+                    break;
+                if (Thread.currentThread().isInterrupted())
+                    break; // Gracefully and silently terminate.
+                events.awaitElements(() -> shouldStop || closing);
             }
-        } catch (InterruptedException e) {
-            // Gracefully and silently terminate.
         } catch (Throwable e) {
             synchronized (this) {
                 exception = e;
                 shouldStop = true;
             }
         } finally {
-            onStop.forEach(Runnable::run);
-            running = false;
+            try {
+                onStop.forEach(Runnable::run);
+            } finally {
+                ShutdownHook.unregister(this);
+                running = false;
+                started.countDown();
+                stopped.countDown();
+            }
         }
     }
 
@@ -118,17 +397,28 @@ public class ConcurrentLineEventListener implements LineEventListener, AutoClose
     public void start() {
         if(isRunning())
             return;
-        thread = new Thread(this::run, Thread.currentThread().getName() + "-listener");
-        thread.start();
-        // Wait for the consumer thread to start before returning.
-        while (!isRunning() && !shouldStop)
-            try {
-                Thread.sleep(1L);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
+        started = new CountDownLatch(1);
+        stopped = new CountDownLatch(1);
+        ShutdownHook.register(this);
+        try {
+            if (executor != null) {
+                executor.execute(this::run);
+            } else {
+                Thread newThread = threadFactory != null ? threadFactory.newThread(this::run)
+                        : new Thread(this::run, Thread.currentThread().getName() + "-listener");
+                thread = newThread;
+                newThread.start();
             }
-
+        } catch (RuntimeException e) {
+            ShutdownHook.unregister(this);
+            throw e;
+        }
+        // Wait for the consumer thread to start before returning.
+        try {
+            started.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
     }
 
     /**
@@ -138,18 +428,14 @@ public class ConcurrentLineEventListener implements LineEventListener, AutoClose
      */
     public void stop() throws JSaParException {
         this.shouldStop = true;
-        try {
-            if(isRunning())
-                events.put(new LineParsedEvent(this, null)); // Make sure the blocking is released immediately
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
+        events.wakeUp(); // Make sure any waiting thread notices immediately
         if(Thread.currentThread() != thread)
             checkException();
     }
 
     /**
-     * Waits for the working thread to handle all pending events, then gracefully terminates the working thread.
+     * Hands over any lines collected into a batch, waits for the working thread to handle all pending events, then
+     * gracefully terminates the working thread.
      *
      * @throws JSaParException if the working thread has terminated due to an exception.
      */
@@ -157,25 +443,33 @@ public class ConcurrentLineEventListener implements LineEventListener, AutoClose
     public void close() throws JSaParException {
         try {
             if(Thread.currentThread() != this.thread) {
-                while (running && !events.isEmpty()) {
-                    Thread.sleep(1L);
+                if (running) {
+                    flush();
+                    if (spillFile != null)
+                        moveSpilled(true);
                 }
+                // The worker thread terminates by itself when all pending events are handled.
+                closing = true;
+                events.wakeUp();
+                if (stopped != null)
+                    stopped.await();
             }
             stop();
-            if(Thread.currentThread() != this.thread) {
-                while (running) {
-                    Thread.sleep(1L);
-                }
-            }
             checkException();
         } catch (InterruptedException e) {
             Thread.currentThread().interrupt();
+        } finally {
+            if (spillFile != null)
+                closeSpillFile();
+            if (sharedQueueMetrics != null)
+                sharedQueueMetrics.add(queueMetrics);
         }
         events.clear();
     }
 
     /**
-     * @return Number of events in queue
+     * @return Number of events in queue, not counting spilled events. When lines are handed over in batches, each
+     * batch counts as one event.
      */
     public int size() {
         return events.size();
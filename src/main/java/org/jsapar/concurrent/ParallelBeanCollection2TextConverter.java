@@ -0,0 +1,112 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.BeanCollection2TextConverter;
+import org.jsapar.bean.BeanMap;
+import org.jsapar.convert.AbstractConverter;
+import org.jsapar.parse.bean.BeanParseTask;
+import org.jsapar.schema.Schema;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Iterator;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadFactory;
+import java.util.stream.Stream;
+
+/**
+ * A multi threaded version of {@link BeanCollection2TextConverter} where beans are split into chunks that are
+ * converted to text by a pool of worker threads. The output is written in the same order as the beans are iterated.
+ * All added line manipulators need to be thread safe.
+ * See {@link AbstractConverter} for details about error handling and manipulating data.
+ * <p>
+ * Use this converter instead of {@link ConcurrentBeanCollection2TextConverter} when reading bean properties and
+ * composing text limits the throughput of the conversion. Since each chunk is composed by its own composer, the
+ * {@link #makeComposer(Writer)} method is not used by this class.
+ *
+ * @param <T> The base class for the beans to convert.
+ * @see ParallelBeanConvertTask
+ */
+public class ParallelBeanCollection2TextConverter<T> extends BeanCollection2TextConverter<T> {
+    private int           workers   = Runtime.getRuntime().availableProcessors();
+    private int           chunkSize = ParallelBeanConvertTask.DEFAULT_CHUNK_SIZE;
+    private Executor      executor;
+    private ThreadFactory threadFactory;
+
+    public ParallelBeanCollection2TextConverter(Schema composerSchema) {
+        super(composerSchema);
+    }
+
+    public ParallelBeanCollection2TextConverter(Schema composerSchema, BeanMap beanMap) {
+        super(composerSchema, beanMap);
+    }
+
+    @Override
+    public long convert(Stream<? extends T> stream, Writer writer) throws IOException {
+        return execute(makeConvertTask(makeParseTask(stream), writer));
+    }
+
+    @Override
+    public long convert(Iterator<? extends T> iterator, Writer writer) throws IOException {
+        return execute(makeConvertTask(makeParseTask(iterator), writer));
+    }
+
+    private ParallelBeanConvertTask<T> makeConvertTask(BeanParseTask<T> parseTask, Writer writer) {
+        ParallelBeanConvertTask<T> convertTask = new ParallelBeanConvertTask<>(parseTask, getComposerSchema(), writer, workers);
+        convertTask.setChunkSize(chunkSize);
+        convertTask.setExecutor(executor);
+        convertTask.setThreadFactory(threadFactory);
+        return convertTask;
+    }
+
+    /**
+     * @param workers The number of worker threads that convert beans. Default is the number of available processors.
+     */
+    public void setWorkers(int workers) {
+        if (workers <= 0)
+            throw new IllegalArgumentException("Number of workers needs to be at least 1");
+        this.workers = workers;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @param chunkSize The maximum number of beans that a worker thread converts in one go.
+     * @see ParallelBeanConvertTask#setChunkSize(int)
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size needs to be at least 1");
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param executor The executor that converts the chunks or null to create a new pool of worker threads for each
+     *                 conversion.
+     * @see ParallelBeanConvertTask#setExecutor(Executor)
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * @param threadFactory The thread factory that creates worker threads or null to create new platform threads.
+     * @see ParallelBeanConvertTask#setThreadFactory(ThreadFactory)
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+}
@@ -0,0 +1,403 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.compose.Composer;
+import org.jsapar.compose.internal.SchemaComposer;
+import org.jsapar.compose.internal.TextComposerFactory;
+import org.jsapar.convert.ConvertTask;
+import org.jsapar.convert.LineManipulator;
+import org.jsapar.error.ErrorEventListener;
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.parse.bean.BeanParseTask;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.Schema;
+import org.jsapar.schema.SchemaLine;
+
+import java.io.CharArrayWriter;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A multi threaded version of the {@link ConvertTask} that converts beans to text where the beans are split into
+ * chunks of consecutive beans:
+ * <ol>
+ * <li>The calling thread iterates the beans and collects them into chunks.</li>
+ * <li>A pool of worker threads builds lines from the beans of each chunk, calls all line manipulators and composes the
+ * lines into a text buffer that belongs to the chunk. Different chunks are handled in parallel.</li>
+ * <li>The calling thread writes the text buffers of the chunks to the writer in the same order as the beans were
+ * iterated, no matter in which order the worker threads complete them.</li>
+ * </ol>
+ * The output is the same as if the beans were converted by a single thread, including header lines of csv schema lines
+ * where first line is schema. Since line manipulators are called by several threads at the same time, all added
+ * line manipulators need to be thread safe. Calls to the error event listener are synchronized.
+ * <p>
+ * The number of chunks that are iterated but not yet written is limited. When the limit is reached, the calling
+ * thread waits until the oldest chunk is done.
+ * <p>
+ * If a getter, a line manipulator or the error event listener should throw an exception, the conversion is stopped and
+ * the exception is thrown by {@link #execute()}.
+ * <p>
+ * Instances are created by {@link ParallelBeanCollection2TextConverter}.
+ *
+ * @param <T> The base class for the beans to convert.
+ * @see ParallelBeanCollection2TextConverter
+ */
+public class ParallelBeanConvertTask<T> extends ConvertTask {
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final BeanParseTask<T> beanParseTask;
+    private final Schema           composeSchema;
+    private final Writer           writer;
+    private final int              workers;
+    private       int              chunkSize = DEFAULT_CHUNK_SIZE;
+    private       Executor         executor;
+    private       ThreadFactory    threadFactory;
+
+    /**
+     * Creates a parallel convert task with one worker thread for each available processor.
+     * @param parseTask     The parse task to get beans from.
+     * @param composeSchema The schema to use while composing text output.
+     * @param writer        The writer to write text output to.
+     */
+    ParallelBeanConvertTask(BeanParseTask<T> parseTask, Schema composeSchema, Writer writer) {
+        this(parseTask, composeSchema, writer, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a parallel convert task.
+     * @param parseTask     The parse task to get beans from.
+     * @param composeSchema The schema to use while composing text output.
+     * @param writer        The writer to write text output to.
+     * @param workers       The number of worker threads that build and compose lines.
+     */
+    ParallelBeanConvertTask(BeanParseTask<T> parseTask, Schema composeSchema, Writer writer, int workers) {
+        super(parseTask, null); // Each chunk is composed by a composer of its own.
+        if (workers <= 0)
+            throw new IllegalArgumentException("Number of workers needs to be at least 1");
+        this.beanParseTask = parseTask;
+        this.composeSchema = composeSchema;
+        this.writer = writer;
+        this.workers = workers;
+    }
+
+    /**
+     * @param chunkSize The maximum number of beans that a worker thread handles in one go. Default is
+     *                  {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size needs to be at least 1");
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Sets an executor that runs the chunks instead of creating a new pool of worker threads for each conversion, for
+     * instance {@link java.util.concurrent.ForkJoinPool#commonPool()}. The number of workers still limits the number of
+     * chunks that are handed over to the executor at the same time.
+     * @param executor The executor to use or null to create a new pool of worker threads for each conversion.
+     */
+    public void setExecutor(Executor executor) {
+        this.executor = executor;
+    }
+
+    public Executor getExecutor() {
+        return executor;
+    }
+
+    /**
+     * Sets the thread factory that creates the worker threads. Not used if an executor is set. On Java 21 or later,
+     * use for instance <code>Thread.ofVirtual().factory()</code> to run them on virtual threads.
+     * @param threadFactory The thread factory to use or null to create new platform threads.
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    /**
+     * Sets new error listener to the parse task. Calls to the error listener are synchronized since errors are
+     * reported by several worker threads.
+     *
+     * @param errorListener The new error event listener to use.
+     */
+    @Override
+    public void setErrorEventListener(ErrorEventListener errorListener) {
+        getParseTask().setErrorEventListener(event -> {
+            synchronized (errorListener) {
+                errorListener.errorEvent(event);
+            }
+        });
+    }
+
+    /**
+     * Not supported since each chunk is composed by a composer of its own.
+     * @throws UnsupportedOperationException Always.
+     */
+    @Override
+    public Composer getComposer() {
+        throw new UnsupportedOperationException("Each chunk of a parallel bean convert task is composed by a composer of its own");
+    }
+
+    /**
+     * @return Number of converted beans.
+     * @throws IOException In case of IO error.
+     */
+    @Override
+    public long execute() throws IOException {
+        ExecutorService pool = null;
+        Executor chunkExecutor = executor;
+        if (chunkExecutor == null) {
+            String threadName = Thread.currentThread().getName();
+            AtomicInteger workerCount = new AtomicInteger();
+            ThreadFactory workerFactory = threadFactory != null ? threadFactory
+                    : r -> new Thread(r, threadName + "-worker-" + workerCount.incrementAndGet());
+            pool = Executors.newFixedThreadPool(workers, workerFactory);
+            chunkExecutor = pool;
+        }
+        ChunkWriter chunkWriter = new ChunkWriter(chunkExecutor, workers * 4);
+        try {
+            long count = beanParseTask.executeInChunks(chunkSize, chunkWriter::submit);
+            chunkWriter.finish();
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause() != null ? e.getCause() : new IOException(e);
+        } finally {
+            chunkWriter.abort();
+            if (pool != null)
+                pool.shutdownNow();
+        }
+    }
+
+    /**
+     * The composed text of a chunk. Line separators are written between the lines of the chunk but not before the
+     * first line.
+     */
+    private static final class ComposedChunk {
+        private final char[]       text;
+        private final boolean      hasLines;
+        private final boolean      breakAfter;
+        // Offsets within the text where the first line of each line type that has a header starts.
+        private final List<String>  headerLineTypes;
+        private final List<Integer> headerOffsets;
+
+        private ComposedChunk(char[] text, boolean hasLines, boolean breakAfter, List<String> headerLineTypes, List<Integer> headerOffsets) {
+            this.text = text;
+            this.hasLines = hasLines;
+            this.breakAfter = breakAfter;
+            this.headerLineTypes = headerLineTypes;
+            this.headerOffsets = headerOffsets;
+        }
+    }
+
+    /**
+     * Builds and composes the lines of one chunk at a time into its own buffer. Each instance is used by one worker
+     * thread at a time.
+     */
+    private final class ChunkComposer {
+        private final CharArrayWriter buffer = new CharArrayWriter(chunkSize * 64);
+        private final SchemaComposer  schemaComposer;
+        private final Map<String, String>   headers;
+        private final List<LineManipulator> manipulators;
+
+        private ChunkComposer(Schema headerlessSchema, Map<String, String> headers, List<LineManipulator> manipulators) {
+            this.schemaComposer = new TextComposerFactory().makeComposer(headerlessSchema, buffer);
+            this.headers = headers;
+            this.manipulators = manipulators;
+        }
+
+        private ComposedChunk compose(List<T> beans, long firstLineNumber) {
+            buffer.reset();
+            List<String> headerLineTypes = new ArrayList<>(0);
+            List<Integer> headerOffsets = new ArrayList<>(0);
+            boolean hasLines = false;
+            boolean breakBefore = false;
+            long lineNumber = firstLineNumber;
+            for (T bean : beans) {
+                Optional<Line> marshalled = beanParseTask.marshal(bean, lineNumber++);
+                if (!marshalled.isPresent() || isDiscarded(marshalled.get()))
+                    continue;
+                Line line = marshalled.get();
+                hasLines = true;
+                if (breakBefore)
+                    schemaComposer.composeLineSeparator();
+                int offset = buffer.size();
+                breakBefore = schemaComposer.composeLine(line);
+                if (breakBefore && headers.containsKey(line.getLineType()) && !headerLineTypes.contains(line.getLineType())) {
+                    headerLineTypes.add(line.getLineType());
+                    headerOffsets.add(offset);
+                }
+            }
+            return new ComposedChunk(buffer.toCharArray(), hasLines, breakBefore, headerLineTypes, headerOffsets);
+        }
+
+        private boolean isDiscarded(Line line) {
+            for (LineManipulator manipulator : manipulators) {
+                if (!manipulator.manipulate(line))
+                    return true;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * Hands over chunks to the executor and writes the composed chunks in order. Only used by the calling thread.
+     */
+    private final class ChunkWriter {
+        private final Executor executor;
+        private final int      maxChunks;
+        private final Deque<CompletableFuture<ComposedChunk>> pending = new ArrayDeque<>();
+        private final Queue<ChunkComposer> freeComposers = new ConcurrentLinkedQueue<>();
+        private final List<LineManipulator> manipulators = new ArrayList<>(getLineManipulators());
+        private final Map<String, String> headers = new HashMap<>();
+        private final Set<String>         writtenHeaders = new HashSet<>();
+        private final Schema headerlessSchema;
+
+        private long    nextLineNumber = 1L;
+        private boolean breakBefore    = false;
+
+        private ChunkWriter(Executor executor, int maxChunks) {
+            this.executor = executor;
+            this.maxChunks = maxChunks;
+            this.headerlessSchema = makeHeaders();
+        }
+
+        /**
+         * Finds the header of each csv schema line where first line is schema. Composers of chunks never write any
+         * headers, instead the header is inserted before the first composed line of its type while writing.
+         * @return A schema where no line writes any header.
+         */
+        private Schema makeHeaders() {
+            List<String> lineTypes = new ArrayList<>();
+            for (SchemaLine schemaLine : composeSchema.getSchemaLines()) {
+                if (schemaLine instanceof CsvSchemaLine && ((CsvSchemaLine) schemaLine).isFirstLineAsSchema())
+                    lineTypes.add(schemaLine.getLineType());
+            }
+            if (lineTypes.isEmpty())
+                return composeSchema;
+            Schema headerless = composeSchema.clone();
+            for (SchemaLine schemaLine : headerless.getSchemaLines()) {
+                if (schemaLine instanceof CsvSchemaLine)
+                    ((CsvSchemaLine) schemaLine).setFirstLineAsSchema(false);
+            }
+            for (String lineType : lineTypes) {
+                // The header is whatever is written in front of the line itself.
+                String withHeader = composeEmptyLine(composeSchema, lineType);
+                String withoutHeader = composeEmptyLine(headerless, lineType);
+                headers.put(lineType, withHeader.substring(0, withHeader.length() - withoutHeader.length()));
+            }
+            return headerless;
+        }
+
+        private String composeEmptyLine(Schema schema, String lineType) {
+            StringWriter stringWriter = new StringWriter();
+            new TextComposerFactory().makeComposer(schema, stringWriter).composeLine(new Line(lineType));
+            return stringWriter.toString();
+        }
+
+        private void submit(List<T> beans) {
+            if (pending.size() >= maxChunks)
+                write(pending.poll());
+            long firstLineNumber = nextLineNumber;
+            nextLineNumber += beans.size();
+            pending.add(CompletableFuture.supplyAsync(() -> compose(beans, firstLineNumber), executor));
+        }
+
+        private ComposedChunk compose(List<T> beans, long firstLineNumber) {
+            ChunkComposer composer = freeComposers.poll();
+            if (composer == null)
+                composer = new ChunkComposer(headerlessSchema, headers, manipulators);
+            try {
+                return composer.compose(beans, firstLineNumber);
+            } finally {
+                freeComposers.offer(composer);
+            }
+        }
+
+        private void write(CompletableFuture<ComposedChunk> future) {
+            ComposedChunk chunk = await(future);
+            if (!chunk.hasLines)
+                return;
+            try {
+                if (breakBefore)
+                    writer.write(composeSchema.getLineSeparator());
+                int written = 0;
+                for (int i = 0; i < chunk.headerLineTypes.size(); i++) {
+                    String lineType = chunk.headerLineTypes.get(i);
+                    if (!writtenHeaders.add(lineType))
+                        continue;
+                    int offset = chunk.headerOffsets.get(i);
+                    writer.write(chunk.text, written, offset - written);
+                    writer.write(headers.get(lineType));
+                    written = offset;
+                }
+                writer.write(chunk.text, written, chunk.text.length - written);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            breakBefore = chunk.breakAfter;
+        }
+
+        private ComposedChunk await(CompletableFuture<ComposedChunk> future) {
+            try {
+                return future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JSaParException("Interrupted while waiting for a worker thread", e);
+            } catch (ExecutionException e) {
+                Throwable cause = e.getCause();
+                if (cause instanceof RuntimeException)
+                    throw (RuntimeException) cause;
+                if (cause instanceof Error)
+                    throw (Error) cause;
+                throw new JSaParException("Exception in parallel convert thread", cause);
+            }
+        }
+
+        /**
+         * Writes all remaining chunks.
+         */
+        private void finish() {
+            while (!pending.isEmpty())
+                write(pending.poll());
+        }
+
+        /**
+         * Cancels all chunks that are not yet written. Has no effect if all chunks have been written.
+         */
+        private void abort() {
+            pending.forEach(future -> future.cancel(false));
+            pending.clear();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.compose.Composer;
+import org.jsapar.convert.ConvertTask;
+import org.jsapar.convert.LineManipulator;
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.LineParsedEvent;
+import org.jsapar.parse.ParseTask;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A multi threaded version of the {@link ConvertTask} where converting is done in three stages:
+ * <ol>
+ * <li>The parse task reads and parses lines in the calling thread. Lines are collected into chunks.</li>
+ * <li>A pool of worker threads calls all line manipulators for each line of a chunk. Different chunks are manipulated
+ * in parallel.</li>
+ * <li>A single composer thread composes the manipulated lines. Chunks are composed in the same order as they were
+ * parsed, no matter in which order the worker threads complete them.</li>
+ * </ol>
+ * Use this task instead of {@link ConcurrentConvertTask} when the line manipulators are heavy enough to limit the
+ * throughput of the conversion. Since line manipulators are called by several threads at the same time, all added
+ * line manipulators need to be thread safe. Each line is only accessed by one thread at a time.
+ * <p>
+ * The number of chunks that are parsed but not yet composed is limited. When the limit is reached, the parsing thread
+ * waits until the composer catches up.
+ * <p>
+ * If a line manipulator or the composer should throw an exception, the conversion is stopped and the exception is
+ * encapsulated in a {@link JSaParException} and thrown by {@link #execute()}.
+ * <p>
+ * Registered onStart and onStop runnables are called by the composer thread.
+ *
+ * @see PipelinedText2TextConverter
+ */
+public class PipelinedConvertTask extends ConvertTask implements ConcurrentStartStop {
+    public static final int DEFAULT_CHUNK_SIZE = 256;
+
+    private final int            workers;
+    private       int            chunkSize   = DEFAULT_CHUNK_SIZE;
+    private       ThreadFactory  threadFactory;
+    private final List<Runnable> onStart     = new LinkedList<>();
+    private final List<Runnable> onStop      = new LinkedList<>();
+
+    /**
+     * Creates a pipelined convert task with one worker thread for each available processor.
+     * @param parseTask The parse task to use.
+     * @param composer  The composer to use.
+     */
+    public PipelinedConvertTask(ParseTask parseTask, Composer composer) {
+        this(parseTask, composer, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a pipelined convert task.
+     * @param parseTask The parse task to use.
+     * @param composer  The composer to use.
+     * @param workers   The number of worker threads that call line manipulators.
+     */
+    public PipelinedConvertTask(ParseTask parseTask, Composer composer, int workers) {
+        super(parseTask, composer);
+        if (workers <= 0)
+            throw new IllegalArgumentException("Number of workers needs to be at least 1");
+        this.workers = workers;
+    }
+
+    /**
+     * @param chunkSize The maximum number of lines that a worker thread manipulates in one go. Default is
+     *                  {@link #DEFAULT_CHUNK_SIZE}.
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size needs to be at least 1");
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * Sets the thread factory that creates both the worker threads and the composer thread. On Java 21 or later, use
+     * for instance <code>Thread.ofVirtual().factory()</code> to run them on virtual threads.
+     * @param threadFactory The thread factory to use or null to create new platform threads.
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    /**
+     * @return Number of converted lines.
+     * @throws IOException In case of IO error.
+     */
+    @Override
+    public long execute() throws IOException {
+        String threadName = Thread.currentThread().getName();
+        AtomicInteger workerCount = new AtomicInteger();
+        ThreadFactory workerFactory = threadFactory != null ? threadFactory
+                : r -> new Thread(r, threadName + "-worker-" + workerCount.incrementAndGet());
+        ThreadFactory composerFactory = threadFactory != null ? threadFactory
+                : r -> new Thread(r, threadName + "-composer");
+        ExecutorService pool = Executors.newFixedThreadPool(workers, workerFactory);
+        Pipeline pipeline = new Pipeline(pool, workers * 4);
+        try {
+            getParseTask().setLineEventListener(pipeline);
+            pipeline.start(composerFactory);
+            long count = getParseTask().execute();
+            pipeline.finish();
+            return count;
+        } catch (UncheckedIOException e) {
+            throw e.getCause() != null ? e.getCause() : new IOException(e);
+        } finally {
+            pipeline.abort();
+            pool.shutdownNow();
+        }
+    }
+
+    @Override
+    public void registerOnStart(Runnable onStart) {
+        this.onStart.add(onStart);
+    }
+
+    @Override
+    public void registerOnStop(Runnable onStop) {
+        this.onStop.add(onStop);
+    }
+
+    /**
+     * A number of consecutive lines that are manipulated by the same worker thread.
+     */
+    private static final class Chunk {
+        private final long       sequence;
+        private final List<Line> lines;
+
+        private Chunk(long sequence, List<Line> lines) {
+            this.sequence = sequence;
+            this.lines = lines;
+        }
+    }
+
+    /**
+     * Receives lines from the parse task, hands them over to the worker threads and composes them in order.
+     */
+    private final class Pipeline implements LineEventListener {
+        private final ExecutorService pool;
+        private final int             maxChunks;
+        private final Semaphore       freeChunks;
+        private final List<LineManipulator> manipulators = new ArrayList<>(getLineManipulators());
+
+        // Reorder buffer where a chunk is stored at its sequence modulo max chunks until it is composed.
+        private final Object  lock = new Object();
+        private final Chunk[] manipulated;
+        private long      nextToCompose = 0L;
+        private long      chunkCount    = -1L; // Known when parsing is finished
+        private boolean   aborted       = false;
+        private Throwable failure;
+
+        private List<Line> lines;
+        private long       nextSequence = 0L;
+        private Thread     composerThread;
+
+        private Pipeline(ExecutorService pool, int maxChunks) {
+            this.pool = pool;
+            this.maxChunks = maxChunks;
+            this.freeChunks = new Semaphore(maxChunks);
+            this.manipulated = new Chunk[maxChunks];
+            this.lines = new ArrayList<>(chunkSize);
+        }
+
+        private void start(ThreadFactory composerFactory) {
+            composerThread = composerFactory.newThread(this::compose);
+            composerThread.start();
+        }
+
+        @Override
+        public void lineParsedEvent(LineParsedEvent event) {
+            lines.add(event.getLine());
+            if (lines.size() >= chunkSize)
+                submit();
+        }
+
+        private void submit() {
+            checkFailure();
+            if (lines.isEmpty())
+                return;
+            try {
+                freeChunks.acquire();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JSaParException("Interrupted while waiting for the composer", e);
+            }
+            checkFailure();
+            Chunk chunk = new Chunk(nextSequence++, lines);
+            lines = new ArrayList<>(chunkSize);
+            pool.execute(() -> manipulate(chunk));
+        }
+
+        private void manipulate(Chunk chunk) {
+            try {
+                if (!manipulators.isEmpty())
+                    chunk.lines.removeIf(this::isDiscarded);
+            } catch (Throwable e) {
+                fail(e);
+                return;
+            }
+            synchronized (lock) {
+                manipulated[(int) (chunk.sequence % maxChunks)] = chunk;
+                lock.notifyAll();
+            }
+        }
+
+        private boolean isDiscarded(Line line) {
+            for (LineManipulator manipulator : manipulators) {
+                if (!manipulator.manipulate(line))
+                    return true;
+            }
+            return false;
+        }
+
+        private void compose() {
+            try {
+                onStart.forEach(Runnable::run);
+                Chunk chunk;
+                while ((chunk = takeNext()) != null) {
+                    chunk.lines.forEach(getComposer()::composeLine);
+                    freeChunks.release();
+                }
+            } catch (Throwable e) {
+                fail(e);
+            } finally {
+                onStop.forEach(Runnable::run);
+            }
+        }
+
+        /**
+         * Waits for the next chunk in sequence to be manipulated.
+         * @return The next chunk to compose or null if there is nothing more to compose.
+         */
+        private Chunk takeNext() throws InterruptedException {
+            synchronized (lock) {
+                while (true) {
+                    if (aborted || failure != null || nextToCompose == chunkCount)
+                        return null;
+                    int slot = (int) (nextToCompose % maxChunks);
+                    Chunk chunk = manipulated[slot];
+                    if (chunk != null) {
+                        manipulated[slot] = null;
+                        nextToCompose++;
+                        return chunk;
+                    }
+                    lock.wait();
+                }
+            }
+        }
+
+        private void fail(Throwable e) {
+            synchronized (lock) {
+                if (failure == null)
+                    failure = e;
+                lock.notifyAll();
+            }
+            // Release a waiting parsing thread.
+            freeChunks.release(maxChunks);
+        }
+
+        private void checkFailure() {
+            Throwable e;
+            synchronized (lock) {
+                e = failure;
+            }
+            if (e == null)
+                return;
+            if (e instanceof UncheckedIOException)
+                throw (UncheckedIOException) e;
+            throw new JSaParException("Exception in pipelined convert thread", e);
+        }
+
+        /**
+         * Hands over the last lines and waits until all lines are composed.
+         */
+        private void finish() {
+            submit();
+            synchronized (lock) {
+                chunkCount = nextSequence;
+                lock.notifyAll();
+            }
+            try {
+                composerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new JSaParException("Interrupted while waiting for the composer", e);
+            }
+            checkFailure();
+        }
+
+        /**
+         * Makes the composer thread terminate without composing any more lines. Has no effect if it has already
+         * terminated.
+         */
+        private void abort() {
+            synchronized (lock) {
+                aborted = true;
+                lock.notifyAll();
+            }
+            try {
+                if (composerThread != null)
+                    composerThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+}
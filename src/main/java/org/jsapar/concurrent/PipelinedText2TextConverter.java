@@ -0,0 +1,113 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.Text2TextConverter;
+import org.jsapar.convert.AbstractConverter;
+import org.jsapar.schema.Schema;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.util.LinkedList;
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+
+/**
+ * A multi threaded version of {@link org.jsapar.Text2TextConverter} where line manipulators are called by a pool of
+ * worker threads and the composer is started in a separate thread. The output is composed in the same order as the
+ * input. All added line manipulators need to be thread safe.
+ * See {@link AbstractConverter} for details about error handling and manipulating data.
+ * <p>
+ * Use this converter instead of {@link ConcurrentText2TextConverter} when the line manipulators are heavy enough to
+ * limit the throughput of the conversion.
+ *
+ * @see PipelinedConvertTask
+ * @see org.jsapar.Text2TextConverter
+ */
+public class PipelinedText2TextConverter extends Text2TextConverter implements ConcurrentStartStop {
+    private final List<Runnable> onStart   = new LinkedList<>();
+    private final List<Runnable> onStop    = new LinkedList<>();
+    private       int            workers   = Runtime.getRuntime().availableProcessors();
+    private       int            chunkSize = PipelinedConvertTask.DEFAULT_CHUNK_SIZE;
+    private       ThreadFactory  threadFactory;
+
+    /**
+     * Creates a pipelined text to text converter that can be used to convert between different text based formats.
+     * @param parseSchema The schema to use while parsing
+     * @param composeSchema The schema to use wile composing.
+     */
+    public PipelinedText2TextConverter(Schema parseSchema, Schema composeSchema) {
+        super(parseSchema, composeSchema);
+    }
+
+    /**
+     * Creates a pipelined text to text converter that can be used to convert between different text based formats.
+     * @param parseSchema The schema to use while parsing
+     * @param composeSchema The schema to use wile composing.
+     * @param parseConfig   Configuration about parsing behavior.
+     */
+    public PipelinedText2TextConverter(Schema parseSchema, Schema composeSchema, TextParseConfig parseConfig) {
+        super(parseSchema, composeSchema, parseConfig);
+    }
+
+    @Override
+    public long convert(Reader reader, Writer writer) throws IOException {
+        PipelinedConvertTask convertTask = new PipelinedConvertTask(makeParseTask(reader), makeComposer(writer), workers);
+        convertTask.setChunkSize(chunkSize);
+        convertTask.setThreadFactory(threadFactory);
+        onStart.forEach(convertTask::registerOnStart);
+        onStop.forEach(convertTask::registerOnStop);
+        return execute(convertTask);
+    }
+
+    /**
+     * @param workers The number of worker threads that call line manipulators. Default is the number of available
+     *                processors.
+     */
+    public void setWorkers(int workers) {
+        if (workers <= 0)
+            throw new IllegalArgumentException("Number of workers needs to be at least 1");
+        this.workers = workers;
+    }
+
+    public int getWorkers() {
+        return workers;
+    }
+
+    /**
+     * @param chunkSize The maximum number of lines that a worker thread manipulates in one go.
+     * @see PipelinedConvertTask#setChunkSize(int)
+     */
+    public void setChunkSize(int chunkSize) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size needs to be at least 1");
+        this.chunkSize = chunkSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param threadFactory The thread factory that creates worker and composer threads or null to create new platform
+     *                      threads.
+     * @see PipelinedConvertTask#setThreadFactory(ThreadFactory)
+     */
+    public void setThreadFactory(ThreadFactory threadFactory) {
+        this.threadFactory = threadFactory;
+    }
+
+    public ThreadFactory getThreadFactory() {
+        return threadFactory;
+    }
+
+    @Override
+    public void registerOnStart(Runnable onStart) {
+        this.onStart.add(onStart);
+    }
+
+    @Override
+    public void registerOnStop(Runnable onStop) {
+        this.onStop.add(onStop);
+    }
+}
@@ -0,0 +1,92 @@
+package org.jsapar.concurrent;
+
+import java.time.Duration;
+
+/**
+ * Metrics about the queue between the producing and the consuming thread of one or more
+ * {@link ConcurrentLineEventListener} instances. Each listener updates its own metrics without synchronization from
+ * the producing thread. When the same instance is supplied to several listeners, for instance by
+ * {@link ConcurrentText2TextConverter#setQueueMetrics(QueueMetrics)}, the metrics of each listener are added when the
+ * listener is closed.
+ */
+public final class QueueMetrics {
+    private long maxQueueDepth;
+    private long stallCount;
+    private long stallNanos;
+    private long droppedCount;
+    private long spilledCount;
+
+    /**
+     * Creates metrics where all counters are zero. Supply the instance to a listener or converter to collect metrics.
+     */
+    public QueueMetrics() {
+    }
+
+    void queueDepth(long depth) {
+        if (depth > maxQueueDepth)
+            maxQueueDepth = depth;
+    }
+
+    void stall(long nanos) {
+        stallCount++;
+        stallNanos += nanos;
+    }
+
+    void dropped() {
+        droppedCount++;
+    }
+
+    void spilled() {
+        spilledCount++;
+    }
+
+    synchronized void add(QueueMetrics other) {
+        maxQueueDepth = Math.max(maxQueueDepth, other.maxQueueDepth);
+        stallCount += other.stallCount;
+        stallNanos += other.stallNanos;
+        droppedCount += other.droppedCount;
+        spilledCount += other.spilledCount;
+    }
+
+    /**
+     * @return The highest number of events that have been waiting in queue. The depth is sampled so short peaks may be
+     * missed, except that a full queue is always recorded.
+     */
+    public synchronized long getMaxQueueDepth() {
+        return maxQueueDepth;
+    }
+
+    /**
+     * @return Number of times the producing thread had to wait because the queue was full.
+     */
+    public synchronized long getStallCount() {
+        return stallCount;
+    }
+
+    /**
+     * @return Total time the producing thread has waited because the queue was full.
+     */
+    public synchronized Duration getStallTime() {
+        return Duration.ofNanos(stallNanos);
+    }
+
+    /**
+     * @return Number of events that were dropped because the queue was full.
+     */
+    public synchronized long getDroppedCount() {
+        return droppedCount;
+    }
+
+    /**
+     * @return Number of events that were written to a temporary file because the queue was full.
+     */
+    public synchronized long getSpilledCount() {
+        return spilledCount;
+    }
+
+    @Override
+    public synchronized String toString() {
+        return "maxQueueDepth=" + maxQueueDepth + ", stalls=" + stallCount + ", stallTime=" + getStallTime()
+                + ", dropped=" + droppedCount + ", spilled=" + spilledCount;
+    }
+}
@@ -0,0 +1,40 @@
+package org.jsapar.concurrent;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Internal class with one single JVM shutdown hook that stops all registered {@link Stoppable} instances. Instances
+ * are registered only while they are running so that no reference to them is kept after they are done.
+ */
+final class ShutdownHook {
+    private static final Set<Stoppable> running    = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean  registered = new AtomicBoolean(false);
+
+    private ShutdownHook() {
+    }
+
+    /**
+     * @param stoppable The instance to stop if the JVM shuts down before it is unregistered.
+     */
+    static void register(Stoppable stoppable) {
+        if (registered.compareAndSet(false, true))
+            Runtime.getRuntime().addShutdownHook(new Thread(ShutdownHook::stopAll, "jsapar-shutdown"));
+        running.add(stoppable);
+    }
+
+    static void unregister(Stoppable stoppable) {
+        running.remove(stoppable);
+    }
+
+    private static void stopAll() {
+        for (Stoppable stoppable : running) {
+            try {
+                stoppable.stop();
+            } catch (RuntimeException e) {
+                // Nothing more to do about it while shutting down.
+            }
+        }
+    }
+}
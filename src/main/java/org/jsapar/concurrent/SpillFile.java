@@ -0,0 +1,88 @@
+package org.jsapar.concurrent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+/**
+ * Internal first in first out queue of serializable objects that are stored in a temporary file. Objects are written
+ * to the end of the file and read from where the last read ended. Only to be used by one thread. The file is deleted
+ * when closed.
+ */
+final class SpillFile implements Closeable {
+    private final Path               path;
+    private final ObjectOutputStream out;
+    private       ObjectInputStream  in;
+    private       long               written = 0L;
+    private       long               read    = 0L;
+    private       Object             next;
+
+    SpillFile() {
+        try {
+            path = Files.createTempFile("jsapar-spill", ".tmp");
+            out = new ObjectOutputStream(new BufferedOutputStream(Files.newOutputStream(path)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to create spill file", e);
+        }
+    }
+
+    void write(Object object) {
+        try {
+            out.writeObject(object);
+            // Makes the stream forget about written objects so that they can be garbage collected.
+            out.reset();
+            written++;
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to write to spill file " + path, e);
+        }
+    }
+
+    /**
+     * @return The next object without removing it or null if there are no more objects.
+     */
+    Object peek() {
+        if (next == null && read < written) {
+            try {
+                out.flush();
+                if (in == null)
+                    in = new ObjectInputStream(new BufferedInputStream(Files.newInputStream(path)));
+                next = in.readObject();
+                read++;
+            } catch (ClassNotFoundException e) {
+                throw new UncheckedIOException(new InvalidObjectException(e.getMessage()));
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to read from spill file " + path, e);
+            }
+        }
+        return next;
+    }
+
+    /**
+     * Removes the object that was returned by last call to {@link #peek()}.
+     */
+    void remove() {
+        next = null;
+    }
+
+    boolean isEmpty() {
+        return next == null && read == written;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            out.close();
+            if (in != null)
+                in.close();
+        } finally {
+            Files.deleteIfExists(path);
+        }
+    }
+}
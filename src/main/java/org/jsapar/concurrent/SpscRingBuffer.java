@@ -0,0 +1,204 @@
+package org.jsapar.concurrent;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.BooleanSupplier;
+import java.util.function.Consumer;
+
+/**
+ * Internal lock free queue with a fixed capacity for exactly one producing thread and one consuming thread. No objects
+ * are allocated while adding or removing elements. The consumer removes all available elements in one batch.
+ * <p>
+ * When waiting with {@link WaitStrategy#PARK}, a thread is woken up by the other thread as soon as there is
+ * something to do. A wake up that is missed due to a race is compensated by a short maximum park time.
+ *
+ * @param <E> The element type.
+ */
+final class SpscRingBuffer<E> {
+    private static final long MAX_PARK_NANOS = 100_000L;
+    /**
+     * Thread.onSpinWait() if available, which is from Java 9, otherwise null. As a constant, the JIT compiler can
+     * inline the call.
+     */
+    private static final MethodHandle ON_SPIN_WAIT = findOnSpinWait();
+
+    private final Object[] elements;
+    private final int      mask;
+    private final int      capacity;
+
+    // Next position to consume. Written only by the consumer.
+    private final AtomicLong head = new AtomicLong();
+    // Next position to produce. Written only by the producer.
+    private final AtomicLong tail = new AtomicLong();
+    // Last known head as seen by the producer.
+    private long headCache;
+    // Last known tail as seen by the consumer.
+    private long tailCache;
+
+    private volatile Thread       parkedProducer;
+    private volatile Thread       parkedConsumer;
+    private volatile WaitStrategy waitStrategy = WaitStrategy.PARK;
+
+    /**
+     * @param capacity The maximum number of elements in the queue.
+     */
+    SpscRingBuffer(int capacity) {
+        if (capacity <= 0)
+            throw new IllegalArgumentException("Capacity needs to be at least 1");
+        this.capacity = capacity;
+        int length = Integer.highestOneBit(capacity);
+        if (length < capacity)
+            length <<= 1;
+        this.elements = new Object[length];
+        this.mask = length - 1;
+    }
+
+    void setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * Adds an element if there is room for it. Called only by the producer.
+     * @param element The element to add.
+     * @return True if the element was added, false if the queue is full.
+     */
+    boolean offer(E element) {
+        final long t = tail.get();
+        if (t - headCache >= capacity) {
+            headCache = head.get();
+            if (t - headCache >= capacity)
+                return false;
+        }
+        elements[(int) t & mask] = element;
+        tail.lazySet(t + 1);
+        Thread consumer = parkedConsumer;
+        if (consumer != null)
+            LockSupport.unpark(consumer);
+        return true;
+    }
+
+    /**
+     * Adds an element, waiting for room if the queue is full. Called only by the producer.
+     * @param element The element to add.
+     * @param abort   Checked while waiting. Waiting is aborted if it returns true.
+     * @return True if the element was added, false if waiting was aborted.
+     */
+    boolean put(E element, BooleanSupplier abort) {
+        while (!offer(element)) {
+            if (abort.getAsBoolean())
+                return false;
+            if (waitStrategy == WaitStrategy.PARK) {
+                parkedProducer = Thread.currentThread();
+                if (tail.get() - head.get() >= capacity)
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                parkedProducer = null;
+            } else {
+                idle();
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Removes all available elements, but at most limit elements, and hands them to the supplied consumer. Called
+     * only by the consumer.
+     * @param consumer The consumer of the elements.
+     * @param limit    The maximum number of elements to remove.
+     * @return The number of removed elements.
+     */
+    @SuppressWarnings("unchecked")
+    int drain(Consumer<E> consumer, int limit) {
+        long h = head.get();
+        if (h >= tailCache) {
+            tailCache = tail.get();
+            if (h >= tailCache)
+                return 0;
+        }
+        final long end = Math.min(tailCache, h + limit);
+        final int count = (int) (end - h);
+        for (; h < end; h++) {
+            int index = (int) h & mask;
+            E element = (E) elements[index];
+            elements[index] = null;
+            head.lazySet(h + 1);
+            consumer.accept(element);
+        }
+        Thread producer = parkedProducer;
+        if (producer != null)
+            LockSupport.unpark(producer);
+        return count;
+    }
+
+    /**
+     * Waits until there is at least one element in the queue. Called only by the consumer.
+     * @param abort Checked while waiting. Waiting is aborted if it returns true.
+     */
+    void awaitElements(BooleanSupplier abort) {
+        while (isEmpty()) {
+            if (abort.getAsBoolean() || Thread.currentThread().isInterrupted())
+                return;
+            if (waitStrategy == WaitStrategy.PARK) {
+                parkedConsumer = Thread.currentThread();
+                if (isEmpty())
+                    LockSupport.parkNanos(this, MAX_PARK_NANOS);
+                parkedConsumer = null;
+            } else {
+                idle();
+            }
+        }
+    }
+
+    private void idle() {
+        if (waitStrategy == WaitStrategy.YIELD)
+            Thread.yield();
+        else if (ON_SPIN_WAIT != null) {
+            try {
+                ON_SPIN_WAIT.invokeExact();
+            } catch (Throwable e) {
+                throw new IllegalStateException("Failed to call Thread.onSpinWait()", e);
+            }
+        }
+    }
+
+    private static MethodHandle findOnSpinWait() {
+        try {
+            return MethodHandles.publicLookup().findStatic(Thread.class, "onSpinWait", MethodType.methodType(void.class));
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            return null; // Java 8, just spin.
+        }
+    }
+
+    /**
+     * Wakes up any waiting thread so that it checks its abort condition.
+     */
+    void wakeUp() {
+        Thread producer = parkedProducer;
+        if (producer != null)
+            LockSupport.unpark(producer);
+        Thread consumer = parkedConsumer;
+        if (consumer != null)
+            LockSupport.unpark(consumer);
+    }
+
+    int size() {
+        return (int) Math.max(0L, tail.get() - head.get());
+    }
+
+    boolean isEmpty() {
+        return head.get() >= tail.get();
+    }
+
+    /**
+     * Removes all elements. May only be called when the consumer is not running.
+     */
+    void clear() {
+        drain(e -> { }, Integer.MAX_VALUE);
+    }
+}
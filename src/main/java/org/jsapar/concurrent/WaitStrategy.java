@@ -0,0 +1,22 @@
+package org.jsapar.concurrent;
+
+/**
+ * Decides what a thread does while it waits for the other thread in a hand-over between one producing and one
+ * consuming thread, for instance when the queue of a {@link ConcurrentLineEventListener} is empty or full.
+ */
+public enum WaitStrategy {
+    /**
+     * Busy spins. Gives the lowest latency but occupies a cpu core while waiting. Use only when there are more cores
+     * than busy threads.
+     */
+    SPIN,
+    /**
+     * Yields to other threads between each check.
+     */
+    YIELD,
+    /**
+     * Parks the waiting thread until it is woken up by the other thread. Uses no cpu while waiting. This is the
+     * default.
+     */
+    PARK
+}
@@ -44,6 +44,13 @@ public abstract class AbstractConverter {
         manipulators.add(manipulator);
     }
 
+    /**
+     * @return True if any line manipulator has been added to this converter.
+     */
+    protected boolean hasLineManipulators() {
+        return !manipulators.isEmpty();
+    }
+
     /**
      * Replaces existing error event listener.
      * @param errorListener The new error event listener to use.
@@ -59,10 +66,18 @@ public abstract class AbstractConverter {
      * @throws IOException In case of io error while writing output.
      */
     protected long execute(ConvertTask convertTask) throws IOException {
+        configure(convertTask);
+        return convertTask.execute();
+    }
+
+    /**
+     * Adds all manipulators to the convert task and assigns the error event listener, if any.
+     * @param convertTask The convert task to configure.
+     */
+    protected void configure(ConvertTask convertTask) {
         manipulators.forEach(convertTask::addLineManipulator);
         if(errorListener != null)
             convertTask.setErrorEventListener(errorListener);
-        return convertTask.execute();
     }
 
 }
@@ -100,4 +100,11 @@ public class ConvertTask {
     public Composer getComposer() {
         return composer;
     }
+
+    /**
+     * @return The line manipulators that have been added to this task, in the order they were added.
+     */
+    protected List<LineManipulator> getLineManipulators() {
+        return manipulators;
+    }
 }
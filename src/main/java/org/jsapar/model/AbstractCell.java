@@ -43,6 +43,35 @@ abstract class AbstractCell<T> implements Cell<T> {
         this.value = value;
     }
 
+    /**
+     * Creates a cell where the value is stored by the sub-class, for instance as a primitive value. The sub-class needs
+     * to override {@link #getValue()}.
+     *
+     * @param name        The name of the cell
+     * @param cellType    The type of the cell.
+     */
+    AbstractCell(String name, CellType cellType) {
+        assert name != null : "Cell name cannot be null.";
+        assert cellType != null : "Cell type cannot be null.";
+        this.name = name;
+        this.cellType = cellType;
+        this.value = null;
+    }
+
+    /**
+     * Checks the boxed value that is supplied to a cell that stores its value as a primitive value.
+     *
+     * @param value The value to check.
+     * @param <V>   The type of the value.
+     * @return The supplied value.
+     * @throws NullPointerException If value is null.
+     */
+    static <V> V requireValue(V value) {
+        if (value == null)
+            throw new NullPointerException("Cell value cannot be null, use EmptyCell for empty values.");
+        return value;
+    }
+
     /**
      * Gets the name of the cell.
      * 
@@ -86,7 +115,7 @@ abstract class AbstractCell<T> implements Cell<T> {
         if (o == null || getClass() != o.getClass()) return false;
 
         AbstractCell<?> cell = (AbstractCell<?>) o;
-        return Objects.equals(value, cell.value) &&
+        return Objects.equals(getValue(), cell.getValue()) &&
                 Objects.equals(name, cell.name) &&
                 cellType == cell.cellType;
     }
@@ -95,7 +124,7 @@ abstract class AbstractCell<T> implements Cell<T> {
     public int hashCode() {
         // Since all members are final, we can cache the hash code.
         if(this.hashCode == Integer.MIN_VALUE){
-            this.hashCode = Objects.hash(value, name, cellType);
+            this.hashCode = Objects.hash(getValue(), name, cellType);
         }
         return this.hashCode;
     }
@@ -1,7 +1,8 @@
 package org.jsapar.model;
 
 /**
- * {@link Cell} implementation carrying a boolean value of a cell.
+ * {@link Cell} implementation carrying a boolean value of a cell. The value is stored as a primitive boolean. Use
+ * {@link #getBoolean()} to retrieve it without boxing.
  * 
  */
 public final class BooleanCell extends AbstractCell<Boolean> implements ComparableCell<Boolean> {
@@ -9,11 +10,35 @@ public final class BooleanCell extends AbstractCell<Boolean> implements Comparab
 	/**
      * 
      */
-	private static final long serialVersionUID = -6337207320287960296L;
+	private static final long serialVersionUID = -6337207320287960297L;
 
+	private final boolean value;
 
+	public BooleanCell(String sName, boolean value) {
+		super(sName, CellType.BOOLEAN);
+		this.value = value;
+	}
+
+	/**
+	 * @param sName The name of the cell
+	 * @param value The value. Can not be null, use {@link #emptyOf(String)} for empty values.
+	 * @deprecated Use {@link #BooleanCell(String, boolean)} instead.
+	 */
+	@Deprecated
 	public BooleanCell(String sName, Boolean value) {
-		super(sName, value, CellType.BOOLEAN);
+		this(sName, requireValue(value).booleanValue());
+	}
+
+	/**
+	 * @return The value of this cell as a primitive boolean.
+	 */
+	public boolean getBoolean() {
+		return value;
+	}
+
+	@Override
+	public Boolean getValue() {
+		return value;
 	}
 
 	/**
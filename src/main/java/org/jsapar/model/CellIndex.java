@@ -0,0 +1,63 @@
+package org.jsapar.model;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * An immutable table of cell names where each name has a fixed position. Lines that are created with a cell index
+ * store cells with those names in an array at the position of the name instead of in a map. The same cell index
+ * instance is shared between all lines that are parsed with the same schema line.
+ * <p>
+ * Cells with names that are not part of the index can still be added to such a line.
+ *
+ * @see Line#Line(String, CellIndex)
+ */
+public final class CellIndex implements Serializable {
+
+    private static final long serialVersionUID = -2446624869151373102L;
+
+    private final String[]             names;
+    private final Map<String, Integer> indexByName;
+
+    private CellIndex(String[] names) {
+        this.names = names;
+        this.indexByName = new HashMap<>((names.length * 4 / 3) + 1);
+        for (int i = 0; i < names.length; i++)
+            this.indexByName.putIfAbsent(names[i], i);
+    }
+
+    /**
+     * Creates a cell index where each name gets the position it has within the supplied collection.
+     * @param names The cell names in the order they usually occur on a line.
+     * @return A new cell index.
+     */
+    public static CellIndex of(Collection<String> names) {
+        return new CellIndex(names.toArray(new String[0]));
+    }
+
+    /**
+     * @param name The cell name to find.
+     * @return The position of the name or -1 if it is not part of this index.
+     */
+    public int indexOf(String name) {
+        Integer index = indexByName.get(name);
+        return index == null ? -1 : index;
+    }
+
+    /**
+     * @param index The position of the name.
+     * @return The cell name at supplied position.
+     */
+    public String nameAt(int index) {
+        return names[index];
+    }
+
+    /**
+     * @return Number of cell names within this index.
+     */
+    public int size() {
+        return names.length;
+    }
+}
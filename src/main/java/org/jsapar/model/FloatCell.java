@@ -3,11 +3,16 @@ package org.jsapar.model;
 /**
  * Float cell contains a double precision float number. Single precision float
  * values are converted into double precision values.
- * 
+ * <p>
+ * The value is stored as a primitive double. Use {@link #getDouble()} to retrieve it without boxing. The
+ * {@link #getValue()} method returns a value of the same type that the cell was created with.
  */
 public final class FloatCell extends NumberCell {
 
-    private static final long serialVersionUID = 2102712515168714171L;
+    private static final long serialVersionUID = 2102712515168714172L;
+
+    private final double  value;
+    private final boolean singlePrecision;
 
     /**
      * Creates a float number cell with supplied name. Converts the float value
@@ -16,8 +21,23 @@ public final class FloatCell extends NumberCell {
      * @param name The name of the cell
      * @param value The value
      */
+    public FloatCell(String name, float value) {
+        super(name, CellType.FLOAT);
+        this.value = value;
+        this.singlePrecision = true;
+    }
+
+    /**
+     * Creates a float number cell with supplied name. Converts the float value
+     * into a double precision float value.
+     *
+     * @param name The name of the cell
+     * @param value The value. Can not be null, use {@link EmptyCell} for empty values.
+     * @deprecated Use {@link #FloatCell(String, float)} instead.
+     */
+    @Deprecated
     public FloatCell(String name, Float value) {
-	super(name, value, CellType.FLOAT);
+        this(name, requireValue(value).floatValue());
     }
 
     /**
@@ -26,15 +46,45 @@ public final class FloatCell extends NumberCell {
      * @param name The name of the cell
      * @param value The value
      */
+    public FloatCell(String name, double value) {
+        super(name, CellType.FLOAT);
+        this.value = value;
+        this.singlePrecision = false;
+    }
+
+    /**
+     * Creates a float number cell with supplied name.
+     *
+     * @param name The name of the cell
+     * @param value The value. Can not be null, use {@link EmptyCell} for empty values.
+     * @deprecated Use {@link #FloatCell(String, double)} instead.
+     */
+    @Deprecated
     public FloatCell(String name, Double value) {
-	super(name, value, CellType.FLOAT);
+        this(name, requireValue(value).doubleValue());
     }
 
+    /**
+     * @return The value of this cell as a primitive double.
+     */
+    public double getDouble() {
+        return value;
+    }
+
+    /**
+     * @return The value of this cell boxed into the same type as the cell was created with.
+     */
+    @Override
+    public Number getValue() {
+        if (singlePrecision)
+            return (float) value;
+        return value;
+    }
 
     @Override
     public int compareValueTo(Cell<Number> right) {
         if(right instanceof FloatCell)
-            return Double.compare(getValue().doubleValue(), right.getValue().doubleValue());
+            return Double.compare(value, ((FloatCell) right).value);
         return super.compareValueTo(right);
     }
 }
@@ -2,49 +2,133 @@ package org.jsapar.model;
 
 /**
  * Integer cell that contains integer values of any length; Byte, Short, Integer and Long.
- *
+ * <p>
+ * The value is stored as a primitive long. Use {@link #getLong()} to retrieve it without boxing. The {@link #getValue()}
+ * method returns a value of the same type that the cell was created with.
  */
 public final class IntegerCell extends NumberCell {
 
-    private static final long serialVersionUID = -6131249480571994885L;
+    private static final long serialVersionUID = -6131249480571994886L;
+
+    private static final byte LONG    = 0;
+    private static final byte INTEGER = 1;
+    private static final byte SHORT   = 2;
+    private static final byte BYTE    = 3;
+
+    private final long value;
+    private final byte valueType;
+
+    private IntegerCell(String name, long value, byte valueType) {
+        super(name, CellType.INTEGER);
+        this.value = value;
+        this.valueType = valueType;
+    }
 
     /**
      * @param name The name of the cell
      * @param value The value
      */
+    public IntegerCell(String name, int value) {
+        this(name, value, INTEGER);
+    }
+
+    /**
+     * @param name The name of the cell
+     * @param value The value. Can not be null, use {@link #emptyOf(String)} for empty values.
+     * @deprecated Use {@link #IntegerCell(String, int)} instead.
+     */
+    @Deprecated
     public IntegerCell(String name, Integer value) {
-	super(name, value, CellType.INTEGER);
+        this(name, requireValue(value).intValue(), INTEGER);
     }
 
     /**
      * @param name The name of the cell
      * @param value The value
      */
+    public IntegerCell(String name, long value) {
+        this(name, value, LONG);
+    }
+
+    /**
+     * @param name The name of the cell
+     * @param value The value. Can not be null, use {@link #emptyOf(String)} for empty values.
+     * @deprecated Use {@link #IntegerCell(String, long)} instead.
+     */
+    @Deprecated
     public IntegerCell(String name, Long value) {
-	super(name, value, CellType.INTEGER);
+        this(name, requireValue(value).longValue(), LONG);
     }
 
     /**
      * @param name The name of the cell
      * @param value The value
      */
+    public IntegerCell(String name, short value) {
+        this(name, value, SHORT);
+    }
+
+    /**
+     * @param name The name of the cell
+     * @param value The value. Can not be null, use {@link #emptyOf(String)} for empty values.
+     * @deprecated Use {@link #IntegerCell(String, short)} instead.
+     */
+    @Deprecated
     public IntegerCell(String name, Short value) {
-        super(name, value, CellType.INTEGER);
+        this(name, requireValue(value).shortValue(), SHORT);
     }
 
     /**
      * @param name The name of the cell
      * @param value The value
      */
+    public IntegerCell(String name, byte value) {
+        this(name, value, BYTE);
+    }
+
+    /**
+     * @param name The name of the cell
+     * @param value The value. Can not be null, use {@link #emptyOf(String)} for empty values.
+     * @deprecated Use {@link #IntegerCell(String, byte)} instead.
+     */
+    @Deprecated
     public IntegerCell(String name, Byte value) {
-        super(name, value, CellType.INTEGER);
+        this(name, requireValue(value).byteValue(), BYTE);
     }
 
+    /**
+     * @return The value of this cell as a primitive long.
+     */
+    public long getLong() {
+        return value;
+    }
+
+    /**
+     * @return The value of this cell boxed into the same type as the cell was created with.
+     */
+    @Override
+    public Number getValue() {
+        switch (valueType) {
+        case INTEGER:
+            return (int) value;
+        case SHORT:
+            return (short) value;
+        case BYTE:
+            return (byte) value;
+        default:
+            return value;
+        }
+    }
+
+    @Override
+    public String getStringValue() {
+        return String.valueOf(value);
+    }
 
     @Override
     public int compareValueTo(Cell<Number> right) {
         if(right instanceof IntegerCell)
-            return Long.compare(getValue().longValue(), right.getValue().longValue());
+            return Long.compare(value, ((IntegerCell) right).value);
         return super.compareValueTo(right);
     }
 
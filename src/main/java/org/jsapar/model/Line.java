@@ -7,6 +7,7 @@ import java.util.*;
 import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 /**
  * A line is one row of the input buffer. Each line contains a list of cells. Cells within the line can be retrieved
@@ -27,8 +28,22 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
 
     private static final long   serialVersionUID = 6026541900371948403L;
 
+    /**
+     * Cells that are not part of the cell index. Null until first needed if there is a cell index.
+     */
     private Map<String, Cell> cells;
-    private Map<String, CellParseException> cellErrors = new LinkedHashMap<>();
+
+    /**
+     * Null unless the line was created with a cell index.
+     */
+    private final CellIndex cellIndex;
+    private Cell[] indexedCells;
+    private int indexedCount = 0;
+
+    /**
+     * Null until the first error is added.
+     */
+    private Map<String, CellParseException> cellErrors;
 
     /**
      * Line type.
@@ -49,6 +64,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
     public Line(String sLineType) {
         cells = new LinkedHashMap<>();
         lineType = sLineType;
+        cellIndex = null;
     }
 
     /**
@@ -61,6 +77,76 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
     public Line(String sLineType, int initialCapacity) {
         lineType = sLineType;
         cells = new LinkedHashMap<>((initialCapacity * 4/3)+1);
+        cellIndex = null;
+    }
+
+    /**
+     * Creates an empty line of a specified type where cells with names that are part of the supplied cell index are
+     * stored in an array at the position of the name. This is more compact than storing cells in a map and is used by
+     * the parsers. Cells with other names can also be added to the line. When iterating, the cells of the cell index
+     * comes first in index order followed by any other cells in the order they were added.
+     *
+     * @param sLineType The type of the line.
+     * @param cellIndex The cell index, usually shared by all lines of the same type.
+     */
+    public Line(String sLineType, CellIndex cellIndex) {
+        lineType = sLineType;
+        this.cellIndex = cellIndex;
+        indexedCells = new Cell[cellIndex.size()];
+    }
+
+    /**
+     * @param name The cell name.
+     * @return The position of the name within the cell index of this line or -1 if there is no cell index or if the
+     * name is not part of it.
+     */
+    private int indexOf(String name) {
+        return cellIndex == null ? -1 : cellIndex.indexOf(name);
+    }
+
+    /**
+     * @return The cell index of this line or null if the line was not created with a cell index.
+     * @see #Line(String, CellIndex)
+     */
+    public CellIndex getCellIndex() {
+        return cellIndex;
+    }
+
+    /**
+     * Retrieves a cell by its position within the cell index of this line. Faster than retrieving it by name.
+     *
+     * @param index The position within the cell index.
+     * @return The cell at supplied position or null if there is no such cell within this line.
+     * @throws IllegalStateException If this line was not created with a cell index.
+     * @see #getCellIndex()
+     */
+    public Cell getIndexedCell(int index) {
+        if (cellIndex == null)
+            throw new IllegalStateException("Line " + lineType + " has no cell index");
+        return indexedCells[index];
+    }
+
+    /**
+     * @return The map of cells that are not within the cell index. Created if it does not exist.
+     */
+    private Map<String, Cell> cellMap() {
+        if (cells == null)
+            cells = new LinkedHashMap<>();
+        return cells;
+    }
+
+    /**
+     * Stores a cell at supplied position of the cell index.
+     * @return The previous cell at that position.
+     */
+    private Cell setIndexedCell(int index, Cell cell) {
+        Cell oldCell = indexedCells[index];
+        indexedCells[index] = cell;
+        if (oldCell == null && cell != null)
+            indexedCount++;
+        else if (oldCell != null && cell == null)
+            indexedCount--;
+        return oldCell;
     }
 
     /**
@@ -75,7 +161,11 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @see #stream()
      */
     public List<Cell> getCells() {
-        return new ArrayList<>(cells.values());
+        if (cellIndex == null)
+            return new ArrayList<>(cells.values());
+        List<Cell> allCells = new ArrayList<>(size());
+        forEach(allCells::add);
+        return allCells;
     }
 
     /**
@@ -85,7 +175,9 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      */
     @Override
     public Iterator<Cell> iterator() {
-        return cells.values().iterator();
+        if (cellIndex == null)
+            return cells.values().iterator();
+        return new IndexedCellIterator();
     }
 
     /**
@@ -99,11 +191,15 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @see #putCell(Cell)
      */
     public Line addCell(Cell cell) {
-        Cell oldCell = cells.get(cell.getName());
+        int index = indexOf(cell.getName());
+        Cell oldCell = index >= 0 ? indexedCells[index] : (cells == null ? null : cells.get(cell.getName()));
         if (oldCell != null)
             throw new IllegalStateException(
                     "A cell with the name '" + cell.getName() + "' already exists. Failed to add cell.");
-        this.cells.put(cell.getName(), cell);
+        if (index >= 0)
+            setIndexedCell(index, cell);
+        else
+            cellMap().put(cell.getName(), cell);
         return this;
     }
 
@@ -114,7 +210,10 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return Optional that contains the removed cell if found
      */
     public Optional<Cell> removeCell(String sName) {
-        return Optional.ofNullable(this.cells.remove(sName));
+        int index = indexOf(sName);
+        if (index >= 0)
+            return Optional.ofNullable(setIndexedCell(index, null));
+        return cells == null ? Optional.empty() : Optional.ofNullable(this.cells.remove(sName));
     }
 
     /**
@@ -125,7 +224,10 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @see #addCell(Cell)
      */
     public Optional<Cell> putCell(Cell cell) {
-        return Optional.ofNullable(this.cells.put(cell.getName(), cell));
+        int index = indexOf(cell.getName());
+        if (index >= 0)
+            return Optional.ofNullable(setIndexedCell(index, cell));
+        return Optional.ofNullable(cellMap().put(cell.getName(), cell));
     }
 
     /**
@@ -140,9 +242,9 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      */
     public <T> void putCellValue(String cellName, T value, BiFunction<String, T, Cell> cellCreator) {
         if (value == null)
-            this.cells.remove(cellName);
+            removeCell(cellName);
         else
-            this.cells.put(cellName, cellCreator.apply(cellName, value));
+            putCell(cellCreator.apply(cellName, value));
     }
 
     /**
@@ -152,7 +254,10 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return Optional cell that is set if there is a cell with specified name.
      */
     public Optional<Cell> getCell(String name) {
-        return Optional.ofNullable(this.cells.get(name));
+        int index = indexOf(name);
+        if (index >= 0)
+            return Optional.ofNullable(indexedCells[index]);
+        return cells == null ? Optional.empty() : Optional.ofNullable(this.cells.get(name));
     }
 
     /**
@@ -181,7 +286,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return the number of cells that this line contains.
      */
     public int size() {
-        return this.cells.size();
+        return indexedCount + (cells == null ? 0 : this.cells.size());
     }
 
     /**
@@ -249,8 +354,12 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
         }
 
         // No need to make a deep copy since cells are all final.
-        clone.cells = new LinkedHashMap<>(this.cells);
-        clone.cellErrors  = new LinkedHashMap<>(this.cellErrors);
+        if (this.cells != null)
+            clone.cells = new LinkedHashMap<>(this.cells);
+        if (this.indexedCells != null)
+            clone.indexedCells = this.indexedCells.clone();
+        if (this.cellErrors != null)
+            clone.cellErrors = new LinkedHashMap<>(this.cellErrors);
 
         return clone;
     }
@@ -259,6 +368,8 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @param error The cell error to add.
      */
     public void addCellError(CellParseException error) {
+        if (cellErrors == null)
+            cellErrors = new LinkedHashMap<>();
         this.cellErrors.put(error.getCellName(), error);
     }
 
@@ -266,7 +377,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return True if the line has errors on any of the cells.
      */
     public boolean hasCellErrors(){
-        return !this.cellErrors.isEmpty();
+        return cellErrors != null && !this.cellErrors.isEmpty();
     }
 
     /**
@@ -274,7 +385,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return If there is an error for the given cell name, that error is returned.The error with the given cell name.
      */
     public Optional<CellParseException> getCellError(String cellName){
-        return Optional.ofNullable(cellErrors.get(cellName));
+        return cellErrors == null ? Optional.empty() : Optional.ofNullable(cellErrors.get(cellName));
     }
 
     /**
@@ -282,7 +393,7 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return All cell errors of this line.
      */
     public Collection<CellParseException> getCellErrors(){
-        return cellErrors.values();
+        return cellErrors == null ? Collections.emptyList() : cellErrors.values();
     }
 
     /**
@@ -326,7 +437,9 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
      * @return A stream of all cells within this line.
      */
     public Stream<Cell> stream() {
-        return this.cells.values().stream();
+        if (cellIndex == null)
+            return this.cells.values().stream();
+        return StreamSupport.stream(spliterator(), false);
     }
 
     /**
@@ -338,4 +451,49 @@ public class Line implements Serializable, Cloneable, Iterable<Cell> {
         return getCell(cellName).map(Cell::getValue).orElse(null);
     }
 
+    /**
+     * Iterates cells of the cell index in index order, then the other cells.
+     */
+    private final class IndexedCellIterator implements Iterator<Cell> {
+        private int index = 0;
+        private int lastIndex = -1;
+        private Iterator<Cell> mapIterator;
+
+        @Override
+        public boolean hasNext() {
+            if (mapIterator == null) {
+                while (index < indexedCells.length && indexedCells[index] == null)
+                    index++;
+                if (index < indexedCells.length)
+                    return true;
+                mapIterator = cells == null ? Collections.emptyIterator() : cells.values().iterator();
+            }
+            return mapIterator.hasNext();
+        }
+
+        @Override
+        public Cell next() {
+            if (!hasNext())
+                throw new NoSuchElementException();
+            if (mapIterator == null) {
+                lastIndex = index;
+                return indexedCells[index++];
+            }
+            lastIndex = -1;
+            return mapIterator.next();
+        }
+
+        @Override
+        public void remove() {
+            if (lastIndex >= 0) {
+                setIndexedCell(lastIndex, null);
+                lastIndex = -1;
+            } else if (mapIterator != null) {
+                mapIterator.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+    }
+
 }
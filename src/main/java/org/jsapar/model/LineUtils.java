@@ -82,7 +82,7 @@ public class LineUtils {
      * @param value    The double value to set.
      */
     public static void setDoubleCellValue(Line line, String cellName, double value) {
-        line.putCellValue(cellName, value, FloatCell::new);
+        line.putCell(new FloatCell(cellName, value));
     }
 
     /**
@@ -94,7 +94,7 @@ public class LineUtils {
      * @param value    The boolean value to set.
      */
     public static void setBooleanCellValue(Line line, String cellName, boolean value) {
-        line.putCellValue(cellName, value, BooleanCell::new);
+        line.putCell(new BooleanCell(cellName, value));
     }
 
     /**
@@ -262,7 +262,8 @@ public class LineUtils {
      * @see #getNumberCellValue(Line, String)
      */
     public static int getIntCellValue(Line line, String cellName, int defaultValue) throws NumberFormatException {
-        return line.getNonEmptyCell(cellName).map(LineUtils::intCellValue).orElse(defaultValue);
+        Optional<Cell> cell = line.getNonEmptyCell(cellName);
+        return cell.isPresent() ? intCellValue(cell.get()) : defaultValue;
     }
 
     /**
@@ -281,6 +282,10 @@ public class LineUtils {
     }
 
     private static int intCellValue(Cell cell) {
+        if (cell instanceof IntegerCell)
+            return (int) ((IntegerCell) cell).getLong();
+        if (cell instanceof FloatCell)
+            return (int) ((FloatCell) cell).getDouble();
         if (cell instanceof NumberCell) {
             NumberCell numberCell = (NumberCell) cell;
             return numberCell.getValue().intValue();
@@ -307,7 +312,8 @@ public class LineUtils {
      * @throws NumberFormatException If the cell value could not be converted into a long integer value.
      */
     public static long getLongCellValue(Line line, String cellName, long defaultValue) throws NumberFormatException {
-        return line.getNonEmptyCell(cellName).map(LineUtils::longCellValue).orElse(defaultValue);
+        Optional<Cell> cell = line.getNonEmptyCell(cellName);
+        return cell.isPresent() ? longCellValue(cell.get()) : defaultValue;
     }
 
     /**
@@ -325,6 +331,10 @@ public class LineUtils {
     }
 
     private static long longCellValue(Cell cell) {
+        if (cell instanceof IntegerCell)
+            return ((IntegerCell) cell).getLong();
+        if (cell instanceof FloatCell)
+            return (long) ((FloatCell) cell).getDouble();
         if (cell instanceof NumberCell) {
             NumberCell numberCell = (NumberCell) cell;
             return numberCell.getValue().longValue();
@@ -418,7 +428,7 @@ public class LineUtils {
             return defaultValue;
         if (cell.get() instanceof BooleanCell) {
             BooleanCell booleanCell = (BooleanCell) cell.get();
-            return booleanCell.getValue();
+            return booleanCell.getBoolean();
         }
 
         return Boolean.parseBoolean(cell.get().getStringValue());
@@ -579,7 +589,8 @@ public class LineUtils {
      */
     public static double getDoubleCellValue(Line line, String cellName, double defaultValue)
             throws NumberFormatException{
-        return line.getNonEmptyCell(cellName).map(LineUtils::doubleCellValue).orElse(defaultValue);
+        Optional<Cell> cell = line.getNonEmptyCell(cellName);
+        return cell.isPresent() ? doubleCellValue(cell.get()) : defaultValue;
     }
 
     /**
@@ -598,6 +609,10 @@ public class LineUtils {
     }
 
     private static double doubleCellValue(Cell cell) {
+        if (cell instanceof FloatCell)
+            return ((FloatCell) cell).getDouble();
+        if (cell instanceof IntegerCell)
+            return ((IntegerCell) cell).getLong();
         if (cell instanceof NumberCell) {
             NumberCell numberCell = (NumberCell) cell;
             return numberCell.getValue().doubleValue();
@@ -21,6 +21,15 @@ abstract class NumberCell extends AbstractCell<Number> {
         super(name, value, cellType);
     }
 
+    /**
+     * @param name The name of the cell
+     * @param cellType The type of the cell, from the sub-class.
+     * @see AbstractCell#AbstractCell(String, CellType)
+     */
+    NumberCell(String name, CellType cellType) {
+        super(name, cellType);
+    }
+
 
     /* (non-Javadoc)
      * @see org.jsapar.model.Cell#compareValueTo(org.jsapar.model.Cell)
@@ -18,6 +18,13 @@ public abstract class AbstractParseTask implements ParseTask, LineEventListener,
         this.lineEventListener = eventListener;
     }
 
+    /**
+     * @return The line event listener or null if there is none.
+     */
+    protected LineEventListener getLineEventListener() {
+        return lineEventListener;
+    }
+
     @Override
     public void setErrorEventListener(ErrorEventListener errorEventListener) {
         this.errorEventListener = errorEventListener;
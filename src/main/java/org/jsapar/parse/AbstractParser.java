@@ -22,8 +22,31 @@ public class AbstractParser {
 
     protected long execute(ParseTask parseTask, LineEventListener lineEventListener) throws IOException {
         parseTask.setLineEventListener(lineEventListener);
+        configure(parseTask);
+        return parseTask.execute();
+    }
+
+    /**
+     * Assigns the error event listener of this parser, if any, to the parse task.
+     * @param parseTask The parse task to configure.
+     */
+    protected void configure(ParseTask parseTask) {
         if(errorEventListener != null)
             parseTask.setErrorEventListener(errorEventListener);
-        return parseTask.execute();
+    }
+
+    /**
+     * Executes the parse task and delivers the parsed lines in batches.
+     * @param parseTask              The parse task to execute.
+     * @param lineBatchEventListener The listener to deliver batches of lines to.
+     * @param batchSize              The maximum number of lines in each batch.
+     * @return Number of parsed lines.
+     * @throws IOException In case of IO error
+     */
+    protected long execute(ParseTask parseTask, LineBatchEventListener lineBatchEventListener, int batchSize) throws IOException {
+        BatchingLineEventListener batchingListener = new BatchingLineEventListener(lineBatchEventListener, batchSize);
+        long count = execute(parseTask, batchingListener);
+        batchingListener.flush();
+        return count;
     }
 }
@@ -0,0 +1,72 @@
+package org.jsapar.parse;
+
+import org.jsapar.model.Line;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Collects the lines of line events into batches and delivers each batch to a {@link LineBatchEventListener} when it
+ * is full. Call {@link #flush()} or {@link #close()} when parsing is done in order to deliver the last lines.
+ */
+public class BatchingLineEventListener implements LineEventListener, AutoCloseable {
+
+    /**
+     * The default number of lines in each batch.
+     */
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private final LineBatchEventListener batchListener;
+    private final int                    batchSize;
+    private       List<Line>             batch;
+
+    /**
+     * Creates an instance with a batch size of {@link #DEFAULT_BATCH_SIZE}.
+     * @param batchListener The listener to deliver batches to.
+     */
+    public BatchingLineEventListener(LineBatchEventListener batchListener) {
+        this(batchListener, DEFAULT_BATCH_SIZE);
+    }
+
+    /**
+     * @param batchListener The listener to deliver batches to.
+     * @param batchSize     The number of lines in each batch.
+     */
+    public BatchingLineEventListener(LineBatchEventListener batchListener, int batchSize) {
+        if (batchSize <= 0)
+            throw new IllegalArgumentException("Batch size needs to be at least 1");
+        this.batchListener = batchListener;
+        this.batchSize = batchSize;
+        this.batch = new ArrayList<>(batchSize);
+    }
+
+    @Override
+    public void lineParsedEvent(LineParsedEvent event) {
+        batch.add(event.getLine());
+        if (batch.size() >= batchSize)
+            flush();
+    }
+
+    /**
+     * Delivers the lines collected so far, if any, as a batch.
+     */
+    public void flush() {
+        if (batch.isEmpty())
+            return;
+        List<Line> full = batch;
+        batch = new ArrayList<>(batchSize);
+        batchListener.lineBatchParsedEvent(full);
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * Delivers the lines collected so far, if any.
+     */
+    @Override
+    public void close() {
+        flush();
+    }
+}
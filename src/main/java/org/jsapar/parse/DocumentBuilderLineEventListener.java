@@ -1,13 +1,16 @@
 package org.jsapar.parse;
 
 import org.jsapar.model.Document;
+import org.jsapar.model.Line;
+
+import java.util.List;
 
 /**
  * This line event listener can be used to build a document based on line events.
  * Use this class only if you are sure that the whole data can be parsed into memory. If the
  * data source is too big, most likely a OutOfMemory exception will be thrown. For large data sources use your own {@link LineEventListener} implementation instead and handle lines one by one.
  */
-public class DocumentBuilderLineEventListener implements LineEventListener, AutoCloseable {
+public class DocumentBuilderLineEventListener implements LineEventListener, LineBatchEventListener, AutoCloseable {
     private Document document;
 
     /**
@@ -28,9 +31,19 @@ public class DocumentBuilderLineEventListener implements LineEventListener, Auto
 
     @Override
     public void lineParsedEvent(LineParsedEvent event) {
+        checkNotClosed();
+        document.addLine(event.getLine());
+    }
+
+    @Override
+    public void lineBatchParsedEvent(List<Line> lines) {
+        checkNotClosed();
+        lines.forEach(document::addLine);
+    }
+
+    private void checkNotClosed() {
         if(document == null)
             throw new IllegalStateException("The instance has been closed and cannot be used any more as event listener.");
-        document.addLine(event.getLine());
     }
 
     /**
@@ -0,0 +1,22 @@
+package org.jsapar.parse;
+
+import org.jsapar.model.Line;
+
+import java.util.EventListener;
+import java.util.List;
+
+/**
+ * Interface for receiving parsed lines in batches instead of one by one. Use {@link BatchingLineEventListener} to adapt
+ * it to any parser that delivers {@link LineParsedEvent} for each line.
+ */
+@FunctionalInterface
+public interface LineBatchEventListener extends EventListener {
+
+    /**
+     * Called every time that a batch of complete lines was found in the input.
+     *
+     * @param lines The parsed lines in the order they were parsed. The list is handed over to the receiver and is not
+     *              used any more by the sender.
+     */
+    void lineBatchParsedEvent(List<Line> lines);
+}
@@ -3,6 +3,7 @@ package org.jsapar.parse.bean;
 import org.jsapar.compose.bean.BeanComposeException;
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.*;
+import org.jsapar.parse.bean.reflect.PropertyAccessor;
 import org.jsapar.parse.bean.reflect.PropertyDescriptor;
 
 import java.lang.reflect.InvocationTargetException;
@@ -22,6 +23,7 @@ public class Bean2Cell {
     private BeanPropertyMap    children;
     private PropertyDescriptor propertyDescriptor;
     private CellCreator        cellCreator;
+    private CellAssigner       cellAssigner;
 
     private Bean2Cell(String cellName) {
         this.cellName = cellName;
@@ -36,6 +38,8 @@ public class Bean2Cell {
         Bean2Cell bean2Cell = new Bean2Cell(cellName, propertyDescriptor);
         // Prepare best way to create cell depending on return type
         bean2Cell.cellCreator = bean2Cell.makeCellCreator();
+        // Prepare best way to assign cell depending on parameter type
+        bean2Cell.cellAssigner = bean2Cell.makeCellAssigner();
         return bean2Cell;
     }
 
@@ -74,21 +78,41 @@ public class Bean2Cell {
         if (f == null)
             throw new JSaParException("The property " + propertyDescriptor.getName() + " has no getter method.");
 
+        PropertyAccessor accessor = propertyDescriptor.getAccessor();
         Class returnType = f.getReturnType();
 
+        // Primitive values are read without boxing.
+        if (returnType == Integer.TYPE) {
+            return (bean) -> new IntegerCell(cellName, (int) accessor.getLong(bean));
+        } else if (returnType == Long.TYPE) {
+            return (bean) -> new IntegerCell(cellName, accessor.getLong(bean));
+        } else if (returnType == Short.TYPE) {
+            return (bean) -> new IntegerCell(cellName, (short) accessor.getLong(bean));
+        } else if (returnType == Byte.TYPE) {
+            return (bean) -> new IntegerCell(cellName, (byte) accessor.getLong(bean));
+        } else if (returnType == Double.TYPE) {
+            return (bean) -> new FloatCell(cellName, accessor.getDouble(bean));
+        } else if (returnType == Float.TYPE) {
+            return (bean) -> new FloatCell(cellName, (float) accessor.getDouble(bean));
+        } else if (returnType == Boolean.TYPE) {
+            return (bean) -> new BooleanCell(cellName, accessor.getBoolean(bean));
+        } else if (returnType == Character.TYPE) {
+            return (bean) -> new StringCell(cellName, accessor.getChar(bean));
+        }
+
         if (returnType.isAssignableFrom(String.class)) {
             return (bean) -> {
-                String value = (String) f.invoke(bean);
+                String value = (String) accessor.get(bean);
                 if (value != null)
                     return new StringCell(cellName, value);
                 else
                     return StringCell.emptyOf(cellName);
             };
-        } else if (returnType.isAssignableFrom(Character.TYPE) || returnType.isAssignableFrom(Character.class)) {
-            return (bean) -> new StringCell(cellName, (Character) f.invoke(bean));
+        } else if (returnType.isAssignableFrom(Character.class)) {
+            return (bean) -> new StringCell(cellName, (Character) accessor.get(bean));
         } else if (returnType.isAssignableFrom(LocalDate.class)) {
             return (bean) -> {
-                LocalDate value = (LocalDate) f.invoke(bean);
+                LocalDate value = (LocalDate) accessor.get(bean);
                 if (value != null)
                     return new LocalDateCell(cellName, value);
                 else
@@ -96,7 +120,7 @@ public class Bean2Cell {
             };
         } else if (returnType.isAssignableFrom(LocalDateTime.class)) {
             return (bean) -> {
-                LocalDateTime value = (LocalDateTime) f.invoke(bean);
+                LocalDateTime value = (LocalDateTime) accessor.get(bean);
                 if (value != null)
                     return new LocalDateTimeCell(cellName, value);
                 else
@@ -104,7 +128,7 @@ public class Bean2Cell {
             };
         } else if (returnType.isAssignableFrom(LocalTime.class)) {
             return (bean) -> {
-                LocalTime value = (LocalTime) f.invoke(bean);
+                LocalTime value = (LocalTime) accessor.get(bean);
                 if (value != null)
                     return new LocalTimeCell(cellName, value);
                 else
@@ -112,7 +136,7 @@ public class Bean2Cell {
             };
         } else if (returnType.isAssignableFrom(ZonedDateTime.class)) {
             return (bean) -> {
-                ZonedDateTime value = (ZonedDateTime) f.invoke(bean);
+                ZonedDateTime value = (ZonedDateTime) accessor.get(bean);
                 if (value != null)
                     return new ZonedDateTimeCell(cellName, value);
                 else
@@ -120,7 +144,7 @@ public class Bean2Cell {
             };
         } else if (returnType.isAssignableFrom(Date.class)) {
             return (bean) -> {
-                Date value = (Date) f.invoke(bean);
+                Date value = (Date) accessor.get(bean);
                 if (value != null)
                     return new DateCell(cellName, value);
                 else
@@ -128,33 +152,54 @@ public class Bean2Cell {
             };
         } else if (returnType.isAssignableFrom(Calendar.class)) {
             return (bean) -> {
-                Calendar value = (Calendar) f.invoke(bean);
+                Calendar value = (Calendar) accessor.get(bean);
                 if (value != null)
                     return new DateCell(cellName, value.getTime());
                 else
                     return DateCell.emptyOf(cellName);
             };
-        } else if (returnType.isAssignableFrom(Integer.TYPE) || returnType.isAssignableFrom(Integer.class)) {
-            return (bean) -> new IntegerCell(cellName, (Integer) f.invoke(bean));
-        } else if (returnType.isAssignableFrom(Byte.TYPE) || returnType.isAssignableFrom(Byte.class)) {
-            return (bean) -> new IntegerCell(cellName, (Byte) f.invoke(bean));
-        } else if (returnType.isAssignableFrom(Short.TYPE) || returnType.isAssignableFrom(Short.class)) {
-            return (bean) -> new IntegerCell(cellName, (Short) f.invoke(bean));
-        } else if (returnType.isAssignableFrom(Long.TYPE) || returnType.isAssignableFrom(Long.class)) {
-            return (bean) -> new IntegerCell(cellName, (Long) f.invoke(bean));
-        } else if (returnType.isAssignableFrom(Boolean.TYPE) || returnType.isAssignableFrom(Boolean.class)) {
-            return (bean) -> new BooleanCell(cellName, (Boolean) f.invoke(bean));
-        } else if (returnType.isAssignableFrom(Float.TYPE) || returnType.isAssignableFrom(Float.class)) {
-            return (bean) -> new FloatCell(cellName, (Float) f.invoke(bean));
-        } else if (returnType.isAssignableFrom(Double.TYPE) || returnType.isAssignableFrom(Double.class)) {
-            return (bean) -> new FloatCell(cellName, (Double) f.invoke(bean));
+        } else if (returnType.isAssignableFrom(Integer.class)) {
+            return (bean) -> {
+                Integer value = (Integer) accessor.get(bean);
+                return value != null ? new IntegerCell(cellName, value.intValue()) : IntegerCell.emptyOf(cellName);
+            };
+        } else if (returnType.isAssignableFrom(Byte.class)) {
+            return (bean) -> {
+                Byte value = (Byte) accessor.get(bean);
+                return value != null ? new IntegerCell(cellName, value.byteValue()) : IntegerCell.emptyOf(cellName);
+            };
+        } else if (returnType.isAssignableFrom(Short.class)) {
+            return (bean) -> {
+                Short value = (Short) accessor.get(bean);
+                return value != null ? new IntegerCell(cellName, value.shortValue()) : IntegerCell.emptyOf(cellName);
+            };
+        } else if (returnType.isAssignableFrom(Long.class)) {
+            return (bean) -> {
+                Long value = (Long) accessor.get(bean);
+                return value != null ? new IntegerCell(cellName, value.longValue()) : IntegerCell.emptyOf(cellName);
+            };
+        } else if (returnType.isAssignableFrom(Boolean.class)) {
+            return (bean) -> {
+                Boolean value = (Boolean) accessor.get(bean);
+                return value != null ? new BooleanCell(cellName, value.booleanValue()) : BooleanCell.emptyOf(cellName);
+            };
+        } else if (returnType.isAssignableFrom(Float.class)) {
+            return (bean) -> {
+                Float value = (Float) accessor.get(bean);
+                return value != null ? new FloatCell(cellName, value.floatValue()) : new EmptyCell(cellName, CellType.FLOAT);
+            };
+        } else if (returnType.isAssignableFrom(Double.class)) {
+            return (bean) -> {
+                Double value = (Double) accessor.get(bean);
+                return value != null ? new FloatCell(cellName, value.doubleValue()) : new EmptyCell(cellName, CellType.FLOAT);
+            };
         } else if (returnType.isAssignableFrom(BigDecimal.class)) {
-            return (bean) -> new BigDecimalCell(cellName, (BigDecimal) f.invoke(bean));
+            return (bean) -> new BigDecimalCell(cellName, (BigDecimal) accessor.get(bean));
         } else if (returnType.isAssignableFrom(BigInteger.class)) {
-            return (bean) -> new BigDecimalCell(cellName, (BigInteger) f.invoke(bean));
+            return (bean) -> new BigDecimalCell(cellName, (BigInteger) accessor.get(bean));
         } else if (Enum.class.isAssignableFrom(returnType)){
             return (bean) -> {
-                Enum value = (Enum) f.invoke(bean);
+                Enum value = (Enum) accessor.get(bean);
                 if (value != null)
                     return new EnumCell(cellName, value);
                 else
@@ -162,7 +207,7 @@ public class Bean2Cell {
             };
         }
         return (bean) -> {
-            Object value = f.invoke(bean);
+            Object value = accessor.get(bean);
             if (value != null)
                 return new StringCell(cellName, String.valueOf(value));
             else
@@ -177,15 +222,110 @@ public class Bean2Cell {
         Cell makeCell(Object o) throws InvocationTargetException, IllegalAccessException;
     }
 
-    private void assignProperty(Object bean, Cell<?> cell)
+    /**
+     * Cell assigner interface. Needed to be able to let assign method throw exception.
+     */
+    private interface CellAssigner {
+        void assign(Object bean, Cell<?> cell)
+                throws InvocationTargetException, IllegalAccessException, BeanComposeException;
+    }
+
+    /**
+     * Creates a cell assigner instance suitable for this instance.
+     *
+     * @return a cell assigner best fitted for the job depending on the parameter type of the bean property setter.
+     */
+    private CellAssigner makeCellAssigner() {
+        PropertyAccessor accessor = propertyDescriptor.getAccessor();
+        Class paramType = accessor.getWriteType();
+        if (paramType == null)
+            return (bean, cell) -> {
+                throw new BeanComposeException(
+                        "The property " + propertyDescriptor.getName() + " of class " + bean.getClass().getName()
+                                + " has no setter method.");
+            };
+
+        // Primitive values are assigned without boxing when the parsed cell is of a matching type.
+        if (paramType == Integer.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof IntegerCell)
+                    accessor.setInt(bean, (int) ((IntegerCell) cell).getLong());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == Long.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof IntegerCell)
+                    accessor.setLong(bean, ((IntegerCell) cell).getLong());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == Short.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof IntegerCell)
+                    accessor.setShort(bean, (short) ((IntegerCell) cell).getLong());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == Byte.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof IntegerCell)
+                    accessor.setByte(bean, (byte) ((IntegerCell) cell).getLong());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == Double.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof FloatCell)
+                    accessor.setDouble(bean, ((FloatCell) cell).getDouble());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == Float.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof FloatCell)
+                    accessor.setFloat(bean, (float) ((FloatCell) cell).getDouble());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == Boolean.TYPE) {
+            return (bean, cell) -> {
+                if (cell instanceof BooleanCell)
+                    accessor.setBoolean(bean, ((BooleanCell) cell).getBoolean());
+                else
+                    assignConverted(accessor, paramType, bean, cell);
+            };
+        } else if (paramType == String.class) {
+            return (bean, cell) -> accessor.set(bean, cell.getStringValue());
+        }
+        return (bean, cell) -> assignConverted(accessor, paramType, bean, cell);
+    }
+
+    private void assignConverted(PropertyAccessor accessor, Class paramType, Object bean, Cell<?> cell)
             throws InvocationTargetException, IllegalAccessException, BeanComposeException {
-        Method setter = this.propertyDescriptor.getWriteMethod();
-        if (setter == null)
-            throw new BeanComposeException(
-                    "The property " + propertyDescriptor.getName() + " of class " + children.getLineClass().getName()
-                            + " has no setter method.");
-        Class paramType = setter.getParameterTypes()[0];
-        setter.invoke(bean, customCast(paramType, cell));
+        Object value = cell.getValue();
+        if (paramType.isPrimitive() && value instanceof Number) {
+            // Assign primitive values without boxing.
+            Number number = (Number) value;
+            if (paramType == Integer.TYPE)
+                accessor.setInt(bean, number.intValue());
+            else if (paramType == Long.TYPE)
+                accessor.setLong(bean, number.longValue());
+            else if (paramType == Double.TYPE)
+                accessor.setDouble(bean, number.doubleValue());
+            else if (paramType == Float.TYPE)
+                accessor.setFloat(bean, number.floatValue());
+            else if (paramType == Short.TYPE)
+                accessor.setShort(bean, number.shortValue());
+            else if (paramType == Byte.TYPE)
+                accessor.setByte(bean, number.byteValue());
+            else if (paramType == Boolean.TYPE)
+                accessor.setBoolean(bean, number.intValue() != 0);
+            else
+                accessor.set(bean, customCast(paramType, cell));
+            return;
+        }
+        accessor.set(bean, customCast(paramType, cell));
     }
 
     @SuppressWarnings("unchecked")
@@ -234,7 +374,14 @@ public class Bean2Cell {
                         + " could not be used to assign cell");
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Assigns the value of a cell to the property of the supplied bean. If this instance describes a child bean, the
+     * cell is assigned to the property of the child bean that matches the cell name. The child bean is created if it
+     * does not exist.
+     *
+     * @param bean The bean to assign to.
+     * @param cell The cell to assign.
+     */
     public void assign(Object bean, Cell cell)
             throws BeanComposeException, InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
         if(cell.isEmpty()) {
@@ -244,28 +391,78 @@ public class Bean2Cell {
             assignProperty(bean, cell);
             return;
         }
-        Bean2Cell childBean2Cell = children.getBean2CellByName(cell.getName());
+        Bean2Cell childBean2Cell = getChild(cell.getName());
         if (childBean2Cell != null) {
-            Method getter = this.propertyDescriptor.getReadMethod();
-            if (getter == null)
+            childBean2Cell.assign(getOrCreateChild(bean), cell);
+        }
+    }
+
+    /**
+     * Assigns the value of a cell to the property of the supplied bean. Only valid for leaf instances.
+     *
+     * @param bean The bean to assign to.
+     * @param cell The cell to assign. Should not be empty.
+     */
+    void assignProperty(Object bean, Cell<?> cell)
+            throws InvocationTargetException, IllegalAccessException, BeanComposeException {
+        cellAssigner.assign(bean, cell);
+    }
+
+    /**
+     * @return True if this is a leaf instance where the property setter takes a String parameter.
+     */
+    boolean isTextProperty() {
+        return isLeaf() && propertyDescriptor.getAccessor().getWriteType() == String.class;
+    }
+
+    /**
+     * Assigns a text value to the property of the supplied bean. Only valid if {@link #isTextProperty()}.
+     *
+     * @param bean The bean to assign to.
+     * @param text The text to assign.
+     */
+    void assignText(Object bean, String text) throws InvocationTargetException, IllegalAccessException {
+        propertyDescriptor.getAccessor().set(bean, text);
+    }
+
+    /**
+     * Only valid for instances that are not leafs.
+     *
+     * @param cellName The name of the cell.
+     * @return The instance that describes how to assign a cell with supplied name to the child bean or null if there is
+     * no such cell within the child bean.
+     */
+    Bean2Cell getChild(String cellName) {
+        return children.getBean2CellByName(cellName);
+    }
+
+    /**
+     * Only valid for instances that are not leafs.
+     *
+     * @param bean The parent bean.
+     * @return The child bean of the parent bean. If the child bean does not exist, it is created and assigned to the
+     * parent bean.
+     */
+    Object getOrCreateChild(Object bean)
+            throws BeanComposeException, InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+        PropertyAccessor accessor = this.propertyDescriptor.getAccessor();
+        if (accessor.getReadMethod() == null)
+            throw new BeanComposeException(
+                    "The property " + propertyDescriptor.getName() + " of class " + children.getLineClass()
+                            .getName() + " has no getter method.");
+        Object child = accessor.get(bean);
+        if (child == null) {
+            child = children.createBean();
+            if (accessor.getWriteMethod() == null)
                 throw new BeanComposeException(
                         "The property " + propertyDescriptor.getName() + " of class " + children.getLineClass()
-                                .getName() + " has no getter method.");
-            Object child = getter.invoke(bean);
-            if (child == null) {
-                child = children.getLineClass().getConstructor().newInstance();
-                Method setter = this.propertyDescriptor.getWriteMethod();
-                if (setter == null)
-                    throw new BeanComposeException(
-                            "The property " + propertyDescriptor.getName() + " of class " + children.getLineClass()
-                                    .getName() + " has no setter method.");
-                setter.invoke(bean, child);
-            }
-            childBean2Cell.assign(child, cell);
+                                .getName() + " has no setter method.");
+            accessor.set(bean, child);
         }
+        return child;
     }
 
-    private boolean isLeaf() {
+    boolean isLeaf() {
         return this.children == null;
     }
 
@@ -0,0 +1,51 @@
+package org.jsapar.parse.bean;
+
+import org.jsapar.bean.BeanMap;
+import org.jsapar.model.CellIndex;
+import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.LineParsedEvent;
+import org.jsapar.parse.text.LineBinder;
+import org.jsapar.parse.text.LineBinderProvider;
+
+import java.util.function.Consumer;
+
+/**
+ * Internal line event listener that lets the text parsers assign cells directly to beans for all line types that are
+ * mapped to a bean class within a {@link BeanMap}. No {@link org.jsapar.model.Line} is created for such lines. Lines of
+ * other types are forwarded to another line event listener.
+ * <p>
+ * Only use this listener when nothing else than the composed beans are needed, i.e. when there are no line
+ * manipulators and when the listener of the beans does not need the line that the bean was composed from.
+ *
+ * @param <T> The base class of the beans.
+ */
+public class BeanBindingLineEventListener<T> implements LineBinderProvider {
+
+    private final LineEventListener lineEventListener;
+    private final BeanMap           beanMap;
+    private final Consumer<T>       beanConsumer;
+
+    /**
+     * @param lineEventListener Receives line events for lines of types that are not bound directly.
+     * @param beanMap           The bean map that describes how to assign beans.
+     * @param beanConsumer      Receives each bean that is composed directly.
+     */
+    public BeanBindingLineEventListener(LineEventListener lineEventListener, BeanMap beanMap, Consumer<T> beanConsumer) {
+        this.lineEventListener = lineEventListener;
+        this.beanMap = beanMap;
+        this.beanConsumer = beanConsumer;
+    }
+
+    @Override
+    public LineBinder lineBinderOf(String lineType, CellIndex cellIndex) {
+        BeanPropertyMap beanPropertyMap = beanMap.getBeanPropertyMap(lineType);
+        if (beanPropertyMap == null || beanPropertyMap.ignoreLine())
+            return null;
+        return new BeanLineBinder<>(beanPropertyMap, beanPropertyMap.bindingPlanOf(cellIndex), beanConsumer);
+    }
+
+    @Override
+    public void lineParsedEvent(LineParsedEvent event) {
+        lineEventListener.lineParsedEvent(event);
+    }
+}
@@ -0,0 +1,198 @@
+package org.jsapar.parse.bean;
+
+import org.jsapar.compose.bean.BeanComposeException;
+import org.jsapar.model.Cell;
+import org.jsapar.model.CellIndex;
+import org.jsapar.model.Line;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.BiConsumer;
+
+/**
+ * Internal class that describes how to assign the cells of lines that share the same {@link CellIndex} to a bean
+ * described by a {@link BeanPropertyMap}. The plan is compiled once so that name lookups, the path to nested beans
+ * and the type conversion are resolved for each position of the cell index in advance. Assigning a line is then a
+ * single loop over the positions of the cell index.
+ * <p>
+ * Instances are immutable and thread safe.
+ */
+public final class BeanBindingPlan {
+
+    private final CellIndex       cellIndex;
+    private final BeanPropertyMap beanPropertyMap;
+    /**
+     * The binding of each position of the cell index. Null where there is no matching bean property.
+     */
+    private final CellBinding[]   bindings;
+
+    private BeanBindingPlan(CellIndex cellIndex, BeanPropertyMap beanPropertyMap, CellBinding[] bindings) {
+        this.cellIndex = cellIndex;
+        this.beanPropertyMap = beanPropertyMap;
+        this.bindings = bindings;
+    }
+
+    /**
+     * Compiles a new binding plan.
+     *
+     * @param cellIndex       The cell index of the lines to assign.
+     * @param beanPropertyMap The property map of the bean to assign to.
+     * @return A new binding plan.
+     */
+    static BeanBindingPlan compile(CellIndex cellIndex, BeanPropertyMap beanPropertyMap) {
+        CellBinding[] bindings = new CellBinding[cellIndex.size()];
+        for (int i = 0; i < bindings.length; i++) {
+            bindings[i] = compileBinding(beanPropertyMap, cellIndex.nameAt(i));
+        }
+        return new BeanBindingPlan(cellIndex, beanPropertyMap, bindings);
+    }
+
+    private static CellBinding compileBinding(BeanPropertyMap beanPropertyMap, String cellName) {
+        Bean2Cell bean2Cell = beanPropertyMap.getBean2CellByName(cellName);
+        List<Bean2Cell> path = new ArrayList<>();
+        while (bean2Cell != null && !bean2Cell.isLeaf()) {
+            path.add(bean2Cell);
+            bean2Cell = bean2Cell.getChild(cellName);
+        }
+        if (bean2Cell == null)
+            return null;
+        return new CellBinding(path.toArray(new Bean2Cell[0]), bean2Cell);
+    }
+
+    /**
+     * @return The cell index that this plan was compiled for.
+     */
+    public CellIndex getCellIndex() {
+        return cellIndex;
+    }
+
+    /**
+     * Assigns all non-empty cells of a line to the supplied bean. The line needs to have the same cell index as this
+     * plan was compiled for. Cells that are not part of the cell index are assigned by name.
+     *
+     * @param line         The line to assign cells from.
+     * @param bean         The bean to assign to.
+     * @param errorHandler Called with the cell and the exception for each cell that could not be assigned.
+     */
+    public void assign(Line line, Object bean, BiConsumer<Cell, Exception> errorHandler) {
+        int found = 0;
+        for (int i = 0; i < bindings.length; i++) {
+            Cell cell = line.getIndexedCell(i);
+            if (cell == null)
+                continue;
+            found++;
+            CellBinding binding = bindings[i];
+            if (binding == null || cell.isEmpty())
+                continue;
+            try {
+                binding.assign(bean, cell);
+            } catch (BeanComposeException
+                    | IllegalArgumentException
+                    | IllegalAccessException
+                    | InvocationTargetException
+                    | NoSuchMethodException
+                    | InstantiationException e) {
+                errorHandler.accept(cell, e);
+            }
+        }
+        if (found < line.size())
+            assignUnindexed(line, bean, errorHandler);
+    }
+
+    /**
+     * @param index The position within the cell index.
+     * @return True if the bean property at supplied position takes a String value so that the text of a cell can be
+     * assigned by {@link #assignText(Object, int, String)}.
+     */
+    public boolean isTextAssignable(int index) {
+        CellBinding binding = bindings[index];
+        return binding != null && binding.leaf.isTextProperty();
+    }
+
+    /**
+     * Assigns a single cell at supplied position of the cell index to the bean. Empty cells and positions without any
+     * matching bean property are ignored.
+     *
+     * @param bean  The bean to assign to.
+     * @param index The position within the cell index.
+     * @param cell  The cell to assign.
+     */
+    public void assign(Object bean, int index, Cell cell)
+            throws BeanComposeException, InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+        CellBinding binding = bindings[index];
+        if (binding != null && !cell.isEmpty())
+            binding.assign(bean, cell);
+    }
+
+    /**
+     * Assigns a text to the bean property at supplied position of the cell index. Only valid for positions where
+     * {@link #isTextAssignable(int)} is true.
+     *
+     * @param bean  The bean to assign to.
+     * @param index The position within the cell index.
+     * @param text  The text to assign.
+     */
+    public void assignText(Object bean, int index, String text)
+            throws BeanComposeException, InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+        CellBinding binding = bindings[index];
+        binding.leaf.assignText(binding.parentOf(bean), text);
+    }
+
+    /**
+     * Assigns cells that were added to the line by name since they are not part of the cell index.
+     */
+    private void assignUnindexed(Line line, Object bean, BiConsumer<Cell, Exception> errorHandler) {
+        for (Cell cell : line) {
+            String name = cell.getName();
+            if (name == null || name.isEmpty() || cell.isEmpty() || cellIndex.indexOf(name) >= 0)
+                continue;
+            Bean2Cell bean2Cell = beanPropertyMap.getBean2CellByName(name);
+            if (bean2Cell == null)
+                continue;
+            try {
+                bean2Cell.assign(bean, cell);
+            } catch (BeanComposeException
+                    | IllegalArgumentException
+                    | IllegalAccessException
+                    | InvocationTargetException
+                    | NoSuchMethodException
+                    | InstantiationException e) {
+                errorHandler.accept(cell, e);
+            }
+        }
+    }
+
+    /**
+     * The binding of one position of the cell index.
+     */
+    private static final class CellBinding {
+        /**
+         * The nested beans to get or create, starting from the bean of the line.
+         */
+        private final Bean2Cell[] path;
+        private final Bean2Cell   leaf;
+
+        private CellBinding(Bean2Cell[] path, Bean2Cell leaf) {
+            this.path = path;
+            this.leaf = leaf;
+        }
+
+        private void assign(Object bean, Cell cell)
+                throws BeanComposeException, InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+            leaf.assignProperty(parentOf(bean), cell);
+        }
+
+        /**
+         * @return The bean that owns the property of the leaf. Nested beans are created if they do not exist.
+         */
+        private Object parentOf(Object bean)
+                throws BeanComposeException, InvocationTargetException, IllegalAccessException, InstantiationException, NoSuchMethodException {
+            Object target = bean;
+            for (Bean2Cell step : path) {
+                target = step.getOrCreateChild(target);
+            }
+            return target;
+        }
+    }
+}
@@ -0,0 +1,100 @@
+package org.jsapar.parse.bean;
+
+import org.jsapar.compose.ComposeException;
+import org.jsapar.compose.bean.BeanComposeException;
+import org.jsapar.error.ErrorEvent;
+import org.jsapar.error.ErrorEventListener;
+import org.jsapar.model.Cell;
+import org.jsapar.model.StringCell;
+import org.jsapar.parse.text.LineBinder;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.function.Consumer;
+
+/**
+ * Internal class that assigns the cells of parsed lines directly to a new bean for each line, by using a
+ * {@link BeanBindingPlan}. Completed beans are sent to a consumer. Errors while assigning cells are reported in the
+ * same way as by the {@link org.jsapar.compose.bean.BeanComposer}.
+ *
+ * @param <T> The base class of the beans.
+ */
+public class BeanLineBinder<T> implements LineBinder {
+
+    private final BeanPropertyMap beanPropertyMap;
+    private final BeanBindingPlan bindingPlan;
+    private final Consumer<T>     beanConsumer;
+    private       T               bean;
+
+    /**
+     * @param beanPropertyMap The property map of the beans to create.
+     * @param bindingPlan     The binding plan to use for assigning cells.
+     * @param beanConsumer    Receives each bean when all cells of its line are assigned.
+     */
+    public BeanLineBinder(BeanPropertyMap beanPropertyMap, BeanBindingPlan bindingPlan, Consumer<T> beanConsumer) {
+        this.beanPropertyMap = beanPropertyMap;
+        this.bindingPlan = bindingPlan;
+        this.beanConsumer = beanConsumer;
+    }
+
+    /**
+     * Creates a new bean. If the bean can not be created, the line is parsed as usual so that the error is reported by
+     * the composer.
+     * @return False if no bean could be created.
+     */
+    @SuppressWarnings("unchecked")
+    @Override
+    public boolean beginLine() {
+        try {
+            bean = (T) beanPropertyMap.createBean();
+            return true;
+        } catch (IllegalAccessException | InstantiationException | NoSuchMethodException | InvocationTargetException e) {
+            bean = null;
+            return false;
+        }
+    }
+
+    @Override
+    public boolean isTextAssignable(int index) {
+        return bindingPlan.isTextAssignable(index);
+    }
+
+    @Override
+    public void assignCell(int index, Cell cell, ErrorEventListener errorListener) {
+        try {
+            bindingPlan.assign(bean, index, cell);
+        } catch (BeanComposeException
+                | IllegalArgumentException
+                | IllegalAccessException
+                | InvocationTargetException
+                | NoSuchMethodException
+                | InstantiationException e) {
+            generateErrorEvent(cell, e, errorListener);
+        }
+    }
+
+    @Override
+    public void assignText(int index, String text, ErrorEventListener errorListener) {
+        try {
+            bindingPlan.assignText(bean, index, text);
+        } catch (BeanComposeException
+                | IllegalArgumentException
+                | IllegalAccessException
+                | InvocationTargetException
+                | NoSuchMethodException
+                | InstantiationException e) {
+            generateErrorEvent(new StringCell(bindingPlan.getCellIndex().nameAt(index), text), e, errorListener);
+        }
+    }
+
+    private void generateErrorEvent(Cell cell, Exception e, ErrorEventListener errorListener) {
+        errorListener.errorEvent(
+                new ErrorEvent(this, new ComposeException(e.getMessage() + " while handling cell " + cell, e)));
+    }
+
+    @Override
+    public void endLine() {
+        T completed = bean;
+        bean = null;
+        beanConsumer.accept(completed);
+    }
+}
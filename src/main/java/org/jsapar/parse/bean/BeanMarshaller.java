@@ -65,7 +65,7 @@ public class BeanMarshaller<T>  {
             try {
                 BeanPropertyMap children = bean2Cell.getChildren();
                 if (children != null) {
-                    Object subObject = pd.getReadMethod().invoke(object);
+                    Object subObject = pd.getAccessor().get(object);
                     if (subObject == null)
                         continue;
                     // Recursively add sub classes.
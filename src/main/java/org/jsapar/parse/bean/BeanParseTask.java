@@ -9,10 +9,14 @@ import org.jsapar.parse.AbstractParseTask;
 import org.jsapar.parse.LineParsedEvent;
 import org.jsapar.parse.ParseTask;
 
+import java.util.ArrayList;
 import java.util.Iterator;
+import java.util.List;
+import java.util.Optional;
 import java.util.Spliterator;
 import java.util.Spliterators;
 import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 import java.util.stream.StreamSupport;
 
@@ -47,10 +51,11 @@ public class BeanParseTask<T> extends AbstractParseTask implements ParseTask {
     /**
      * Starts parsing of an iterated series of beans. The result will be line parsed events where each
      * line hav
+     * @return Number of beans that were parsed.
      */
     @Override
     public long execute() {
-        AtomicLong count = new AtomicLong(1);
+        AtomicLong count = new AtomicLong(0);
         stream.forEach(bean ->
                 beanMarshaller.marshal(bean, this, count.incrementAndGet()).ifPresent(line ->
                         lineParsedEvent(new LineParsedEvent(
@@ -59,4 +64,44 @@ public class BeanParseTask<T> extends AbstractParseTask implements ParseTask {
         return count.get();
     }
 
+    /**
+     * Collects consecutive beans into chunks and hands over each chunk to supplied consumer instead of building
+     * lines from them. Use {@link #marshal(Object, long)} to build the lines of a chunk, possibly in another thread.
+     * The line number of a bean is its position within the chunk plus the number of beans in all previous chunks, all
+     * chunks except the last one contain exactly chunkSize beans.
+     *
+     * @param chunkSize     The maximum number of beans in each chunk.
+     * @param chunkConsumer Receives each chunk of beans, in order.
+     * @return Number of beans that were iterated.
+     */
+    public long executeInChunks(int chunkSize, Consumer<List<T>> chunkConsumer) {
+        if (chunkSize <= 0)
+            throw new IllegalArgumentException("Chunk size needs to be at least 1");
+        long count = 0L;
+        List<T> chunk = new ArrayList<>(chunkSize);
+        for (Iterator<? extends T> iterator = stream.iterator(); iterator.hasNext(); ) {
+            chunk.add(iterator.next());
+            count++;
+            if (chunk.size() == chunkSize) {
+                chunkConsumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+        if (!chunk.isEmpty())
+            chunkConsumer.accept(chunk);
+        return count;
+    }
+
+    /**
+     * Builds a line from a single bean. Errors are reported to the error event listener of this parse task. Can be
+     * called by several threads at the same time as long as the error event listener is thread safe.
+     *
+     * @param bean       The bean.
+     * @param lineNumber The number of the line being parsed. Numbering starts from 1.
+     * @return The line or an empty optional if there is no mapping for the class of the bean.
+     */
+    public Optional<Line> marshal(T bean, long lineNumber) {
+        return beanMarshaller.marshal(bean, this, lineNumber);
+    }
+
  }
@@ -3,7 +3,8 @@ package org.jsapar.parse.bean;
 import org.jsapar.bean.JSaParCell;
 import org.jsapar.bean.JSaParContainsCells;
 import org.jsapar.error.BeanException;
-import org.jsapar.parse.bean.reflect.BeanInfo;
+import org.jsapar.model.CellIndex;
+import org.jsapar.parse.bean.reflect.BeanInfoReflection;
 import org.jsapar.parse.bean.reflect.PropertyDescriptor;
 import org.jsapar.schema.SchemaCell;
 import org.jsapar.schema.SchemaLine;
@@ -18,8 +19,12 @@ public class BeanPropertyMap {
 
     private Map<String, Bean2Cell> bean2CellByProperty = new HashMap<>();
     private Map<String, Bean2Cell> bean2CellByCellName = new HashMap<>();
-    private BeanInfo               beanInfo;
+    private BeanInfoReflection     beanInfo;
     private Class                  lineClass;
+    /**
+     * The most recently compiled binding plan. Lines of the same type usually share the same cell index.
+     */
+    private volatile BeanBindingPlan bindingPlan;
 
     private BeanPropertyMap(String lineType) {
         this.lineType = lineType;
@@ -27,7 +32,7 @@ public class BeanPropertyMap {
 
     private BeanPropertyMap(String lineType, Class lineClass) {
         this.lineType = lineType;
-        this.beanInfo = BeanInfo.ofClass(lineClass);
+        this.beanInfo = BeanInfoReflection.of(lineClass);
         this.lineClass = lineClass;
     }
 
@@ -52,9 +57,23 @@ public class BeanPropertyMap {
     }
 
 
+    /**
+     * @param cellIndex The cell index of the lines to assign.
+     * @return A binding plan for assigning lines with supplied cell index to beans of this map. The plan is compiled
+     * the first time and then re-used as long as the same cell index is used.
+     */
+    public BeanBindingPlan bindingPlanOf(CellIndex cellIndex) {
+        BeanBindingPlan plan = this.bindingPlan;
+        if (plan == null || plan.getCellIndex() != cellIndex) {
+            plan = BeanBindingPlan.compile(cellIndex, this);
+            this.bindingPlan = plan;
+        }
+        return plan;
+    }
+
     @SuppressWarnings("unchecked")
     public Object createBean() throws IllegalAccessException, InstantiationException, NoSuchMethodException, InvocationTargetException {
-        return lineClass.getConstructor().newInstance();
+        return beanInfo.newInstance();
     }
 
     public static BeanPropertyMap ofSchemaLine(SchemaLine schemaLine, BeanPropertyMap overrideValues) {
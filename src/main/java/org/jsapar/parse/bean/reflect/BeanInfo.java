@@ -1,11 +1,49 @@
 package org.jsapar.parse.bean.reflect;
 
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 
 public interface BeanInfo {
+    /**
+     * @param beanClass The class to get bean info for.
+     * @return Bean info of supplied class. The bean info is only created once for each class and then shared.
+     */
     static BeanInfo ofClass(Class beanClass) {
-        return new BeanInfoReflection(beanClass);
+        return BeanInfoReflection.of(beanClass);
     }
 
     Map<String, PropertyDescriptor> getPropertyDescriptorsByName();
+
+    /**
+     * The default implementation looks for a property with a read method of supplied name and creates a new accessor
+     * for it each time it is called.
+     * @param methodName The name of a public getter method without parameters.
+     * @return An accessor that calls the getter or null if there is no such getter.
+     */
+    default PropertyAccessor getGetterAccessor(String methodName) {
+        for (PropertyDescriptor pd : getPropertyDescriptorsByName().values()) {
+            Method readMethod = pd.getReadMethod();
+            if (readMethod != null && readMethod.getName().equals(methodName))
+                return new PropertyAccessor(readMethod, null);
+        }
+        return null;
+    }
+
+    /**
+     * The default implementation looks for properties with a write method of supplied name and creates new accessors
+     * for them each time it is called.
+     * @param methodName The name of public setter methods with one parameter.
+     * @return Accessors that call each of the setters with supplied name. Empty if there is no such setter.
+     */
+    default List<PropertyAccessor> getSetterAccessors(String methodName) {
+        List<PropertyAccessor> accessors = new ArrayList<>(1);
+        for (PropertyDescriptor pd : getPropertyDescriptorsByName().values()) {
+            Method writeMethod = pd.getWriteMethod();
+            if (writeMethod != null && writeMethod.getName().equals(methodName))
+                accessors.add(new PropertyAccessor(null, writeMethod));
+        }
+        return accessors;
+    }
 }
@@ -1,5 +1,10 @@
 package org.jsapar.parse.bean.reflect;
 
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
 import java.util.*;
@@ -15,10 +20,66 @@ public final class BeanInfoReflection implements BeanInfo {
     private static final String SET_PREFIX = "set";
     private static final String IS_PREFIX = "is";
 
-    private final Map<String, PropertyDescriptor> propertyDescriptorsByName;
+    private static final ClassValue<BeanInfoReflection> beanInfos = new ClassValue<BeanInfoReflection>() {
+        @Override
+        protected BeanInfoReflection computeValue(Class<?> type) {
+            return new BeanInfoReflection(type);
+        }
+    };
+
+    private final Class<?>                              beanClass;
+    private final Map<String, PropertyDescriptor>       propertyDescriptorsByName;
+    private final Map<String, PropertyAccessor>         getterAccessors = new HashMap<>();
+    private final Map<String, List<PropertyAccessor>>   setterAccessors = new HashMap<>();
+    private final Constructor<?>                        constructor;
+    private final MethodHandle                          constructorHandle;
 
     public BeanInfoReflection(Class c) {
+        beanClass = c;
         propertyDescriptorsByName = makePropertyDescriptors(c);
+        for (Method m : c.getMethods()) {
+            if (m.getParameterCount() == 0 && m.getName().startsWith(GET_PREFIX))
+                getterAccessors.put(m.getName(), new PropertyAccessor(m, null));
+            else if (m.getParameterCount() == 1 && m.getName().startsWith(SET_PREFIX))
+                setterAccessors.computeIfAbsent(m.getName(), k -> new ArrayList<>(1)).add(new PropertyAccessor(null, m));
+        }
+        constructor = findConstructor(c);
+        constructorHandle = unreflectConstructor(constructor);
+    }
+
+    /**
+     * @param c The bean class.
+     * @return The bean info of supplied class. Only created once for each class.
+     */
+    public static BeanInfoReflection of(Class<?> c) {
+        return beanInfos.get(c);
+    }
+
+    private static Constructor<?> findConstructor(Class<?> c) {
+        try {
+            return c.getConstructor();
+        } catch (NoSuchMethodException | SecurityException e) {
+            return null;
+        }
+    }
+
+    private static MethodHandle unreflectConstructor(Constructor<?> constructor) {
+        if (constructor == null || Modifier.isAbstract(constructor.getDeclaringClass().getModifiers()))
+            return null;
+        try {
+            return MethodHandles.publicLookup().unreflectConstructor(constructor)
+                    .asType(MethodType.methodType(Object.class));
+        } catch (IllegalAccessException e) {
+            // A public constructor of a class that is not public, for instance a nested class.
+            try {
+                constructor.setAccessible(true);
+                return MethodHandles.lookup().unreflectConstructor(constructor)
+                        .asType(MethodType.methodType(Object.class));
+            } catch (IllegalAccessException | RuntimeException e2) {
+                // Not accessible by security manager or module system. Use reflection instead.
+            }
+            return null;
+        }
     }
 
     @Override
@@ -26,6 +87,36 @@ public final class BeanInfoReflection implements BeanInfo {
         return propertyDescriptorsByName;
     }
 
+    @Override
+    public PropertyAccessor getGetterAccessor(String methodName) {
+        return getterAccessors.get(methodName);
+    }
+
+    @Override
+    public List<PropertyAccessor> getSetterAccessors(String methodName) {
+        return setterAccessors.getOrDefault(methodName, Collections.emptyList());
+    }
+
+    /**
+     * Creates a new instance of the bean class by calling its public default constructor.
+     * @return The new instance.
+     * @throws NoSuchMethodException     If there is no public default constructor.
+     * @throws InstantiationException    If the class is abstract.
+     * @throws IllegalAccessException    If the constructor is not accessible.
+     * @throws InvocationTargetException If the constructor throws an exception.
+     */
+    public Object newInstance() throws NoSuchMethodException, InstantiationException, IllegalAccessException, InvocationTargetException {
+        if (constructor == null)
+            throw new NoSuchMethodException(beanClass.getName() + ".<init>()");
+        if (constructorHandle == null)
+            return constructor.newInstance();
+        try {
+            return (Object) constructorHandle.invokeExact();
+        } catch (Throwable e) {
+            throw new InvocationTargetException(e);
+        }
+    }
+
     private static Map<String, PropertyDescriptor> makePropertyDescriptors(Class c) {
         Map<String, PropertyDescriptor> descriptors = new HashMap<>();
 
@@ -0,0 +1,379 @@
+package org.jsapar.parse.bean.reflect;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.invoke.WrongMethodTypeException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.function.Supplier;
+
+/**
+ * Calls the getter and the setter of one bean property through method handles that are created once, when the
+ * accessor is created, instead of going through {@link Method#invoke(Object, Object...)} for each call. Primitive
+ * values can be read and written without boxing by using the methods that take or return primitive types.
+ * <p>
+ * Public methods of classes that are not public, for instance nested classes, are made accessible. If no method
+ * handle can be created at all, the accessor falls back to reflection.
+ * <p>
+ * Exceptions thrown by the getter or the setter are encapsulated in an {@link InvocationTargetException}, just as if
+ * they had been called by reflection. A {@link WrongMethodTypeException} or a {@link ClassCastException} caused by
+ * calling an accessor with a bean of wrong type is thrown as it is.
+ */
+public final class PropertyAccessor {
+    private final Method       readMethod;
+    private final Method       writeMethod;
+    private final Class<?>     readType;
+    private final Class<?>     writeType;
+    // (Object)Object
+    private final MethodHandle getter;
+    // (Object)long for integral types, (Object)double for floating point types, (Object)boolean or (Object)char
+    private final MethodHandle primitiveGetter;
+    // (Object,Object)void
+    private final MethodHandle setter;
+    // (Object,writeType)void when writeType is primitive
+    private final MethodHandle primitiveSetter;
+
+    /**
+     * @param readMethod  The getter method or null if there is none.
+     * @param writeMethod The setter method or null if there is none.
+     */
+    public PropertyAccessor(Method readMethod, Method writeMethod) {
+        this.readMethod = readMethod;
+        this.writeMethod = writeMethod;
+        this.readType = readMethod != null ? readMethod.getReturnType() : null;
+        this.writeType = writeMethod != null ? writeMethod.getParameterTypes()[0] : null;
+
+        MethodHandle readHandle = unreflect(readMethod);
+        this.getter = readHandle != null ? readHandle.asType(MethodType.methodType(Object.class, Object.class)) : null;
+        this.primitiveGetter = readHandle != null && readType.isPrimitive()
+                ? readHandle.asType(MethodType.methodType(primitiveCategory(readType), Object.class)) : null;
+
+        MethodHandle writeHandle = unreflect(writeMethod);
+        this.setter = writeHandle != null ? writeHandle.asType(MethodType.methodType(void.class, Object.class, Object.class)) : null;
+        this.primitiveSetter = writeHandle != null && writeType.isPrimitive()
+                ? writeHandle.asType(MethodType.methodType(void.class, Object.class, writeType)) : null;
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        if (method == null)
+            return null;
+        try {
+            return MethodHandles.publicLookup().unreflect(method);
+        } catch (IllegalAccessException e) {
+            // A public method of a class that is not public, for instance a nested class.
+            try {
+                method.setAccessible(true);
+                return MethodHandles.lookup().unreflect(method);
+            } catch (IllegalAccessException | RuntimeException e2) {
+                // Not accessible by security manager or module system. Use reflection instead.
+            }
+            return null;
+        }
+    }
+
+    private static Class<?> primitiveCategory(Class<?> type) {
+        if (type == Boolean.TYPE || type == Character.TYPE)
+            return type;
+        if (type == Float.TYPE || type == Double.TYPE)
+            return Double.TYPE;
+        return Long.TYPE;
+    }
+
+    /**
+     * @return The getter method or null if there is none.
+     */
+    public Method getReadMethod() {
+        return readMethod;
+    }
+
+    /**
+     * @return The setter method or null if there is none.
+     */
+    public Method getWriteMethod() {
+        return writeMethod;
+    }
+
+    /**
+     * @return The return type of the getter or null if there is no getter.
+     */
+    public Class<?> getReadType() {
+        return readType;
+    }
+
+    /**
+     * @return The parameter type of the setter or null if there is no setter.
+     */
+    public Class<?> getWriteType() {
+        return writeType;
+    }
+
+    /**
+     * @param bean The bean to get value from.
+     * @return The value returned by the getter, boxed if it is primitive.
+     * @throws InvocationTargetException If the getter throws an exception.
+     * @throws IllegalAccessException    If the getter is not accessible.
+     */
+    public Object get(Object bean) throws InvocationTargetException, IllegalAccessException {
+        if (getter == null)
+            return readMethod.invoke(bean);
+        try {
+            return (Object) getter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * Gets the value of a property of type byte, short, int or long without boxing.
+     * @param bean The bean to get value from.
+     * @return The value returned by the getter.
+     * @throws InvocationTargetException If the getter throws an exception.
+     * @throws IllegalAccessException    If the getter is not accessible.
+     */
+    public long getLong(Object bean) throws InvocationTargetException, IllegalAccessException {
+        if (primitiveGetter == null)
+            return ((Number) readMethod.invoke(bean)).longValue();
+        try {
+            return (long) primitiveGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * Gets the value of a property of type float or double without boxing.
+     * @param bean The bean to get value from.
+     * @return The value returned by the getter.
+     * @throws InvocationTargetException If the getter throws an exception.
+     * @throws IllegalAccessException    If the getter is not accessible.
+     */
+    public double getDouble(Object bean) throws InvocationTargetException, IllegalAccessException {
+        if (primitiveGetter == null)
+            return ((Number) readMethod.invoke(bean)).doubleValue();
+        try {
+            return (double) primitiveGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * Gets the value of a property of type boolean without boxing.
+     * @param bean The bean to get value from.
+     * @return The value returned by the getter.
+     * @throws InvocationTargetException If the getter throws an exception.
+     * @throws IllegalAccessException    If the getter is not accessible.
+     */
+    public boolean getBoolean(Object bean) throws InvocationTargetException, IllegalAccessException {
+        if (primitiveGetter == null)
+            return (Boolean) readMethod.invoke(bean);
+        try {
+            return (boolean) primitiveGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * Gets the value of a property of type char without boxing.
+     * @param bean The bean to get value from.
+     * @return The value returned by the getter.
+     * @throws InvocationTargetException If the getter throws an exception.
+     * @throws IllegalAccessException    If the getter is not accessible.
+     */
+    public char getChar(Object bean) throws InvocationTargetException, IllegalAccessException {
+        if (primitiveGetter == null)
+            return (Character) readMethod.invoke(bean);
+        try {
+            return (char) primitiveGetter.invokeExact(bean);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * Calls the setter with a value. Primitive values are unboxed and widened in the same way as by reflection.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     * @throws IllegalArgumentException  If the value can not be assigned to the parameter type of the setter.
+     */
+    public void set(Object bean, Object value) throws InvocationTargetException, IllegalAccessException {
+        if (setter == null) {
+            writeMethod.invoke(bean, value);
+            return;
+        }
+        if (!isAssignable(writeType, value))
+            throw new IllegalArgumentException("argument type mismatch");
+        try {
+            setter.invokeExact(bean, value);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * Calls a setter that takes an int without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setInt(Object bean, int value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Integer.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a long without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setLong(Object bean, long value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Long.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a short without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setShort(Object bean, short value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Short.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a byte without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setByte(Object bean, byte value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Byte.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a double without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setDouble(Object bean, double value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Double.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a float without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setFloat(Object bean, float value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Float.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a boolean without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setBoolean(Object bean, boolean value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Boolean.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls a setter that takes a char without boxing. Other setters are called with a boxed value.
+     * @param bean  The bean to assign value to.
+     * @param value The value to assign.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    public void setChar(Object bean, char value) throws InvocationTargetException, IllegalAccessException {
+        setPrimitive(bean, Character.TYPE, handle -> { handle.invokeExact(bean, value); }, () -> value);
+    }
+
+    /**
+     * Calls the primitive setter if the setter takes supplied primitive type, otherwise calls the setter with the boxed
+     * value.
+     * @param bean       The bean to assign value to.
+     * @param type       The primitive type of the value.
+     * @param call       Calls the primitive setter with the value.
+     * @param boxedValue Provides the boxed value, only used if the setter takes another type.
+     * @throws InvocationTargetException If the setter throws an exception.
+     * @throws IllegalAccessException    If the setter is not accessible.
+     */
+    private void setPrimitive(Object bean, Class<?> type, PrimitiveSetterCall call, Supplier<Object> boxedValue)
+            throws InvocationTargetException, IllegalAccessException {
+        if (primitiveSetter == null || writeType != type) {
+            set(bean, boxedValue.get());
+            return;
+        }
+        try {
+            call.invoke(primitiveSetter);
+        } catch (Throwable e) {
+            throw targetException(e);
+        }
+    }
+
+    /**
+     * A {@link WrongMethodTypeException} or a {@link ClassCastException} means that the accessor was called with a
+     * bean of wrong type, which is a programming error, so they are thrown as they are.
+     * @param e The exception thrown while invoking a method handle.
+     * @return An exception that encapsulates supplied exception, just as if the method was called by reflection.
+     */
+    private static InvocationTargetException targetException(Throwable e) {
+        if (e instanceof WrongMethodTypeException)
+            throw (WrongMethodTypeException) e;
+        if (e instanceof ClassCastException)
+            throw (ClassCastException) e;
+        return new InvocationTargetException(e);
+    }
+
+    /**
+     * Needs to be implemented by a statement lambda since an expression lambda would invoke the method handle as if it
+     * returns Object.
+     */
+    @FunctionalInterface
+    private interface PrimitiveSetterCall {
+        void invoke(MethodHandle primitiveSetter) throws Throwable;
+    }
+
+    /**
+     * Checks the value in the same way as {@link Method#invoke(Object, Object...)} does.
+     * @param type  The parameter type.
+     * @param value The value.
+     * @return True if value can be assigned to a parameter of supplied type.
+     */
+    private static boolean isAssignable(Class<?> type, Object value) {
+        if (!type.isPrimitive())
+            return value == null || type.isInstance(value);
+        if (value == null)
+            return false;
+        Class<?> valueType = MethodType.methodType(value.getClass()).unwrap().returnType();
+        return valueType == type || isWidening(valueType, type);
+    }
+
+    private static boolean isWidening(Class<?> from, Class<?> to) {
+        if (from == Byte.TYPE)
+            return to == Short.TYPE || to == Integer.TYPE || to == Long.TYPE || to == Float.TYPE || to == Double.TYPE;
+        if (from == Short.TYPE || from == Character.TYPE)
+            return to == Integer.TYPE || to == Long.TYPE || to == Float.TYPE || to == Double.TYPE;
+        if (from == Integer.TYPE)
+            return to == Long.TYPE || to == Float.TYPE || to == Double.TYPE;
+        if (from == Long.TYPE)
+            return to == Float.TYPE || to == Double.TYPE;
+        if (from == Float.TYPE)
+            return to == Double.TYPE;
+        return false;
+    }
+}
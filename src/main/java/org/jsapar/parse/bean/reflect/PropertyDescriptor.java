@@ -17,4 +17,12 @@ public interface PropertyDescriptor {
      * @return The setter method or null if no such exists.
      */
     Method getWriteMethod();
+
+    /**
+     * The default implementation creates a new accessor from the read and write methods each time it is called.
+     * @return An accessor that calls the getter and the setter of this property.
+     */
+    default PropertyAccessor getAccessor() {
+        return new PropertyAccessor(getReadMethod(), getWriteMethod());
+    }
 }
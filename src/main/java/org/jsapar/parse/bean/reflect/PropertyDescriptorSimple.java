@@ -6,11 +6,13 @@ final class PropertyDescriptorSimple implements PropertyDescriptor {
     private final String name;
     private final Method readMethod;
     private final Method writeMethod;
+    private final PropertyAccessor accessor;
 
     PropertyDescriptorSimple(String name, Method readMethod, Method writeMethod) {
         this.name = name;
         this.readMethod = readMethod;
         this.writeMethod = writeMethod;
+        this.accessor = new PropertyAccessor(readMethod, writeMethod);
     }
 
     @Override
@@ -27,4 +29,9 @@ final class PropertyDescriptorSimple implements PropertyDescriptor {
     public Method getWriteMethod() {
         return writeMethod;
     }
+
+    @Override
+    public PropertyAccessor getAccessor() {
+        return accessor;
+    }
 }
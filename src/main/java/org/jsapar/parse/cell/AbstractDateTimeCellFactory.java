@@ -1,5 +1,7 @@
 package org.jsapar.parse.cell;
 
+import org.jsapar.text.FixedPatternDateTimeFormat;
+
 import java.text.Format;
 import java.time.format.DateTimeFormatter;
 import java.util.Locale;
@@ -23,11 +25,18 @@ public abstract class AbstractDateTimeCellFactory implements CellFactory {
         return defaultFormat;
     }
 
+    /**
+     * @param locale  The locale to use for the format object.
+     * @param pattern The pattern as described by {@link DateTimeFormatter}. If null or empty, the default format is
+     *                returned.
+     * @return A {@link FixedPatternDateTimeFormat} if all fields of the pattern have fixed width, otherwise a format
+     * created by {@link DateTimeFormatter#ofPattern(String, Locale)}.
+     */
     @Override
     public Format makeFormat(Locale locale, String pattern) {
         if (pattern == null || pattern.isEmpty())
             return makeFormat(locale);
-        return DateTimeFormatter.ofPattern(pattern, locale).toFormat();
+        return FixedPatternDateTimeFormat.ofPattern(pattern, locale);
     }
 
 
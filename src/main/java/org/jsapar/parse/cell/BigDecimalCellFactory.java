@@ -3,6 +3,7 @@ package org.jsapar.parse.cell;
 import org.jsapar.model.BigDecimalCell;
 import org.jsapar.model.Cell;
 import org.jsapar.schema.SchemaCellFormat;
+import org.jsapar.text.CompiledDecimalFormat;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
@@ -56,7 +57,7 @@ public class BigDecimalCellFactory extends NumberCellFactory implements CellFact
             locale = SchemaCellFormat.defaultLocale;
         if (pattern == null || pattern.isEmpty())
             return makeFormat(locale);
-        DecimalFormat decFormat = new java.text.DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+        DecimalFormat decFormat = new CompiledDecimalFormat(pattern, new DecimalFormatSymbols(locale));
         decFormat.setParseBigDecimal(true);
         return decFormat;
     }
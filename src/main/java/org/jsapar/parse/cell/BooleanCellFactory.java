@@ -19,7 +19,7 @@ public class BooleanCellFactory implements CellFactory {
     public Cell makeCell(String name, String value, Format format) throws ParseException {
         if (format == null)
             format = defaultFormat;
-        return new BooleanCell(name, (Boolean) format.parseObject(value));
+        return new BooleanCell(name, ((Boolean) format.parseObject(value)).booleanValue());
     }
 
     @Override
@@ -8,8 +8,8 @@ import org.jsapar.parse.CellParseException;
 import org.jsapar.schema.SchemaCell;
 import org.jsapar.schema.SchemaException;
 import org.jsapar.utils.cache.Cache;
-import org.jsapar.utils.cache.DisabledCache;
-import org.jsapar.utils.cache.LimitedSizeCache;
+import org.jsapar.utils.cache.CacheStatistics;
+import org.jsapar.utils.cache.FrequencyCache;
 
 import java.text.Format;
 import java.text.ParseException;
@@ -26,6 +26,7 @@ public class CellParser<S extends SchemaCell> {
     private CellFactory cellFactory;
     private Format format;
     private final Cache<String, Cell> cellCache ;
+    private final FrequencyCache<Cell> frequencyCache;
     private static final String EMPTY_STRING = "";
 
 
@@ -34,13 +35,15 @@ public class CellParser<S extends SchemaCell> {
      * @param schemaCell The schema to use.
      * @param maxCacheSize The maximum number of cells to keep in cache while parsing. The value 0 will disable cache.
      */
+    @SuppressWarnings("unchecked")
     protected CellParser(S schemaCell, int maxCacheSize) {
         this.schemaCell = schemaCell;
 
         CellType cellType = schemaCell.getCellFormat().getCellType();
         cellFactory = CellFactory.getInstance(cellType);
         assert cellFactory != null;
-        cellCache = Cache.ofMaxSize(cellFactory.actualCacheMaxSize(schemaCell, maxCacheSize));
+        cellCache = Cache.ofMaxSizeStringKeys(cellFactory.actualCacheMaxSize(schemaCell, maxCacheSize));
+        frequencyCache = cellCache instanceof FrequencyCache ? (FrequencyCache<Cell>) cellCache : null;
         format = schemaCell.getCellFormat().getFormat();
         if(format == null)
             format  = cellFactory.makeFormat(schemaCell.getLocale());
@@ -72,25 +75,67 @@ public class CellParser<S extends SchemaCell> {
                 return emptyCell;
             }
         }
-        return doParse(sValue, errorEventListener);
+        return doParse(sValue, errorEventListener, true);
+    }
+
+    /**
+     * Same as {@link #parse(String, ErrorEventListener)} but the value is a range of a char array. If the value is
+     * found in the cell cache, no string is created.
+     *
+     * @param chars              The characters.
+     * @param offset             The offset of the value within the array.
+     * @param length             The length of the value.
+     * @param errorEventListener Error event listener to deliver errors to.
+     * @return A new cell of a type according to the schema specified. Returns null if there was en error while parsing.
+     */
+    public Cell parse(char[] chars, int offset, int length, ErrorEventListener errorEventListener) {
+        if (length == 0)
+            return parse(EMPTY_STRING, errorEventListener);
+        if (frequencyCache == null)
+            return parse(new String(chars, offset, length), errorEventListener);
+
+        Cell cell = frequencyCache.get(chars, offset, length);
+        if (cell == null)
+            return doParse(new String(chars, offset, length), errorEventListener, false);
+        try {
+            validateRange(schemaCell, cell);
+            return cell;
+        } catch (ParseException e) {
+            errorEventListener.errorEvent(new ErrorEvent(this,
+                    new CellParseException(schemaCell.getName(), new String(chars, offset, length), schemaCell.getCellFormat(), e)));
+            return null;
+        }
     }
 
     public boolean isDefaultValue() {
         return this.defaultCell != null;
     }
 
+    /**
+     * @return True if parsing a non-empty value always results in a {@link org.jsapar.model.StringCell} with the value
+     * as is. In that case the value does not need to be parsed at all if only the text is needed.
+     */
+    public boolean isPlainText() {
+        return schemaCell.getCellFormat().getCellType() == CellType.STRING
+                && format == null
+                && !schemaCell.hasEmptyCondition()
+                && schemaCell.getMinValue() == null
+                && schemaCell.getMaxValue() == null;
+    }
+
     /**
      * Creates a cell with a parsed value according to the schema specification for this cell. Does
      * not check if cell is mandatory!! Reports a cell error event if an error occurs.
      *
      * @param sValue             The value of the cell
      * @param errorEventListener Error event listener to deliver errors to.
+     * @param lookupCache        If false, the value is already known not to be in the cell cache.
      * @return A new cell of a type according to the schema specified. Returns null if an error occurs.
      */
-    private Cell doParse(String sValue, ErrorEventListener errorEventListener) {
+    private Cell doParse(String sValue, ErrorEventListener errorEventListener, boolean lookupCache) {
 
         try {
-            Cell cell = makeCell(sValue);
+            Cell cell = makeCell(sValue, lookupCache);
             validateRange(schemaCell, cell);
             return cell;
         } catch (java.text.ParseException e) {
@@ -111,6 +156,10 @@ public class CellParser<S extends SchemaCell> {
      * @throws ParseException If the value cannot be parsed according to the format of this cell schema.
      */
     Cell makeCell(String sValue) throws ParseException {
+        return makeCell(sValue, true);
+    }
+
+    private Cell makeCell(String sValue, boolean lookupCache) throws ParseException {
 
         // If the cell is empty, check if default value exists.
         if (sValue.length() <= 0 || (schemaCell.hasEmptyCondition() && schemaCell.getEmptyCondition().satisfies(sValue))) {
@@ -120,7 +169,7 @@ public class CellParser<S extends SchemaCell> {
                 return emptyCell;
             }
         }
-        Cell cell = cellCache.get(sValue);
+        Cell cell = lookupCache ? cellCache.get(sValue) : null;
         if(cell == null) {
             cell = cellFactory.makeCell(schemaCell.getName(), sValue, format);
             cellCache.put(sValue, cell);
@@ -184,6 +233,13 @@ public class CellParser<S extends SchemaCell> {
         return defaultCell;
     }
 
+    /**
+     * @return Statistics of the cell cache of this parser.
+     */
+    public CacheStatistics getCacheStatistics() {
+        return cellCache.getStatistics();
+    }
+
     /**
      * Creates cell parser according to supplied schema and with cache disabled.
      * @param schemaCell The schema to use.
@@ -13,7 +13,7 @@ public class FloatCellFactory extends NumberCellFactory {
     @Override
     public Cell makeCell(String name, String value, Format format) throws ParseException {
         if(format == null)
-            return new FloatCell(name, Double.valueOf(value));
+            return new FloatCell(name, Double.parseDouble(value));
         Number number = super.parseObject(format, value);
         return new FloatCell(name, number.doubleValue());
     }
@@ -2,6 +2,8 @@ package org.jsapar.parse.cell;
 
 import org.jsapar.model.Cell;
 import org.jsapar.schema.SchemaCellFormat;
+import org.jsapar.text.CompiledDecimalFormat;
+import org.jsapar.text.LocaleDecimalFormat;
 import org.jsapar.utils.StringUtils;
 
 import java.text.*;
@@ -12,12 +14,22 @@ import java.util.Locale;
  */
 public abstract class NumberCellFactory implements CellFactory{
 
+    /**
+     * @param locale The locale to use for the format object.
+     * @return A {@link LocaleDecimalFormat} that parses plain numbers of the locale without using the generic parsing of
+     * {@link DecimalFormat}.
+     */
     @Override
     public Format makeFormat(Locale locale) {
-        return NumberFormat.getInstance(locale);
+        return LocaleDecimalFormat.getInstance(locale);
     }
 
     protected Number parseObject(Format format, String value) throws ParseException {
+        if (format instanceof LocaleDecimalFormat) {
+            Number number = ((LocaleDecimalFormat) format).parseDirect(value);
+            if (number != null)
+                return number;
+        }
         ParsePosition pos = new ParsePosition(0);
         value = adjustValueForOddLocales(value, format);
         Number number= (Number) format.parseObject(value, pos);
@@ -67,7 +79,7 @@ public abstract class NumberCellFactory implements CellFactory{
         if (locale == null)
             locale = SchemaCellFormat.defaultLocale;
         if (pattern != null && !pattern.isEmpty())
-            return new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+            return new CompiledDecimalFormat(pattern, new DecimalFormatSymbols(locale));
         else
             return makeFormat(locale);
     }
@@ -0,0 +1,168 @@
+package org.jsapar.parse.csv;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Internal class that acts as a byte read buffer while parsing csv directly from an {@link InputStream}.
+ * @see ReadBuffer
+ */
+final class ByteReadBuffer {
+    private static final long LOW_BITS  = 0x0101010101010101L;
+    private static final long HIGH_BITS = 0x8080808080808080L;
+
+    private InputStream inputStream;
+    private int maxLoadSize;
+
+    final byte[] buffer;
+    int lineMark=0;
+    int cellMark=0;
+    int cursor=0;
+    int bufferSize=0;
+
+    /**
+     * @param inputStream The input stream to read from
+     * @param bufferSize The buffer size to use.
+     * @param maxLoadSize The maximum number of bytes to load a a time to the buffer.
+     */
+    ByteReadBuffer(InputStream inputStream, int bufferSize, int maxLoadSize) {
+        this.inputStream = inputStream;
+        this.buffer = new byte[bufferSize];
+        this.maxLoadSize = Math.min(maxLoadSize, bufferSize);
+    }
+
+    /**
+     * Loads new bytes to the buffer. Bytes of the current line are kept but may be moved within the buffer, so
+     * positions should be kept relative to the line mark between calls to this method.
+     * @return The number of new bytes added to the buffer. 0 if there was no room in the buffer to load. -1 if end of file was reached.
+     * @throws IOException In case of underlying io error.
+     */
+    @SuppressWarnings("Duplicates")
+    int load() throws IOException {
+        final int remaining = bufferSize - lineMark;
+        int toLoad=buffer.length - remaining;
+        if(toLoad < maxLoadSize) {
+            if (toLoad==0){
+                // Max line size reached. No more space to load.
+                return 0;
+            }
+            // Shift remaining to the left
+            System.arraycopy(buffer, lineMark, buffer, 0, remaining);
+            cursor -= lineMark;
+            cellMark -= lineMark;
+            bufferSize -= lineMark;
+            lineMark = 0;
+        }
+        else {
+            if(lineMark==bufferSize){
+                cursor = 0;
+                cellMark = 0;
+                bufferSize = 0;
+                lineMark = 0;
+            }
+            toLoad = maxLoadSize;
+        }
+        final int count = inputStream.read(buffer, bufferSize, toLoad);
+        if(count > 0) {
+            bufferSize += count;
+        }
+
+        return count;
+    }
+
+    /**
+     * Returns the byte that the cursor points to and increments the cursor to next position.
+     * @return The byte that the cursor points to.
+     */
+    byte nextByte(){
+        return buffer[cursor++];
+    }
+
+    /**
+     * Moves the cursor forward to the next loaded byte that is equal to any of the supplied bytes, without consuming
+     * it. If there is no such byte, the cursor is moved to the end of the loaded bytes.
+     * <p>
+     * Eight bytes are tested at a time by reading them as a long word and searching the word for zero bytes after
+     * xor with each of the supplied bytes repeated over the word (SWAR).
+     * @param b1 The first byte to find.
+     * @param b2 The second byte to find.
+     */
+    void skipUntil(byte b1, byte b2){
+        final byte[] bytes = buffer;
+        final int end = bufferSize;
+        final long pattern1 = (b1 & 0xFFL) * LOW_BITS;
+        final long pattern2 = (b2 & 0xFFL) * LOW_BITS;
+        int i = cursor;
+        while (i + Long.BYTES <= end) {
+            final long word = readLong(bytes, i);
+            final long found = zeroBytes(word ^ pattern1) | zeroBytes(word ^ pattern2);
+            if (found != 0) {
+                cursor = i + (Long.numberOfTrailingZeros(found) >>> 3);
+                return;
+            }
+            i += Long.BYTES;
+        }
+        while (i < end) {
+            final byte b = bytes[i];
+            if (b == b1 || b == b2)
+                break;
+            i++;
+        }
+        cursor = i;
+    }
+
+    /**
+     * Reads eight bytes as a long. Little endian so that the first byte is the lowest byte.
+     * @param bytes    The bytes to read from.
+     * @param position The position of the first byte.
+     * @return The eight bytes as a long.
+     */
+    private static long readLong(byte[] bytes, int position) {
+        return (bytes[position] & 0xFFL)
+                | (bytes[position + 1] & 0xFFL) << 8
+                | (bytes[position + 2] & 0xFFL) << 16
+                | (bytes[position + 3] & 0xFFL) << 24
+                | (bytes[position + 4] & 0xFFL) << 32
+                | (bytes[position + 5] & 0xFFL) << 40
+                | (bytes[position + 6] & 0xFFL) << 48
+                | (bytes[position + 7] & 0xFFL) << 56;
+    }
+
+    /**
+     * @param word The word to search.
+     * @return A word where the high bit is set for zero bytes of supplied word. Bytes above the first zero byte may be
+     * falsely marked but the lowest marked byte is always the first zero byte.
+     */
+    private static long zeroBytes(long word) {
+        return (word - LOW_BITS) & ~word & HIGH_BITS;
+    }
+
+    /**
+     * Place a line mark.
+     */
+    void markLine(){
+        lineMark = cursor;
+    }
+
+    /**
+     * Reset cursor to last line mark.
+     */
+    void resetLine(){
+        cursor = lineMark;
+        cellMark = lineMark;
+    }
+
+    /**
+     * Place a cell mark.
+     */
+    void markCell(){
+        cellMark = cursor;
+    }
+
+    /**
+     * Resets cursor to last cell mark.
+     */
+    void resetCell(){
+        cursor = cellMark;
+    }
+}
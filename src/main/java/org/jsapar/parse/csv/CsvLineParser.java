@@ -3,6 +3,7 @@ package org.jsapar.parse.csv;
 import org.jsapar.error.ErrorEvent;
 import org.jsapar.error.ErrorEventListener;
 import org.jsapar.model.Cell;
+import org.jsapar.model.CellIndex;
 import org.jsapar.model.Line;
 import org.jsapar.model.StringCell;
 import org.jsapar.parse.LineEventListener;
@@ -11,6 +12,9 @@ import org.jsapar.parse.LineParsedEvent;
 import org.jsapar.parse.cell.CellParser;
 import org.jsapar.parse.line.LineDecoratorErrorEventListener;
 import org.jsapar.parse.line.ValidationHandler;
+import org.jsapar.parse.text.CellCacheStatisticsAccess;
+import org.jsapar.parse.text.LineBinder;
+import org.jsapar.parse.text.LineBinderProvider;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.CsvSchemaCell;
 import org.jsapar.schema.CsvSchemaLine;
@@ -25,12 +29,20 @@ import java.util.stream.Collectors;
 class CsvLineParser {
 
     private static final String                          EMPTY_STRING                    = "";
+    // Returned by parseCells when the line should be ignored.
+    private static final int                             IGNORE_LINE                     = -1;
     private              CsvSchemaLine                   lineSchema;
     private              List<CellParser<CsvSchemaCell>> cellParsers;
+    private              CellIndex                       cellIndex;
     private              TextParseConfig                 config;
     private              long                            usedCount                       = 0L;
     private              ValidationHandler               validationHandler               = new ValidationHandler();
     private              LineDecoratorErrorEventListener lineDecoratorErrorEventListener = new LineDecoratorErrorEventListener();
+    // The binder of the most recent line event listener and the cell index that it was created for.
+    private              LineEventListener               binderListener;
+    private              CellIndex                       binderCellIndex;
+    private              LineBinder                      lineBinder;
+    private              boolean[]                       textAssignable;
     /**
      * Creates a csv line parser with the given line schema.
      *
@@ -50,14 +62,22 @@ class CsvLineParser {
         this.lineSchema = lineSchema;
         this.config = config;
         cellParsers = makeCellParsers(lineSchema);
+        cellIndex = makeCellIndex(lineSchema);
     }
 
     private List<CellParser<CsvSchemaCell>> makeCellParsers(CsvSchemaLine lineSchema) {
         return lineSchema.stream().map(this::makeCellParser).collect(Collectors.toList());
     }
 
+    private static CellIndex makeCellIndex(CsvSchemaLine lineSchema) {
+        return CellIndex.of(lineSchema.stream().map(CsvSchemaCell::getName).collect(Collectors.toList()));
+    }
+
     private CellParser<CsvSchemaCell> makeCellParser(CsvSchemaCell schemaCell) {
-        return CellParser.ofSchemaCell(schemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1));
+        CellParser<CsvSchemaCell> cellParser = CellParser.ofSchemaCell(schemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1));
+        if (config.getCellCacheStatistics() != null)
+            CellCacheStatisticsAccess.register(config.getCellCacheStatistics(), lineSchema.getLineType(), schemaCell.getName(), cellParser.getCacheStatistics());
+        return cellParser;
     }
 
     /**
@@ -89,35 +109,144 @@ class CsvLineParser {
         if(lineSchema.isIgnoreRead())
             return true;
 
-        // Create with same size as schema plus 1 to handle trailing cell separator which is quite common.
-        Line line = new Line(lineSchema.getLineType(), 1 + lineSchema.getSchemaCells().size());
-        line.setLineNumber(lineReader.currentLineNumber());
+        final long lineNumber = lineReader.currentLineNumber();
+        LineBinder binder = lineBinderOf(listener);
+        if (binder != null && binder.beginLine()) {
+            lineDecoratorErrorEventListener.initialize(errorListener, lineNumber);
+            int cellCount = parseCells(rawCells, lineNumber, null, binder, errorListener);
+            if (cellCount > 0)
+                binder.endLine();
+            return cellCount != 0;
+        }
+
+        Line line = new Line(lineSchema.getLineType(), cellIndex);
+        line.setLineNumber(lineNumber);
         lineDecoratorErrorEventListener.initialize(errorListener, line);
+        int cellCount = parseCells(rawCells, lineNumber, line, null, errorListener);
+        if (cellCount > 0)
+            listener.lineParsedEvent(new LineParsedEvent(this, line));
+        return cellCount != 0;
+    }
+
+    /**
+     * @param listener The line event listener.
+     * @return The line binder that the listener provides for the current line schema or null if lines should be sent
+     * as line events.
+     */
+    private LineBinder lineBinderOf(LineEventListener listener) {
+        if (!(listener instanceof LineBinderProvider))
+            return null;
+        if (listener != binderListener || cellIndex != binderCellIndex) {
+            binderListener = listener;
+            binderCellIndex = cellIndex;
+            lineBinder = ((LineBinderProvider) listener).lineBinderOf(lineSchema.getLineType(), cellIndex);
+            if (lineBinder != null) {
+                textAssignable = new boolean[cellParsers.size()];
+                for (int i = 0; i < textAssignable.length; i++)
+                    textAssignable[i] = lineBinder.isTextAssignable(i) && cellParsers.get(i).isPlainText();
+            }
+        }
+        return lineBinder;
+    }
 
-        java.util.Iterator<CellParser<CsvSchemaCell>> itParser = cellParsers.iterator();
-        for (String sCell : rawCells) {
-            if (itParser.hasNext()) {
-                addCellToLineBySchema(line, itParser.next(), sCell, lineDecoratorErrorEventListener);
+    /**
+     * Parses the cells of one line. Cells are added either to the line or, if line is null, to the binder.
+     *
+     * @param rawCells      The raw cells of the line.
+     * @param lineNumber    The current line number.
+     * @param line          The line to add cells to or null if cells are assigned to the binder.
+     * @param binder        The line binder to assign cells to if line is null.
+     * @param errorListener The error event listener to which this method will send events for each error that occurs.
+     * @return The number of cells that were read from the line, 0 if no line could be parsed or
+     * {@link #IGNORE_LINE} if the line should be ignored according to configuration.
+     */
+    private int parseCells(List<String> rawCells,
+                           long lineNumber,
+                           Line line,
+                           LineBinder binder,
+                           ErrorEventListener errorListener) {
+        int cellCount = 0;
+        final int rawCellCount = rawCells.size();
+        final int parserCount = cellParsers.size();
+        // Iterate by index so that the raw value of ignored cells never needs to be retrieved. Depending on line
+        // reader, that may avoid decoding the value.
+        for (int i = 0; i < rawCellCount; i++) {
+            if (i < parserCount) {
+                CellParser<CsvSchemaCell> cellParser = cellParsers.get(i);
+                String sCell = cellParser.getSchemaCell().isIgnoreRead() ? EMPTY_STRING : rawCells.get(i);
+                cellCount += addCellBySchema(line, binder, i, cellParser, sCell, errorListener);
             } else {
-                if(!addCellToLineWithoutSchema(line, sCell, errorListener))
-                    return true;
+                if (!validationHandler.lineValidation(this, lineNumber,
+                        "Found additional cell on the line that is not described in the line schema.",
+                        config.getOnLineOverflow(), errorListener))
+                    return IGNORE_LINE;
+                // Additional cells are only kept when a line is created.
+                if (line != null)
+                    line.addCell(new StringCell("@@cell-" + (1 + line.size()), rawCells.get(i)));
+                cellCount++;
             }
         }
-        if (line.size() <= 0)
-            return false;
+        if (cellCount <= 0)
+            return 0;
 
         // We have to fill all the default values and mandatory items for remaining cells within the schema.
-        while (itParser.hasNext()) {
-            if (!validationHandler.lineValidation(this, line.getLineNumber(),
+        for (int i = rawCellCount; i < parserCount; i++) {
+            if (!validationHandler.lineValidation(this, lineNumber,
                     "Insufficient number of cells could be read from the line", config.getOnLineInsufficient(),
                     errorListener)) {
-                return true;
+                return IGNORE_LINE;
             }
-            addCellToLineBySchema(line, itParser.next(), EMPTY_STRING, lineDecoratorErrorEventListener);
+            addCellBySchema(line, binder, i, cellParsers.get(i), EMPTY_STRING, errorListener);
         }
+        return cellCount;
+    }
 
-        listener.lineParsedEvent(new LineParsedEvent(this, line));
-        return true;
+    /**
+     * Adds a cell according to the schema either to the line or, if line is null, to the binder.
+     *
+     * @param line          The line to add the cell to or null if the cell is assigned to the binder.
+     * @param binder        The line binder to assign the cell to if line is null.
+     * @param index         The index of the cell within the line schema.
+     * @param cellParser    The cell parser
+     * @param sCell         The string value of the cell
+     * @param errorListener The error event listener to report errors to.
+     * @return The number of cells added.
+     */
+    private int addCellBySchema(Line line,
+                                LineBinder binder,
+                                int index,
+                                CellParser<CsvSchemaCell> cellParser,
+                                String sCell,
+                                ErrorEventListener errorListener) {
+        CsvSchemaCell cellSchema = cellParser.getSchemaCell();
+        if (cellSchema.isIgnoreRead()) {
+            if (!cellSchema.isDefaultValue())
+                return 0;
+            return addCell(line, binder, index, cellParser.makeDefaultCell(), errorListener);
+        }
+        if (cellSchema.isMaxLength() && sCell.length() > cellSchema.getMaxLength())
+            sCell = sCell.substring(0, cellSchema.getMaxLength());
+        if (line == null && textAssignable[index] && !sCell.isEmpty()) {
+            binder.assignText(index, sCell, errorListener);
+            return 1;
+        }
+        Cell cell = cellParser.parse(sCell, lineDecoratorErrorEventListener);
+        if (cell == null)
+            return 0;
+        return addCell(line, binder, index, cell, errorListener);
+    }
+
+    /**
+     * Adds a cell either to the line or, if line is null, to the binder.
+     *
+     * @return The number of cells added.
+     */
+    private static int addCell(Line line, LineBinder binder, int index, Cell cell, ErrorEventListener errorListener) {
+        if (line != null)
+            line.addCell(cell);
+        else
+            binder.assignCell(index, cell, errorListener);
+        return 1;
     }
 
     /**
@@ -149,6 +278,7 @@ class CsvLineParser {
         addMissingDefaultValuesFromMaster(schemaLine, masterLineSchema);
         checkMissingMandatoryValues(schemaLine, masterLineSchema, errorListener);
         this.cellParsers = this.makeCellParsers(schemaLine);
+        this.cellIndex = makeCellIndex(schemaLine);
         return schemaLine;
     }
 
@@ -190,53 +320,4 @@ class CsvLineParser {
         return true;
     }
 
-    /**
-     * Adds a cell to the line according to the schema.
-     *  @param line               The line to add a cell to
-     * @param cellParser         The cell parser
-     * @param sCell              The string value of the cell
-     * @param errorEventListener The error event listener to report errors to.
-     *
-     */
-    private void addCellToLineBySchema(Line line,
-                                       CellParser<CsvSchemaCell> cellParser,
-                                       String sCell,
-                                       ErrorEventListener errorEventListener) {
-
-        CsvSchemaCell cellSchema = cellParser.getSchemaCell();
-        if (cellSchema.isIgnoreRead()) {
-            if (cellSchema.isDefaultValue())
-                line.addCell(cellParser.makeDefaultCell());
-            return;
-        }
-        if (cellSchema.isMaxLength() && sCell.length() > cellSchema.getMaxLength())
-            sCell = sCell.substring(0, cellSchema.getMaxLength());
-        Cell cell = cellParser.parse(sCell, errorEventListener);
-        if(cell != null){
-            line.addCell(cell);
-        }
-    }
-
-    /**
-     * Adds overflowing cell to the line if there is no schema.
-     *
-     * @param line          The line to add cell to
-     * @param sCell         The string value of the cell.
-     * @param errorListener Error listener to send error event to if so is configured.
-     *
-     */
-    private boolean addCellToLineWithoutSchema(Line line, String sCell, ErrorEventListener errorListener)
-            {
-
-        if (!validationHandler.lineValidation(this, line.getLineNumber(),
-                "Found additional cell on the line that is not described in the line schema.",
-                config.getOnLineOverflow(), errorListener)) {
-            return false;
-        }
-        Cell cell;
-        cell = new StringCell("@@cell-" + (1 + line.size()), sCell);
-        line.addCell(cell);
-        return true;
-    }
-
 }
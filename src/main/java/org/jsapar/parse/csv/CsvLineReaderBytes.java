@@ -0,0 +1,566 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.parse.LineParseException;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.QuoteSyntax;
+import org.jsapar.utils.StringUtils;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.List;
+
+
+/**
+ * Byte level variant of {@link CsvLineReaderStates}. Scans the raw bytes of the input for cell separators, quotes and
+ * line separators without decoding them to characters first. This is possible only when the charset of the input is
+ * ASCII transparent, i.e. ASCII characters are always encoded as a single byte with the same value and that value
+ * never occurs as part of a multi byte character, and when all separators and the quote character are ASCII characters.
+ * Use {@link #canRead(CsvSchema, Charset)} to check if that is the case.
+ * <p>
+ * Cell values are decoded to strings first when they are retrieved from the list returned by {@link #readLine(String, char)}
+ * so cells that are never used, for instance cells that are ignored by the schema or cells that are not control cells
+ * while matching line types, are never decoded.
+ */
+final class CsvLineReaderBytes implements CsvLineReader {
+    private static final String EMPTY_CELL = "";
+    private final int maxLineLength;
+    private final Charset charset;
+
+    private State beginCellState;
+    private State foundEndQuoteState;
+    private State foundEndQuoteWithinState;
+    private State quotedCellState;
+    private State unquotedCellState;
+    private State state;
+    private CellList currentLine;
+    private EolCheck eolCheck;
+    private final byte lastEolByte;
+
+    private boolean eof;
+    private boolean reset;
+
+    private String cellSeparator;
+    private byte[] cellSeparatorBytes;
+    private byte lastCellSeparatorByte;
+    private char quoteChar;
+    private byte quoteByte;
+    private long lineNumber = 0;
+
+    private final ByteReadBuffer buffer;
+
+    private CellCreator currentCellCreator = new CellCreator();
+
+    /**
+     * @param lineSeparator  The line separator to use. Needs to contain only ASCII characters.
+     * @param inputStream    The input stream to read bytes from.
+     * @param charset        The charset to use when decoding cell values. Needs to be ASCII transparent.
+     * @param allowReadAhead If true, reading from the input stream can be optimized by reading larger chunks of data
+     *                       into a buffer but that can only be utilized if it is ok to read until the end of the input.
+     * @param maxLineLength  The maximum number of bytes in a line. Make sure that all lines fits within this size.
+     * @param quoteSyntax    Determines the syntax of how quoted cells are parsed.
+     */
+    CsvLineReaderBytes(String lineSeparator,
+                       InputStream inputStream,
+                       Charset charset,
+                       boolean allowReadAhead,
+                       int maxLineLength,
+                       QuoteSyntax quoteSyntax) {
+        this.charset = charset;
+        eolCheck = Arrays.asList("\n", "\r\n").contains(lineSeparator) ? new EolCheckCRLF() : new EolCheckCustom(lineSeparator);
+        lastEolByte = eolCheck.getLastEolByte();
+
+        beginCellState = new BeginCellState();
+        switch (quoteSyntax) {
+        case FIRST_LAST:
+            foundEndQuoteState = new FoundEndQuoteStateFirstLast();
+            break;
+        case RFC4180:
+            foundEndQuoteState = new FoundEndQuoteStateRfc();
+            break;
+        default:
+            throw new AssertionError("Unsupported quote syntax while parsing: " + quoteSyntax);
+        }
+        foundEndQuoteWithinState = new FoundEndQuoteWithinState();
+        quotedCellState = new QuotedCellState();
+        unquotedCellState = new UnquotedCellState();
+
+        currentLine = new CellList();
+        this.maxLineLength = maxLineLength;
+        buffer = new ByteReadBuffer(inputStream, maxLineLength, (allowReadAhead ? maxLineLength : 1));
+
+        beginCellState();
+    }
+
+    /**
+     * Checks if input of supplied charset can be read by this class for all lines of supplied schema.
+     * @param schema  The schema that will be used while parsing.
+     * @param charset The charset of the input.
+     * @return True if the charset is ASCII transparent and all line separators, cell separators and quote characters of
+     * the schema are ASCII characters.
+     */
+    static boolean canRead(CsvSchema schema, Charset charset) {
+        if (!StringUtils.isAsciiTransparent(charset) || !StringUtils.isAscii(schema.getLineSeparator()))
+            return false;
+        for (CsvSchemaLine schemaLine : schema.getSchemaLines()) {
+            if (!StringUtils.isAscii(schemaLine.getCellSeparator()) || schemaLine.getQuoteChar() >= 0x80)
+                return false;
+        }
+        return true;
+    }
+
+    @Override
+    public void reset(){
+        this.eof=false;
+        this.reset=true;
+    }
+
+    @Override
+    public boolean eofReached() {
+        return eof;
+    }
+
+    @Override
+    public long currentLineNumber() {
+        return lineNumber;
+    }
+
+    @Override
+    public boolean lastLineWasEmpty() {
+        return currentLine.isEmpty();
+    }
+
+    @Override
+    public List<String> readLine(String cellSeparator, char quoteChar) throws IOException {
+        if(reset)
+            return lastLine(cellSeparator, quoteChar);
+        setLineCharacteristics(cellSeparator, quoteChar);
+        buffer.markLine();
+        lineNumber++;
+        return processLine();
+    }
+
+    private void setLineCharacteristics(String cellSeparator, char quoteChar){
+        this.cellSeparator = cellSeparator;
+        this.cellSeparatorBytes = cellSeparator.getBytes(StandardCharsets.US_ASCII);
+        this.lastCellSeparatorByte = cellSeparatorBytes[cellSeparatorBytes.length-1];
+        this.quoteChar = quoteChar;
+        this.quoteByte = (byte) quoteChar;
+    }
+
+    private List<String> processLine() throws IOException {
+        currentLine.clear();
+
+        while (true) {
+            if(buffer.cursor >= buffer.bufferSize){
+                final int count = buffer.load();
+                if(count<1){
+                    if(state == quotedCellState){
+                        buffer.resetCell();
+                        currentCellCreator.reset();
+                        state=unquotedCellState;
+                        continue;
+                    }
+                    else if (count == 0){
+                        throw new LineParseException( lineNumber,
+                                "Maximum line size exceeded. More than " + maxLineLength + " bytes were read without finding a line separator or maybe there is a miss-placed start quote without matching end quote.");
+
+                    }
+                    this.eof = true;
+                    currentCellCreator.addToLine();
+                    return lineComplete();
+                }
+            }
+            if (state == unquotedCellState || state == quotedCellState) {
+                // Only separators, line breaks and quotes need to be processed by the states within a cell.
+                if (state == unquotedCellState)
+                    buffer.skipUntil(lastCellSeparatorByte, lastEolByte);
+                else
+                    buffer.skipUntil(quoteByte, quoteByte);
+                if (buffer.cursor >= buffer.bufferSize)
+                    continue;
+            }
+            if(state.processByte(buffer.nextByte()))
+                return lineComplete();
+        }
+    }
+
+    private List<String> lineComplete() {
+        beginCellState();
+        if(currentLine.size() == 1 && currentLine.get(0).trim().isEmpty())
+            currentLine.clear();
+        return currentLine;
+    }
+
+    /**
+     * Parses last line again but use different separator and quote character.
+     * @param cellSeparator The new cell separator to use.
+     * @param quoteChar The quote character to use.
+     * @return A line
+     * @throws IOException In case of underlying io error.
+     */
+    private List<String> lastLine(String cellSeparator, char quoteChar) throws IOException {
+        reset=false;
+        if(quoteChar==this.quoteChar && cellSeparator.equals(this.cellSeparator))
+            return currentLine;
+        buffer.resetLine();
+        setLineCharacteristics(cellSeparator, quoteChar);
+        return processLine();
+    }
+
+    /**
+     * Sets state to beginCellState and resets cell offsets.
+     */
+    private void beginCellState() {
+        state = beginCellState;
+        buffer.markCell();
+        currentCellCreator.reset();
+    }
+
+    /**
+     * Checks tail of current cell matches supplied bytes. Assumes that the current byte is already checked.
+     * @param toMatch The bytes to match
+     * @return True if tail of current cell matches supplied bytes if the supplied byte were to be added.
+     */
+    private boolean tailOfCellMatches(byte[] toMatch){
+        int cellOffset = buffer.cursor -toMatch.length;
+        if(cellOffset < buffer.cellMark) {
+            return false;
+        }
+        // Scan backwards to see if bytes before matches. Start at byte before current.
+        for(int i = toMatch.length-2; i>=0; i--){
+            if(toMatch[i] !=  buffer.buffer[cellOffset + i])
+                return false;
+        }
+        return true;
+    }
+
+    private boolean endOfLineAddPending(int skip){
+        int size = this.eolCheck.eolMatchSize();
+        if(size<=0)
+            return false;
+        currentCellCreator.addToLineExcept(size+skip);
+        return true;
+    }
+
+    /**
+     * Interface for states
+     */
+    private interface State {
+        boolean processByte(final byte b);
+    }
+
+    /**
+     * The cells of the current line. Keeps the position of each cell relative to the line mark of the buffer and
+     * decodes the cell value when it is first retrieved.
+     */
+    private final class CellList extends AbstractList<String> {
+        private int size = 0;
+        private int[] offsets = new int[64];
+        private int[] counts = new int[64];
+        private String[] values = new String[64];
+
+        @Override
+        public String get(int index) {
+            if (index < 0 || index >= size)
+                throw new IndexOutOfBoundsException("Index " + index + " out of bounds for length " + size);
+            String value = values[index];
+            if (value == null) {
+                value = new String(buffer.buffer, buffer.lineMark + offsets[index], counts[index], charset);
+                values[index] = value;
+            }
+            return value;
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            Arrays.fill(values, 0, size, null);
+            size = 0;
+        }
+
+        /**
+         * @param offset Offset relative to the line mark.
+         * @param count  Number of bytes of the cell.
+         */
+        void addRange(int offset, int count) {
+            ensureCapacity();
+            offsets[size] = offset;
+            counts[size] = count;
+            values[size++] = null;
+        }
+
+        void addValue(String value) {
+            ensureCapacity();
+            values[size++] = value;
+        }
+
+        private void ensureCapacity() {
+            if (size < values.length)
+                return;
+            int newCapacity = values.length * 2;
+            offsets = Arrays.copyOf(offsets, newCapacity);
+            counts = Arrays.copyOf(counts, newCapacity);
+            values = Arrays.copyOf(values, newCapacity);
+        }
+    }
+
+    private class CellCreator {
+        private int currentCellOffset =0;
+        private int offsetFromEndQuote =0;
+        private final EscapedQuotes escapedQuotes = new EscapedQuotes();
+        private byte[] scratch = new byte[128];
+
+        private void addToLine(){
+            addToLineExcept(offsetFromEndQuote);
+        }
+        /**
+         * Adds a completed cell to a line.
+         * @param except Number of bytes to skip from end while adding cell to line.
+         */
+        private void addToLineExcept(int except) {
+            final int cellStart = buffer.cellMark + currentCellOffset;
+            addToLine(cellStart, buffer.cursor-except-cellStart);
+        }
+
+        /**
+         * Adds a completed cell to a line.
+         * @param offset Begin index
+         * @param count Number of bytes to add
+         */
+        void addToLine(int offset, int count) {
+            if(count==0)
+                currentLine.addValue(EMPTY_CELL);
+            else if (escapedQuotes.size()==0)
+                currentLine.addRange(offset - buffer.lineMark, count);
+            else{
+                // Cells with escaped quotes are rare so they are decoded right away.
+                if(scratch.length < count)
+                    scratch = new byte[count];
+                int scratchSize = 0;
+                for (int i = 0; i<escapedQuotes.size(); i++) {
+                    int ignoreAt = escapedQuotes.positionAt(i, buffer.lineMark);
+                    int toAdd = ignoreAt-offset;
+                    System.arraycopy(buffer.buffer, offset, scratch, scratchSize, toAdd);
+                    scratchSize += toAdd;
+                    offset=ignoreAt+1;
+                    count-=(1+toAdd);
+                }
+                System.arraycopy(buffer.buffer, offset, scratch, scratchSize, count);
+                scratchSize += count;
+                currentLine.addValue(new String(scratch, 0, scratchSize, charset));
+            }
+        }
+
+        void addEmptyToLine() {
+            currentLine.addValue(EMPTY_CELL);
+            buffer.markCell();
+            currentCellOffset = 0;
+        }
+
+        void ignoreCurrent(){
+            escapedQuotes.add(buffer.cursor-1, buffer.lineMark);
+        }
+
+        void reset(){
+            currentCellOffset=0;
+            offsetFromEndQuote=0;
+            escapedQuotes.clear();
+        }
+    }
+
+    /**
+     *
+     */
+    private final class BeginCellState implements State {
+        @Override
+        public boolean processByte(final byte b) {
+            if (b == quoteByte) {
+                state = quotedCellState;
+                currentCellCreator.currentCellOffset++;
+                return false;
+            }
+            if (b == lastCellSeparatorByte && cellSeparatorBytes.length==1) {
+                currentCellCreator.addEmptyToLine();
+                return false;
+            }
+            if (b == lastEolByte && endOfLineAddPending(0)) {
+                return true; // An empty line without cells.
+            }
+            state = unquotedCellState;
+            return false;
+        }
+    }
+
+    /**
+     * Unquoted cell content expected.
+     */
+    private final class UnquotedCellState implements State {
+        @Override
+        public boolean processByte(final byte b) {
+            if( b==lastCellSeparatorByte && tailOfCellMatches(cellSeparatorBytes)){
+                currentCellCreator.addToLineExcept(cellSeparatorBytes.length);
+                beginCellState();
+                return false;
+            }
+            return b == lastEolByte && endOfLineAddPending(0);
+        }
+    }
+
+    /**
+     * Quoted cell content expected.
+     */
+    private final class QuotedCellState implements State {
+        @Override
+        public boolean processByte(final byte b) {
+            if (b == quoteByte) {
+                currentCellCreator.offsetFromEndQuote=1;
+                state = foundEndQuoteState;
+            }
+            return false;
+        }
+    }
+
+    /**
+     * End quote was found.
+     */
+    private final class FoundEndQuoteStateFirstLast implements State {
+        @Override
+        public boolean processByte(final byte b) {
+            if (b==lastCellSeparatorByte && cellSeparatorBytes.length==1) {
+                currentCellCreator.addToLineExcept(2);
+                beginCellState();
+                return false;
+            }
+            if(b == lastEolByte && endOfLineAddPending(1)){
+                return true;
+            }
+            if (b == quoteByte) {
+                currentCellCreator.offsetFromEndQuote=1;
+                return false;
+            }
+
+            currentCellCreator.offsetFromEndQuote++;
+            state = foundEndQuoteWithinState;
+            return false;
+        }
+    }
+
+    /**
+     * End quote was found.
+     */
+    private final class FoundEndQuoteStateRfc implements State {
+        @Override
+        public boolean processByte(final byte b) {
+            if (b==lastCellSeparatorByte && cellSeparatorBytes.length==1) {
+                currentCellCreator.addToLineExcept(2);
+                beginCellState();
+                return false;
+            }
+            if(b == lastEolByte && endOfLineAddPending(1)){
+                return true;
+            }
+            if (b == quoteByte ) {
+                currentCellCreator.ignoreCurrent();
+                state = quotedCellState;
+                return false;
+            }
+
+            currentCellCreator.offsetFromEndQuote++;
+            state = foundEndQuoteWithinState;
+            return false;
+        }
+    }
+
+    /**
+     * A second quote was found but some other byte was found afterwards that was not a single byte cell separator or line separator.
+     */
+    private final class FoundEndQuoteWithinState implements State {
+        @Override
+        public boolean processByte(final byte b) {
+            if (b == quoteByte) {
+                state = foundEndQuoteState;
+                currentCellCreator.offsetFromEndQuote=1;
+                return false;
+            }
+            if (b == lastCellSeparatorByte && tailOfCellMatches(cellSeparatorBytes)) {
+                if(cellSeparatorBytes.length == currentCellCreator.offsetFromEndQuote)
+                    currentCellCreator.addToLineExcept(cellSeparatorBytes.length+1);
+                else
+                    currentCellCreator.addToLine(buffer.cellMark, buffer.cursor - buffer.cellMark -cellSeparatorBytes.length);
+                beginCellState();
+                return false;
+            }
+            if(b == lastEolByte){
+                final int eolSize = eolCheck.eolMatchSize();
+                if( eolSize == currentCellCreator.offsetFromEndQuote){
+                    currentCellCreator.addToLineExcept(eolSize+currentCellCreator.offsetFromEndQuote-1);
+                    return true;
+                }
+                else if(eolSize>0) {
+                    currentCellCreator.addToLine(buffer.cellMark, buffer.cursor - buffer.cellMark - eolSize);
+                    return true;
+                }
+            }
+
+            currentCellCreator.offsetFromEndQuote++;
+            return false;
+        }
+    }
+
+    /**
+     * Interface for checking end of line. Called when the last byte of the line separator was found.
+     */
+    private interface EolCheck {
+        int eolMatchSize();
+        byte getLastEolByte();
+    }
+
+
+    /**
+     * Checking end of line with either LF or CR+LF.
+     */
+    final class EolCheckCRLF implements EolCheck {
+        @Override
+        public int eolMatchSize() {
+            if(buffer.cursor-2 >= buffer.lineMark && buffer.buffer[buffer.cursor-2] == '\r')
+                return 2;
+            return 1;
+        }
+
+        @Override
+        public byte getLastEolByte() {
+            return '\n';
+        }
+    }
+
+    /**
+     * Checking end of line with custom arbitrary ASCII character sequence.
+     */
+    final class EolCheckCustom implements EolCheck {
+        private byte[] lineSeparator;
+
+        EolCheckCustom(String lineSeparator) {
+            this.lineSeparator = lineSeparator.getBytes(StandardCharsets.US_ASCII);
+        }
+
+        @Override
+        public int eolMatchSize() {
+            return tailOfCellMatches(lineSeparator) ? lineSeparator.length : 0;
+        }
+
+        @Override
+        public byte getLastEolByte() {
+            return lineSeparator[lineSeparator.length-1];
+        }
+    }
+
+}
@@ -11,21 +11,32 @@ import java.util.List;
 
 
 /**
- * This implementation uses state pattern. It loads characters into a buffer and creates cell value strings from that
+ * This implementation is a state machine. It loads characters into a buffer and creates cell value strings from that
  * buffer.
+ * <p>
+ * The states are constants that are handled by a single loop so that the JIT compiler can inline the whole loop. The
+ * separators that are the same for all lines, the line separator and the quote syntax, are fixed when the reader is
+ * created. The common case of a single character cell separator and LF or CR+LF line separator is checked directly
+ * without matching any character sequence.
  */
 final class CsvLineReaderStates implements CsvLineReader {
     private static final String EMPTY_CELL = "";
+
+    private static final int BEGIN_CELL             = 0;
+    private static final int UNQUOTED_CELL          = 1;
+    private static final int QUOTED_CELL            = 2;
+    private static final int FOUND_END_QUOTE        = 3;
+    // A second quote was found but some other character was found afterwards that was not a single character cell
+    // separator or line separator.
+    private static final int FOUND_END_QUOTE_WITHIN = 4;
+
     private final int maxLineLength;
+    private final boolean rfc4180;
 
-    private State beginCellState;
-    private State foundEndQuoteState;
-    private State foundEndQuoteWithinState;
-    private State quotedCellState;
-    private State unquotedCellState;
-    private State state;
+    private int state;
     private List<String> currentLine;
-    private EolCheck eolCheck;
+    // The line separator if it is other than LF or CR+LF, otherwise null.
+    private final String customLineSeparator;
     private final char lastEolChar;
 
     private boolean eof;
@@ -33,6 +44,7 @@ final class CsvLineReaderStates implements CsvLineReader {
 
     private String cellSeparator;
     private char lastCellSeparatorChar;
+    private boolean singleCharCellSeparator;
     private char quoteChar;
     private long lineNumber = 0;
 
@@ -48,23 +60,19 @@ final class CsvLineReaderStates implements CsvLineReader {
      * @param quoteSyntax Determines the syntax of how quoted cells are parsed.
      */
     CsvLineReaderStates(String lineSeparator, Reader reader, boolean allowReadAhead, int maxLineLength, QuoteSyntax quoteSyntax) {
-        eolCheck = Arrays.asList("\n", "\r\n").contains(lineSeparator) ? new EolCheckCRLF() : new EolCheckCustom(lineSeparator);
-        lastEolChar = eolCheck.getLastEolChar();
+        customLineSeparator = Arrays.asList("\n", "\r\n").contains(lineSeparator) ? null : lineSeparator;
+        lastEolChar = lineSeparator.charAt(lineSeparator.length() - 1);
 
-        beginCellState = new BeginCellState();
         switch (quoteSyntax) {
         case FIRST_LAST:
-            foundEndQuoteState = new FoundEndQuoteStateFirstLast();
+            rfc4180 = false;
             break;
         case RFC4180:
-            foundEndQuoteState = new FoundEndQuoteStateRfc();
+            rfc4180 = true;
             break;
         default:
             throw new AssertionError("Unsupported quote syntax while parsing: " + quoteSyntax);
         }
-        foundEndQuoteWithinState = new FoundEndQuoteWithinState();
-        quotedCellState = new QuotedCellState();
-        unquotedCellState = new UnquotedCellState();
 
         currentLine = new ArrayList<>();
         this.maxLineLength = maxLineLength;
@@ -107,20 +115,22 @@ final class CsvLineReaderStates implements CsvLineReader {
     private void setLineCharacteristics(String cellSeparator, char quoteChar){
         this.cellSeparator = cellSeparator;
         this.lastCellSeparatorChar = cellSeparator.charAt(cellSeparator.length()-1);
+        this.singleCharCellSeparator = cellSeparator.length() == 1;
         this.quoteChar = quoteChar;
     }
 
     private List<String> processLine() throws IOException {
         currentLine.clear();
+        final char[] chars = buffer.buffer;
 
         while (true) {
             if(buffer.cursor >= buffer.bufferSize){
                 final int count = buffer.load();
                 if(count<1){
-                    if(state == quotedCellState){
+                    if(state == QUOTED_CELL){
                         buffer.resetCell();
                         currentCellCreator.reset();
-                        state=unquotedCellState;
+                        state = UNQUOTED_CELL;
                         continue;
                     }
                     else if (count == 0){
@@ -133,8 +143,101 @@ final class CsvLineReaderStates implements CsvLineReader {
                     return lineComplete();
                 }
             }
-            if(state.processChar(buffer.nextCharacter()))
-                return lineComplete();
+            final char c;
+            switch (state) {
+            case BEGIN_CELL:
+                c = chars[buffer.cursor++];
+                if (c == quoteChar) {
+                    state = QUOTED_CELL;
+                    currentCellCreator.currentCellOffset++;
+                }
+                else if (c == lastCellSeparatorChar && singleCharCellSeparator)
+                    currentCellCreator.addEmptyToLine();
+                else if (c == lastEolChar && endOfLineAddPending(0))
+                    return lineComplete(); // An empty line without cells.
+                else
+                    state = UNQUOTED_CELL;
+                break;
+
+            case UNQUOTED_CELL:
+                // Only separators and line breaks need to be processed within an unquoted cell.
+                buffer.skipUntil(lastCellSeparatorChar, lastEolChar);
+                if (buffer.cursor >= buffer.bufferSize)
+                    continue;
+                c = chars[buffer.cursor++];
+                if (c == lastCellSeparatorChar && tailOfCellMatchesCellSeparator()) {
+                    currentCellCreator.addToLineExcept(cellSeparator.length());
+                    beginCellState();
+                }
+                else if (c == lastEolChar && endOfLineAddPending(0))
+                    return lineComplete();
+                break;
+
+            case QUOTED_CELL:
+                // Only quotes need to be processed within a quoted cell.
+                buffer.skipUntil(quoteChar, quoteChar);
+                if (buffer.cursor >= buffer.bufferSize)
+                    continue;
+                buffer.cursor++;
+                currentCellCreator.offsetFromEndQuote = 1;
+                state = FOUND_END_QUOTE;
+                break;
+
+            case FOUND_END_QUOTE:
+                c = chars[buffer.cursor++];
+                if (c == lastCellSeparatorChar && singleCharCellSeparator) {
+                    currentCellCreator.addToLineExcept(2);
+                    beginCellState();
+                }
+                else if (c == lastEolChar && endOfLineAddPending(1))
+                    return lineComplete();
+                else if (c == quoteChar) {
+                    if (rfc4180) {
+                        currentCellCreator.ignoreCurrent();
+                        state = QUOTED_CELL;
+                    }
+                    else
+                        currentCellCreator.offsetFromEndQuote = 1;
+                }
+                else {
+                    currentCellCreator.offsetFromEndQuote++;
+                    state = FOUND_END_QUOTE_WITHIN;
+                }
+                break;
+
+            case FOUND_END_QUOTE_WITHIN:
+                c = chars[buffer.cursor++];
+                if (c == quoteChar) {
+                    state = FOUND_END_QUOTE;
+                    currentCellCreator.offsetFromEndQuote = 1;
+                    break;
+                }
+                if (c == lastCellSeparatorChar && tailOfCellMatchesCellSeparator()) {
+                    // Not a quoted cell after all, the quotes are part of the value.
+                    if (cellSeparator.length() == currentCellCreator.offsetFromEndQuote)
+                        currentCellCreator.addToLineExcept(cellSeparator.length() + 1);
+                    else
+                        currentCellCreator.addToLine(buffer.cellMark, buffer.cursor - buffer.cellMark - cellSeparator.length());
+                    beginCellState();
+                    break;
+                }
+                if (c == lastEolChar) {
+                    final int eolSize = eolMatchSize();
+                    if (eolSize == currentCellCreator.offsetFromEndQuote) {
+                        currentCellCreator.addToLineExcept(eolSize + currentCellCreator.offsetFromEndQuote - 1);
+                        return lineComplete();
+                    }
+                    else if (eolSize > 0) {
+                        currentCellCreator.addToLine(buffer.cellMark, buffer.cursor - buffer.cellMark - eolSize);
+                        return lineComplete();
+                    }
+                }
+                currentCellCreator.offsetFromEndQuote++;
+                break;
+
+            default:
+                throw new AssertionError("Unknown state while parsing: " + state);
+            }
         }
     }
 
@@ -162,10 +265,10 @@ final class CsvLineReaderStates implements CsvLineReader {
     }
 
     /**
-     * Sets state to beginCellState and resets cell offsets.
+     * Sets state to begin cell and resets cell offsets.
      */
     private void beginCellState() {
-        state = beginCellState;
+        state = BEGIN_CELL;
         buffer.markCell();
         currentCellCreator.reset();
     }
@@ -188,27 +291,35 @@ final class CsvLineReaderStates implements CsvLineReader {
         return true;
     }
 
-    private boolean endOfLineAddPending(char c, int skip){
-        int size = this.eolCheck.eolMatchSize(c);
-        if(size<=0)
-            return false;
-        currentCellCreator.addToLineExcept(size+skip);
-        return true;
+    private boolean tailOfCellMatchesCellSeparator() {
+        return singleCharCellSeparator || tailOfCellMatches(cellSeparator);
     }
 
     /**
-     * Interface for states
+     * Checks the line separator that ends with the character that was just consumed.
+     * @return The number of characters of the line separator, 2 for CR+LF and 1 for LF. 0 if the character is not the
+     * end of a custom line separator.
      */
-    private interface State {
-        boolean processChar(final char c);
+    private int eolMatchSize() {
+        if (customLineSeparator != null)
+            return tailOfCellMatches(customLineSeparator) ? customLineSeparator.length() : 0;
+        if(buffer.cursor > 2 && buffer.buffer[buffer.cursor-2] == '\r')
+            return 2;
+        return 1;
     }
 
+    private boolean endOfLineAddPending(int skip){
+        int size = eolMatchSize();
+        if(size<=0)
+            return false;
+        currentCellCreator.addToLineExcept(size+skip);
+        return true;
+    }
 
     private class CellCreator {
         private int currentCellOffset =0;
         private int offsetFromEndQuote =0;
-        private int ignoresCount = 0;
-        private int[] ignoresAt = new int[128];
+        private final EscapedQuotes escapedQuotes = new EscapedQuotes();
         private StringBuilder stringBuilder = new StringBuilder();
 
         private void addToLine(){
@@ -235,14 +346,15 @@ final class CsvLineReaderStates implements CsvLineReader {
         void addToLine(int offset, int count) {
             if(count==0)
                 currentLine.add(EMPTY_CELL);
-            else if (ignoresCount==0)
+            else if (escapedQuotes.size()==0)
                 currentLine.add(new String(buffer.buffer, offset, count));
             else{
                 stringBuilder.delete(0, stringBuilder.length()); // Reset stringBuilder
-                for (int i = 0; i<ignoresCount; i++) {
-                    int toAdd = ignoresAt[i]-offset;
+                for (int i = 0; i<escapedQuotes.size(); i++) {
+                    int ignoreAt = escapedQuotes.positionAt(i, buffer.lineMark);
+                    int toAdd = ignoreAt-offset;
                     stringBuilder.append(buffer.buffer, offset, toAdd);
-                    offset=ignoresAt[i]+1;
+                    offset=ignoreAt+1;
                     count-=(1+toAdd);
                 }
                 stringBuilder.append(buffer.buffer, offset, count);
@@ -257,203 +369,13 @@ final class CsvLineReaderStates implements CsvLineReader {
         }
 
         void ignoreCurrent(){
-            if(ignoresCount<=ignoresAt.length)
-                ignoresAt[ignoresCount++] = buffer.cursor-1;
+            escapedQuotes.add(buffer.cursor-1, buffer.lineMark);
         }
 
         void reset(){
             currentCellOffset=0;
             offsetFromEndQuote=0;
-            ignoresCount=0;
-        }
-    }
-
-    /**
-     *
-     */
-    private final class BeginCellState implements State {
-        @Override
-        public boolean processChar(final char c) {
-            if (c == quoteChar) {
-                state = quotedCellState;
-                currentCellCreator.currentCellOffset++;
-                return false;
-            }
-            if (c == lastCellSeparatorChar && cellSeparator.length()==1) {
-                currentCellCreator.addEmptyToLine();
-                return false;
-            }
-            if (c == lastEolChar && endOfLineAddPending(c, 0)) {
-                return true; // An empty line without cells.
-            }
-            state = unquotedCellState;
-            return false;
-        }
-    }
-
-    /**
-     * Unquoted cell content expected.
-     */
-    private final class UnquotedCellState implements State {
-        @Override
-        public boolean processChar(final char c) {
-            if( c==lastCellSeparatorChar && tailOfCellMatches(cellSeparator)){
-                currentCellCreator.addToLineExcept(cellSeparator.length());
-                beginCellState();
-                return false;
-            }
-            return c == lastEolChar && endOfLineAddPending(c, 0);
-        }
-    }
-
-    /**
-     * Quoted cell content expected.
-     */
-    private final class QuotedCellState implements State {
-        @Override
-        public boolean processChar(final char c) {
-            if (c == quoteChar) {
-                currentCellCreator.offsetFromEndQuote=1;
-                state = foundEndQuoteState;
-            }
-            return false;
-        }
-    }
-
-    /**
-     * End quote was found.
-     */
-    private final class FoundEndQuoteStateFirstLast implements State {
-        @Override
-        public boolean processChar(final char c) {
-            if (c==lastCellSeparatorChar && cellSeparator.length()==1) {
-                currentCellCreator.addToLineExcept(2);
-                beginCellState();
-                return false;
-            }
-            if(c == lastEolChar && endOfLineAddPending(c, 1)){
-                return true;
-            }
-            if (c == quoteChar) {
-                currentCellCreator.offsetFromEndQuote=1;
-                return false;
-            }
-
-            currentCellCreator.offsetFromEndQuote++;
-            state = foundEndQuoteWithinState;
-            return false;
+            escapedQuotes.clear();
         }
     }
-
-    /**
-     * End quote was found.
-     */
-    private final class FoundEndQuoteStateRfc implements State {
-        @Override
-        public boolean processChar(final char c) {
-            if (c==lastCellSeparatorChar && cellSeparator.length()==1) {
-                currentCellCreator.addToLineExcept(2);
-                beginCellState();
-                return false;
-            }
-            if(c == lastEolChar && endOfLineAddPending(c, 1)){
-                return true;
-            }
-            if (c == quoteChar ) {
-                currentCellCreator.ignoreCurrent();
-                state = quotedCellState;
-                return false;
-            }
-
-            currentCellCreator.offsetFromEndQuote++;
-            state = foundEndQuoteWithinState;
-            return false;
-        }
-    }
-
-    /**
-     * A second quote was found but some other character was found afterwards that was not a single character cell separator or line separator.
-     */
-    private final class FoundEndQuoteWithinState implements State {
-        @Override
-        public boolean processChar(final char c) {
-            if (c == quoteChar) {
-                state = foundEndQuoteState;
-                currentCellCreator.offsetFromEndQuote=1;
-                return false;
-            }
-            if (c == lastCellSeparatorChar && tailOfCellMatches(cellSeparator)) {
-                if(cellSeparator.length() == currentCellCreator.offsetFromEndQuote)
-                    currentCellCreator.addToLineExcept(cellSeparator.length()+1);
-                else
-                    currentCellCreator.addToLine(buffer.cellMark, buffer.cursor - buffer.cellMark -cellSeparator.length());
-                beginCellState();
-                return false;
-            }
-            if(c == lastEolChar){
-                final int eolSize = eolCheck.eolMatchSize(c);
-                if( eolSize == currentCellCreator.offsetFromEndQuote){
-                    currentCellCreator.addToLineExcept(eolSize+currentCellCreator.offsetFromEndQuote-1);
-                    return true;
-                }
-                else if(eolSize>0) {
-                    currentCellCreator.addToLine(buffer.cellMark, buffer.cursor - buffer.cellMark - eolSize);
-                    return true;
-                }
-            }
-
-            currentCellCreator.offsetFromEndQuote++;
-            return false;
-        }
-    }
-
-    /**
-     * Interface for checking end of line.
-     */
-    private interface EolCheck {
-        int eolMatchSize(final char c);
-        char getLastEolChar();
-    }
-
-
-    /**
-     * Checking end of line with either LF or CR+LF.
-     */
-    final class EolCheckCRLF implements EolCheck {
-        @Override
-        public int eolMatchSize(final char c) {
-            if(buffer.cursor > 2 && buffer.buffer[buffer.cursor-2] == '\r')
-                return 2;
-            return 1;
-        }
-
-        @Override
-        public char getLastEolChar() {
-            return '\n';
-        }
-    }
-
-    /**
-     * Checking end of line with custom arbitrary character sequence.
-     */
-    final class EolCheckCustom implements EolCheck {
-        private String lineSeparator;
-        private char lastLineSeparatorChar;
-
-        EolCheckCustom(String lineSeparator) {
-            this.lineSeparator = lineSeparator;
-            this.lastLineSeparatorChar = lineSeparator.charAt(lineSeparator.length()-1);
-        }
-
-        @Override
-        public int eolMatchSize(char c) {
-            return tailOfCellMatches(lineSeparator) ? lineSeparator.length() : 0;
-        }
-
-        @Override
-        public char getLastEolChar() {
-            return lastLineSeparatorChar;
-        }
-    }
-
 }
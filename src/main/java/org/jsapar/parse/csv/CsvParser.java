@@ -9,7 +9,10 @@ import org.jsapar.schema.CsvSchema;
 import org.jsapar.schema.SchemaLine;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
 
 /**
  * Internal class for parsing CSV input.
@@ -21,6 +24,8 @@ public class CsvParser implements TextSchemaParser {
     private CsvLineParserFactory lineParserFactory;
     private TextParseConfig      parseConfig;
     private final ValidationHandler validationHandler = new ValidationHandler();
+    private long lineNumber = 0;
+    private boolean finished = false;
 
     CsvParser(Reader reader, CsvSchema schema) {
         this(reader, schema, new TextParseConfig());
@@ -29,34 +34,71 @@ public class CsvParser implements TextSchemaParser {
 
     public CsvParser(Reader reader, CsvSchema schema, TextParseConfig parseConfig) {
         this.parseConfig = parseConfig;
-        lineReader = new CsvLineReaderStates(schema.getLineSeparator(), reader, schema.stream().anyMatch(SchemaLine::isOccursInfinitely), parseConfig.getMaxLineLength(), schema.getQuoteSyntax());
+        lineReader = new CsvLineReaderStates(schema.getLineSeparator(), reader, isAllowReadAhead(schema), parseConfig.getMaxLineLength(), schema.getQuoteSyntax());
         this.schema = schema;
         this.lineParserFactory = new CsvLineParserFactory(schema, parseConfig);
     }
+
+    /**
+     * Creates a parser that reads from an input stream. If the charset is ASCII transparent, such as UTF-8 or
+     * ISO-8859-1, and all separators and quote characters of the schema are ASCII characters, the bytes of the input
+     * are scanned directly and cell values are decoded only when needed. Otherwise the input is decoded with an
+     * {@link InputStreamReader}.
+     * @param inputStream The input stream to read from.
+     * @param charset The charset of the input.
+     * @param schema The schema to use.
+     * @param parseConfig The parse configuration.
+     */
+    public CsvParser(InputStream inputStream, Charset charset, CsvSchema schema, TextParseConfig parseConfig) {
+        this.parseConfig = parseConfig;
+        if(CsvLineReaderBytes.canRead(schema, charset))
+            lineReader = new CsvLineReaderBytes(schema.getLineSeparator(), inputStream, charset, isAllowReadAhead(schema), parseConfig.getMaxLineLength(), schema.getQuoteSyntax());
+        else
+            lineReader = new CsvLineReaderStates(schema.getLineSeparator(), new InputStreamReader(inputStream, charset), isAllowReadAhead(schema), parseConfig.getMaxLineLength(), schema.getQuoteSyntax());
+        this.schema = schema;
+        this.lineParserFactory = new CsvLineParserFactory(schema, parseConfig);
+    }
+
+    private static boolean isAllowReadAhead(CsvSchema schema){
+        return schema.stream().anyMatch(SchemaLine::isOccursInfinitely);
+    }
     
 
     @Override
     public long parse(LineEventListener listener, ErrorEventListener errorListener) throws IOException {
-        if(schema.isEmpty()) {
-            return 0;
+        while(parseNext(listener, errorListener)) {
+            // Parse all lines
+        }
+        return lineNumber;
+    }
+
+    @Override
+    public boolean parseNext(LineEventListener listener, ErrorEventListener errorListener) throws IOException {
+        if(finished || schema.isEmpty()) {
+            return false;
         }
-        long lineNumber = 0;
         while(true){
             CsvLineParser lineParser = lineParserFactory.makeLineParser(lineReader);
             if(lineParser == null) {
                 if(lineParserFactory.isEmpty())
-                    return lineNumber; // No more parsers. We should not read any more. Leave rest of input as is.
+                    return finish(); // No more parsers. We should not read any more. Leave rest of input as is.
                 if(lineReader.eofReached())
-                    return lineNumber;
+                    return finish();
                 handleNoParser(lineReader, errorListener);
                 continue;
             }
             if(!lineParser.parse(lineReader, listener, errorListener))
-                return lineNumber;
-            if(!lineReader.lastLineWasEmpty())
+                return finish();
+            if(!lineReader.lastLineWasEmpty()) {
                 lineNumber++;
+                return true;
+            }
         }
+    }
 
+    private boolean finish() {
+        finished = true;
+        return false;
     }
 
     private void handleNoParser(CsvLineReader lineReader, ErrorEventListener errorEventListener) {
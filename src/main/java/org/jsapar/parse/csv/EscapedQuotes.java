@@ -0,0 +1,48 @@
+package org.jsapar.parse.csv;
+
+import java.util.Arrays;
+
+/**
+ * Internal class that keeps track of the escaped quotes within the cell that is currently read, so that they can be
+ * left out from the cell value. Used by all csv line readers.
+ * <p>
+ * Positions are stored relative to the line mark of the read buffer since the buffer may be shifted while loading
+ * more of the same line. The number of positions is only limited by the maximum line length.
+ */
+final class EscapedQuotes {
+    private int[] positions = new int[16];
+    private int   count     = 0;
+
+    /**
+     * @param position The position of the escaped quote within the buffer.
+     * @param lineMark The current line mark of the buffer.
+     */
+    void add(int position, int lineMark) {
+        if (count == positions.length)
+            positions = Arrays.copyOf(positions, count * 2);
+        positions[count++] = position - lineMark;
+    }
+
+    /**
+     * @return The number of escaped quotes within the current cell.
+     */
+    int size() {
+        return count;
+    }
+
+    /**
+     * @param index    The index of the escaped quote, in the order they were added.
+     * @param lineMark The current line mark of the buffer.
+     * @return The position of the escaped quote within the buffer.
+     */
+    int positionAt(int index, int lineMark) {
+        return lineMark + positions[index];
+    }
+
+    /**
+     * Removes all positions. Called when a new cell begins.
+     */
+    void clear() {
+        count = 0;
+    }
+}
@@ -9,9 +9,9 @@ import java.io.Reader;
 final class ReadBuffer {
     private Reader reader;
     private int maxLoadSize;
-    private int lineMark=0;
 
     final char[] buffer;
+    int lineMark=0;
     int cellMark=0;
     int cursor=0;
     int bufferSize=0;
@@ -73,6 +73,25 @@ final class ReadBuffer {
     char nextCharacter(){
         return buffer[cursor++];
     }
+
+    /**
+     * Moves the cursor forward to the next loaded character that is equal to any of the supplied characters, without
+     * consuming it. If there is no such character, the cursor is moved to the end of the loaded characters.
+     * @param c1 The first character to find.
+     * @param c2 The second character to find.
+     */
+    void skipUntil(char c1, char c2){
+        final char[] chars = buffer;
+        final int end = bufferSize;
+        int i = cursor;
+        while (i < end) {
+            final char c = chars[i];
+            if (c == c1 || c == c2)
+                break;
+            i++;
+        }
+        cursor = i;
+    }
     /**
      * Place a line mark.
      */
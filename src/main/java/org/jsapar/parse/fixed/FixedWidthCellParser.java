@@ -28,13 +28,12 @@ class FixedWidthCellParser extends CellParser<FixedWidthSchemaCell> {
      * @throws IOException In case there is an error reading from the reader.
      */
     Cell parse(ReadBuffer lineReader, ErrorEventListener errorEventListener) throws IOException {
-        String sValue = lineReader.readToString(trimmer,  0, getSchemaCell().getLength());
         // If EOF
-        if(sValue == null) {
+        if(!lineReader.readToRange(trimmer,  0, getSchemaCell().getLength())) {
             checkIfMandatory(errorEventListener);
             return null;
         }
-        return super.parse(sValue, errorEventListener);
+        return super.parse(lineReader.getBuffer(), lineReader.getRangeBegin(), lineReader.getRangeLength(), errorEventListener);
     }
 
     /**
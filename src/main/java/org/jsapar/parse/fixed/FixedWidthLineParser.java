@@ -2,9 +2,14 @@ package org.jsapar.parse.fixed;
 
 import org.jsapar.error.ErrorEventListener;
 import org.jsapar.model.Cell;
+import org.jsapar.model.CellIndex;
 import org.jsapar.model.Line;
+import org.jsapar.parse.LineEventListener;
 import org.jsapar.parse.line.LineDecoratorErrorEventListener;
 import org.jsapar.parse.line.ValidationHandler;
+import org.jsapar.parse.text.CellCacheStatisticsAccess;
+import org.jsapar.parse.text.LineBinder;
+import org.jsapar.parse.text.LineBinderProvider;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.FixedWidthSchemaCell;
 import org.jsapar.schema.FixedWidthSchemaLine;
@@ -21,14 +26,19 @@ final class FixedWidthLineParser {
     private static final String EMPTY_STRING = "";
     private FixedWidthSchemaLine lineSchema;
     private List<FixedWidthCellParser> cellParsers;
+    private CellIndex cellIndex;
     private ValidationHandler    validationHandler = new ValidationHandler();
     private TextParseConfig config;
     private LineDecoratorErrorEventListener lineDecoratorErrorEventListener = new LineDecoratorErrorEventListener();
+    // The binder of the most recent line event listener.
+    private LineEventListener binderListener;
+    private LineBinder lineBinder;
 
     FixedWidthLineParser(FixedWidthSchemaLine lineSchema, TextParseConfig config) {
         this.lineSchema = lineSchema;
         this.config = config;
         this.cellParsers = makeCellParsers(lineSchema);
+        this.cellIndex = CellIndex.of(lineSchema.stream().map(FixedWidthSchemaCell::getName).collect(Collectors.toList()));
     }
 
     private List<FixedWidthCellParser> makeCellParsers(FixedWidthSchemaLine lineSchema) {
@@ -36,32 +46,81 @@ final class FixedWidthLineParser {
     }
 
     private FixedWidthCellParser makeCellParser(FixedWidthSchemaCell fixedWidthSchemaCell) {
-        return FixedWidthCellParser.ofSchemaCell(fixedWidthSchemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1));
+        FixedWidthCellParser cellParser = FixedWidthCellParser.ofSchemaCell(fixedWidthSchemaCell, Math.min(config.getMaxCellCacheSize(), lineSchema.getOccurs() - 1));
+        if (config.getCellCacheStatistics() != null)
+            CellCacheStatisticsAccess.register(config.getCellCacheStatistics(), lineSchema.getLineType(), fixedWidthSchemaCell.getName(), cellParser.getCacheStatistics());
+        return cellParser;
     }
 
     boolean isIgnoreRead(){
         return lineSchema.isIgnoreRead();
     }
 
-    @SuppressWarnings("UnnecessaryContinue")
+    /**
+     * @param listener The line event listener.
+     * @return The line binder that the listener provides for lines of this parser or null if lines should be sent as
+     * line events.
+     */
+    LineBinder lineBinderOf(LineEventListener listener) {
+        if (!(listener instanceof LineBinderProvider))
+            return null;
+        if (listener != binderListener) {
+            binderListener = listener;
+            lineBinder = ((LineBinderProvider) listener).lineBinderOf(lineSchema.getLineType(), cellIndex);
+        }
+        return lineBinder;
+    }
+
     public Line parse(ReadBuffer lineReader, ErrorEventListener errorListener) throws IOException {
-        Line line = new Line(lineSchema.getLineType(), lineSchema.getSchemaCells().size());
+        Line line = new Line(lineSchema.getLineType(), cellIndex);
         line.setLineNumber(lineReader.getLineNumber());
+        lineDecoratorErrorEventListener.initialize(errorListener, line);
+        return parseCells(lineReader, line, null, errorListener) ? line : null;
+    }
+
+    /**
+     * Parses the cells of one line and assigns them directly to a line binder instead of creating a line. Follows the
+     * same rules as when a line is created.
+     *
+     * @param lineReader    The line reader to read from.
+     * @param binder        The line binder to assign cells to. {@link LineBinder#beginLine()} needs to be called
+     *                      already.
+     * @param errorListener The error event listener to which this method will send events for each error that occurs.
+     * @return True if a line was parsed, false if no line could be parsed.
+     * @throws IOException In case of io error.
+     */
+    boolean bind(ReadBuffer lineReader, LineBinder binder, ErrorEventListener errorListener) throws IOException {
+        lineDecoratorErrorEventListener.initialize(errorListener, lineReader.getLineNumber());
+        if (!parseCells(lineReader, null, binder, errorListener))
+            return false;
+        binder.endLine();
+        return true;
+    }
+
+    /**
+     * Parses the cells of one line. Cells are added either to the line or to the binder.
+     *
+     * @return False if no line could be parsed.
+     */
+    @SuppressWarnings("UnnecessaryContinue")
+    private boolean parseCells(ReadBuffer lineReader, Line line, LineBinder binder, ErrorEventListener errorListener) throws IOException {
         boolean setDefaultsOnly = false;
         boolean oneRead = false;
         boolean oneIgnored = false;
         boolean handleInsufficient = true;
+        int cellCount = 0;
+        int index = -1;
 
-        lineDecoratorErrorEventListener.initialize(errorListener, line);
         for (FixedWidthCellParser cellParser : cellParsers) {
+            index++;
             FixedWidthSchemaCell schemaCell = cellParser.getSchemaCell();
             if (setDefaultsOnly) {
                 if (cellParser.isDefaultValue())
-                    line.addCell(cellParser.makeDefaultCell());
+                    cellCount += addCell(line, binder, index, cellParser.makeDefaultCell(), errorListener);
                 continue;
             } else if (schemaCell.isIgnoreRead()) {
                 if (cellParser.isDefaultValue())
-                    line.addCell(cellParser.makeDefaultCell());
+                    cellCount += addCell(line, binder, index, cellParser.makeDefaultCell(), errorListener);
 
                 int nSkipped = lineReader.skipWithinLine(schemaCell.getLength());
                 if (nSkipped > 0 || schemaCell.getLength() == 0)
@@ -80,14 +139,14 @@ final class FixedWidthLineParser {
                         if (cellParser.isDefaultValue()) {
                             cell = cellParser.parse(EMPTY_STRING, lineDecoratorErrorEventListener);
                             if(cell != null)
-                                line.addCell(cell);
+                                cellCount += addCell(line, binder, index, cell, errorListener);
                         }
                         //noinspection ConstantConditions
                         if (handleInsufficient) {
                             if (!validationHandler
                                     .lineValidation(this, lineReader.getLineNumber(), "Insufficient number of characters for line",
                                             config.getOnLineInsufficient(), errorListener)) {
-                                return null;
+                                return false;
                             }
                             handleInsufficient = false;
                         }
@@ -96,20 +155,33 @@ final class FixedWidthLineParser {
                 }
 
                 oneRead = true;
-                line.addCell(cell);
+                cellCount += addCell(line, binder, index, cell, errorListener);
             }
         }
-        if (line.size() <= 0 && !oneIgnored)
-            return null;
+        if (cellCount <= 0 && !oneIgnored)
+            return false;
 
         int remaining = lineReader.remainsForLine();
         if(remaining > 0) {
             if(!validationHandler.lineValidation(this, lineReader.getLineNumber(), "Trailing characters found on line",
                     config.getOnLineOverflow(), errorListener))
-                return null; // Ignore the line.
+                return false; // Ignore the line.
         }
 
-        return line;
+        return true;
+    }
+
+    /**
+     * Adds a cell either to the line or, if line is null, to the binder.
+     *
+     * @return The number of cells added.
+     */
+    private static int addCell(Line line, LineBinder binder, int index, Cell cell, ErrorEventListener errorListener) {
+        if (line != null)
+            line.addCell(cell);
+        else
+            binder.assignCell(index, cell, errorListener);
+        return 1;
     }
 
 }
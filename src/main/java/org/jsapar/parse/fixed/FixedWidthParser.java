@@ -5,6 +5,7 @@ import org.jsapar.model.Line;
 import org.jsapar.parse.LineEventListener;
 import org.jsapar.parse.LineParsedEvent;
 import org.jsapar.parse.line.ValidationHandler;
+import org.jsapar.parse.text.LineBinder;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.parse.text.TextSchemaParser;
 import org.jsapar.schema.FixedWidthSchema;
@@ -23,6 +24,8 @@ public class FixedWidthParser implements TextSchemaParser {
     private final ValidationHandler validationHandler = new ValidationHandler();
     private final ReadBuffer lineReader;
     private final int minLineLength;
+    private FWLineParserFactory lineParserFactory;
+    private long lineCount = -1; // Known when parsing is finished
 
 
     public FixedWidthParser(Reader reader, FixedWidthSchema schema, TextParseConfig config) {
@@ -48,31 +51,54 @@ public class FixedWidthParser implements TextSchemaParser {
 
     @Override
     public long parse(LineEventListener lineEventListener, ErrorEventListener errorListener) throws IOException {
-        FWLineParserFactory lineParserFactory = new FWLineParserFactory(getSchema(), config);
+        while(parseNext(lineEventListener, errorListener)) {
+            // Parse all lines
+        }
+        return lineCount;
+    }
+
+    @Override
+    public boolean parseNext(LineEventListener lineEventListener, ErrorEventListener errorListener) throws IOException {
+        if(lineCount >= 0)
+            return false;
+        if(lineParserFactory == null)
+            lineParserFactory = new FWLineParserFactory(getSchema(), config);
         while(true){
             if(lineParserFactory.isEmpty())
-                return lineReader.getLineNumber();
+                return finish(lineReader.getLineNumber());
             int lineLength = lineReader.nextLine(minLineLength);
             if (lineLength < 0)
-                return lineReader.getLineNumber(); // End of stream.
+                return finish(lineReader.getLineNumber()); // End of stream.
             if (lineLength == 0)
                 continue; // Just ignore empty lines
             FixedWidthLineParser lineParser = lineParserFactory.makeLineParser(lineReader);
             if (lineParser == null) {
                 handleNoParser(lineReader.getLineNumber(), lineParserFactory.getLastResult(), errorListener);
                 if(lineParserFactory.getLastResult() == LineParserMatcherResult.NOT_MATCHING)
-                    continue;
+                    return true;
                 else
-                    return lineReader.getLineNumber()-1;
+                    return finish(lineReader.getLineNumber()-1);
+            }
+            LineBinder binder = lineParser.isIgnoreRead() ? null : lineParser.lineBinderOf(lineEventListener);
+            if (binder != null && binder.beginLine()) {
+                if (!lineParser.bind(lineReader, binder, errorListener) && lineReader.eofReached())
+                    return finish(lineReader.getLineNumber()-1); // End of stream.
+                return true;
             }
             Line line = lineParser.parse(lineReader, errorListener);
             if(lineParser.isIgnoreRead())
-                continue;
+                return true;
             if (line != null)
                 lineEventListener.lineParsedEvent(new LineParsedEvent(this, line));
             else if(lineReader.eofReached())
-                return lineReader.getLineNumber()-1; // End of stream.
+                return finish(lineReader.getLineNumber()-1); // End of stream.
+            return true;
         }
     }
 
+    private boolean finish(long lineCount) {
+        this.lineCount = lineCount;
+        return false;
+    }
+
 }
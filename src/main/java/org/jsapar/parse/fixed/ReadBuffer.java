@@ -25,6 +25,8 @@ final class ReadBuffer {
     private       int     bufferSize = 0;
     private       long    lineNumber = 0;
     private       boolean eof        = false;
+    private       int     rangeBegin = 0;
+    private       int     rangeLength = 0;
 
     /**
      * @param reader      The reader to read from
@@ -122,8 +124,22 @@ final class ReadBuffer {
      * @throws IOException If there is a problem while reading the input reader.
      */
     String readToString(Trimmer trimmer, int offset, int length) throws IOException {
+        if (!readToRange(trimmer, offset, length))
+            return null;
+        return rangeLength == 0 ? EMPTY_STRING : new String(buffer, rangeBegin, rangeLength);
+    }
+
+    /**
+     * Reads the value of a cell from the reader at the position pointed to by the offset without creating a string.
+     * When successful, the trimmed value can be found within {@link #getBuffer()} at {@link #getRangeBegin()} with
+     * the length {@link #getRangeLength()} until the next call to any read method.
+     * @return False if end of input stream or end of line was reached, true otherwise.
+     * @throws IOException If there is a problem while reading the input reader.
+     */
+    boolean readToRange(Trimmer trimmer, int offset, int length) throws IOException {
+        rangeLength = 0;
         if (length == 0)
-            return EMPTY_STRING;
+            return true;
 
         cursor += offset;
         int required = cursor + length - bufferSize;
@@ -132,7 +148,7 @@ final class ReadBuffer {
             if (loaded < 0) {
                 if (cursor >= bufferSize) {
                     this.eof = true;
-                    return null; // EOF
+                    return false; // EOF
                 }
                 length = bufferSize - cursor; // What remains in buffer.
             }
@@ -140,14 +156,28 @@ final class ReadBuffer {
         final int availableWithinLine = lineEnd - cursor;
         length = Math.min(length, availableWithinLine);
         if (length < 0)
-            return null; //EOL
+            return false; //EOL
         if (length == 0)
-            return EMPTY_STRING;
+            return true;
         final int fieldEnd = cursor + length;
         int cellBegin = trimmer.findBegin(buffer, cursor, fieldEnd);
         int cellEnd = trimmer.findEnd(buffer, cellBegin, fieldEnd);
         cursor = fieldEnd;
-        return new String(buffer, cellBegin, cellEnd - cellBegin);
+        rangeBegin = cellBegin;
+        rangeLength = cellEnd - cellBegin;
+        return true;
+    }
+
+    char[] getBuffer() {
+        return buffer;
+    }
+
+    int getRangeBegin() {
+        return rangeBegin;
+    }
+
+    int getRangeLength() {
+        return rangeLength;
     }
 
 
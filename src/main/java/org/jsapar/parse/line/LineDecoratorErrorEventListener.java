@@ -13,22 +13,37 @@ public class LineDecoratorErrorEventListener implements ErrorEventListener {
 
     private  ErrorEventListener errorListener;
     private       Line               line;
+    private       long               lineNumber;
 
     public LineDecoratorErrorEventListener(){}
 
     public void initialize(ErrorEventListener errorListener, Line line) {
         this.errorListener = errorListener;
         this.line = line;
+        this.lineNumber = line.getLineNumber();
+    }
+
+    /**
+     * Initializes for a line that is parsed without creating a {@link Line} instance. Errors are only decorated with
+     * the line number.
+     * @param errorListener The error listener to forward errors to.
+     * @param lineNumber    The current line number.
+     */
+    public void initialize(ErrorEventListener errorListener, long lineNumber) {
+        this.errorListener = errorListener;
+        this.line = null;
+        this.lineNumber = lineNumber;
     }
 
     @Override
     public void errorEvent(ErrorEvent event) {
         if(event.getError() instanceof CellParseException) {
-            ((CellParseException) event.getError()).setLineNumber(line.getLineNumber());
-            line.addCellError((CellParseException) event.getError());
+            ((CellParseException) event.getError()).setLineNumber(lineNumber);
+            if (line != null)
+                line.addCellError((CellParseException) event.getError());
         }
         else if(event.getError() instanceof LineParseException) {
-            ((LineParseException) event.getError()).setLineNumber(line.getLineNumber());
+            ((LineParseException) event.getError()).setLineNumber(lineNumber);
         }
         errorListener.errorEvent(event);
     }
@@ -0,0 +1,46 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.text.CellCacheStatistics;
+import org.jsapar.utils.cache.CacheStatistics;
+
+/**
+ * Internal access for the parsers to the registration of cell caches within {@link CellCacheStatistics}. The
+ * registration is not part of the public api of {@link CellCacheStatistics}, so it installs the access when it is
+ * loaded, which is always before any instance can be registered to.
+ */
+public final class CellCacheStatisticsAccess {
+
+    /**
+     * Registers the statistics of one cell cache.
+     */
+    @FunctionalInterface
+    public interface Registrar {
+        void register(CellCacheStatistics target, String lineType, String cellName, CacheStatistics statistics);
+    }
+
+    private static volatile Registrar registrar;
+
+    private CellCacheStatisticsAccess() {
+    }
+
+    /**
+     * Called once by {@link CellCacheStatistics} when it is loaded.
+     * @param registrar The registrar to use.
+     */
+    public static void setRegistrar(Registrar registrar) {
+        if (CellCacheStatisticsAccess.registrar != null)
+            throw new IllegalStateException("The registrar is already set");
+        CellCacheStatisticsAccess.registrar = registrar;
+    }
+
+    /**
+     * Registers the statistics of one cell cache.
+     * @param target     The statistics to register to.
+     * @param lineType   The line type of the cell.
+     * @param cellName   The name of the cell.
+     * @param statistics The statistics of the cache.
+     */
+    public static void register(CellCacheStatistics target, String lineType, String cellName, CacheStatistics statistics) {
+        registrar.register(target, lineType, cellName, statistics);
+    }
+}
@@ -0,0 +1,290 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.QuoteSyntax;
+import org.jsapar.schema.Schema;
+import org.jsapar.schema.SchemaLine;
+import org.jsapar.utils.StringUtils;
+
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+/**
+ * Internal class that splits a file into chunks that begin and end on line boundaries so that each chunk can be parsed
+ * independently of the others.
+ * <p>
+ * The file is first divided into raw byte ranges of equal size that are scanned in parallel. Each scan follows the
+ * cell states of the csv line reader within its range: the start of a cell, an unquoted cell, a quoted cell, a found
+ * end quote and the rest of a cell after an end quote. A quote character only begins a quoted cell at the start of a
+ * cell, within an unquoted cell it is part of the value. Since a scan does not know the state at the start of its
+ * range, it follows all states in parallel and counts line separators for each of them. When all scans are done, the
+ * state at the start of each range is known and each chunk is made to begin directly after the first line separator
+ * that is not within quotes. The number of lines before each chunk is then also known.
+ * <p>
+ * Quotes can only be tracked for {@link QuoteSyntax#RFC4180}, where a quote character within a quoted cell is always
+ * escaped, and only if the line separator and the cell separator of all lines are single characters. Otherwise, input
+ * can not be split if any csv line uses quotes since a quoted cell may contain a line separator.
+ */
+final class ChunkSplitter {
+
+    // The cell states of the csv line reader.
+    static final int BEGIN_CELL      = 0;
+    static final int UNQUOTED_CELL   = 1;
+    static final int QUOTED_CELL     = 2;
+    static final int FOUND_END_QUOTE = 3;
+    static final int AFTER_END_QUOTE = 4;
+    static final int STATE_COUNT     = 5;
+
+    private final byte[] lineSeparator;
+    private final int    quoteChar;
+    private final byte   cellSeparator;
+
+    /**
+     * @param lineSeparator The bytes of the line separator.
+     * @param quoteChar     The quote character to consider or -1 if line separators are never quoted.
+     */
+    ChunkSplitter(byte[] lineSeparator, int quoteChar) {
+        this(lineSeparator, quoteChar, (byte) 0);
+    }
+
+    /**
+     * @param lineSeparator The bytes of the line separator. Needs to be a single byte if quoteChar is used.
+     * @param quoteChar     The quote character to consider or -1 if line separators are never quoted.
+     * @param cellSeparator The single byte cell separator of all lines. Only used if quoteChar is used.
+     */
+    ChunkSplitter(byte[] lineSeparator, int quoteChar, byte cellSeparator) {
+        if (quoteChar >= 0 && lineSeparator.length != 1)
+            throw new IllegalArgumentException("Quotes can only be tracked with a single byte line separator");
+        this.lineSeparator = lineSeparator;
+        this.quoteChar = quoteChar;
+        this.cellSeparator = cellSeparator;
+    }
+
+    /**
+     * Creates a chunk splitter for supplied schema and charset if input of that schema can be split into chunks that
+     * can be parsed independently.
+     * @param schema  The schema that will be used while parsing each chunk.
+     * @param charset The charset of the input.
+     * @return A chunk splitter or null if input of this schema can not be split.
+     */
+    static ChunkSplitter of(Schema schema, Charset charset) {
+        String lineSeparator = schema.getLineSeparator();
+        if (!StringUtils.isAsciiTransparent(charset) || !StringUtils.isAscii(lineSeparator))
+            return null;
+        // Each chunk parser needs to be able to parse any line without knowing the lines that came before.
+        if (!schema.stream().allMatch(SchemaLine::isOccursInfinitely))
+            return null;
+        // Both "\n" and "\r\n" are accepted by the parsers as line separator when any of them is configured.
+        if (lineSeparator.equals("\r\n"))
+            lineSeparator = "\n";
+        byte[] separatorBytes = lineSeparator.getBytes(StandardCharsets.US_ASCII);
+        if (!(schema instanceof CsvSchema))
+            return new ChunkSplitter(separatorBytes, -1);
+
+        CsvSchema csvSchema = (CsvSchema) schema;
+        int quoteChar = -1;
+        String cellSeparator = null;
+        for (CsvSchemaLine schemaLine : csvSchema.getSchemaLines()) {
+            if (schemaLine.isFirstLineAsSchema() || !StringUtils.isAscii(schemaLine.getCellSeparator())
+                    || schemaLine.getQuoteChar() >= 0x80)
+                return null;
+            if (!schemaLine.isQuoteCharUsed())
+                continue;
+            if (csvSchema.getQuoteSyntax() != QuoteSyntax.RFC4180)
+                return null; // Line separators within quoted cells can not be found.
+            if (quoteChar >= 0 && quoteChar != schemaLine.getQuoteChar())
+                return null; // Different quote characters for different lines
+            quoteChar = schemaLine.getQuoteChar();
+            if (cellSeparator != null && !cellSeparator.equals(schemaLine.getCellSeparator()))
+                return null; // Different cell separators for different lines
+            cellSeparator = schemaLine.getCellSeparator();
+        }
+        if (quoteChar < 0)
+            return new ChunkSplitter(separatorBytes, -1);
+        // A separator that is split between two ranges would be seen as two different characters by the scans.
+        if (separatorBytes.length != 1 || cellSeparator.length() != 1)
+            return null;
+        return new ChunkSplitter(separatorBytes, quoteChar, (byte) cellSeparator.charAt(0));
+    }
+
+    /**
+     * Splits a file into chunks.
+     * @param path      The file to split.
+     * @param size      The size of the file.
+     * @param chunkSize The approximate size of each chunk.
+     * @param executor  The executor to scan the file with.
+     * @return A list of chunks in the order they occur within the file. Together they cover the whole file.
+     * @throws IOException If reading the file fails.
+     */
+    List<Chunk> split(Path path, long size, long chunkSize, ExecutorService executor) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            List<Future<RangeScan>> scans = new ArrayList<>();
+            for (long start = 0; start < size; start += chunkSize) {
+                final long rangeStart = start;
+                final long rangeEnd = Math.min(size, start + chunkSize);
+                scans.add(executor.submit(() -> scan(channel, rangeStart, rangeEnd, size)));
+            }
+
+            List<Chunk> chunks = new ArrayList<>(scans.size());
+            long chunkStart = 0L;
+            long linesBeforeChunk = 0L;
+            long linesBefore = 0L;
+            int state = BEGIN_CELL;
+            for (int i = 0; i < scans.size(); i++) {
+                RangeScan scan = await(scans.get(i));
+                if (i > 0) {
+                    long boundary = scan.firstLineStart[state];
+                    if (boundary >= 0 && boundary < size) {
+                        chunks.add(new Chunk(chunkStart, boundary, linesBeforeChunk));
+                        chunkStart = boundary;
+                        linesBeforeChunk = linesBefore + 1;
+                    }
+                }
+                linesBefore += scan.separatorCount[state];
+                state = scan.endState[state];
+            }
+            chunks.add(new Chunk(chunkStart, size, linesBeforeChunk));
+            return chunks;
+        }
+    }
+
+    private static RangeScan await(Future<RangeScan> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while splitting input", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException)
+                throw (IOException) e.getCause();
+            throw new IOException("Failed to split input", e.getCause());
+        }
+    }
+
+    /**
+     * Scans a range of the file. Line separators that begins within the range are counted, even if they end after it.
+     */
+    RangeScan scan(FileChannel channel, long start, long end, long size) throws IOException {
+        final int separatorLength = lineSeparator.length;
+        final long mapEnd = Math.min(size, end + separatorLength - 1);
+        final MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, mapEnd - start);
+        final int length = (int) (end - start);
+        if (quoteChar >= 0)
+            return scanQuoted(buffer, start, length);
+
+        final int mappedLength = (int) (mapEnd - start);
+        final byte firstSeparatorByte = lineSeparator[0];
+        RangeScan scan = new RangeScan();
+        for (int i = 0; i < length; i++) {
+            if (buffer.get(i) == firstSeparatorByte && separatorAt(buffer, i, mappedLength)) {
+                scan.separatorCount[BEGIN_CELL]++;
+                if (scan.firstLineStart[BEGIN_CELL] < 0)
+                    scan.firstLineStart[BEGIN_CELL] = start + i + separatorLength;
+                i += separatorLength - 1;
+            }
+        }
+        return scan;
+    }
+
+    /**
+     * Scans a range of the file for each of the states that the range may begin with. The line separator and the
+     * cell separator are single bytes.
+     */
+    private RangeScan scanQuoted(MappedByteBuffer buffer, long start, int length) {
+        final byte quote = (byte) quoteChar;
+        final byte separator = lineSeparator[0];
+        final byte cellSeparator = this.cellSeparator;
+        final int[] states = new int[STATE_COUNT];
+        for (int s = 0; s < STATE_COUNT; s++)
+            states[s] = s;
+        RangeScan scan = new RangeScan();
+        for (int i = 0; i < length; i++) {
+            final byte b = buffer.get(i);
+            for (int s = 0; s < STATE_COUNT; s++) {
+                final int state = states[s];
+                if (b == quote) {
+                    states[s] = afterQuote(state);
+                } else if (state == QUOTED_CELL) {
+                    continue;
+                } else if (b == separator) {
+                    scan.separatorCount[s]++;
+                    if (scan.firstLineStart[s] < 0)
+                        scan.firstLineStart[s] = start + i + 1;
+                    states[s] = BEGIN_CELL;
+                } else if (b == cellSeparator) {
+                    states[s] = BEGIN_CELL;
+                } else if (state == BEGIN_CELL) {
+                    states[s] = UNQUOTED_CELL;
+                } else if (state == FOUND_END_QUOTE) {
+                    states[s] = AFTER_END_QUOTE;
+                }
+            }
+        }
+        System.arraycopy(states, 0, scan.endState, 0, STATE_COUNT);
+        return scan;
+    }
+
+    /**
+     * @param state The current state.
+     * @return The state after a quote character in the same way as within the csv line reader. A quote within an
+     * unquoted cell is part of the value.
+     */
+    private static int afterQuote(int state) {
+        switch (state) {
+        case BEGIN_CELL:
+        case FOUND_END_QUOTE:
+            return QUOTED_CELL; // Begins a quoted cell or is an escaped quote within a quoted cell.
+        case QUOTED_CELL:
+        case AFTER_END_QUOTE:
+            return FOUND_END_QUOTE;
+        default:
+            return state;
+        }
+    }
+
+    private boolean separatorAt(MappedByteBuffer buffer, int position, int mappedLength) {
+        if (position + lineSeparator.length > mappedLength)
+            return false;
+        for (int i = 1; i < lineSeparator.length; i++) {
+            if (buffer.get(position + i) != lineSeparator[i])
+                return false;
+        }
+        return true;
+    }
+
+    /**
+     * Result of scanning one range. Arrays are indexed by the state at the start of the range. Without quotes, the
+     * state is always {@link #BEGIN_CELL} at the start of a range.
+     */
+    static final class RangeScan {
+        final long[] separatorCount = new long[STATE_COUNT];
+        final long[] firstLineStart = {-1L, -1L, -1L, -1L, -1L};
+        final int[]  endState       = new int[STATE_COUNT];
+    }
+
+    /**
+     * A part of a file that begins and ends on line boundaries.
+     */
+    static final class Chunk {
+        final long start;
+        final long end;
+        final long linesBefore;
+
+        Chunk(long start, long end, long linesBefore) {
+            this.start = start;
+            this.end = end;
+            this.linesBefore = linesBefore;
+        }
+    }
+}
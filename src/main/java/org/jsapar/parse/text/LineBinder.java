@@ -0,0 +1,57 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.error.ErrorEventListener;
+import org.jsapar.model.Cell;
+
+/**
+ * Internal interface for receiving the cells of a line directly while the line is parsed, without creating a
+ * {@link org.jsapar.model.Line} and without sending a {@link org.jsapar.parse.LineParsedEvent}. Cells are identified by
+ * their position within the {@link org.jsapar.model.CellIndex} that the binder was created for.
+ * <p>
+ * For each line, {@link #beginLine()} is called first. Then the cells are assigned and finally {@link #endLine()} is
+ * called if the line was successfully parsed. If the line fails to parse, {@link #endLine()} is not called and the next
+ * line starts with a new call to {@link #beginLine()}.
+ *
+ * @see LineBinderProvider
+ */
+public interface LineBinder {
+
+    /**
+     * Called before any cell of a line is assigned.
+     *
+     * @return False if this line can not be bound directly. The line should then be parsed into a
+     * {@link org.jsapar.model.Line} and sent as an event to the line event listener as usual.
+     */
+    boolean beginLine();
+
+    /**
+     * @param index The position of the cell within the cell index.
+     * @return True if a cell at supplied position can be assigned by {@link #assignText(int, String, ErrorEventListener)}
+     * when the schema states that the text of the cell needs no parsing.
+     */
+    boolean isTextAssignable(int index);
+
+    /**
+     * Assigns a parsed cell.
+     *
+     * @param index         The position of the cell within the cell index.
+     * @param cell          The parsed cell.
+     * @param errorListener Receives an error event if the cell could not be assigned.
+     */
+    void assignCell(int index, Cell cell, ErrorEventListener errorListener);
+
+    /**
+     * Assigns the text of a cell as is, without parsing it into a cell first. Only called for positions where
+     * {@link #isTextAssignable(int)} returns true and only for non-empty text.
+     *
+     * @param index         The position of the cell within the cell index.
+     * @param text          The text of the cell.
+     * @param errorListener Receives an error event if the text could not be assigned.
+     */
+    void assignText(int index, String text, ErrorEventListener errorListener);
+
+    /**
+     * Called when all cells of a line have been assigned.
+     */
+    void endLine();
+}
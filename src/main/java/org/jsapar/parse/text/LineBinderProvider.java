@@ -0,0 +1,21 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.model.CellIndex;
+import org.jsapar.parse.LineEventListener;
+
+/**
+ * Internal interface for line event listeners that can receive the cells of some line types directly while they are
+ * parsed. The text parsers ask for a {@link LineBinder} for each type of line. Lines of types where no binder is
+ * provided are sent as {@link org.jsapar.parse.LineParsedEvent} to this listener as usual.
+ */
+public interface LineBinderProvider extends LineEventListener {
+
+    /**
+     * @param lineType  The line type.
+     * @param cellIndex The cell index that is used for lines of this type. Cells are assigned to the binder by their
+     *                  position within this index.
+     * @return A binder that receives the cells of lines of supplied type or null if lines of this type should be sent
+     * as line events.
+     */
+    LineBinder lineBinderOf(String lineType, CellIndex cellIndex);
+}
@@ -0,0 +1,144 @@
+package org.jsapar.parse.text;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Input stream that reads a file by memory mapping it instead of reading it through the file system read calls. Since a
+ * single mapping cannot exceed 2GB, the file is mapped in windows that are slided forward through the file as it is
+ * read. Only one window is mapped at a time.
+ * <p>
+ * The stream is intended for sequential reading of large files. For small files, a regular buffered file input stream
+ * is usually just as fast.
+ * <p>
+ * Note that the bytes are still copied from the mapped window into the array supplied to
+ * {@link #read(byte[], int, int)}, so compared to a regular file input stream, mapping saves the read system calls but
+ * not the copying. Also note that a window that is no longer used is not unmapped when the next window is mapped or
+ * when the stream is closed. The mapping is released first when the window is garbage collected, so the virtual
+ * memory that is used may be larger than the window size.
+ */
+public final class MappedFileInputStream extends InputStream {
+
+    /**
+     * The default size of each mapped window, 64MB.
+     */
+    public static final long DEFAULT_WINDOW_SIZE = 64L * 1024L * 1024L;
+
+    private final FileChannel      channel;
+    private final long             end;
+    private final long             windowSize;
+    private       long             windowStart;
+    private       MappedByteBuffer window;
+
+    /**
+     * Opens the file and creates an input stream that maps it using the default window size.
+     * @param path The path of the file to read.
+     * @throws IOException If the file could not be opened.
+     */
+    public MappedFileInputStream(Path path) throws IOException {
+        this(path, DEFAULT_WINDOW_SIZE);
+    }
+
+    /**
+     * Opens the file and creates an input stream that maps it using the supplied window size.
+     * @param path The path of the file to read.
+     * @param windowSize The maximum number of bytes to map at a time. Must be between 1 and {@link Integer#MAX_VALUE}.
+     * @throws IOException If the file could not be opened.
+     */
+    public MappedFileInputStream(Path path, long windowSize) throws IOException {
+        this(path, 0L, Long.MAX_VALUE, windowSize);
+    }
+
+    /**
+     * Opens the file and creates an input stream that maps and reads only a part of it.
+     * @param path The path of the file to read.
+     * @param position The position within the file to start reading from.
+     * @param length The maximum number of bytes to read. Reading stops at end of file if that occurs first.
+     * @param windowSize The maximum number of bytes to map at a time. Must be between 1 and {@link Integer#MAX_VALUE}.
+     * @throws IOException If the file could not be opened.
+     */
+    public MappedFileInputStream(Path path, long position, long length, long windowSize) throws IOException {
+        if (windowSize <= 0 || windowSize > Integer.MAX_VALUE)
+            throw new IllegalArgumentException("Window size needs to be between 1 and " + Integer.MAX_VALUE);
+        if (position < 0 || length < 0)
+            throw new IllegalArgumentException("Position and length can not be negative");
+        this.windowSize = windowSize;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ);
+        long size = channel.size();
+        this.windowStart = Math.min(position, size);
+        this.end = length > size - windowStart ? size : windowStart + length;
+    }
+
+    /**
+     * Makes sure that there is a window with remaining bytes, mapping the next window if needed.
+     * @return False if end of file was reached, true otherwise.
+     * @throws IOException If mapping fails.
+     */
+    private boolean ensureWindow() throws IOException {
+        if (window != null) {
+            if (window.hasRemaining())
+                return true;
+            windowStart += window.capacity();
+            window = null;
+        }
+        if (windowStart >= end)
+            return false;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, windowStart, Math.min(windowSize, end - windowStart));
+        return true;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (!ensureWindow())
+            return -1;
+        return window.get() & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0)
+            return 0;
+        if (!ensureWindow())
+            return -1;
+        int count = Math.min(len, window.remaining());
+        window.get(b, off, count);
+        return count;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        if (n <= 0 || !ensureWindow())
+            return 0L;
+        long position = windowStart + window.position();
+        long skipped = Math.min(n, end - position);
+        long inWindow = window.remaining();
+        if (skipped < inWindow) {
+            window.position(window.position() + (int) skipped);
+        } else {
+            windowStart = position + skipped;
+            window = null;
+        }
+        return skipped;
+    }
+
+    @Override
+    public int available() throws IOException {
+        if (!ensureWindow())
+            return 0;
+        return window.remaining();
+    }
+
+    /**
+     * Closes the underlying file channel. The mapped window is released when it is garbage collected.
+     * @throws IOException If closing the channel fails.
+     */
+    @Override
+    public void close() throws IOException {
+        window = null;
+        channel.close();
+    }
+}
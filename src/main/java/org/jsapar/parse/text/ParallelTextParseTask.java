@@ -0,0 +1,245 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.error.ErrorEvent;
+import org.jsapar.error.ErrorEventListener;
+import org.jsapar.parse.AbstractParseTask;
+import org.jsapar.parse.LineEventListener;
+import org.jsapar.parse.LineParseException;
+import org.jsapar.parse.LineParsedEvent;
+import org.jsapar.parse.ParseTask;
+import org.jsapar.schema.Schema;
+import org.jsapar.text.TextParseConfig;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EventObject;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+
+/**
+ * Parses a file by splitting it into chunks that are parsed in parallel on a {@link ForkJoinPool}. Each chunk begins
+ * and ends on a line boundary. For csv with {@link org.jsapar.schema.QuoteSyntax#RFC4180}, line separators within
+ * quoted cells are taken into account when splitting. Line numbers of parsed lines and of errors are the same as if the
+ * file was parsed sequentially.
+ * <p>
+ * Events can be delivered either in the order of the lines within the file or unordered, as soon as each line is parsed.
+ * <ul>
+ * <li>Ordered - All events are delivered by the thread that calls {@link #execute()}. Parsed lines of chunks that are not
+ * yet to be delivered are kept in memory but at most two chunks per thread of the pool are parsed ahead.</li>
+ * <li>Unordered - Events are delivered directly by the threads of the pool, concurrently. The line event listener and
+ * the error event listener need to be thread safe.</li>
+ * </ul>
+ * In order to be able to parse any chunk independently of the others, all line types of the schema need to occur an
+ * infinite number of times, no csv line can use the first line as schema and the charset needs to be ASCII transparent,
+ * for instance UTF-8 or ISO-8859-1. Csv lines with a quote character also require quote syntax RFC4180. If that is not
+ * the case, or if the file is not larger than the chunk size, the file is parsed sequentially and all events are
+ * delivered by the calling thread.
+ *
+ * @see org.jsapar.TextParser#parseParallel(Path, Charset, LineEventListener, boolean)
+ * @see ChunkSplitter
+ */
+public class ParallelTextParseTask extends AbstractParseTask implements ParseTask {
+
+    /**
+     * The default approximate size of each chunk, 16MB.
+     */
+    public static final long DEFAULT_CHUNK_SIZE = 16L * 1024L * 1024L;
+    private static final long MAX_CHUNK_SIZE = 1024L * 1024L * 1024L;
+
+    private final Schema          schema;
+    private final Path            path;
+    private final Charset         charset;
+    private final TextParseConfig parseConfig;
+    private final boolean         ordered;
+    private       long            chunkSize = DEFAULT_CHUNK_SIZE;
+    private       ForkJoinPool    pool      = ForkJoinPool.commonPool();
+
+    /**
+     * @param schema      The schema to use while parsing.
+     * @param path        The file to parse.
+     * @param charset     The charset of the file.
+     * @param parseConfig The parse configuration.
+     * @param ordered     If true, events are delivered in the order of the lines within the file by the calling thread.
+     *                    If false, events are delivered concurrently by the threads of the pool.
+     */
+    public ParallelTextParseTask(Schema schema, Path path, Charset charset, TextParseConfig parseConfig, boolean ordered) {
+        this.schema = schema;
+        this.path = path;
+        this.charset = charset;
+        this.parseConfig = parseConfig;
+        this.ordered = ordered;
+    }
+
+    /**
+     * @param chunkSize The approximate size in bytes of each chunk. Between 1 byte and 1GB. Default is 16MB.
+     */
+    public void setChunkSize(long chunkSize) {
+        if (chunkSize <= 0 || chunkSize > MAX_CHUNK_SIZE)
+            throw new IllegalArgumentException("Chunk size needs to be between 1 and " + MAX_CHUNK_SIZE);
+        this.chunkSize = chunkSize;
+    }
+
+    public long getChunkSize() {
+        return chunkSize;
+    }
+
+    /**
+     * @param pool The pool to parse chunks with. Default is {@link ForkJoinPool#commonPool()}.
+     */
+    public void setPool(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    public ForkJoinPool getPool() {
+        return pool;
+    }
+
+    /**
+     * Parses the file. Returns when all of the file has been parsed and, if ordered, all events have been delivered.
+     * @return Number of parsed lines.
+     * @throws IOException If there is an error reading the file.
+     */
+    @Override
+    public long execute() throws IOException {
+        long size = Files.size(path);
+        ChunkSplitter splitter = ChunkSplitter.of(schema, charset);
+        if (splitter == null || size <= chunkSize)
+            return executeSequential();
+        List<ChunkSplitter.Chunk> chunks = splitter.split(path, size, chunkSize, pool);
+        return ordered ? executeOrdered(chunks) : executeUnordered(chunks);
+    }
+
+    private long executeSequential() throws IOException {
+        try (TextParseTask parseTask = new TextParseTask(schema, new MappedFileInputStream(path), charset, parseConfig)) {
+            parseTask.setLineEventListener(this);
+            parseTask.setErrorEventListener(this);
+            return parseTask.execute();
+        }
+    }
+
+    private long executeOrdered(List<ChunkSplitter.Chunk> chunks) throws IOException {
+        final int maxInFlight = 2 * pool.getParallelism();
+        Deque<ChunkParseTask> inFlight = new ArrayDeque<>(maxInFlight);
+        Iterator<ChunkSplitter.Chunk> itChunk = chunks.iterator();
+        long count = 0L;
+        try {
+            while (itChunk.hasNext() && inFlight.size() < maxInFlight)
+                inFlight.add(submit(itChunk.next(), true));
+            while (!inFlight.isEmpty()) {
+                ChunkParseTask chunkTask = inFlight.poll();
+                count += await(chunkTask.future);
+                if (itChunk.hasNext())
+                    inFlight.add(submit(itChunk.next(), true));
+                chunkTask.deliver();
+            }
+        } finally {
+            inFlight.forEach(t -> t.future.cancel(true));
+        }
+        return count;
+    }
+
+    private long executeUnordered(List<ChunkSplitter.Chunk> chunks) throws IOException {
+        List<ChunkParseTask> tasks = new ArrayList<>(chunks.size());
+        long count = 0L;
+        try {
+            for (ChunkSplitter.Chunk chunk : chunks)
+                tasks.add(submit(chunk, false));
+            for (ChunkParseTask chunkTask : tasks)
+                count += await(chunkTask.future);
+        } finally {
+            tasks.forEach(t -> t.future.cancel(true));
+        }
+        return count;
+    }
+
+    private ChunkParseTask submit(ChunkSplitter.Chunk chunk, boolean recordEvents) {
+        ChunkParseTask chunkTask = new ChunkParseTask(chunk, recordEvents);
+        chunkTask.future = pool.submit(chunkTask);
+        return chunkTask;
+    }
+
+    private static long await(Future<Long> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while parsing", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException)
+                throw (IOException) cause;
+            if (cause instanceof RuntimeException)
+                throw (RuntimeException) cause;
+            if (cause instanceof Error)
+                throw (Error) cause;
+            throw new IOException("Failed to parse chunk", cause);
+        }
+    }
+
+    /**
+     * Parses one chunk. Adjusts line numbers of lines and errors so that they are relative to the start of the file.
+     * Events are either recorded for later delivery or delivered directly.
+     */
+    private final class ChunkParseTask implements Callable<Long>, LineEventListener, ErrorEventListener {
+        private final ChunkSplitter.Chunk chunk;
+        private final List<EventObject>   events;
+        private       Future<Long>        future;
+
+        ChunkParseTask(ChunkSplitter.Chunk chunk, boolean recordEvents) {
+            this.chunk = chunk;
+            this.events = recordEvents ? new ArrayList<>() : null;
+        }
+
+        @Override
+        public Long call() throws IOException {
+            try (InputStream inputStream = new MappedFileInputStream(path, chunk.start, chunk.end - chunk.start,
+                    MappedFileInputStream.DEFAULT_WINDOW_SIZE)) {
+                return TextParseTask.makeSchemaParser(schema, inputStream, charset, parseConfig).parse(this, this);
+            }
+        }
+
+        @Override
+        public void lineParsedEvent(LineParsedEvent event) {
+            event.getLine().setLineNumber(event.getLine().getLineNumber() + chunk.linesBefore);
+            if (events != null)
+                events.add(event);
+            else
+                ParallelTextParseTask.this.lineParsedEvent(event);
+        }
+
+        @Override
+        public void errorEvent(ErrorEvent event) {
+            if (event.getError() instanceof LineParseException) {
+                LineParseException error = (LineParseException) event.getError();
+                error.setLineNumber(error.getLineNumber() + chunk.linesBefore);
+            }
+            if (events != null)
+                events.add(event);
+            else
+                ParallelTextParseTask.this.errorEvent(event);
+        }
+
+        /**
+         * Delivers recorded events.
+         */
+        void deliver() {
+            for (EventObject event : events) {
+                if (event instanceof LineParsedEvent)
+                    ParallelTextParseTask.this.lineParsedEvent((LineParsedEvent) event);
+                else
+                    ParallelTextParseTask.this.errorEvent((ErrorEvent) event);
+            }
+            events.clear();
+        }
+    }
+}
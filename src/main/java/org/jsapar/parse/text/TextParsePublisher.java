@@ -0,0 +1,168 @@
+package org.jsapar.parse.text;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.Flow;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+/**
+ * Internal publisher that parses text lazily, one line at a time, according to the demand of its subscriber. Lines
+ * are parsed by the thread that calls {@link Flow.Subscription#request(long)} so no extra thread is involved. Parsing
+ * stops when there is no more demand and continues upon next request. When the subscription is cancelled, when all
+ * of the input is parsed or when an error occurs, the underlying input is closed.
+ * <p>
+ * Since the input can only be read once, only one subscriber is allowed. Any further subscriber receives an
+ * {@link IllegalStateException} through its onError method.
+ *
+ * @param <T> The type of the items that are published.
+ */
+public class TextParsePublisher<T> implements Flow.Publisher<T> {
+
+    private final TextParseTask           parseTask;
+    private final Consumer<Consumer<T>>   connector;
+    private final AtomicBoolean           subscribed = new AtomicBoolean(false);
+
+    /**
+     * @param parseTask The parse task to parse lines with.
+     * @param connector Called once when subscribed with a consumer that publishes items. Needs to connect the listeners
+     *                  of the parse task so that items that are produced while parsing are sent to that consumer.
+     */
+    public TextParsePublisher(TextParseTask parseTask, Consumer<Consumer<T>> connector) {
+        this.parseTask = parseTask;
+        this.connector = connector;
+    }
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super T> subscriber) {
+        Objects.requireNonNull(subscriber, "Subscriber can not be null");
+        if (!subscribed.compareAndSet(false, true)) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                @Override
+                public void request(long n) {
+                }
+
+                @Override
+                public void cancel() {
+                }
+            });
+            subscriber.onError(new IllegalStateException("The input can only be parsed once so only one subscriber is allowed"));
+            return;
+        }
+        ParseSubscription subscription = new ParseSubscription(subscriber);
+        connector.accept(subscription.produced::add);
+        subscriber.onSubscribe(subscription);
+    }
+
+    private final class ParseSubscription implements Flow.Subscription {
+        private final Flow.Subscriber<? super T> subscriber;
+        // Items that were produced by parsing one line but that are not yet requested.
+        private final Queue<T>      produced = new ArrayDeque<>();
+        private final AtomicLong    demand   = new AtomicLong();
+        private final AtomicInteger wip      = new AtomicInteger();
+        private volatile boolean    cancelled = false;
+        private volatile Throwable  invalidRequest;
+        private boolean             exhausted = false;
+        private boolean             done      = false;
+
+        private ParseSubscription(Flow.Subscriber<? super T> subscriber) {
+            this.subscriber = subscriber;
+        }
+
+        @Override
+        public void request(long n) {
+            if (n <= 0)
+                invalidRequest = new IllegalArgumentException("Requested number of items needs to be positive but was " + n);
+            else
+                demand.getAndUpdate(d -> d + n < 0 ? Long.MAX_VALUE : d + n);
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            drain();
+        }
+
+        /**
+         * Delivers and parses as long as there is demand. Only one thread at a time runs the loop. Calls made by other
+         * threads, or recursively from within the subscriber, are handled by the thread that is already running it.
+         */
+        private void drain() {
+            if (wip.getAndIncrement() != 0)
+                return;
+            int missed = 1;
+            do {
+                try {
+                    deliver();
+                } catch (RuntimeException | Error e) {
+                    // Thrown by the subscriber.
+                    done = true;
+                    closeInput();
+                    wip.set(0);
+                    throw e;
+                }
+                missed = wip.addAndGet(-missed);
+            } while (missed != 0);
+        }
+
+        private void deliver() {
+            while (!done) {
+                if (cancelled) {
+                    done = true;
+                    produced.clear();
+                    closeInput();
+                    return;
+                }
+                if (invalidRequest != null) {
+                    fail(invalidRequest);
+                    return;
+                }
+                T item = produced.peek();
+                if (item != null) {
+                    if (demand.get() == 0L)
+                        return;
+                    produced.poll();
+                    if (demand.get() != Long.MAX_VALUE)
+                        demand.decrementAndGet();
+                    subscriber.onNext(item);
+                    continue;
+                }
+                if (exhausted) {
+                    done = true;
+                    closeInput();
+                    subscriber.onComplete();
+                    return;
+                }
+                if (demand.get() == 0L)
+                    return;
+                try {
+                    if (!parseTask.executeNext())
+                        exhausted = true;
+                } catch (Exception e) {
+                    fail(e);
+                    return;
+                }
+            }
+        }
+
+        private void fail(Throwable e) {
+            done = true;
+            produced.clear();
+            closeInput();
+            subscriber.onError(e);
+        }
+
+        private void closeInput() {
+            try {
+                parseTask.close();
+            } catch (IOException e) {
+                // Nothing more to do about it since the input is not read any more.
+            }
+        }
+    }
+}
@@ -0,0 +1,64 @@
+package org.jsapar.parse.text;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.function.Consumer;
+
+/**
+ * Internal spliterator that parses text lazily, one line at a time, each time a new item is needed. When split for a
+ * parallel stream, a batch of items is parsed by the calling thread and handed over as an array to be processed by
+ * other threads. Parsing itself is always sequential.
+ * <p>
+ * IO errors are thrown as {@link UncheckedIOException}.
+ *
+ * @param <T> The type of the items.
+ */
+public class TextParseSpliterator<T> extends Spliterators.AbstractSpliterator<T> {
+
+    private final TextParseTask parseTask;
+    // Items that were produced by parsing one line but that are not yet consumed.
+    private final Queue<T>      produced  = new ArrayDeque<>();
+    private       boolean       exhausted = false;
+
+    /**
+     * @param parseTask The parse task to parse lines with.
+     * @param connector Called once with a consumer of items. Needs to connect the listeners of the parse task so that
+     *                  items that are produced while parsing are sent to that consumer.
+     */
+    public TextParseSpliterator(TextParseTask parseTask, Consumer<Consumer<T>> connector) {
+        super(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL);
+        this.parseTask = parseTask;
+        connector.accept(produced::add);
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super T> action) {
+        try {
+            while (produced.isEmpty()) {
+                if (exhausted || !parseTask.executeNext()) {
+                    exhausted = true;
+                    return false;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        action.accept(produced.poll());
+        return true;
+    }
+
+    /**
+     * Closes the input of the parse task.
+     */
+    public void close() {
+        try {
+            parseTask.close();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
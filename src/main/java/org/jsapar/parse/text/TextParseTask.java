@@ -1,13 +1,19 @@
 package org.jsapar.parse.text;
 
+import org.jsapar.model.CellIndex;
 import org.jsapar.parse.AbstractParseTask;
 import org.jsapar.parse.LineEventListener;
 import org.jsapar.parse.ParseTask;
+import org.jsapar.parse.csv.CsvParser;
+import org.jsapar.schema.CsvSchema;
 import org.jsapar.schema.Schema;
 import org.jsapar.text.TextParseConfig;
 
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
 import java.io.Reader;
+import java.nio.charset.Charset;
 
 /**
  * This class is used for a one-off parsing of a text source. You create an instance of this class, calls execute, then dispose it.. <br>
@@ -23,11 +29,14 @@ import java.io.Reader;
  * @see org.jsapar.TextParser
  * @see ParseTask
  */
-public class TextParseTask extends AbstractParseTask implements ParseTask, AutoCloseable {
+public class TextParseTask extends AbstractParseTask implements ParseTask, LineBinderProvider, AutoCloseable {
 
     private final Schema          schema;
     private final Reader          reader;
+    private final InputStream     inputStream;
+    private final Charset         charset;
     private final TextParseConfig parseConfig;
+    private       TextSchemaParser schemaParser;
 
     public TextParseTask(Schema schema, Reader reader) {
         this(schema, reader, new TextParseConfig());
@@ -36,6 +45,24 @@ public class TextParseTask extends AbstractParseTask implements ParseTask, AutoC
     public TextParseTask(Schema schema, Reader reader, TextParseConfig parseConfig) {
         this.schema = schema;
         this.reader = reader;
+        this.inputStream = null;
+        this.charset = null;
+        this.parseConfig = parseConfig;
+    }
+
+    /**
+     * Creates a parse task that reads bytes from an input stream. Depending on schema and charset, the parser may scan
+     * the bytes directly instead of decoding all of the input to characters first.
+     * @param schema The schema to use while parsing.
+     * @param inputStream The input stream to read from.
+     * @param charset The charset of the input.
+     * @param parseConfig The parse configuration.
+     */
+    public TextParseTask(Schema schema, InputStream inputStream, Charset charset, TextParseConfig parseConfig) {
+        this.schema = schema;
+        this.reader = null;
+        this.inputStream = inputStream;
+        this.charset = charset;
         this.parseConfig = parseConfig;
     }
 
@@ -50,15 +77,65 @@ public class TextParseTask extends AbstractParseTask implements ParseTask, AutoC
      */
     @Override
     public long execute() throws IOException {
-        return schema.makeSchemaParser(reader, parseConfig).parse(this, this);
+        return getSchemaParser().parse(this, this);
+    }
+
+    /**
+     * Parses the next line of the input. If the line is successfully parsed, a LineParsedEvent is generated to the
+     * registered line event listener. Makes it possible to parse lazily, one line at a time, instead of parsing all of
+     * the input by calling {@link #execute()}.
+     *
+     * @return False if there was nothing more to parse.
+     * @throws IOException If there is an error reading the input
+     */
+    public boolean executeNext() throws IOException {
+        return getSchemaParser().parseNext(this, this);
+    }
+
+    /**
+     * Lets the parser assign cells directly if the line event listener is a {@link LineBinderProvider}.
+     */
+    @Override
+    public LineBinder lineBinderOf(String lineType, CellIndex cellIndex) {
+        LineEventListener lineEventListener = getLineEventListener();
+        return lineEventListener instanceof LineBinderProvider
+                ? ((LineBinderProvider) lineEventListener).lineBinderOf(lineType, cellIndex)
+                : null;
+    }
+
+    private TextSchemaParser getSchemaParser() {
+        if (schemaParser == null)
+            schemaParser = reader != null
+                    ? schema.makeSchemaParser(reader, parseConfig)
+                    : makeSchemaParser(schema, inputStream, charset, parseConfig);
+        return schemaParser;
+    }
+
+    /**
+     * Creates a schema parser that reads from an input stream. The bytes of csv input are scanned directly, without
+     * decoding them to characters first, if the charset and the separators of the schema allows it. All other input is
+     * decoded by an {@link InputStreamReader}.
+     * @param schema      The schema to use.
+     * @param inputStream The input stream to use for the parser.
+     * @param charset     The charset of the input stream.
+     * @param parseConfig Current parse configuration.
+     * @return A schema based text parser.
+     */
+    static TextSchemaParser makeSchemaParser(Schema schema, InputStream inputStream, Charset charset, TextParseConfig parseConfig) {
+        if (schema instanceof CsvSchema)
+            return new CsvParser(inputStream, charset, (CsvSchema) schema, parseConfig);
+        return schema.makeSchemaParser(new InputStreamReader(inputStream, charset), parseConfig);
     }
 
     /**
-     * Closes the attached reader
+     * Closes the attached reader or input stream.
      * @throws IOException In case of error while closing.
      */
     @Override
     public void close() throws IOException {
-        reader.close();
+        if(reader != null)
+            reader.close();
+        else
+            inputStream.close();
     }
 }
@@ -23,4 +23,15 @@ public interface TextSchemaParser {
      */
     long parse(LineEventListener listener, ErrorEventListener errorListener) throws IOException;
 
+    /**
+     * Parses the next line of the input, if any, and sends events for it to the supplied listeners. Makes it possible
+     * to parse one line at a time. Lines that are skipped or that fail to parse do not cause any line event.
+     *
+     * @param listener      The {@link LineEventListener} which will receive an event if a line is parsed.
+     * @param errorListener The {@link ErrorEventListener} that will receive events for each error.
+     * @return False if there was nothing more to parse.
+     * @throws IOException If there is an error reading from the input reader.
+     */
+    boolean parseNext(LineEventListener listener, ErrorEventListener errorListener) throws IOException;
+
 }
@@ -25,7 +25,7 @@ import java.util.stream.Stream;
  * are used when formatting.
  *
  */
-public class BooleanFormat extends Format {
+public class BooleanFormat extends Format implements DirectFormat {
 
     private String trueValue;
     private String falseValue;
@@ -127,6 +127,21 @@ public class BooleanFormat extends Format {
         return value ? trueValue : falseValue;
     }
 
+    /**
+     * Appends the string value that represents a boolean value.
+     *
+     * @param value  The value to format.
+     * @param target The target to append to.
+     * @return True if the value was a boolean value, false otherwise.
+     */
+    @Override
+    public boolean formatDirect(Object value, StringBuilder target) {
+        if (!(value instanceof Boolean))
+            return false;
+        target.append((Boolean) value ? trueValue : falseValue);
+        return true;
+    }
+
     /* (non-Javadoc)
      * @see java.text.Format#parseObject(java.lang.String, java.text.ParsePosition)
      */
@@ -0,0 +1,111 @@
+package org.jsapar.text;
+
+import org.jsapar.parse.text.CellCacheStatisticsAccess;
+import org.jsapar.utils.cache.CacheStatistics;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Collects statistics of the cell cache for each cell while parsing. Use it to tune
+ * {@link TextParseConfig#setMaxCellCacheSize(int)}, for instance to see if columns with few distinct values, like
+ * currency codes or status flags, are served from cache.
+ * <p>
+ * Assign an instance with {@link TextParseConfig#setCellCacheStatistics(CellCacheStatistics)} before parsing and read
+ * the counters when parsing is done. If the same line type is parsed by several parsers, for instance while parsing in
+ * parallel, the counters of all parsers are summed.
+ */
+public class CellCacheStatistics {
+
+    static {
+        CellCacheStatisticsAccess.setRegistrar(CellCacheStatistics::register);
+    }
+
+    private final Map<String, Map<String, List<CacheStatistics>>> statisticsByLineType = new LinkedHashMap<>();
+
+    /**
+     * Creates an instance without any statistics. Statistics are added while parsing with a
+     * {@link TextParseConfig} that this instance is assigned to.
+     */
+    public CellCacheStatistics() {
+    }
+
+    /**
+     * Registers the statistics of one cell cache. Called by the parsers through {@link CellCacheStatisticsAccess}.
+     * @param lineType   The line type of the cell.
+     * @param cellName   The name of the cell.
+     * @param statistics The statistics of the cache.
+     */
+    synchronized void register(String lineType, String cellName, CacheStatistics statistics) {
+        statisticsByLineType.computeIfAbsent(lineType, k -> new LinkedHashMap<>())
+                .computeIfAbsent(cellName, k -> new ArrayList<>())
+                .add(statistics);
+    }
+
+    /**
+     * @return The line types that statistics have been collected for.
+     */
+    public synchronized Set<String> getLineTypes() {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(statisticsByLineType.keySet()));
+    }
+
+    /**
+     * @param lineType The line type.
+     * @return The names of the cells of supplied line type that statistics have been collected for.
+     */
+    public synchronized Set<String> getCellNames(String lineType) {
+        return Collections.unmodifiableSet(new LinkedHashSet<>(
+                statisticsByLineType.getOrDefault(lineType, Collections.emptyMap()).keySet()));
+    }
+
+    /**
+     * @param lineType The line type.
+     * @param cellName The name of the cell.
+     * @return Number of cell values that were found in cache.
+     */
+    public long getHits(String lineType, String cellName) {
+        return sum(lineType, cellName, CacheStatistics::getHits);
+    }
+
+    /**
+     * @param lineType The line type.
+     * @param cellName The name of the cell.
+     * @return Number of cell values that were not found in cache.
+     */
+    public long getMisses(String lineType, String cellName) {
+        return sum(lineType, cellName, CacheStatistics::getMisses);
+    }
+
+    /**
+     * @param lineType The line type.
+     * @param cellName The name of the cell.
+     * @return Number of cached cell values that were discarded to give room for new values.
+     */
+    public long getEvictions(String lineType, String cellName) {
+        return sum(lineType, cellName, CacheStatistics::getEvictions);
+    }
+
+    private synchronized long sum(String lineType, String cellName, ToLongFunction<CacheStatistics> counter) {
+        return statisticsByLineType.getOrDefault(lineType, Collections.emptyMap())
+                .getOrDefault(cellName, Collections.emptyList())
+                .stream().mapToLong(counter).sum();
+    }
+
+    @Override
+    public synchronized String toString() {
+        StringBuilder sb = new StringBuilder();
+        statisticsByLineType.forEach((lineType, cells) -> cells.keySet().forEach(cellName ->
+                sb.append(lineType).append('.').append(cellName)
+                        .append(": hits=").append(getHits(lineType, cellName))
+                        .append(", misses=").append(getMisses(lineType, cellName))
+                        .append(", evictions=").append(getEvictions(lineType, cellName))
+                        .append(System.lineSeparator())));
+        return sb.toString();
+    }
+}
@@ -0,0 +1,322 @@
+package org.jsapar.text;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.util.Currency;
+
+/**
+ * A {@link DecimalFormat} that formats numbers directly into a {@link StringBuilder} for the common patterns with
+ * fixed or optional decimals, zero padding and grouping, for instance <code>0.00</code>, <code>#,##0.00</code> or
+ * <code>000000</code>. The pattern is compiled into the separators, prefixes, suffixes and digit counts needed for
+ * formatting, and the digits are then written without any of the generic formatting of {@link DecimalFormat}. Parsing
+ * is not affected.
+ * <p>
+ * Only values that can be formatted exactly without rounding are formatted directly, that is integer values, double
+ * values with no more decimals than the maximum fraction digits of the pattern and {@link BigDecimal} values with a
+ * scale that is not larger than the maximum fraction digits. Other values as well as patterns with exponent, percent,
+ * per mille or currency are formatted by {@link DecimalFormat} with the same result as before.
+ */
+public class CompiledDecimalFormat extends DecimalFormat implements DirectFormat {
+
+    private static final long serialVersionUID = -2474262117309522613L;
+
+    private static final long[] POWERS_OF_TEN = {1L, 10L, 100L, 1_000L, 10_000L, 100_000L, 1_000_000L, 10_000_000L,
+            100_000_000L, 1_000_000_000L, 10_000_000_000L, 100_000_000_000L, 1_000_000_000_000L, 10_000_000_000_000L,
+            100_000_000_000_000L, 1_000_000_000_000_000L, 10_000_000_000_000_000L, 100_000_000_000_000_000L,
+            1_000_000_000_000_000_000L};
+    private static final int  MAX_DIGITS       = 18;
+    /**
+     * Scaled double values below this limit have a precision that is better than a quarter of the last decimal.
+     */
+    private static final long MAX_EXACT_SCALED = 1L << 50;
+
+    static final long NOT_EXACT = -1L;
+    static final long TOO_LARGE = -2L;
+
+    // None of the fields may have an initializer since the super class constructor calls overridden setters.
+    private boolean initialized;
+    private boolean direct;
+    private boolean directDouble;
+    private int     minIntegerDigits;
+    private int     maxIntegerDigits;
+    private int     minFractionDigits;
+    private int     maxFractionDigits;
+    private int     groupingSize;
+    private char    groupingSeparator;
+    private char    decimalSeparator;
+    private boolean decimalSeparatorAlwaysShown;
+    private String  positivePrefix;
+    private String  positiveSuffix;
+    private String  negativePrefix;
+    private String  negativeSuffix;
+
+    /**
+     * @param pattern The pattern as described by {@link DecimalFormat}.
+     * @param symbols The symbols to use.
+     */
+    public CompiledDecimalFormat(String pattern, DecimalFormatSymbols symbols) {
+        super(pattern, symbols);
+        initialized = true;
+        compile();
+    }
+
+    /**
+     * Derives all that is needed for direct formatting from the current settings of this format.
+     */
+    private void compile() {
+        if (!initialized)
+            return;
+        DecimalFormatSymbols symbols = getDecimalFormatSymbols();
+        String pattern = toPattern();
+        minIntegerDigits = getMinimumIntegerDigits();
+        maxIntegerDigits = getMaximumIntegerDigits();
+        minFractionDigits = getMinimumFractionDigits();
+        maxFractionDigits = getMaximumFractionDigits();
+        groupingSize = isGroupingUsed() ? getGroupingSize() : 0;
+        groupingSeparator = symbols.getGroupingSeparator();
+        decimalSeparator = symbols.getDecimalSeparator();
+        decimalSeparatorAlwaysShown = isDecimalSeparatorAlwaysShown();
+        positivePrefix = getPositivePrefix();
+        positiveSuffix = getPositiveSuffix();
+        negativePrefix = getNegativePrefix();
+        negativeSuffix = getNegativeSuffix();
+        direct = getMultiplier() == 1
+                && symbols.getZeroDigit() == '0'
+                && pattern.indexOf('E') < 0
+                && pattern.indexOf('\u00A4') < 0
+                && minFractionDigits <= MAX_DIGITS
+                && positivePrefix != null && positiveSuffix != null && negativePrefix != null && negativeSuffix != null;
+        // A double may have more digits than needed to identify it, which are then rounded by DecimalFormat.
+        RoundingMode roundingMode = getRoundingMode();
+        directDouble = direct && (roundingMode == RoundingMode.HALF_EVEN
+                || roundingMode == RoundingMode.HALF_UP
+                || roundingMode == RoundingMode.HALF_DOWN);
+    }
+
+    @Override
+    public boolean formatDirect(long value, StringBuilder target) {
+        if (!direct || value == Long.MIN_VALUE)
+            return false;
+        return appendScaled(value < 0, Math.abs(value), 0, target);
+    }
+
+    @Override
+    public boolean formatDirect(double value, StringBuilder target) {
+        if (!directDouble || Double.isNaN(value) || Double.isInfinite(value) || isNegativeZero(value))
+            return false;
+        double abs = Math.abs(value);
+        int maxScale = Math.min(maxFractionDigits, MAX_DIGITS);
+        for (int scale = 0; scale <= maxScale; scale++) {
+            long unscaled = exactScaled(abs, scale);
+            if (unscaled >= 0)
+                return appendScaled(value < 0, unscaled, scale, target);
+            if (unscaled == TOO_LARGE)
+                return false;
+        }
+        return false;
+    }
+
+    @Override
+    public boolean formatDirect(Object value, StringBuilder target) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return formatDirect(((Number) value).longValue(), target);
+        if (value instanceof Double || value instanceof Float)
+            return formatDirect(((Number) value).doubleValue(), target);
+        if (value instanceof BigDecimal)
+            return formatDirect((BigDecimal) value, target);
+        return false;
+    }
+
+    private boolean formatDirect(BigDecimal value, StringBuilder target) {
+        if (!direct)
+            return false;
+        int scale = value.scale();
+        if (scale < 0 || scale > maxFractionDigits || scale > MAX_DIGITS || value.precision() > MAX_DIGITS)
+            return false;
+        BigInteger unscaled = value.unscaledValue();
+        return appendScaled(unscaled.signum() < 0, unscaled.abs().longValue(), scale, target);
+    }
+
+    /**
+     * Appends a number with exactly supplied number of decimals. Trailing zero decimals are removed down to the minimum
+     * fraction digits.
+     *
+     * @param negative True if the value is negative.
+     * @param unscaled The absolute value of the number, multiplied with ten to the power of scale.
+     * @param scale    The number of decimals within unscaled.
+     * @param target   The target to append to.
+     * @return False if the number can not be formatted directly, in which case nothing was appended.
+     */
+    private boolean appendScaled(boolean negative, long unscaled, int scale, StringBuilder target) {
+        long integerPart = unscaled / POWERS_OF_TEN[scale];
+        long fraction = unscaled % POWERS_OF_TEN[scale];
+        while (scale > minFractionDigits && fraction % 10 == 0) {
+            fraction /= 10;
+            scale--;
+        }
+        if (scale < minFractionDigits) {
+            fraction *= POWERS_OF_TEN[minFractionDigits - scale];
+            scale = minFractionDigits;
+        }
+        int integerDigits = digitCount(integerPart);
+        if (integerDigits > maxIntegerDigits)
+            return false;
+        int width = Math.max(integerDigits, minIntegerDigits);
+        if (width == 0 && scale == 0)
+            width = 1; // A zero is only left out if there are decimals, for instance with pattern .00
+        if (negative && unscaled != 0)
+            target.append(negativePrefix);
+        else
+            target.append(positivePrefix);
+        for (int i = width - 1; i >= 0; i--) {
+            target.append(i < integerDigits ? (char) ('0' + integerPart / POWERS_OF_TEN[i] % 10) : '0');
+            if (groupingSize > 0 && i > 0 && i % groupingSize == 0)
+                target.append(groupingSeparator);
+        }
+        if (scale > 0 || decimalSeparatorAlwaysShown)
+            target.append(decimalSeparator);
+        for (int i = scale - 1; i >= 0; i--) {
+            target.append((char) ('0' + fraction / POWERS_OF_TEN[i] % 10));
+        }
+        target.append(negative && unscaled != 0 ? negativeSuffix : positiveSuffix);
+        return true;
+    }
+
+    /**
+     * @param abs   A positive double value.
+     * @param scale The number of decimals.
+     * @return The value multiplied with ten to the power of scale if that is an integer and the decimal number with
+     * that many decimals converts back to exactly the same double value. {@link #NOT_EXACT} if the value has more
+     * decimals and {@link #TOO_LARGE} if the scaled value is too large to be exact.
+     */
+    static long exactScaled(double abs, int scale) {
+        double factor = POWERS_OF_TEN[scale];
+        double scaled = abs * factor;
+        if (scaled >= MAX_EXACT_SCALED)
+            return TOO_LARGE;
+        long unscaled = (long) scaled;
+        if (unscaled != scaled || unscaled / factor != abs)
+            return NOT_EXACT;
+        return unscaled;
+    }
+
+    static boolean isNegativeZero(double value) {
+        return value == 0.0 && Double.doubleToRawLongBits(value) != 0L;
+    }
+
+    static int digitCount(long value) {
+        int digits = 0;
+        while (digits < POWERS_OF_TEN.length && value >= POWERS_OF_TEN[digits])
+            digits++;
+        return digits;
+    }
+
+    static long powerOfTen(int exponent) {
+        return POWERS_OF_TEN[exponent];
+    }
+
+    @Override
+    public void applyPattern(String pattern) {
+        super.applyPattern(pattern);
+        compile();
+    }
+
+    @Override
+    public void applyLocalizedPattern(String pattern) {
+        super.applyLocalizedPattern(pattern);
+        compile();
+    }
+
+    @Override
+    public void setDecimalFormatSymbols(DecimalFormatSymbols newSymbols) {
+        super.setDecimalFormatSymbols(newSymbols);
+        compile();
+    }
+
+    @Override
+    public void setPositivePrefix(String newValue) {
+        super.setPositivePrefix(newValue);
+        compile();
+    }
+
+    @Override
+    public void setNegativePrefix(String newValue) {
+        super.setNegativePrefix(newValue);
+        compile();
+    }
+
+    @Override
+    public void setPositiveSuffix(String newValue) {
+        super.setPositiveSuffix(newValue);
+        compile();
+    }
+
+    @Override
+    public void setNegativeSuffix(String newValue) {
+        super.setNegativeSuffix(newValue);
+        compile();
+    }
+
+    @Override
+    public void setMultiplier(int newValue) {
+        super.setMultiplier(newValue);
+        compile();
+    }
+
+    @Override
+    public void setGroupingSize(int newValue) {
+        super.setGroupingSize(newValue);
+        compile();
+    }
+
+    @Override
+    public void setGroupingUsed(boolean newValue) {
+        super.setGroupingUsed(newValue);
+        compile();
+    }
+
+    @Override
+    public void setDecimalSeparatorAlwaysShown(boolean newValue) {
+        super.setDecimalSeparatorAlwaysShown(newValue);
+        compile();
+    }
+
+    @Override
+    public void setMaximumIntegerDigits(int newValue) {
+        super.setMaximumIntegerDigits(newValue);
+        compile();
+    }
+
+    @Override
+    public void setMinimumIntegerDigits(int newValue) {
+        super.setMinimumIntegerDigits(newValue);
+        compile();
+    }
+
+    @Override
+    public void setMaximumFractionDigits(int newValue) {
+        super.setMaximumFractionDigits(newValue);
+        compile();
+    }
+
+    @Override
+    public void setMinimumFractionDigits(int newValue) {
+        super.setMinimumFractionDigits(newValue);
+        compile();
+    }
+
+    @Override
+    public void setCurrency(Currency currency) {
+        super.setCurrency(currency);
+        compile();
+    }
+
+    @Override
+    public void setRoundingMode(RoundingMode roundingMode) {
+        super.setRoundingMode(roundingMode);
+        compile();
+    }
+}
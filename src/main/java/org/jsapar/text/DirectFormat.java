@@ -0,0 +1,45 @@
+package org.jsapar.text;
+
+/**
+ * Implemented by formats that are able to format common values directly into a {@link StringBuilder}, without going
+ * through {@link java.text.Format#format(Object, StringBuffer, java.text.FieldPosition)}. Values that can not be
+ * formatted directly are left to the {@link java.text.Format} with the same result as before.
+ * <p>
+ * The methods of this interface never append anything to the target unless the value could be formatted directly.
+ */
+public interface DirectFormat {
+
+    /**
+     * Formats a primitive long value directly.
+     *
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @return True if the value was formatted and appended to the target, false if the value needs to be formatted by
+     * {@link java.text.Format#format(Object)}.
+     */
+    default boolean formatDirect(long value, StringBuilder target) {
+        return false;
+    }
+
+    /**
+     * Formats a primitive double value directly.
+     *
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @return True if the value was formatted and appended to the target, false if the value needs to be formatted by
+     * {@link java.text.Format#format(Object)}.
+     */
+    default boolean formatDirect(double value, StringBuilder target) {
+        return false;
+    }
+
+    /**
+     * Formats a value directly.
+     *
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @return True if the value was formatted and appended to the target, false if the value needs to be formatted by
+     * {@link java.text.Format#format(Object)}.
+     */
+    boolean formatDirect(Object value, StringBuilder target);
+}
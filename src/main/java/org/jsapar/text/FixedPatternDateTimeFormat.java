@@ -0,0 +1,312 @@
+package org.jsapar.text;
+
+import java.text.FieldPosition;
+import java.text.Format;
+import java.text.ParseException;
+import java.text.ParsePosition;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.Month;
+import java.time.Year;
+import java.time.format.DateTimeFormatter;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A date and time format for patterns where all fields have a fixed number of digits, for instance
+ * <code>yyyy-MM-dd</code>, <code>yyyyMMdd</code>, <code>yyyy-MM-dd HH:mm:ss</code> or <code>HHmmss</code>. Instead of
+ * going through the generic parsing and resolving of {@link DateTimeFormatter}, each field is read directly at its
+ * offset within the text. Depending on the fields of the pattern, parsing returns a {@link LocalDate}, a
+ * {@link LocalTime} or a {@link LocalDateTime}.
+ * <p>
+ * Supported pattern letters are <code>yyyy</code>, <code>uuuu</code>, <code>MM</code>, <code>dd</code>,
+ * <code>HH</code>, <code>mm</code>, <code>ss</code> and one to nine <code>S</code>. Any other character that is not a
+ * letter, as well as text within single quotes, is a literal. A pattern needs to contain either a complete date, a
+ * time with at least hours and minutes or both.
+ * <p>
+ * Any text that can not be parsed directly, for instance because it has an unexpected length or a field value that is
+ * out of range, is parsed by the {@link DateTimeFormatter} of the pattern with the same result as before.
+ * <p>
+ * In the same way, {@link #formatDirect(Object, StringBuilder)} writes the digits of each field of a {@link LocalDate},
+ * {@link LocalTime} or {@link LocalDateTime} directly at its offset. Other values are formatted by the
+ * {@link DateTimeFormatter} of the pattern.
+ *
+ * @see #ofPattern(String, Locale)
+ */
+public class FixedPatternDateTimeFormat extends Format implements DirectFormat {
+
+    private static final long serialVersionUID = -4719146393785520611L;
+
+    private static final char DIGIT = '\0';
+    private static final int[] NANOS_FACTOR = {1, 100_000_000, 10_000_000, 1_000_000, 100_000, 10_000, 1_000, 100, 10, 1};
+
+    private final String pattern;
+    private final Format formatter;
+    private final char[] template;
+    private final int    yearOffset;
+    private final int    monthOffset;
+    private final int    dayOffset;
+    private final int    hourOffset;
+    private final int    minuteOffset;
+    private final int    secondOffset;
+    private final int    fractionOffset;
+    private final int    fractionWidth;
+
+    private FixedPatternDateTimeFormat(String pattern, Format formatter, char[] template, int[] offsets, int fractionWidth) {
+        this.pattern = pattern;
+        this.formatter = formatter;
+        this.template = template;
+        this.yearOffset = offsets[0];
+        this.monthOffset = offsets[1];
+        this.dayOffset = offsets[2];
+        this.hourOffset = offsets[3];
+        this.minuteOffset = offsets[4];
+        this.secondOffset = offsets[5];
+        this.fractionOffset = offsets[6];
+        this.fractionWidth = fractionWidth;
+    }
+
+    /**
+     * Creates a format for supplied pattern.
+     * @param pattern The pattern as described by {@link DateTimeFormatter}.
+     * @param locale  The locale to use.
+     * @return A {@link FixedPatternDateTimeFormat} if all fields of the pattern have fixed width, otherwise the format
+     * of {@link DateTimeFormatter#ofPattern(String, Locale)}.
+     */
+    public static Format ofPattern(String pattern, Locale locale) {
+        Format formatter = DateTimeFormatter.ofPattern(pattern, locale).toFormat();
+        int[] offsets = new int[7];
+        Arrays.fill(offsets, -1);
+        StringBuilder template = new StringBuilder(pattern.length());
+        int fractionWidth = 0;
+        int i = 0;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            int count = 1;
+            while (i + count < pattern.length() && pattern.charAt(i + count) == c)
+                count++;
+            if (c == '\'') {
+                int end = appendQuoted(pattern, i, template);
+                if (end < 0)
+                    return formatter;
+                i = end;
+                continue;
+            }
+            if (!Character.isLetter(c)) {
+                if ("[]{}#".indexOf(c) >= 0)
+                    return formatter;
+                template.append(c);
+                i++;
+                continue;
+            }
+            int field;
+            int width;
+            switch (c) {
+            case 'y':
+            case 'u':
+                field = 0;
+                width = 4;
+                break;
+            case 'M':
+                field = 1;
+                width = 2;
+                break;
+            case 'd':
+                field = 2;
+                width = 2;
+                break;
+            case 'H':
+                field = 3;
+                width = 2;
+                break;
+            case 'm':
+                field = 4;
+                width = 2;
+                break;
+            case 's':
+                field = 5;
+                width = 2;
+                break;
+            case 'S':
+                field = 6;
+                width = count <= 9 ? count : -1;
+                fractionWidth = count;
+                break;
+            default:
+                return formatter;
+            }
+            if (count != width || offsets[field] >= 0)
+                return formatter;
+            offsets[field] = template.length();
+            for (int j = 0; j < count; j++)
+                template.append(DIGIT);
+            i += count;
+        }
+        boolean date = offsets[0] >= 0 && offsets[1] >= 0 && offsets[2] >= 0;
+        boolean time = offsets[3] >= 0 && offsets[4] >= 0 && (offsets[6] < 0 || offsets[5] >= 0);
+        boolean anyDate = offsets[0] >= 0 || offsets[1] >= 0 || offsets[2] >= 0;
+        boolean anyTime = offsets[3] >= 0 || offsets[4] >= 0 || offsets[5] >= 0 || offsets[6] >= 0;
+        if ((anyDate && !date) || (anyTime && !time) || !(date || time))
+            return formatter;
+        return new FixedPatternDateTimeFormat(pattern, formatter, template.toString().toCharArray(), offsets, fractionWidth);
+    }
+
+    /**
+     * Appends the text of a quoted section to the template.
+     * @return The position after the ending quote or -1 if there is no ending quote.
+     */
+    private static int appendQuoted(String pattern, int start, StringBuilder template) {
+        int i = start + 1;
+        while (i < pattern.length()) {
+            char c = pattern.charAt(i);
+            if (c == '\'') {
+                if (i + 1 < pattern.length() && pattern.charAt(i + 1) == '\'') {
+                    template.append('\'');
+                    i += 2;
+                    continue;
+                }
+                if (i == start + 1)
+                    template.append('\''); // Two single quotes outside of quoted text
+                return i + 1;
+            }
+            template.append(c);
+            i++;
+        }
+        return -1;
+    }
+
+    public String getPattern() {
+        return pattern;
+    }
+
+    @Override
+    public StringBuffer format(Object obj, StringBuffer toAppendTo, FieldPosition pos) {
+        return formatter.format(obj, toAppendTo, pos);
+    }
+
+    /**
+     * Formats a {@link LocalDate}, {@link LocalTime} or {@link LocalDateTime} directly if it contains all fields of the
+     * pattern and the year is within 1 to 9999.
+     *
+     * @param value  The value to format.
+     * @param target The target to append the formatted value to.
+     * @return True if the value was formatted, false if it needs to be formatted by the {@link DateTimeFormatter}.
+     */
+    @Override
+    public boolean formatDirect(Object value, StringBuilder target) {
+        LocalDate date = null;
+        LocalTime time = null;
+        if (value instanceof LocalDateTime) {
+            date = ((LocalDateTime) value).toLocalDate();
+            time = ((LocalDateTime) value).toLocalTime();
+        } else if (value instanceof LocalDate) {
+            date = (LocalDate) value;
+        } else if (value instanceof LocalTime) {
+            time = (LocalTime) value;
+        } else {
+            return false;
+        }
+        if (yearOffset >= 0 && (date == null || date.getYear() < 1 || date.getYear() > 9999))
+            return false;
+        if (hourOffset >= 0 && time == null)
+            return false;
+
+        final int start = target.length();
+        target.append(template);
+        if (yearOffset >= 0) {
+            setDigits(target, start + yearOffset, 4, date.getYear());
+            setDigits(target, start + monthOffset, 2, date.getMonthValue());
+            setDigits(target, start + dayOffset, 2, date.getDayOfMonth());
+        }
+        if (hourOffset >= 0) {
+            setDigits(target, start + hourOffset, 2, time.getHour());
+            setDigits(target, start + minuteOffset, 2, time.getMinute());
+            if (secondOffset >= 0)
+                setDigits(target, start + secondOffset, 2, time.getSecond());
+            if (fractionOffset >= 0)
+                setDigits(target, start + fractionOffset, fractionWidth, time.getNano() / NANOS_FACTOR[fractionWidth]);
+        }
+        return true;
+    }
+
+    private static void setDigits(StringBuilder target, int offset, int width, int value) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            target.setCharAt(i, (char) ('0' + value % 10));
+            value /= 10;
+        }
+    }
+
+    @Override
+    public Object parseObject(String source) throws ParseException {
+        Object value = parseDirect(source);
+        return value != null ? value : formatter.parseObject(source);
+    }
+
+    @Override
+    public Object parseObject(String source, ParsePosition pos) {
+        if (pos.getIndex() == 0) {
+            Object value = parseDirect(source);
+            if (value != null) {
+                pos.setIndex(source.length());
+                return value;
+            }
+        }
+        return formatter.parseObject(source, pos);
+    }
+
+    /**
+     * Parses text directly if it has the exact length of the pattern, contains the literals of the pattern and all
+     * field values are within range.
+     * @param source The text to parse.
+     * @return A {@link LocalDate}, {@link LocalTime} or {@link LocalDateTime} or null if the text could not be parsed
+     * directly.
+     */
+    private Object parseDirect(String source) {
+        final int length = template.length;
+        if (source.length() != length)
+            return null;
+        for (int i = 0; i < length; i++) {
+            char expected = template[i];
+            char c = source.charAt(i);
+            if (expected == DIGIT ? (c < '0' || c > '9') : c != expected)
+                return null;
+        }
+        LocalDate date = null;
+        if (yearOffset >= 0) {
+            int year = number(source, yearOffset, 4);
+            int month = number(source, monthOffset, 2);
+            int day = number(source, dayOffset, 2);
+            if (year < 1 || month < 1 || month > 12 || day < 1 || day > 28 && day > lengthOfMonth(year, month))
+                return null;
+            date = LocalDate.of(year, month, day);
+        }
+        if (hourOffset < 0)
+            return date;
+
+        int hour = number(source, hourOffset, 2);
+        int minute = number(source, minuteOffset, 2);
+        int second = secondOffset >= 0 ? number(source, secondOffset, 2) : 0;
+        if (hour > 23 || minute > 59 || second > 59)
+            return null;
+        int nanos = fractionOffset >= 0 ? number(source, fractionOffset, fractionWidth) * NANOS_FACTOR[fractionWidth] : 0;
+        LocalTime time = LocalTime.of(hour, minute, second, nanos);
+        return date == null ? time : LocalDateTime.of(date, time);
+    }
+
+    private static int lengthOfMonth(int year, int month) {
+        return Month.of(month).length(Year.isLeap(year));
+    }
+
+    private static int number(String source, int offset, int width) {
+        int value = 0;
+        for (int i = offset; i < offset + width; i++)
+            value = value * 10 + (source.charAt(i) - '0');
+        return value;
+    }
+
+    @Override
+    public String toString() {
+        return pattern;
+    }
+}
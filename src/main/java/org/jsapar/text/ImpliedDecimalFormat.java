@@ -7,17 +7,31 @@ import java.text.*;
 /**
  * Class that can be used to parse and format <a href="https://www.ibm.com/support/knowledgecenter/en/SSLVMB_24.0.0/spss/base/syn_data_list_implied_decimal_positions.html">implied decimals</a>.
  * The text representation is always an integer but when parsing the decimal point is shifted left and when composing it is shifted right.
+ * <p>
+ * Values that can be shifted exactly into an integer of at most 18 digits are formatted directly by
+ * {@link #formatDirect(Object, StringBuilder)}.
  */
-public class ImpliedDecimalFormat extends Format {
+public class ImpliedDecimalFormat extends Format implements DirectFormat {
+
+    private static final int MAX_DIGITS = 18;
+    /**
+     * Long values up to this limit are formatted exactly since they are converted to double before shifting.
+     */
+    private static final long MAX_EXACT_LONG = 1L << 53;
 
     private final int decimals;
     private final DecimalFormat integerFormat = new DecimalFormat("0");
+    private final boolean direct;
 
     /**
      * @param decimals Number of decimals to imply
      */
     public ImpliedDecimalFormat(int decimals) {
         this.decimals = decimals;
+        this.direct = decimals >= 0 && decimals <= MAX_DIGITS
+                && integerFormat.getDecimalFormatSymbols().getZeroDigit() == '0'
+                && integerFormat.getNegativePrefix().equals("-")
+                && integerFormat.getNegativeSuffix().isEmpty();
     }
 
     public int getDecimals() {
@@ -46,14 +60,82 @@ public class ImpliedDecimalFormat extends Format {
         return integerFormat.format(value, stringBuffer, fieldPosition);
     }
 
+    @Override
+    public boolean formatDirect(long value, StringBuilder target) {
+        if (!direct || value >= MAX_EXACT_LONG || value <= -MAX_EXACT_LONG
+                || CompiledDecimalFormat.digitCount(Math.abs(value)) + decimals > MAX_DIGITS)
+            return false;
+        target.append(value * CompiledDecimalFormat.powerOfTen(decimals));
+        return true;
+    }
+
+    @Override
+    public boolean formatDirect(double value, StringBuilder target) {
+        if (!direct || Double.isNaN(value) || Double.isInfinite(value))
+            return false;
+        long unscaled = CompiledDecimalFormat.exactScaled(Math.abs(value), decimals);
+        if (unscaled < 0)
+            return false;
+        target.append(value < 0 ? -unscaled : unscaled);
+        return true;
+    }
+
+    @Override
+    public boolean formatDirect(Object value, StringBuilder target) {
+        if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte)
+            return formatDirect(((Number) value).longValue(), target);
+        if (value instanceof Double || value instanceof Float)
+            return formatDirect(((Number) value).doubleValue(), target);
+        if (value instanceof BigDecimal)
+            return formatDirect((BigDecimal) value, target);
+        return false;
+    }
+
+    private boolean formatDirect(BigDecimal value, StringBuilder target) {
+        int shift = decimals - value.scale();
+        if (!direct || shift < 0 || value.precision() + shift > MAX_DIGITS)
+            return false;
+        target.append(value.unscaledValue().longValue() * CompiledDecimalFormat.powerOfTen(shift));
+        return true;
+    }
+
 
 
     @Override
     public Object parseObject(String s, ParsePosition parsePosition) {
+        BigDecimal value = parseDirect(s, parsePosition);
+        if (value != null)
+            return value;
         Number v = integerFormat.parse(s, parsePosition);
+        if (v == null)
+            return null;
         return BigDecimal.valueOf(v.longValue()).movePointLeft(decimals);
     }
 
+    /**
+     * Parses the rest of the text directly if it consists only of an optional minus sign followed by at most 18 digits.
+     * @return The parsed value or null if the text needs to be parsed by the integer format.
+     */
+    private BigDecimal parseDirect(String s, ParsePosition parsePosition) {
+        final int start = parsePosition.getIndex();
+        final int length = s.length();
+        int i = start;
+        boolean negative = i < length && s.charAt(i) == '-';
+        if (negative)
+            i++;
+        if (i == length || length - i > MAX_DIGITS)
+            return null;
+        long v = 0L;
+        for (; i < length; i++) {
+            char c = s.charAt(i);
+            if (c < '0' || c > '9')
+                return null;
+            v = v * 10 + (c - '0');
+        }
+        parsePosition.setIndex(length);
+        return BigDecimal.valueOf(negative ? -v : v).movePointLeft(decimals);
+    }
+
     @Override
     public Object parseObject(String source) {
         return parse(source);
@@ -0,0 +1,185 @@
+package org.jsapar.text;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+/**
+ * A {@link DecimalFormat} with the default number pattern of a locale that parses plain numbers directly from the
+ * characters of the text, using the {@link DecimalFormatSymbols} of the locale, instead of going through the generic
+ * parsing of {@link DecimalFormat}.
+ * <p>
+ * The direct parsing handles an optional minus sign, digits, grouping separators and the decimal separator. If the
+ * grouping separator of the locale is a space character, any space character is ignored. Both the minus sign of the
+ * locale and the ascii hyphen-minus are accepted as minus sign. Any text that can not be parsed directly, for instance
+ * numbers with exponent or with too many digits, is parsed by {@link DecimalFormat} with the same result as before.
+ * <p>
+ * Formatting is done directly as described by {@link CompiledDecimalFormat}.
+ * <p>
+ * Create instances with {@link #getInstance(Locale)} or {@link #getIntegerInstance(Locale)}. Use
+ * {@link CompiledDecimalFormat} for custom patterns.
+ */
+public class LocaleDecimalFormat extends CompiledDecimalFormat {
+
+    private static final long serialVersionUID = 6207416305342134017L;
+
+    private static final int MAX_DIGITS = 18;
+    private static final long MAX_EXACT_DOUBLE = 1L << 53;
+    private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12,
+            1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    private char    decimalSeparator;
+    private char    groupingSeparator;
+    private char    minusSign;
+    private boolean spaceGrouping;
+    private boolean directParsing;
+
+    private LocaleDecimalFormat(String pattern, DecimalFormatSymbols symbols) {
+        super(pattern, symbols);
+        assignSymbols(symbols);
+    }
+
+    /**
+     * @param locale The locale to use.
+     * @return A number format equal to {@link NumberFormat#getInstance(Locale)} but with faster parsing. If the locale
+     * does not provide a {@link DecimalFormat}, the format provided by the locale is returned.
+     */
+    public static NumberFormat getInstance(Locale locale) {
+        return of(NumberFormat.getInstance(locale));
+    }
+
+    /**
+     * @param locale The locale to use.
+     * @return A number format equal to {@link NumberFormat#getIntegerInstance(Locale)} but with faster parsing. If the
+     * locale does not provide a {@link DecimalFormat}, the format provided by the locale is returned.
+     */
+    public static NumberFormat getIntegerInstance(Locale locale) {
+        return of(NumberFormat.getIntegerInstance(locale));
+    }
+
+    private static NumberFormat of(NumberFormat numberFormat) {
+        if (!(numberFormat instanceof DecimalFormat))
+            return numberFormat;
+        DecimalFormat template = (DecimalFormat) numberFormat;
+        LocaleDecimalFormat format = new LocaleDecimalFormat(template.toPattern(), template.getDecimalFormatSymbols());
+        format.setParseIntegerOnly(template.isParseIntegerOnly());
+        format.setParseBigDecimal(template.isParseBigDecimal());
+        format.setGroupingUsed(template.isGroupingUsed());
+        format.setDecimalSeparatorAlwaysShown(template.isDecimalSeparatorAlwaysShown());
+        format.setRoundingMode(template.getRoundingMode());
+        format.setMaximumIntegerDigits(template.getMaximumIntegerDigits());
+        format.setMinimumIntegerDigits(template.getMinimumIntegerDigits());
+        format.setMaximumFractionDigits(template.getMaximumFractionDigits());
+        format.setMinimumFractionDigits(template.getMinimumFractionDigits());
+        return format;
+    }
+
+    private void assignSymbols(DecimalFormatSymbols symbols) {
+        this.decimalSeparator = symbols.getDecimalSeparator();
+        this.groupingSeparator = symbols.getGroupingSeparator();
+        this.minusSign = symbols.getMinusSign();
+        this.spaceGrouping = Character.isSpaceChar(groupingSeparator);
+        // Locales with other digits than ascii digits are always parsed by DecimalFormat.
+        this.directParsing = symbols.getZeroDigit() == '0';
+    }
+
+    @Override
+    public void setDecimalFormatSymbols(DecimalFormatSymbols newSymbols) {
+        super.setDecimalFormatSymbols(newSymbols);
+        assignSymbols(newSymbols);
+    }
+
+    /**
+     * Parses text without using the generic parsing of {@link DecimalFormat}, only if the complete text is a plain
+     * number according to the symbols of this format.
+     *
+     * @param text The text to parse.
+     * @return The parsed number or null if the text could not be parsed directly. The type of the returned number is
+     * the same as {@link DecimalFormat#parse(String, ParsePosition)} would return.
+     */
+    public Number parseDirect(String text) {
+        if (!isDirectParsingPossible())
+            return null;
+        final int length = text.length();
+        final boolean integerOnly = isParseIntegerOnly();
+        final boolean groupingUsed = isGroupingUsed();
+        long unscaled = 0L;
+        int digits = 0;
+        int scale = -1; // Negative until a decimal separator is found
+        boolean negative = false;
+        boolean anyDigit = false;
+        for (int i = 0; i < length; i++) {
+            char c = text.charAt(i);
+            if (isDigit(c)) {
+                anyDigit = true;
+                if (unscaled != 0L || c != '0') {
+                    if (++digits > MAX_DIGITS)
+                        return null;
+                }
+                unscaled = unscaled * 10 + (c - '0');
+                if (scale >= 0)
+                    scale++;
+            } else if (spaceGrouping && Character.isSpaceChar(c)) {
+                // Spaces are ignored anywhere, also when grouping is not used.
+            } else if (c == groupingSeparator && groupingUsed && scale < 0) {
+                if (i + 1 >= length || !isDigit(text.charAt(i + 1)))
+                    return null;
+            } else if (c == decimalSeparator && scale < 0 && !integerOnly) {
+                scale = 0;
+            } else if ((c == minusSign || c == '-') && !anyDigit && !negative && scale < 0) {
+                negative = true;
+            } else {
+                return null;
+            }
+        }
+        if (!anyDigit)
+            return null;
+        if (scale < 0)
+            scale = 0;
+        if (isParseBigDecimal())
+            return BigDecimal.valueOf(negative ? -unscaled : unscaled, scale);
+
+        while (scale > 0 && unscaled % 10 == 0) {
+            unscaled /= 10;
+            scale--;
+        }
+        if (negative && unscaled == 0L && !integerOnly)
+            return -0.0d;
+        if (scale == 0)
+            return negative ? -unscaled : unscaled;
+        if (unscaled > MAX_EXACT_DOUBLE || scale >= POWERS_OF_TEN.length)
+            return null;
+        // Both operands are exact so the division is correctly rounded.
+        double value = unscaled / POWERS_OF_TEN[scale];
+        return negative ? -value : value;
+    }
+
+    private boolean isDirectParsingPossible() {
+        return directParsing
+                && getMultiplier() == 1
+                && getPositivePrefix().isEmpty()
+                && getPositiveSuffix().isEmpty()
+                && getNegativeSuffix().isEmpty()
+                && getNegativePrefix().length() == 1
+                && getNegativePrefix().charAt(0) == minusSign;
+    }
+
+    private static boolean isDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    @Override
+    public Number parse(String text, ParsePosition pos) {
+        if (pos.getIndex() == 0) {
+            Number number = parseDirect(text);
+            if (number != null) {
+                pos.setIndex(text.length());
+                return number;
+            }
+        }
+        return super.parse(text, pos);
+    }
+}
@@ -30,8 +30,8 @@ public class TextParseConfig {
      * The maximum number of cell values that are cached while parsing. 0 or negative value means that caching is disabled. For inputs
      * where each cell on each line contains a unique value, you may gain some speed by disabling the cache.
      * <p>
-     * The default max cache size is 1 and the maximum value is 100. Setting a higher value will not have any further
-     * effect.
+     * The default max cache size is 1. With a max size larger than 2, values are evicted according to how frequently
+     * they occur so that the most common values of a column stay in cache.
      * <p>
      * For each column or schema-cell the library knows that a distinct string value will always result in exactly the same cell value.
      * <p>
@@ -52,6 +52,11 @@ public class TextParseConfig {
      */
     private int maxCellCacheSize = 1;
 
+    /**
+     * Collects cell cache statistics while parsing if not null.
+     */
+    private CellCacheStatistics cellCacheStatistics;
+
     /**
      * The maximum number of characters that can occur on one line. Default is 8k. Since this size is used to allocate
      * buffer needed while parsing, setting a smaller number will have positive impact on memory usage and speed while
@@ -126,8 +131,8 @@ public class TextParseConfig {
      * The maximum number of cell values that are cached while parsing. 0 or negative value means that caching is disabled. For inputs
      * where each cell on each line contains a unique value, you may gain some speed by disabling the cache.
      * <p>
-     * The default max cache size is 1 and the maximum value is 100. Setting a higher value will not have any further
-     * effect.
+     * The default max cache size is 1. With a max size larger than 2, values are evicted according to how frequently
+     * they occur so that the most common values of a column stay in cache.
      * <p>
      * For each column or schema-cell the library knows that a distinct string value will always result in exactly the same cell value.
      * <p>
@@ -150,7 +155,24 @@ public class TextParseConfig {
      *                         where each cell on each line contains a unique value, you may gain some speed by disabling the cache.
      */
     public void setMaxCellCacheSize(int maxCellCacheSize) {
-        this.maxCellCacheSize = Math.max(maxCellCacheSize, 100);
+        this.maxCellCacheSize = Math.max(maxCellCacheSize, 0);
+    }
+
+    /**
+     * @return The instance that collects cell cache statistics while parsing or null if no statistics are collected.
+     * @see #setCellCacheStatistics(CellCacheStatistics)
+     */
+    public CellCacheStatistics getCellCacheStatistics() {
+        return cellCacheStatistics;
+    }
+
+    /**
+     * @param cellCacheStatistics An instance to collect hit, miss and eviction counters of the cell cache of each cell
+     *                            into while parsing. Default is null, which means that no statistics are collected.
+     * @see #setMaxCellCacheSize(int)
+     */
+    public void setCellCacheStatistics(CellCacheStatistics cellCacheStatistics) {
+        this.cellCacheStatistics = cellCacheStatistics;
     }
 
     /**
@@ -1,5 +1,7 @@
 package org.jsapar.utils;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
 import java.util.function.IntPredicate;
 
 @SuppressWarnings("WeakerAccess")
@@ -74,6 +76,28 @@ public class StringUtils {
         return count;
     }
 
+    /**
+     * @param s The string to check.
+     * @return True if the string is not empty and contains only ASCII characters.
+     */
+    public static boolean isAscii(String s) {
+        return !s.isEmpty() && s.chars().allMatch(c -> c < 0x80);
+    }
+
+    /**
+     * Checks if a charset is ASCII transparent, which means that ASCII characters are encoded as single bytes with the
+     * same value and that those byte values never occur within the encoding of any other character.
+     * @param charset The charset to check.
+     * @return True if supplied charset is known to be ASCII transparent.
+     */
+    public static boolean isAsciiTransparent(Charset charset) {
+        String name = charset.name();
+        return charset.equals(StandardCharsets.UTF_8)
+                || charset.equals(StandardCharsets.US_ASCII)
+                || name.startsWith("ISO-8859-")
+                || name.startsWith("windows-125");
+    }
+
     /**
      * Replaces all occurrences of some common control characters into escaped string values.
      * @param sToReplace The string containing control characters
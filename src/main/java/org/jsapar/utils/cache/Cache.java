@@ -23,19 +23,27 @@ public interface Cache<K, V> {
      */
     void put(K key, V value);
 
+    /**
+     * @return Statistics of how this cache has been used. The default implementation is for caches that do not count
+     * their usage and returns new statistics where all counters are zero.
+     */
+    default CacheStatistics getStatistics() {
+        return new CacheStatistics();
+    }
+
     /**
      * Creates a new cache optimized according to supplied max size.
      *
-     * @param maxSize The max cache size to optimize for.
+     * @param maxSize The max cache size to optimize for. 0 or negative value disables the cache.
      * @param <K>     The key type
      * @param <V>     The value type
      * @return A new cache optimized according to supplied max size.
      */
     static <K, V> Cache<K, V> ofMaxSize(int maxSize) {
+        if (maxSize <= 0)
+            return new DisabledCache<>();
 
         switch (maxSize) {
-            case 0:
-                return new DisabledCache<>();
             case 1:
                 return new SingleItemCache<>();
             case 2:
@@ -44,4 +52,16 @@ public interface Cache<K, V> {
                 return new LimitedSizeCache<>(maxSize);
         }
     }
+
+    /**
+     * Creates a new cache with string keys optimized according to supplied max size. For max size larger than two, a
+     * {@link FrequencyCache} is created.
+     *
+     * @param maxSize The max cache size to optimize for. 0 or negative value disables the cache.
+     * @param <V>     The value type
+     * @return A new cache optimized according to supplied max size.
+     */
+    static <V> Cache<String, V> ofMaxSizeStringKeys(int maxSize) {
+        return maxSize > 2 ? new FrequencyCache<>(maxSize) : ofMaxSize(maxSize);
+    }
 }
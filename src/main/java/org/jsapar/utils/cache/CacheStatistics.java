@@ -0,0 +1,49 @@
+package org.jsapar.utils.cache;
+
+/**
+ * Counts hits, misses and evictions of one cache. Counters are updated without synchronization by the thread that uses
+ * the cache, read them when that thread is done.
+ */
+public final class CacheStatistics {
+    private long hits;
+    private long misses;
+    private long evictions;
+
+    void hit() {
+        hits++;
+    }
+
+    void miss() {
+        misses++;
+    }
+
+    void eviction() {
+        evictions++;
+    }
+
+    /**
+     * @return Number of lookups that found a value.
+     */
+    public long getHits() {
+        return hits;
+    }
+
+    /**
+     * @return Number of lookups that did not find any value.
+     */
+    public long getMisses() {
+        return misses;
+    }
+
+    /**
+     * @return Number of values that were discarded to give room for new values.
+     */
+    public long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public String toString() {
+        return "hits=" + hits + ", misses=" + misses + ", evictions=" + evictions;
+    }
+}
@@ -6,9 +6,11 @@ package org.jsapar.utils.cache;
  * @param <V> Value type
  */
 public class DisabledCache <K, V> implements Cache <K, V>{
+    private final CacheStatistics statistics = new CacheStatistics();
 
     @Override
     public V get(K key) {
+        statistics.miss();
         return null;
     }
 
@@ -16,4 +18,9 @@ public class DisabledCache <K, V> implements Cache <K, V>{
     public void put(K key, V value) {
 
     }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
 }
@@ -0,0 +1,189 @@
+package org.jsapar.utils.cache;
+
+/**
+ * A cache with string keys that evicts values according to how frequently they are used. Eviction follows the CLOCK
+ * algorithm where each value has a small usage counter that is incremented on each hit. When the cache is full, a
+ * clock hand sweeps over the values, decrementing counters, and evicts the first value that has a zero counter. New
+ * values start with a zero counter so values that are only seen once are evicted before values that are repeatedly
+ * used.
+ * <p>
+ * Values can also be looked up directly from a range of a char array without first creating a string key.
+ * @param <V> The value type
+ */
+public class FrequencyCache<V> implements Cache<String, V> {
+    private static final int MAX_FREQUENCY = 3;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maxSize;
+    private final CacheStatistics statistics = new CacheStatistics();
+
+    // Values are stored in slots that the clock hand sweeps over.
+    private String[] keys;
+    private Object[] values;
+    private int[]    hashes;
+    private byte[]   frequencies;
+    private int      size;
+    private int      hand;
+
+    // Open addressing hash table with linear probing. Contains slot + 1 or 0 if empty.
+    private int[] table;
+    private int   mask;
+
+    /**
+     * @param maxSize The maximum number of values to keep in the cache.
+     */
+    public FrequencyCache(int maxSize) {
+        if (maxSize <= 0)
+            throw new IllegalArgumentException("Max size of cache needs to be at least 1");
+        this.maxSize = maxSize;
+        allocate(Math.min(maxSize, INITIAL_CAPACITY));
+    }
+
+    private void allocate(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        byte[] oldFrequencies = frequencies;
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        frequencies = new byte[capacity];
+        int tableSize = Integer.highestOneBit(capacity * 2 - 1) << 1;
+        table = new int[tableSize];
+        mask = tableSize - 1;
+        for (int slot = 0; slot < size; slot++) {
+            keys[slot] = oldKeys[slot];
+            values[slot] = oldValues[slot];
+            hashes[slot] = oldHashes[slot];
+            frequencies[slot] = oldFrequencies[slot];
+            addToTable(slot);
+        }
+    }
+
+    @Override
+    public V get(String key) {
+        final int hash = key.hashCode();
+        for (int i = spread(hash) & mask; table[i] != 0; i = (i + 1) & mask) {
+            int slot = table[i] - 1;
+            if (hashes[slot] == hash && key.equals(keys[slot]))
+                return hit(slot);
+        }
+        statistics.miss();
+        return null;
+    }
+
+    /**
+     * Looks up a value by a key that is a range of a char array.
+     * @param chars  The characters.
+     * @param offset The offset of the key within the array.
+     * @param length The length of the key.
+     * @return A value stored in cache or null if there is none.
+     */
+    public V get(char[] chars, int offset, int length) {
+        int hash = 0;
+        final int end = offset + length;
+        for (int i = offset; i < end; i++)
+            hash = 31 * hash + chars[i];
+        for (int i = spread(hash) & mask; table[i] != 0; i = (i + 1) & mask) {
+            int slot = table[i] - 1;
+            if (hashes[slot] == hash && regionEquals(keys[slot], chars, offset, length))
+                return hit(slot);
+        }
+        statistics.miss();
+        return null;
+    }
+
+    private static boolean regionEquals(String key, char[] chars, int offset, int length) {
+        if (key.length() != length)
+            return false;
+        for (int i = 0; i < length; i++) {
+            if (key.charAt(i) != chars[offset + i])
+                return false;
+        }
+        return true;
+    }
+
+    @SuppressWarnings("unchecked")
+    private V hit(int slot) {
+        if (frequencies[slot] < MAX_FREQUENCY)
+            frequencies[slot]++;
+        statistics.hit();
+        return (V) values[slot];
+    }
+
+    @Override
+    public void put(String key, V value) {
+        final int hash = key.hashCode();
+        for (int i = spread(hash) & mask; table[i] != 0; i = (i + 1) & mask) {
+            int slot = table[i] - 1;
+            if (hashes[slot] == hash && key.equals(keys[slot])) {
+                values[slot] = value;
+                return;
+            }
+        }
+        int slot;
+        if (size < maxSize) {
+            if (size == keys.length)
+                allocate(Math.min(maxSize, keys.length * 2));
+            slot = size++;
+        } else {
+            slot = evict();
+        }
+        keys[slot] = key;
+        values[slot] = value;
+        hashes[slot] = hash;
+        frequencies[slot] = 0;
+        addToTable(slot);
+    }
+
+    /**
+     * Moves the clock hand until a value with zero frequency is found and removes that value.
+     * @return The slot that was freed.
+     */
+    private int evict() {
+        while (frequencies[hand] > 0) {
+            frequencies[hand]--;
+            hand = (hand + 1) % size;
+        }
+        int slot = hand;
+        hand = (hand + 1) % size;
+        removeFromTable(slot);
+        statistics.eviction();
+        return slot;
+    }
+
+    private void addToTable(int slot) {
+        int i = spread(hashes[slot]) & mask;
+        while (table[i] != 0)
+            i = (i + 1) & mask;
+        table[i] = slot + 1;
+    }
+
+    private void removeFromTable(int slot) {
+        int i = spread(hashes[slot]) & mask;
+        while (table[i] != slot + 1)
+            i = (i + 1) & mask;
+        // Shift following entries back so that linear probing still finds them.
+        int j = i;
+        while (true) {
+            j = (j + 1) & mask;
+            if (table[j] == 0)
+                break;
+            int home = spread(hashes[table[j] - 1]) & mask;
+            if (i <= j ? (i < home && home <= j) : (i < home || home <= j))
+                continue;
+            table[i] = table[j];
+            i = j;
+        }
+        table[i] = 0;
+    }
+
+    private static int spread(int hash) {
+        return hash ^ (hash >>> 16);
+    }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
+}
@@ -8,19 +8,28 @@ import java.util.Map;
  */
 public class LimitedSizeCache<K, V> implements Cache<K, V> {
     private final LinkedHashMap<K, V> elements;
+    private final CacheStatistics statistics = new CacheStatistics();
 
     public LimitedSizeCache(final int maxSize) {
         this.elements = new LinkedHashMap<K, V>(Math.min((maxSize * 4 / 3) + 1, 1024)) {
             @Override
             protected boolean removeEldestEntry(Map.Entry eldest) {
-                return size() > maxSize;
+                if (size() <= maxSize)
+                    return false;
+                statistics.eviction();
+                return true;
             }
         };
     }
 
     @Override
     public V get(K key) {
-        return elements.get(key);
+        V value = elements.get(key);
+        if (value != null)
+            statistics.hit();
+        else
+            statistics.miss();
+        return value;
     }
 
     @Override
@@ -28,4 +37,8 @@ public class LimitedSizeCache<K, V> implements Cache<K, V> {
         elements.put(key, value);
     }
 
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
 }
@@ -8,15 +8,28 @@ package org.jsapar.utils.cache;
 public class SingleItemCache<K, V> implements Cache<K, V> {
     private K key;
     private V value;
+    private final CacheStatistics statistics = new CacheStatistics();
 
     @Override
     public V get(K key) {
-        return key.equals(this.key) ? value : null;
+        if (key.equals(this.key)) {
+            statistics.hit();
+            return value;
+        }
+        statistics.miss();
+        return null;
     }
 
     @Override
     public void put(K key, V value) {
+        if (this.key != null && !this.key.equals(key))
+            statistics.eviction();
         this.key = key;
         this.value = value;
     }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
 }
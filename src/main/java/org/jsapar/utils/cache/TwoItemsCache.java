@@ -10,17 +10,34 @@ public class TwoItemsCache<K, V> implements Cache<K, V> {
     private V newValue;
     private K oldKey;
     private V oldValue;
+    private final CacheStatistics statistics = new CacheStatistics();
 
     @Override
     public V get(K key) {
-        return key.equals(newKey) ? newValue : ( key.equals(oldKey)? oldValue : null );
+        if (key.equals(newKey)) {
+            statistics.hit();
+            return newValue;
+        }
+        if (key.equals(oldKey)) {
+            statistics.hit();
+            return oldValue;
+        }
+        statistics.miss();
+        return null;
     }
 
     @Override
     public void put(K key, V value) {
+        if (oldKey != null)
+            statistics.eviction();
         this.oldKey = newKey;
         this.oldValue = newValue;
         this.newKey = key;
         this.newValue = value;
     }
+
+    @Override
+    public CacheStatistics getStatistics() {
+        return statistics;
+    }
 }
@@ -0,0 +1,192 @@
+package org.jsapar;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.Line;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaCell;
+import org.jsapar.schema.CsvSchemaLine;
+import org.junit.Test;
+
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Flow;
+
+import static org.junit.Assert.*;
+
+public class FlowPublishersTest {
+
+    @Test
+    public void testPublisher() {
+        TextParser parser = new TextParser(makePersonSchema());
+        List<String> received = new ArrayList<>();
+        boolean[] completed = {false};
+        Flow.Subscription[] subscription = new Flow.Subscription[1];
+        FlowPublishers.publisher(parser, new StringReader("Jonas;Stenberg\nFrida;Bergsten\nErik;Svensson")).subscribe(new Flow.Subscriber<Line>() {
+            @Override
+            public void onSubscribe(Flow.Subscription s) {
+                subscription[0] = s;
+            }
+
+            @Override
+            public void onNext(Line line) {
+                received.add(line.getExistingCell("First name").getStringValue());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                completed[0] = true;
+            }
+        });
+        assertTrue(received.isEmpty());
+        subscription[0].request(1);
+        assertEquals(Arrays.asList("Jonas"), received);
+        subscription[0].request(5);
+        assertEquals(Arrays.asList("Jonas", "Frida", "Erik"), received);
+        assertTrue(completed[0]);
+    }
+
+    @Test
+    public void testPublisher_cancel() {
+        TextParser parser = new TextParser(makePersonSchema());
+        boolean[] closed = {false};
+        StringReader reader = new StringReader("Jonas;Stenberg\nFrida;Bergsten\nErik;Svensson") {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        List<Line> received = new ArrayList<>();
+        FlowPublishers.publisher(parser, reader).subscribe(new Flow.Subscriber<Line>() {
+            private Flow.Subscription subscription;
+
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                this.subscription = subscription;
+                subscription.request(10);
+            }
+
+            @Override
+            public void onNext(Line line) {
+                received.add(line);
+                subscription.cancel();
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Not expected to complete");
+            }
+        });
+        assertEquals(1, received.size());
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    public void testPublisher_error() {
+        CsvSchema schema = makePersonSchema();
+        schema.getSchemaLine("Person").ifPresent(line -> line.getSchemaCell("First name").setMandatory(true));
+        TextParser parser = new TextParser(schema);
+        Throwable[] error = new Throwable[1];
+        Flow.Publisher<Line> publisher = FlowPublishers.publisher(parser, new StringReader("Jonas;Stenberg\n;Bergsten"));
+        publisher.subscribe(new Flow.Subscriber<Line>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(Line line) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error[0] = throwable;
+            }
+
+            @Override
+            public void onComplete() {
+                fail("Not expected to complete");
+            }
+        });
+        assertTrue(error[0] instanceof JSaParException);
+        // Only one subscriber is allowed.
+        publisher.subscribe(new Flow.Subscriber<Line>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+            }
+
+            @Override
+            public void onNext(Line line) {
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                error[0] = throwable;
+            }
+
+            @Override
+            public void onComplete() {
+            }
+        });
+        assertTrue(error[0] instanceof IllegalStateException);
+    }
+
+    @Test
+    public void testPublisher_beans() {
+        CsvSchema schema = makeTestCsvSchema();
+        Text2BeanConverter<TstPerson> converter = new Text2BeanConverter<>(schema);
+        List<String> names = new ArrayList<>();
+        FlowPublishers.publisher(converter, new StringReader("John;Doe\nJane;Doe")).subscribe(new Flow.Subscriber<TstPerson>() {
+            @Override
+            public void onSubscribe(Flow.Subscription subscription) {
+                subscription.request(Long.MAX_VALUE);
+            }
+
+            @Override
+            public void onNext(TstPerson person) {
+                names.add(person.getFirstName());
+            }
+
+            @Override
+            public void onError(Throwable throwable) {
+                fail(throwable.getMessage());
+            }
+
+            @Override
+            public void onComplete() {
+                names.add("complete");
+            }
+        });
+        assertEquals(Arrays.asList("John", "Jane", "complete"), names);
+    }
+
+    private CsvSchema makePersonSchema() {
+        CsvSchema schema = new CsvSchema();
+        schema.setLineSeparator("\n");
+        CsvSchemaLine schemaLine = new CsvSchemaLine("Person");
+        schemaLine.addSchemaCell(new CsvSchemaCell("First name"));
+        schemaLine.addSchemaCell(new CsvSchemaCell("Last name"));
+        schema.addSchemaLine(schemaLine);
+        return schema;
+    }
+
+    private CsvSchema makeTestCsvSchema() {
+        CsvSchema schema = new CsvSchema();
+        schema.addSchemaLine(new CsvSchemaLine("org.jsapar.TstPerson")
+                .addSchemaCell(new CsvSchemaCell("firstName"))
+                .addSchemaCell(new CsvSchemaCell("lastName")));
+        return schema;
+    }
+}
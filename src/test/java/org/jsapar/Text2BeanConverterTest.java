@@ -2,18 +2,30 @@ package org.jsapar;
 
 import org.jsapar.compose.bean.BeanComposeConfig;
 import org.jsapar.compose.bean.BeanFactory;
+import org.jsapar.error.RecordingErrorEventListener;
 import org.jsapar.model.Cell;
+import org.jsapar.model.CellType;
 import org.jsapar.model.Line;
+import org.jsapar.parse.CellParseException;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.CsvSchema;
 import org.jsapar.schema.CsvSchemaCell;
 import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.FixedWidthSchema;
+import org.jsapar.schema.FixedWidthSchemaCell;
+import org.jsapar.schema.FixedWidthSchemaLine;
 import org.jsapar.schema.Schema;
+import org.jsapar.schema.SchemaCellFormat;
 import org.junit.Test;
 
 import java.io.IOException;
 import java.io.Reader;
 import java.io.StringReader;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 import static org.junit.Assert.*;
 
@@ -34,6 +46,68 @@ public class Text2BeanConverterTest {
         }
     }
 
+    @Test
+    public void stream() {
+        Text2BeanConverter<TstPerson> converter = new Text2BeanConverter<>(makeTestCsvSchema());
+        try (Stream<TstPerson> stream = converter.stream(new StringReader("John;Doe\nJane;Doe"))) {
+            assertEquals(Arrays.asList("John", "Jane"), stream.map(TstPerson::getFirstName).collect(Collectors.toList()));
+        }
+    }
+
+    @Test
+    public void stream_typedAndNestedCells() {
+        CsvSchema schema = new CsvSchema();
+        schema.addSchemaLine(new CsvSchemaLine("org.jsapar.TstPerson")
+                .addSchemaCell(new CsvSchemaCell("firstName"))
+                .addSchemaCell(new CsvSchemaCell("shoeSize", CellType.INTEGER))
+                .addSchemaCell(new CsvSchemaCell("address.town"))
+                .addSchemaCell(new CsvSchemaCell("gender")));
+        Text2BeanConverter<TstPerson> converter = new Text2BeanConverter<>(schema);
+        RecordingErrorEventListener errors = new RecordingErrorEventListener();
+        converter.setErrorEventListener(errors);
+        try (Stream<TstPerson> stream = converter.stream(new StringReader("John;42;Stockholm;M\nJane;big\nJim"))) {
+            List<TstPerson> persons = stream.collect(Collectors.toList());
+            assertEquals(3, persons.size());
+            assertEquals("John", persons.get(0).getFirstName());
+            assertEquals(42, persons.get(0).getShoeSize());
+            assertEquals("Stockholm", persons.get(0).getAddress().getTown());
+            assertEquals(TstGender.M, persons.get(0).getGender());
+            assertEquals("Jane", persons.get(1).getFirstName());
+            assertEquals(0, persons.get(1).getShoeSize());
+            assertNull(persons.get(1).getAddress());
+            assertEquals("Jim", persons.get(2).getFirstName());
+        }
+        assertEquals(1, errors.size());
+        assertEquals(2, ((CellParseException) errors.getErrors().get(0)).getLineNumber());
+    }
+
+    @Test
+    public void stream_fixedWidth() {
+        FixedWidthSchema schema = new FixedWidthSchema();
+        schema.addSchemaLine(new FixedWidthSchemaLine("org.jsapar.TstPerson")
+                .addSchemaCell(new FixedWidthSchemaCell("firstName", 5))
+                .addSchemaCell(new FixedWidthSchemaCell("lastName", 5))
+                .addSchemaCell(new FixedWidthSchemaCell("shoeSize", 2, new SchemaCellFormat(CellType.INTEGER))));
+        Text2BeanConverter<TstPerson> converter = new Text2BeanConverter<>(schema);
+        try (Stream<TstPerson> stream = converter.stream(new StringReader("John Doe  42\nJane Doe  38"))) {
+            List<TstPerson> persons = stream.collect(Collectors.toList());
+            assertEquals(2, persons.size());
+            assertEquals("Doe", persons.get(0).getLastName());
+            assertEquals(42, persons.get(0).getShoeSize());
+            assertEquals("Jane", persons.get(1).getFirstName());
+            assertEquals(38, persons.get(1).getShoeSize());
+        }
+    }
+
+    @Test
+    public void stream_lineManipulator() {
+        Text2BeanConverter<TstPerson> converter = new Text2BeanConverter<>(makeTestCsvSchema());
+        converter.addLineManipulator(line -> !line.getCell("firstName").map(Cell::getStringValue).orElse("").equals("John"));
+        try (Stream<TstPerson> stream = converter.stream(new StringReader("John;Doe\nJane;Doe"))) {
+            assertEquals(Collections.singletonList("Jane"), stream.map(TstPerson::getFirstName).collect(Collectors.toList()));
+        }
+    }
+
     protected CsvSchema makeTestCsvSchema() {
         CsvSchema schema = new CsvSchema();
         schema.addSchemaLine(new CsvSchemaLine("org.jsapar.TstPerson")
@@ -6,8 +6,11 @@ import org.jsapar.schema.*;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.nio.charset.Charset;
 import java.util.Locale;
 
 import static org.junit.Assert.assertEquals;
@@ -57,6 +60,24 @@ public class TextComposerTest {
         assertEquals(sExpected, writer.toString());
     }
 
+    @Test
+    public final void testWrite_outputStream() throws IOException {
+        String sExpected = "Jonas  Stenberg" + System.getProperty("line.separator") + "Frida  Bergsten";
+        org.jsapar.schema.FixedWidthSchema schema = new org.jsapar.schema.FixedWidthSchema();
+        FixedWidthSchemaLine schemaLine = new FixedWidthSchemaLine("org.jsapar.TstPerson");
+        schemaLine.addSchemaCell(new FixedWidthSchemaCell("FirstName", 7));
+        schemaLine.addSchemaCell(new FixedWidthSchemaCell("LastName", 8));
+        schema.addSchemaLine(schemaLine);
+
+        Charset charset = Charset.forName("IBM037");
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (TextComposer composer = new TextComposer(schema, outputStream, charset)) {
+            composer.compose(document);
+        }
+
+        assertEquals(sExpected, new String(outputStream.toByteArray(), charset));
+    }
+
     @Test
     public final void testWriteCsv() {
         String sExpected = "Jonas;Stenberg" + System.getProperty("line.separator") + "Frida;Bergsten";
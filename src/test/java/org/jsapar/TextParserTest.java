@@ -1,10 +1,28 @@
 package org.jsapar;
 
+import org.jsapar.model.Line;
+import org.jsapar.parse.DocumentBuilderLineEventListener;
+import org.jsapar.parse.LineEventListener;
+import org.jsapar.text.CellCacheStatistics;
 import org.jsapar.text.TextParseConfig;
 import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaCell;
+import org.jsapar.schema.CsvSchemaLine;
 import org.jsapar.schema.Schema;
 import org.junit.Test;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
 import static org.junit.Assert.*;
 
 public class TextParserTest {
@@ -20,6 +38,107 @@ public class TextParserTest {
         assertSame(newConfig, parser.getParseConfig());
     }
 
+    @Test
+    public void testParse_inputStream() throws IOException {
+        TextParser parser = new TextParser(makePersonSchema());
+        List<Line> lines = new ArrayList<>();
+        LineEventListener listener = event -> lines.add(event.getLine());
+        byte[] input = "Åsa;Nilsson\nErik;Öhman\n".getBytes(StandardCharsets.UTF_8);
+        long count = parser.parse(new ByteArrayInputStream(input), StandardCharsets.UTF_8, listener);
+        assertEquals(2, count);
+        assertEquals("Åsa", lines.get(0).getExistingCell("First name").getStringValue());
+        assertEquals("Öhman", lines.get(1).getExistingCell("Last name").getStringValue());
+    }
+
+    @Test
+    public void testParse_path() throws IOException {
+        Path path = Files.createTempFile("jsapar", ".csv");
+        try {
+            Files.write(path, "Åsa;Nilsson\nErik;Öhman\n".getBytes(StandardCharsets.UTF_8));
+            TextParser parser = new TextParser(makePersonSchema());
+            List<Line> lines = new ArrayList<>();
+            assertEquals(2, parser.parse(path, StandardCharsets.UTF_8, event -> lines.add(event.getLine())));
+            assertEquals("Åsa", lines.get(0).getExistingCell("First name").getStringValue());
+            assertEquals("Öhman", lines.get(1).getExistingCell("Last name").getStringValue());
+        } finally {
+            Files.delete(path);
+        }
+    }
+
+    @Test
+    public void testParse_batches() throws IOException {
+        TextParser parser = new TextParser(makePersonSchema());
+        DocumentBuilderLineEventListener documentBuilder = new DocumentBuilderLineEventListener();
+        List<Integer> batchSizes = new ArrayList<>();
+        String input = "Åsa;Nilsson\nErik;Öhman\nPer;Ek\n";
+        long count = parser.parse(new StringReader(input), lines -> {
+            batchSizes.add(lines.size());
+            documentBuilder.lineBatchParsedEvent(lines);
+        }, 2);
+        assertEquals(3, count);
+        assertEquals(Arrays.asList(2, 1), batchSizes);
+        assertEquals("Ek", documentBuilder.getDocument().getLine(2).getExistingCell("Last name").getStringValue());
+    }
+
+    @Test
+    public void testParse_cellCacheStatistics() throws IOException {
+        TextParseConfig config = new TextParseConfig();
+        config.setMaxCellCacheSize(10);
+        assertEquals(10, config.getMaxCellCacheSize());
+        CellCacheStatistics statistics = new CellCacheStatistics();
+        config.setCellCacheStatistics(statistics);
+        TextParser parser = new TextParser(makePersonSchema(), config);
+        byte[] input = "Åsa;Nilsson\nErik;Nilsson\nÅsa;Öhman\n".getBytes(StandardCharsets.UTF_8);
+        parser.parse(new ByteArrayInputStream(input), StandardCharsets.UTF_8, event -> { });
+        assertEquals(1, statistics.getHits("Person", "First name"));
+        assertEquals(2, statistics.getMisses("Person", "First name"));
+        assertEquals(1, statistics.getHits("Person", "Last name"));
+        assertEquals(0, statistics.getEvictions("Person", "Last name"));
+    }
+
+    @Test
+    public void testStream_lazy() {
+        CsvSchema schema = makePersonSchema();
+        schema.getSchemaLine("Person").ifPresent(line -> line.getSchemaCell("First name").setMandatory(true));
+        TextParser parser = new TextParser(schema);
+        boolean[] closed = {false};
+        StringReader reader = new StringReader("Jonas;Stenberg\n;Bergsten") {
+            @Override
+            public void close() {
+                closed[0] = true;
+                super.close();
+            }
+        };
+        try (Stream<Line> stream = parser.stream(reader)) {
+            // The second line would fail if it was parsed.
+            Optional<Line> first = stream.findFirst();
+            assertEquals("Jonas", first.map(line -> line.getExistingCell("First name").getStringValue()).orElse(null));
+        }
+        assertTrue(closed[0]);
+    }
+
+    @Test
+    public void testStream_parallel() {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 5000; i++)
+            input.append("Name").append(i).append(';').append(i).append('\n');
+        TextParser parser = new TextParser(makePersonSchema());
+        try (Stream<Line> stream = parser.stream(new StringReader(input.toString()))) {
+            long sum = stream.parallel().mapToLong(line -> Long.parseLong(line.getExistingCell("Last name").getStringValue())).sum();
+            assertEquals(4999L * 5000L / 2, sum);
+        }
+    }
+
+    private CsvSchema makePersonSchema() {
+        CsvSchema schema = new CsvSchema();
+        schema.setLineSeparator("\n");
+        CsvSchemaLine schemaLine = new CsvSchemaLine("Person");
+        schemaLine.addSchemaCell(new CsvSchemaCell("First name"));
+        schemaLine.addSchemaCell(new CsvSchemaCell("Last name"));
+        schema.addSchemaLine(schemaLine);
+        return schema;
+    }
+
     private Schema makeInputSchema() {
         return new CsvSchema();
     }
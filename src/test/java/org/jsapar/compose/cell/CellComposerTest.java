@@ -143,4 +143,17 @@ public class CellComposerTest {
         fail("Should throw exception");
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testFormat_lineBuffer() throws SchemaException {
+        CellComposer composer = new CellComposer();
+        StringBuilder line = new StringBuilder("x;");
+        composer.format(new IntegerCell("Number", 42), new TestSchemaCell("Number"), line);
+        line.append(';');
+        composer.format(new BooleanCell("Flag", true), new TestSchemaCell("Flag"), line);
+        line.append(';');
+        composer.format(new IntegerCell("Decimal", 1234), new TestSchemaCell("Decimal", CellType.INTEGER, "#,##0", new Locale("sv", "SE")), line);
+        assertEquals("x;42;true;" + composer.format(new IntegerCell("Decimal", 1234),
+                new TestSchemaCell("Decimal", CellType.INTEGER, "#,##0", new Locale("sv", "SE"))), line.toString());
+    }
+
+}
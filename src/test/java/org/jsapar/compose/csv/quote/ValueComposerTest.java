@@ -0,0 +1,41 @@
+package org.jsapar.compose.csv.quote;
+
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+
+import static org.junit.Assert.assertEquals;
+
+/**
+ */
+public class ValueComposerTest {
+
+    /**
+     * Implemented in the same way as before values could be composed in place.
+     */
+    private static class WriterQuoter implements Quoter {
+        @Override
+        public void writeValue(Writer writer, String value) throws IOException {
+            writer.write('[');
+            writer.write(value);
+            writer.write(']');
+        }
+    }
+
+    @Test
+    public void composeValue_delegatesToWriteValue() {
+        StringBuilder line = new StringBuilder("a;bc");
+        new WriterQuoter().composeValue(line, 2);
+        assertEquals("a;[bc]", line.toString());
+    }
+
+    @Test
+    public void writeValue_delegatesToComposeValue() throws Exception {
+        StringWriter w = new StringWriter();
+        new MaxLengthComposer(3).writeValue(w, "abcdef");
+        assertEquals("abc", w.toString());
+    }
+
+}
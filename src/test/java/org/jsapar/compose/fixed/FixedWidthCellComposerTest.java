@@ -123,5 +123,22 @@ public class FixedWidthCellComposerTest {
         assertEquals("10         ", writer.toString());
     }
 
+    @Test
+    public final void testCompose_lineBuffer() {
+        FixedWidthSchemaCell left = new FixedWidthSchemaCell("First name", 7);
+        FixedWidthSchemaCell right = new FixedWidthSchemaCell("Last name", 4);
+        right.setAlignment(FixedWidthSchemaCell.Alignment.RIGHT);
+        FixedWidthSchemaCell center = new FixedWidthSchemaCell("Nick name", 6);
+        center.setAlignment(FixedWidthSchemaCell.Alignment.CENTER);
+
+        FixedWidthCellComposer composer = new FixedWidthCellComposer(new StringWriter());
+        StringBuilder line = new StringBuilder();
+        composer.compose(line, new StringCell("First name", "Jonas"), left);
+        composer.compose(line, new StringCell("Last name", "Nilsson"), right);
+        composer.compose(line, new StringCell("Nick name", "Jo"), center);
+        composer.compose(line, new StringCell("Last name", "Al"), right);
+
+        assertEquals("Jonas  sson  Jo    Al", line.toString());
+    }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,113 @@
+package org.jsapar.compose.line;
+
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.Assert.*;
+
+public class EncodingWriterTest {
+
+    private byte[] write(Charset charset, int bufferSize, String... values) throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (Writer writer = new EncodingWriter(outputStream, charset, bufferSize)) {
+            for (String value : values) {
+                writer.write(value.toCharArray(), 0, value.length());
+            }
+        }
+        return outputStream.toByteArray();
+    }
+
+    @Test
+    public void testIsSingleByte() {
+        assertTrue(EncodingWriter.isSingleByte(StandardCharsets.ISO_8859_1));
+        assertTrue(EncodingWriter.isSingleByte(StandardCharsets.US_ASCII));
+        assertTrue(EncodingWriter.isSingleByte(Charset.forName("windows-1252")));
+        assertFalse(EncodingWriter.isSingleByte(StandardCharsets.UTF_8));
+        assertFalse(EncodingWriter.isSingleByte(StandardCharsets.UTF_16));
+    }
+
+    @Test
+    public void testWrite_singleByte() throws IOException {
+        String text = "Åsa;Öhman;€10\n";
+        Charset cp1252 = Charset.forName("windows-1252");
+        assertArrayEquals((text + text + text).getBytes(cp1252), write(cp1252, 16, text, text, text));
+        assertArrayEquals("Åsa;Öhman;?10\n".getBytes(StandardCharsets.ISO_8859_1), write(StandardCharsets.ISO_8859_1, 16, text));
+        assertArrayEquals("?sa;?hman;?10\n".getBytes(StandardCharsets.US_ASCII), write(StandardCharsets.US_ASCII, 16, text));
+    }
+
+    @Test
+    public void testWrite_string() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (Writer writer = new EncodingWriter(outputStream, StandardCharsets.ISO_8859_1, 16)) {
+            writer.write("xxÅsa Nilsson and Erik Öhman", 2, 26);
+            writer.write('!');
+        }
+        assertEquals("Åsa Nilsson and Erik Öhman!", new String(outputStream.toByteArray(), StandardCharsets.ISO_8859_1));
+    }
+
+    @Test
+    public void testWrite_multiByte() throws IOException {
+        String text = "Åsa;Öhman;€10;😀\n";
+        assertArrayEquals((text + text).getBytes(StandardCharsets.UTF_8), write(StandardCharsets.UTF_8, 16, text, text));
+        // Surrogate pair split between two writes
+        assertArrayEquals("a😀b".getBytes(StandardCharsets.UTF_8), write(StandardCharsets.UTF_8, 16, "a\uD83D", "\uDE00b"));
+    }
+
+    private interface WriteAction {
+        void write(Writer writer) throws IOException;
+    }
+
+    private void assertSameAsOutputStreamWriter(Charset charset, WriteAction action) throws IOException {
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        try (Writer writer = new OutputStreamWriter(expected, charset)) {
+            action.write(writer);
+        }
+        ByteArrayOutputStream actual = new ByteArrayOutputStream();
+        try (Writer writer = new EncodingWriter(actual, charset, 16)) {
+            action.write(writer);
+        }
+        assertArrayEquals(charset.name(), expected.toByteArray(), actual.toByteArray());
+    }
+
+    @Test
+    public void testWrite_unmappableSurrogates() throws IOException {
+        String text = "a\uD83D\uDE00b\u20ACc\uD800d\u0081\uDC00\uD800\uD83D\uDE00e\uD800";
+        for (String charsetName : new String[]{"ISO-8859-1", "US-ASCII", "windows-1252", "IBM037", "UTF-8"}) {
+            Charset charset = Charset.forName(charsetName);
+            assertSameAsOutputStreamWriter(charset, writer -> writer.write(text));
+            assertSameAsOutputStreamWriter(charset, writer -> writer.write(text.toCharArray()));
+            assertSameAsOutputStreamWriter(charset, writer -> {
+                for (int i = 0; i < text.length(); i++)
+                    writer.write(text.charAt(i));
+            });
+            for (int split = 1; split < text.length(); split++) {
+                final int at = split;
+                assertSameAsOutputStreamWriter(charset, writer -> {
+                    writer.write(text, 0, at);
+                    writer.write(text, at, text.length() - at);
+                });
+                assertSameAsOutputStreamWriter(charset, writer -> {
+                    writer.write(text.toCharArray(), 0, at);
+                    writer.write(text.toCharArray(), at, text.length() - at);
+                });
+            }
+        }
+        assertEquals(8, write(StandardCharsets.ISO_8859_1, 16, "a\uD83D\uDE00b\u20ACc\uD800d\u0081").length);
+    }
+
+    @Test
+    public void testFlush() throws IOException {
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        Writer writer = new EncodingWriter(outputStream, StandardCharsets.UTF_8);
+        writer.write("Åsa");
+        assertEquals(0, outputStream.size());
+        writer.flush();
+        assertEquals("Åsa", new String(outputStream.toByteArray(), StandardCharsets.UTF_8));
+    }
+}
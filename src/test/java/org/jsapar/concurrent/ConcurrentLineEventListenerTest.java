@@ -1,12 +1,20 @@
 package org.jsapar.concurrent;
 
+import org.jsapar.error.ErrorEvent;
 import org.jsapar.error.JSaParException;
 import org.jsapar.model.Line;
+import org.jsapar.parse.LineParseException;
 import org.jsapar.parse.LineParsedEvent;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.Assert.*;
 
@@ -57,6 +65,31 @@ public class ConcurrentLineEventListenerTest {
 
     }
 
+    @Test
+    public void testLineParsedEvent_batches() {
+        List<Integer> batchSizes = new ArrayList<>();
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(lines -> batchSizes.add(lines.size()), 10, 3)) {
+            for (int i = 0; i < 4; i++)
+                instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+            assertEquals(1, instance.size());
+            instance.lineBatchParsedEvent(new ArrayList<>(Arrays.asList(new Line(""), new Line(""))));
+            assertEquals(3, instance.size());
+            instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+            instance.start();
+        }
+        assertEquals(Arrays.asList(3, 1, 2, 1), batchSizes);
+    }
+
+    @Test
+    public void testLineBatchParsedEvent_single() {
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> count.getAndIncrement())) {
+            instance.lineBatchParsedEvent(Arrays.asList(new Line(""), new Line("")));
+            assertEquals(1, instance.size());
+            instance.start();
+        }
+        assertEquals(2, count.get());
+    }
+
     @Test
     public void testWorkerTakesLongTime() {
         try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> {
@@ -98,6 +131,123 @@ public class ConcurrentLineEventListenerTest {
         assertEquals(4, count.get());
     }
 
+    @Test
+    public void testWaitStrategies() {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            count.set(0);
+            try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> count.getAndIncrement(), 64)) {
+                instance.setWaitStrategy(waitStrategy);
+                assertEquals(waitStrategy, instance.getWaitStrategy());
+                instance.start();
+                for (int i = 0; i < 1_000; i++)
+                    instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+            }
+            assertEquals(waitStrategy.name(), 1_000, count.get());
+        }
+    }
+
+    @Test
+    public void testSetThreadFactory() {
+        List<String> threadNames = new ArrayList<>();
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> threadNames.add(Thread.currentThread().getName()))) {
+            instance.setThreadFactory(r -> new Thread(r, "custom"));
+            instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+            instance.start();
+        }
+        assertEquals(Arrays.asList("custom"), threadNames);
+    }
+
+    @Test
+    public void testSetExecutor() throws InterruptedException {
+        List<String> threadNames = new ArrayList<>();
+        ExecutorService executor = Executors.newSingleThreadExecutor(r -> new Thread(r, "pooled"));
+        try {
+            for (int i = 0; i < 2; i++) {
+                try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> threadNames.add(Thread.currentThread().getName()))) {
+                    instance.setExecutor(executor);
+                    instance.start();
+                    assertTrue(instance.isRunning());
+                    instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+                }
+            }
+        } finally {
+            executor.shutdown();
+        }
+        assertEquals(Arrays.asList("pooled", "pooled"), threadNames);
+    }
+
+    @Test
+    public void testBackpressure_drop() {
+        List<ErrorEvent> errors = new ArrayList<>();
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> count.getAndIncrement(), 1)) {
+            instance.setBackpressurePolicy(BackpressurePolicy.DROP);
+            instance.setErrorEventListener(errors::add);
+            for (int i = 1; i <= 3; i++) {
+                Line line = new Line("");
+                line.setLineNumber(i);
+                instance.lineParsedEvent(new LineParsedEvent(this, line));
+            }
+            assertEquals(1, instance.size());
+            assertEquals(2, instance.getQueueMetrics().getDroppedCount());
+            assertEquals(1, instance.getQueueMetrics().getMaxQueueDepth());
+            instance.start();
+        }
+        assertEquals(1, count.get());
+        assertEquals(2, errors.size());
+        assertEquals(2L, ((LineParseException) errors.get(0).getError()).getLineNumber());
+    }
+
+    @Test
+    public void testBackpressure_spill() {
+        List<String> lineTypes = new ArrayList<>();
+        QueueMetrics shared = new QueueMetrics();
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> lineTypes.add(event.getLine().getLineType()), 2)) {
+            instance.setBackpressurePolicy(BackpressurePolicy.SPILL);
+            instance.setSharedQueueMetrics(shared);
+            for (int i = 0; i < 5; i++)
+                instance.lineParsedEvent(new LineParsedEvent(this, new Line("L" + i)));
+            assertEquals(2, instance.size());
+            instance.start();
+            for (int i = 5; i < 8; i++)
+                instance.lineParsedEvent(new LineParsedEvent(this, new Line("L" + i)));
+        }
+        assertEquals(Arrays.asList("L0", "L1", "L2", "L3", "L4", "L5", "L6", "L7"), lineTypes);
+        assertTrue(shared.getSpilledCount() >= 3);
+    }
+
+    @Test
+    public void testQueueMetrics_stall() {
+        AtomicReference<InterruptedException> interrupted = new AtomicReference<>();
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> {
+            try {
+                Thread.sleep(2L);
+            } catch (InterruptedException e) {
+                interrupted.set(e);
+            }
+        }, 1)) {
+            instance.start();
+            for (int i = 0; i < 5; i++)
+                instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+            QueueMetrics metrics = instance.getQueueMetrics();
+            assertTrue(metrics.getStallCount() > 0);
+            assertTrue(metrics.getStallTime().toNanos() > 0);
+            assertEquals(1, metrics.getMaxQueueDepth());
+        }
+        assertNull(interrupted.get());
+    }
+
+    @Test(expected = JSaParException.class)
+    public void testExceptionFromListener_queueFull() {
+        try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> {
+            throw new AssertionError("Testing error");
+        }, 1)) {
+            instance.start();
+            for (int i = 0; i < 100; i++)
+                instance.lineParsedEvent(new LineParsedEvent(this, new Line("")));
+        }
+        fail("Exception expected");
+    }
+
     @Test(expected = JSaParException.class)
     public void testExceptionFromListener_slow() {
         try (ConcurrentLineEventListener instance = new ConcurrentLineEventListener(event -> {
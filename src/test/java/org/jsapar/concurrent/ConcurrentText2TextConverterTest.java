@@ -11,6 +11,8 @@ import org.junit.Test;
 import java.io.IOException;
 import java.io.StringReader;
 import java.io.StringWriter;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 /**
  */
@@ -45,4 +47,47 @@ public class ConcurrentText2TextConverterTest {
 
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testConvert_threadFactory() throws IOException {
+        org.jsapar.schema.CsvSchema schema = new org.jsapar.schema.CsvSchema();
+        CsvSchemaLine schemaLine = new CsvSchemaLine("Person");
+        schemaLine.addSchemaCell(new CsvSchemaCell("First name"));
+        schema.addSchemaLine(schemaLine);
+        schema.setLineSeparator("|");
+
+        StringBuilder threadNames = new StringBuilder();
+        ConcurrentText2TextConverter converter = new ConcurrentText2TextConverter(schema, schema);
+        converter.setThreadFactory(r -> new Thread(r, "custom"));
+        converter.registerOnStart(() -> threadNames.append(Thread.currentThread().getName()));
+        StringWriter writer = new StringWriter();
+        converter.convert(new StringReader("Jonas|Frida"), writer);
+        Assert.assertEquals("Jonas|Frida", writer.toString());
+        Assert.assertEquals("custom", threadNames.toString());
+    }
+
+    @Test
+    public void testConvert_executor() throws IOException {
+        org.jsapar.schema.CsvSchema schema = new org.jsapar.schema.CsvSchema();
+        CsvSchemaLine schemaLine = new CsvSchemaLine("Person");
+        schemaLine.addSchemaCell(new CsvSchemaCell("First name"));
+        schema.addSchemaLine(schemaLine);
+        schema.setLineSeparator("|");
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            QueueMetrics metrics = new QueueMetrics();
+            ConcurrentText2TextConverter converter = new ConcurrentText2TextConverter(schema, schema);
+            converter.setExecutor(executor);
+            converter.setQueueSize(1);
+            converter.setQueueMetrics(metrics);
+            for (int i = 0; i < 3; i++) {
+                StringWriter writer = new StringWriter();
+                converter.convert(new StringReader("Jonas|Frida|Erik"), writer);
+                Assert.assertEquals("Jonas|Frida|Erik", writer.toString());
+            }
+            Assert.assertTrue(metrics.getMaxQueueDepth() <= 1);
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.BeanCollection2TextConverter;
+import org.jsapar.TstPerson;
+import org.jsapar.TstPostAddress;
+import org.jsapar.model.CellType;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaCell;
+import org.jsapar.schema.CsvSchemaLine;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.junit.Assert.assertEquals;
+
+public class ParallelBeanCollection2TextConverterTest {
+
+    private CsvSchema makeSchema() {
+        CsvSchema schema = new CsvSchema();
+        CsvSchemaLine personLine = new CsvSchemaLine(TstPerson.class.getName());
+        personLine.addSchemaCell(new CsvSchemaCell("firstName", CellType.STRING));
+        personLine.addSchemaCell(new CsvSchemaCell("luckyNumber", CellType.INTEGER));
+        personLine.setFirstLineAsSchema(true);
+        schema.addSchemaLine(personLine);
+        CsvSchemaLine addressLine = new CsvSchemaLine(TstPostAddress.class.getName());
+        addressLine.addSchemaCell(new CsvSchemaCell("street", CellType.STRING));
+        addressLine.addSchemaCell(new CsvSchemaCell("town", CellType.STRING));
+        schema.addSchemaLine(addressLine);
+        schema.setLineSeparator("\n");
+        return schema;
+    }
+
+    private List<Object> makeBeans(int count) {
+        List<Object> beans = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            if (i % 5 == 3)
+                beans.add(new TstPostAddress("Street " + i, "Town"));
+            else
+                beans.add(new TstPerson("Person " + i, "Last", (short) 1, i, null, 1, 'A'));
+        }
+        return beans;
+    }
+
+    @Test
+    public void testConvert_sameAsSequential() throws IOException {
+        List<Object> beans = makeBeans(1000);
+        StringWriter expected = new StringWriter();
+        assertEquals(1000, new BeanCollection2TextConverter<>(makeSchema()).convert(beans, expected));
+
+        ParallelBeanCollection2TextConverter<Object> converter = new ParallelBeanCollection2TextConverter<>(makeSchema());
+        converter.setWorkers(3);
+        converter.setChunkSize(7);
+        StringWriter writer = new StringWriter();
+        assertEquals(1000, converter.convert(beans, writer));
+        assertEquals(expected.toString(), writer.toString());
+        assertEquals("firstName;luckyNumber\nPerson 0;0\nPerson 1;1", writer.toString().substring(0, 43));
+
+        writer = new StringWriter();
+        assertEquals(1000, converter.convert(beans.iterator(), writer));
+        assertEquals(expected.toString(), writer.toString());
+    }
+
+    @Test
+    public void testConvert_lineManipulator() throws IOException {
+        List<Object> beans = makeBeans(100);
+        ParallelBeanCollection2TextConverter<Object> converter = new ParallelBeanCollection2TextConverter<>(makeSchema());
+        converter.setChunkSize(3);
+        converter.addLineManipulator(line -> line.getLineType().equals(TstPostAddress.class.getName()));
+        StringWriter writer = new StringWriter();
+        assertEquals(100, converter.convert(beans, writer));
+        String[] lines = writer.toString().split("\n");
+        assertEquals(20, lines.length);
+        assertEquals("Street 3;Town", lines[0]);
+        assertEquals("Street 98;Town", lines[19]);
+    }
+
+    @Test
+    public void testConvert_executor() throws IOException {
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            ParallelBeanCollection2TextConverter<Object> converter = new ParallelBeanCollection2TextConverter<>(makeSchema());
+            converter.setExecutor(executor);
+            converter.setChunkSize(10);
+            StringWriter writer = new StringWriter();
+            assertEquals(0, converter.convert(new ArrayList<>(), writer));
+            assertEquals("", writer.toString());
+            assertEquals(95, converter.convert(makeBeans(95), writer));
+            assertEquals(96, writer.toString().split("\n").length);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testConvert_manipulatorFails() throws IOException {
+        ParallelBeanCollection2TextConverter<Object> converter = new ParallelBeanCollection2TextConverter<>(makeSchema());
+        converter.setChunkSize(10);
+        converter.addLineManipulator(line -> {
+            throw new IllegalStateException("Testing error");
+        });
+        converter.convert(makeBeans(100), new StringWriter());
+    }
+}
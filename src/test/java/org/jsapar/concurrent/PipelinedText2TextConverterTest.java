@@ -0,0 +1,74 @@
+package org.jsapar.concurrent;
+
+import org.jsapar.error.JSaParException;
+import org.jsapar.model.StringCell;
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaCell;
+import org.jsapar.schema.CsvSchemaLine;
+import org.junit.Assert;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+public class PipelinedText2TextConverterTest {
+
+    private CsvSchema makeSchema(String separator) {
+        CsvSchema schema = new CsvSchema();
+        CsvSchemaLine schemaLine = new CsvSchemaLine("Number");
+        schemaLine.addSchemaCell(new CsvSchemaCell("Value"));
+        schemaLine.addSchemaCell(new CsvSchemaCell("Square"));
+        schemaLine.setCellSeparator(separator);
+        schema.addSchemaLine(schemaLine);
+        schema.setLineSeparator("\n");
+        return schema;
+    }
+
+    @Test
+    public void testConvert_inOrder() throws IOException {
+        StringBuilder input = new StringBuilder();
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            input.append(i).append(";\n");
+            if (i % 3 != 0)
+                expected.append(expected.length() > 0 ? "\n" : "").append(i).append('|').append(i * i);
+        }
+        PipelinedText2TextConverter converter = new PipelinedText2TextConverter(makeSchema(";"), makeSchema("|"));
+        converter.setWorkers(4);
+        converter.setChunkSize(7);
+        converter.addLineManipulator(line -> {
+            int value = Integer.parseInt(line.getExistingCell("Value").getStringValue());
+            line.putCell(new StringCell("Square", String.valueOf(value * value)));
+            return value % 3 != 0;
+        });
+        StringWriter writer = new StringWriter();
+        Assert.assertEquals(1000, converter.convert(new StringReader(input.toString()), writer));
+        Assert.assertEquals(expected.toString(), writer.toString());
+    }
+
+    @Test
+    public void testConvert_onStartStop() throws IOException {
+        StringBuilder events = new StringBuilder();
+        PipelinedText2TextConverter converter = new PipelinedText2TextConverter(makeSchema(";"), makeSchema("|"));
+        converter.registerOnStart(() -> events.append("start"));
+        converter.registerOnStop(() -> events.append("stop"));
+        StringWriter writer = new StringWriter();
+        converter.convert(new StringReader("1;2\n"), writer);
+        Assert.assertEquals("startstop", events.toString());
+        Assert.assertEquals("1|2", writer.toString());
+    }
+
+    @Test(expected = JSaParException.class)
+    public void testConvert_manipulatorFails() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 1000; i++)
+            input.append(i).append(";\n");
+        PipelinedText2TextConverter converter = new PipelinedText2TextConverter(makeSchema(";"), makeSchema("|"));
+        converter.setChunkSize(10);
+        converter.addLineManipulator(line -> {
+            throw new IllegalStateException("Testing error");
+        });
+        converter.convert(new StringReader(input.toString()), new StringWriter());
+    }
+}
@@ -0,0 +1,82 @@
+package org.jsapar.concurrent;
+
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class SpscRingBufferTest {
+
+    @Test
+    public void testOffer_full() {
+        SpscRingBuffer<Integer> instance = new SpscRingBuffer<>(3);
+        assertTrue(instance.isEmpty());
+        assertTrue(instance.offer(1));
+        assertTrue(instance.offer(2));
+        assertTrue(instance.offer(3));
+        assertFalse(instance.offer(4));
+        assertEquals(3, instance.size());
+    }
+
+    @Test
+    public void testDrain() {
+        SpscRingBuffer<Integer> instance = new SpscRingBuffer<>(4);
+        List<Integer> drained = new ArrayList<>();
+        for (int round = 0; round < 3; round++) {
+            for (int i = 0; i < 4; i++)
+                assertTrue(instance.offer(round * 4 + i));
+            assertEquals(2, instance.drain(drained::add, 2));
+            assertEquals(2, instance.drain(drained::add, 10));
+            assertEquals(0, instance.drain(drained::add, 10));
+        }
+        assertEquals(Arrays.asList(0, 1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11), drained);
+        assertTrue(instance.isEmpty());
+    }
+
+    @Test
+    public void testPut_abort() {
+        SpscRingBuffer<Integer> instance = new SpscRingBuffer<>(1);
+        assertTrue(instance.put(1, () -> true));
+        assertFalse(instance.put(2, () -> true));
+        assertEquals(1, instance.size());
+    }
+
+    @Test
+    public void testClear() {
+        SpscRingBuffer<Integer> instance = new SpscRingBuffer<>(2);
+        instance.offer(1);
+        instance.offer(2);
+        instance.clear();
+        assertTrue(instance.isEmpty());
+        assertTrue(instance.offer(3));
+    }
+
+    @Test
+    public void testConcurrent() throws InterruptedException {
+        for (WaitStrategy waitStrategy : WaitStrategy.values()) {
+            SpscRingBuffer<Integer> instance = new SpscRingBuffer<>(64);
+            instance.setWaitStrategy(waitStrategy);
+            long[] sum = new long[1];
+            Thread consumer = new Thread(() -> {
+                int received = 0;
+                while (received < 1_000) {
+                    instance.awaitElements(() -> false);
+                    received += instance.drain(e -> sum[0] += e, 16);
+                }
+            });
+            consumer.start();
+            for (int i = 0; i < 1_000; i++)
+                instance.put(i, () -> false);
+            consumer.join();
+            assertEquals(waitStrategy.name(), 999L * 1_000L / 2, sum[0]);
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreate_zeroCapacity() {
+        new SpscRingBuffer<>(0);
+    }
+}
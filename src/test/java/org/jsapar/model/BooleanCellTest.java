@@ -31,4 +31,24 @@ public class BooleanCellTest {
         assertEquals(0, cell3.compareValueTo(cell3));
         assertEquals(0, cell3.compareValueTo(cell4));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void testGetBoolean() {
+        assertTrue(new BooleanCell("test", true).getBoolean());
+        assertFalse(new BooleanCell("test", false).getBoolean());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testBoxedConstructor() {
+        assertEquals(new BooleanCell("test", true), new BooleanCell("test", Boolean.TRUE));
+        assertTrue(new BooleanCell("test", Boolean.TRUE).getBoolean());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test(expected = NullPointerException.class)
+    public void testBoxedConstructor_null() {
+        new BooleanCell("test", (Boolean) null);
+    }
+
+}
@@ -28,4 +28,26 @@ public class FloatCellTest {
         assertTrue(c3.compareTo(c2) < 0);
         assertEquals(0, c1.compareTo(c1));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void getDouble() {
+        assertEquals(20.1d, new FloatCell("test", 20.1d).getDouble(), 0.0);
+        assertEquals(1.5d, new FloatCell("test", 1.5f).getDouble(), 0.0);
+        assertEquals(Float.valueOf(1.5f), new FloatCell("test", 1.5f).getValue());
+        assertEquals(Double.valueOf(1.5d), new FloatCell("test", 1.5d).getValue());
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testBoxedConstructors() {
+        assertEquals(new FloatCell("test", 1.5f), new FloatCell("test", Float.valueOf(1.5f)));
+        assertEquals(new FloatCell("test", 1.5d), new FloatCell("test", Double.valueOf(1.5d)));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test(expected = NullPointerException.class)
+    public void testBoxedConstructor_null() {
+        new FloatCell("test", (Double) null);
+    }
+
+}
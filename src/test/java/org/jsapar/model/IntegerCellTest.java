@@ -38,4 +38,36 @@ public class IntegerCellTest {
         assertTrue(c3.compareValueTo(c1) <0);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void getLong() {
+        assertEquals(123L, new IntegerCell("test", 123).getLong());
+        assertEquals(-5L, new IntegerCell("test", (byte) -5).getLong());
+    }
+
+    @Test
+    public void getValue_keeps_type() {
+        assertEquals(Integer.valueOf(123), new IntegerCell("test", 123).getValue());
+        assertEquals(Long.valueOf(123), new IntegerCell("test", 123L).getValue());
+        assertEquals(Short.valueOf((short) 123), new IntegerCell("test", (short) 123).getValue());
+        assertEquals(Byte.valueOf((byte) 123), new IntegerCell("test", (byte) 123).getValue());
+        assertEquals("123", new IntegerCell("test", 123L).getStringValue());
+        assertEquals(new IntegerCell("test", 123L), new IntegerCell("test", 123L));
+        assertNotEquals(new IntegerCell("test", 123L), new IntegerCell("test", 123));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test
+    public void testBoxedConstructors() {
+        assertEquals(new IntegerCell("test", 123), new IntegerCell("test", Integer.valueOf(123)));
+        assertEquals(new IntegerCell("test", 123L), new IntegerCell("test", Long.valueOf(123L)));
+        assertEquals(new IntegerCell("test", (short) 123), new IntegerCell("test", Short.valueOf((short) 123)));
+        assertEquals(new IntegerCell("test", (byte) 123), new IntegerCell("test", Byte.valueOf((byte) 123)));
+    }
+
+    @SuppressWarnings("deprecation")
+    @Test(expected = NullPointerException.class)
+    public void testBoxedConstructor_null() {
+        new IntegerCell("test", (Integer) null);
+    }
+
+}
@@ -6,6 +6,10 @@ import org.junit.After;
 import org.junit.Before;
 import org.junit.Test;
 
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.stream.Collectors;
+
 import static org.junit.Assert.*;
 
 public class LineTest {
@@ -192,4 +196,60 @@ public class LineTest {
         fail("Should throw exception");
     }
 
+    @Test
+    public void testLine_cellIndex() {
+        CellIndex cellIndex = CellIndex.of(Arrays.asList("First", "Second", "Third"));
+        Line line = new Line("Shoe", cellIndex);
+        assertEquals(0, line.size());
+        line.addCell(new StringCell("Third", "3"));
+        line.addCell(new StringCell("Other", "x"));
+        line.addCell(new StringCell("First", "1"));
+        assertEquals(3, line.size());
+        assertEquals("1", line.getExistingCell("First").getStringValue());
+        assertEquals("x", line.getExistingCell("Other").getStringValue());
+        assertFalse(line.getCell("Second").isPresent());
+        assertEquals("First,Third,Other", line.stream().map(Cell::getName).collect(Collectors.joining(",")));
+        assertEquals(3, line.getCells().size());
+
+        assertEquals("3", line.putCell(new StringCell("Third", "33")).map(Cell::getStringValue).orElse(null));
+        assertEquals(3, line.size());
+        assertTrue(line.removeCell("First").isPresent());
+        assertFalse(line.removeCell("First").isPresent());
+        assertEquals(2, line.size());
+
+        Line clone = line.clone();
+        clone.removeCell("Third");
+        assertEquals(2, line.size());
+        assertEquals(1, clone.size());
+    }
+
+    @Test(expected = IllegalStateException.class)
+    public void testAddCell_cellIndex_duplicate() {
+        Line line = new Line("Shoe", CellIndex.of(Arrays.asList("First", "Second")));
+        line.addCell(new StringCell("Second", "2"));
+        line.addCell(new StringCell("Second", "2"));
+    }
+
+    @Test
+    public void testIterator_cellIndex_remove() {
+        Line line = new Line("Shoe", CellIndex.of(Arrays.asList("First", "Second")));
+        line.addCell(new StringCell("Second", "2"));
+        line.addCell(new StringCell("Other", "x"));
+        Iterator<Cell> it = line.iterator();
+        assertEquals("Second", it.next().getName());
+        it.remove();
+        assertEquals("Other", it.next().getName());
+        it.remove();
+        assertFalse(it.hasNext());
+        assertEquals(0, line.size());
+    }
+
+    @Test
+    public void testGetCellErrors_none() {
+        Line line = new Line("Shoe", CellIndex.of(Arrays.asList("First", "Second")));
+        assertFalse(line.hasCellErrors());
+        assertTrue(line.getCellErrors().isEmpty());
+        assertFalse(line.getCellError("First").isPresent());
+    }
+
 }
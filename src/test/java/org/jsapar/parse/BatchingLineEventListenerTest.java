@@ -0,0 +1,39 @@
+package org.jsapar.parse;
+
+import org.jsapar.model.Line;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BatchingLineEventListenerTest {
+
+    @Test
+    public void testLineParsedEvent() {
+        List<List<Line>> batches = new ArrayList<>();
+        try (BatchingLineEventListener instance = new BatchingLineEventListener(batches::add, 2)) {
+            for (int i = 1; i <= 5; i++)
+                instance.lineParsedEvent(new LineParsedEvent(this, new Line("type" + i)));
+            assertEquals(2, batches.size());
+        }
+        assertEquals(3, batches.size());
+        assertEquals("type3", batches.get(1).get(0).getLineType());
+        assertEquals(1, batches.get(2).size());
+    }
+
+    @Test
+    public void testFlush_empty() {
+        List<List<Line>> batches = new ArrayList<>();
+        BatchingLineEventListener instance = new BatchingLineEventListener(batches::add);
+        instance.flush();
+        assertTrue(batches.isEmpty());
+        assertEquals(BatchingLineEventListener.DEFAULT_BATCH_SIZE, instance.getBatchSize());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreate_invalidBatchSize() {
+        new BatchingLineEventListener(lines -> { }, 0);
+    }
+}
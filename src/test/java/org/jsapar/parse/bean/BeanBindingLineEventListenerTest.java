@@ -0,0 +1,65 @@
+package org.jsapar.parse.bean;
+
+import org.jsapar.TstPerson;
+import org.jsapar.bean.BeanMap;
+import org.jsapar.model.CellType;
+import org.jsapar.parse.text.TextParseTask;
+import org.jsapar.schema.*;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class BeanBindingLineEventListenerTest {
+
+    private List<TstPerson> parse(Schema schema, String input) throws IOException {
+        List<TstPerson> persons = new ArrayList<>();
+        TextParseTask parseTask = new TextParseTask(schema, new StringReader(input));
+        parseTask.setLineEventListener(new BeanBindingLineEventListener<TstPerson>(
+                event -> fail("No line should be created"), BeanMap.ofSchema(schema), persons::add));
+        assertEquals(2, parseTask.execute());
+        return persons;
+    }
+
+    @Test
+    public void testCsv() throws IOException {
+        CsvSchema schema = new CsvSchema();
+        schema.addSchemaLine(new CsvSchemaLine(TstPerson.class.getName())
+                .addSchemaCell(new CsvSchemaCell("firstName"))
+                .addSchemaCell(new CsvSchemaCell("luckyNumber", CellType.INTEGER))
+                .addSchemaCell(new CsvSchemaCell("address.street")));
+        List<TstPerson> persons = parse(schema, "John;17;Storgatan\nJane;;");
+        assertEquals(2, persons.size());
+        assertEquals("John", persons.get(0).getFirstName());
+        assertEquals(17L, persons.get(0).getLuckyNumber());
+        assertEquals("Storgatan", persons.get(0).getAddress().getStreet());
+        assertEquals("Jane", persons.get(1).getFirstName());
+        assertNull(persons.get(1).getAddress());
+    }
+
+    @Test
+    public void testFixedWidth() throws IOException {
+        FixedWidthSchema schema = new FixedWidthSchema();
+        schema.addSchemaLine(new FixedWidthSchemaLine(TstPerson.class.getName())
+                .addSchemaCell(new FixedWidthSchemaCell("firstName", 5))
+                .addSchemaCell(new FixedWidthSchemaCell("luckyNumber", 3, new SchemaCellFormat(CellType.INTEGER))));
+        List<TstPerson> persons = parse(schema, "John 17 \nJane 123");
+        assertEquals(2, persons.size());
+        assertEquals(17L, persons.get(0).getLuckyNumber());
+        assertEquals("Jane", persons.get(1).getFirstName());
+        assertEquals(123L, persons.get(1).getLuckyNumber());
+    }
+
+    @Test
+    public void testLineBinderOf_unmappedLineType() {
+        CsvSchema schema = new CsvSchema();
+        schema.addSchemaLine(new CsvSchemaLine(TstPerson.class.getName()).addSchemaCell(new CsvSchemaCell("firstName")));
+        BeanBindingLineEventListener<Object> listener = new BeanBindingLineEventListener<>(
+                event -> { }, BeanMap.ofSchema(schema), bean -> { });
+        assertNull(listener.lineBinderOf("Unknown", org.jsapar.model.CellIndex.of(new ArrayList<>())));
+    }
+}
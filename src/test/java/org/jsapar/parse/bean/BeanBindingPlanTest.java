@@ -0,0 +1,93 @@
+package org.jsapar.parse.bean;
+
+import org.jsapar.TstGender;
+import org.jsapar.TstPerson;
+import org.jsapar.model.*;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class BeanBindingPlanTest {
+
+    private BeanPropertyMap makePropertyMap() throws ClassNotFoundException {
+        Map<String, String> cellNamesOfProperty = new HashMap<>();
+        cellNamesOfProperty.put("firstName", "First name");
+        cellNamesOfProperty.put("shoeSize", "Shoe size");
+        cellNamesOfProperty.put("streetNumber", "Street number");
+        cellNamesOfProperty.put("length", "Length");
+        cellNamesOfProperty.put("adult", "Adult");
+        cellNamesOfProperty.put("gender", "Gender");
+        cellNamesOfProperty.put("address.street", "Street");
+        cellNamesOfProperty.put("address.town", "Town");
+        return BeanPropertyMap.ofPropertyNames(TstPerson.class.getName(), "Person", cellNamesOfProperty);
+    }
+
+    @Test
+    public void testAssign() throws ClassNotFoundException {
+        CellIndex cellIndex = CellIndex.of(Arrays.asList("First name", "Unknown", "Shoe size", "Street number", "Length",
+                "Adult", "Gender", "Street", "Town"));
+        BeanPropertyMap propertyMap = makePropertyMap();
+        BeanBindingPlan plan = propertyMap.bindingPlanOf(cellIndex);
+        assertSame(plan, propertyMap.bindingPlanOf(cellIndex));
+        assertSame(cellIndex, plan.getCellIndex());
+
+        Line line = new Line("Person", cellIndex);
+        line.addCell(new StringCell("First name", "Nils"));
+        line.addCell(new StringCell("Unknown", "Ignored"));
+        line.addCell(new IntegerCell("Shoe size", 42));
+        line.addCell(new StringCell("Street number", "17"));
+        line.addCell(new FloatCell("Length", 1.85));
+        line.addCell(new BooleanCell("Adult", true));
+        line.addCell(new StringCell("Gender", "F"));
+        line.addCell(new StringCell("Street", "Storgatan"));
+        line.addCell(StringCell.emptyOf("Town"));
+
+        TstPerson person = new TstPerson();
+        List<Exception> errors = new ArrayList<>();
+        plan.assign(line, person, (cell, e) -> errors.add(e));
+
+        assertEquals(1, errors.size());
+        assertEquals("Nils", person.getFirstName());
+        assertEquals(42, person.getShoeSize());
+        assertEquals(0, person.getStreetNumber());
+        assertEquals(1.85, person.getLength(), 0.0001);
+        assertTrue(person.isAdult());
+        assertEquals(TstGender.F, person.getGender());
+        assertEquals("Storgatan", person.getAddress().getStreet());
+        assertNull(person.getAddress().getTown());
+    }
+
+    @Test
+    public void testAssign_unindexedCells() throws ClassNotFoundException {
+        CellIndex cellIndex = CellIndex.of(Arrays.asList("First name", "Shoe size"));
+        BeanBindingPlan plan = makePropertyMap().bindingPlanOf(cellIndex);
+
+        Line line = new Line("Person", cellIndex);
+        line.addCell(new StringCell("First name", "Nils"));
+        line.addCell(new StringCell("Town", "Stockholm"));
+        line.addCell(new IntegerCell("Street number", 4));
+
+        TstPerson person = new TstPerson();
+        plan.assign(line, person, (cell, e) -> fail(e.getMessage()));
+        assertEquals("Nils", person.getFirstName());
+        assertEquals(0, person.getShoeSize());
+        assertEquals(4, person.getStreetNumber());
+        assertEquals("Stockholm", person.getAddress().getTown());
+    }
+
+    @Test
+    public void testBindingPlanOf_newCellIndex() throws ClassNotFoundException {
+        BeanPropertyMap propertyMap = makePropertyMap();
+        CellIndex first = CellIndex.of(Arrays.asList("First name", "Shoe size"));
+        CellIndex second = CellIndex.of(Arrays.asList("Shoe size", "First name"));
+        BeanBindingPlan plan = propertyMap.bindingPlanOf(first);
+        assertNotSame(plan, propertyMap.bindingPlanOf(second));
+        assertSame(second, propertyMap.bindingPlanOf(second).getCellIndex());
+    }
+}
@@ -39,16 +39,18 @@ public class BeanParseTaskTest {
         BeanParseTask<TstPerson> parser = new BeanParseTask<>(people.stream(), makeBeanMap());
         DocumentBuilderLineEventListener listener = new DocumentBuilderLineEventListener();
         parser.setLineEventListener(listener);
-        parser.execute();
+        assertEquals(2, parser.execute());
         Document doc = listener.getDocument();
 
         assertEquals(2, doc.size());
         Line line = doc.getLine(0);
         assertEquals("Jonas",
                 line.getCell("firstName").orElseThrow(() -> new AssertionError("Should be set")).getStringValue());
+        assertEquals(1L, line.getLineNumber());
 
         line = doc.getLine(1);
         assertEquals("Test2", line.getCell("firstName").orElseThrow(() -> new AssertionError("Should be set")).getStringValue());
+        assertEquals(2L, line.getLineNumber());
         parser.close();
     }
 
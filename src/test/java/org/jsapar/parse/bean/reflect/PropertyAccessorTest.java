@@ -0,0 +1,155 @@
+package org.jsapar.parse.bean.reflect;
+
+import org.junit.Test;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class PropertyAccessorTest {
+
+    public static class TestBean {
+        private int    num;
+        private double amount;
+        private String text;
+
+        public int getNum() {
+            return num;
+        }
+
+        public void setNum(int num) {
+            this.num = num;
+        }
+
+        public double getAmount() {
+            return amount;
+        }
+
+        public void setAmount(double amount) {
+            this.amount = amount;
+        }
+
+        public String getText() {
+            return text;
+        }
+
+        public void setText(String text) {
+            if ("fail".equals(text))
+                throw new IllegalStateException("Testing error");
+            this.text = text;
+        }
+    }
+
+    private static class HiddenBean {
+        private String value = "hidden";
+
+        public String getValue() {
+            return value;
+        }
+    }
+
+    private PropertyAccessor accessorOf(Class<?> beanClass, String property) {
+        return BeanInfo.ofClass(beanClass).getPropertyDescriptorsByName().get(property).getAccessor();
+    }
+
+    @Test
+    public void getAndSet_primitive() throws InvocationTargetException, IllegalAccessException {
+        TestBean bean = new TestBean();
+        PropertyAccessor num = accessorOf(TestBean.class, "num");
+        num.setInt(bean, 42);
+        assertEquals(42, num.getLong(bean));
+        assertEquals(42, num.get(bean));
+
+        PropertyAccessor amount = accessorOf(TestBean.class, "amount");
+        amount.setDouble(bean, 1.5);
+        assertEquals(1.5, amount.getDouble(bean), 0.0);
+        // Widened in the same way as by reflection
+        amount.set(bean, 3);
+        assertEquals(3.0, bean.getAmount(), 0.0);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void set_wrongType() throws InvocationTargetException, IllegalAccessException {
+        accessorOf(TestBean.class, "num").set(new TestBean(), "text");
+    }
+
+    @Test
+    public void set_exceptionInSetter() throws IllegalAccessException {
+        try {
+            accessorOf(TestBean.class, "text").set(new TestBean(), "fail");
+            fail("Should throw exception");
+        } catch (InvocationTargetException e) {
+            assertEquals(IllegalStateException.class, e.getCause().getClass());
+        }
+    }
+
+    @Test
+    public void get_classNotPublic() throws InvocationTargetException, IllegalAccessException {
+        assertEquals("hidden", accessorOf(HiddenBean.class, "value").get(new HiddenBean()));
+    }
+
+    @Test
+    public void beanInfo_shared() throws Exception {
+        assertSame(BeanInfo.ofClass(TestBean.class), BeanInfo.ofClass(TestBean.class));
+        assertEquals(TestBean.class, BeanInfoReflection.of(TestBean.class).newInstance().getClass());
+        assertEquals(1, BeanInfo.ofClass(TestBean.class).getSetterAccessors("setNum").size());
+        assertEquals(String.class, BeanInfo.ofClass(TestBean.class).getGetterAccessor("getText").getReadType());
+    }
+
+    @Test
+    public void setPrimitive_otherType() throws InvocationTargetException, IllegalAccessException {
+        TestBean bean = new TestBean();
+        accessorOf(TestBean.class, "amount").setInt(bean, 7);
+        assertEquals(7.0, bean.getAmount(), 0.0);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void setPrimitive_wrongBeanType() throws InvocationTargetException, IllegalAccessException {
+        accessorOf(TestBean.class, "num").setInt("not a bean", 42);
+    }
+
+    @Test(expected = ClassCastException.class)
+    public void get_wrongBeanType() throws InvocationTargetException, IllegalAccessException {
+        accessorOf(TestBean.class, "text").get("not a bean");
+    }
+
+    @Test
+    public void defaultMethods() throws Exception {
+        Map<String, PropertyDescriptor> descriptors = new HashMap<>();
+        for (PropertyDescriptor pd : BeanInfo.ofClass(TestBean.class).getPropertyDescriptorsByName().values()) {
+            // Only implements the abstract methods.
+            descriptors.put(pd.getName(), new PropertyDescriptor() {
+                @Override
+                public Method getReadMethod() {
+                    return pd.getReadMethod();
+                }
+
+                @Override
+                public String getName() {
+                    return pd.getName();
+                }
+
+                @Override
+                public Method getWriteMethod() {
+                    return pd.getWriteMethod();
+                }
+            });
+        }
+        BeanInfo beanInfo = () -> descriptors;
+
+        TestBean bean = new TestBean();
+        descriptors.get("num").getAccessor().setInt(bean, 42);
+        assertEquals(42, bean.getNum());
+
+        List<PropertyAccessor> setters = beanInfo.getSetterAccessors("setText");
+        assertEquals(1, setters.size());
+        setters.get(0).set(bean, "abc");
+        assertEquals("abc", beanInfo.getGetterAccessor("getText").get(bean));
+        assertNull(beanInfo.getGetterAccessor("getMissing"));
+        assertTrue(beanInfo.getSetterAccessors("setMissing").isEmpty());
+    }
+}
@@ -23,5 +23,10 @@ public class BigDecimalCellFactoryTest {
         assertEquals(new BigDecimal("3.14"), cell.getValue());
     }
 
+    @Test
+    public void testSetValue_locale() throws Exception {
+        BigDecimalCell cell = (BigDecimalCell) cellFactory.makeCell("test", "-1.234,50", cellFactory.makeFormat(Locale.GERMANY));
+        assertEquals(new BigDecimal("-1234.50"), cell.getValue());
+    }
 
 }
\ No newline at end of file
@@ -27,4 +27,11 @@ public class FloatCellFactoryTest {
         Assert.assertEquals(3141.59, cell.getValue().doubleValue(), 0.001);
     }
 
-}
\ No newline at end of file
+    @Test
+    public void testSetValueStringLocale_swedish() throws ParseException {
+        FloatCell cell = (FloatCell) cellFactory.makeCell("test", "-3 141,59", cellFactory.makeFormat(new Locale("sv", "SE")));
+
+        Assert.assertEquals(-3141.59, cell.getDouble(), 0.0);
+    }
+
+}
@@ -0,0 +1,196 @@
+package org.jsapar.parse.csv;
+
+import org.jsapar.schema.CsvSchema;
+import org.jsapar.schema.CsvSchemaLine;
+import org.jsapar.schema.QuoteSyntax;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+public class CsvLineReaderBytesTest {
+
+    private CsvLineReaderBytes makeReader(String input, String lineSeparator, boolean allowReadAhead, int maxLineLength, QuoteSyntax quoteSyntax) {
+        return makeReader(input, StandardCharsets.UTF_8, lineSeparator, allowReadAhead, maxLineLength, quoteSyntax);
+    }
+
+    private CsvLineReaderBytes makeReader(String input, Charset charset, String lineSeparator, boolean allowReadAhead, int maxLineLength, QuoteSyntax quoteSyntax) {
+        return new CsvLineReaderBytes(lineSeparator, new ByteArrayInputStream(input.getBytes(charset)), charset, allowReadAhead, maxLineLength, quoteSyntax);
+    }
+
+    @Test
+    public void testReset() throws IOException {
+        doTestReset(true);
+    }
+
+    @Test
+    public void testReset_no_read_ahead() throws IOException {
+        doTestReset(false);
+    }
+
+    private void doTestReset(boolean allowReadAhead) throws IOException {
+        CsvLineReaderBytes item = makeReader("First;line|second,'line'|third,line||fifth;one", "|", allowReadAhead, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"First", "line"}, item.readLine(";", (char) 0).toArray());
+        assertArrayEquals(new String[]{"second,'line'"}, item.readLine(";", (char) 0).toArray());
+        item.reset();
+        assertArrayEquals(new String[]{"second", "line"}, item.readLine(",", '\'').toArray());
+        item.reset();
+        assertArrayEquals(new String[]{"second", "line"}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{"third", "line"}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{}, item.readLine(",", '\'').toArray());
+        assertArrayEquals(new String[]{"fifth;one"}, item.readLine(" ", (char) 0).toArray());
+        assertTrue(item.eofReached());
+        item.reset();
+        assertFalse(item.eofReached());
+        assertArrayEquals(new String[]{"fifth", "one"}, item.readLine(";", (char) 0).toArray());
+        assertTrue(item.eofReached());
+    }
+
+    @Test
+    public void testReadLine_multi_byte_characters() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("Åsa;Öberg;\"Kärr;gatan\"\r\n€;ü\r\n", "\r\n", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"Åsa", "Öberg", "Kärr;gatan"}, lineReader.readLine(";", '"').toArray());
+        assertArrayEquals(new String[]{"€", "ü"}, lineReader.readLine(";", '"').toArray());
+        assertArrayEquals(new String[0], lineReader.readLine(";", '"').toArray());
+        assertTrue(lineReader.eofReached());
+    }
+
+    @Test
+    public void testReadLine_iso_8859_1() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("Åsa;Öberg\nÄrla;Ös", StandardCharsets.ISO_8859_1, "\n", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"Åsa", "Öberg"}, lineReader.readLine(";", '"').toArray());
+        assertArrayEquals(new String[]{"Ärla", "Ös"}, lineReader.readLine(";", '"').toArray());
+    }
+
+    @Test
+    public void testReadLine_buffer_shifted_within_line() throws IOException {
+        // Small buffer forces the line to be moved within the buffer while it is read. Values are decoded afterwards.
+        CsvLineReaderBytes lineReader = makeReader("aaaaa;bbbbb;ccccc\nddddd;eeeee;fffff\n", "\n", true, 24, QuoteSyntax.FIRST_LAST);
+        List<String> first = lineReader.readLine(";", '"');
+        assertEquals("ccccc", first.get(2));
+        assertEquals("aaaaa", first.get(0));
+        List<String> second = lineReader.readLine(";", '"');
+        assertArrayEquals(new String[]{"ddddd", "eeeee", "fffff"}, second.toArray());
+    }
+
+    @Test
+    public void testReadLine_unquoted_last_char_matches_cell_break() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("A;=B;=C=;=D", "|", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"A", "B", "C=", "D"}, lineReader.readLine(";=", '"').toArray());
+    }
+
+    @Test
+    public void testReadLine_unquoted_first_char_matches_last_char_of_line_break() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("A;B|;C;D%|a;b;c;d", "%|", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"A", "B|", "C", "D"}, lineReader.readLine(";", '"').toArray());
+        assertArrayEquals(new String[]{"a", "b", "c", "d"}, lineReader.readLine(";", '"').toArray());
+    }
+
+    @Test
+    public void testSplit_quoted() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("A;/B/;;C\nA;/B/;//;/C/\r\n/A/;/B/;;/C/\n/A/;B;//;/C/\r\n/A/;/B/;//;C", "\n", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"A", "B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[0], lineReader.readLine(";", '/').toArray());
+        assertTrue(lineReader.eofReached());
+    }
+
+    @Test
+    public void testParse_escaped_quote_rfc4180() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("/aaa/;/b//bb/;/ccc//;c/;//ddd/;///;ee/;//;//ff//\nf/", "\n", true, 64, QuoteSyntax.RFC4180);
+        Object[] result = lineReader.readLine(";", '/').toArray();
+        assertArrayEquals(new String[]{"aaa", "b/bb", "ccc/;c", "/ddd", "/;ee", "", "/ff/\nf"}, result);
+        assertArrayEquals(new String[0], lineReader.readLine(";", '/').toArray());
+        assertTrue(lineReader.eofReached());
+    }
+
+    @Test
+    public void testSplit_multiLineCell() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("A;/BB;;C|Second;S;S|Third;T/;T|Fourth", "|", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"A", "BB;;C|Second;S;S|Third;T", "T"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"Fourth"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[0], lineReader.readLine(";", '/').toArray());
+        assertTrue(lineReader.eofReached());
+    }
+
+    @Test
+    public void testReadLine_endQuoteWithinCell() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("A;/B/B;;C|A;//B;//;/C/|/A/;/B/;;/C/C|A;;/B/B;/C/|/A/;/B;/B;C", "|", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"A", "/B/B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "//B", "", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "B", "", "/C/C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "", "/B/B", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[]{"A", "/B;/B", "C"}, lineReader.readLine(";", '/').toArray());
+        assertArrayEquals(new String[0], lineReader.readLine(";", '/').toArray());
+        assertTrue(lineReader.eofReached());
+    }
+
+    @Test
+    public void testReadLine_missingEndQuote() throws IOException {
+        CsvLineReaderBytes lineReader = makeReader("A;/B;;C", "|", true, 64, QuoteSyntax.FIRST_LAST);
+        assertArrayEquals(new String[]{"A", "/B", "", "C"}, lineReader.readLine(";", '/').toArray());
+    }
+
+    @Test
+    public void testCanRead() {
+        CsvSchema schema = new CsvSchema();
+        schema.setLineSeparator("\r\n");
+        CsvSchemaLine schemaLine = new CsvSchemaLine("line");
+        schema.addSchemaLine(schemaLine);
+        assertTrue(CsvLineReaderBytes.canRead(schema, StandardCharsets.UTF_8));
+        assertTrue(CsvLineReaderBytes.canRead(schema, StandardCharsets.ISO_8859_1));
+        assertFalse(CsvLineReaderBytes.canRead(schema, StandardCharsets.UTF_16));
+
+        schemaLine.setCellSeparator("§");
+        assertFalse(CsvLineReaderBytes.canRead(schema, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void testReadLine_long_cells_at_all_word_offsets() throws IOException {
+        // Separators, quotes and line breaks at every position within the words that are scanned at a time.
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 18; i++) {
+            input.append("Åsa".substring(0, i % 3)).append("abcdefghijklmnopq", 0, i).append(';')
+                    .append("\"x;").append("yyyyyyyyyyyyyyyyy".substring(0, i)).append("\";").append(i).append('\n');
+        }
+        CsvLineReaderBytes lineReader = makeReader(input.toString(), "\n", true, 48, QuoteSyntax.FIRST_LAST);
+        for (int i = 0; i < 18; i++) {
+            assertArrayEquals(new String[]{"Åsa".substring(0, i % 3) + "abcdefghijklmnopq".substring(0, i),
+                    "x;" + "yyyyyyyyyyyyyyyyy".substring(0, i), String.valueOf(i)}, lineReader.readLine(";", '"').toArray());
+        }
+    }
+
+    @Test
+    public void testParse_escaped_quotes_rfc4180_across_buffer_loads() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            input.append("\"a\"\"b\"\"").append(i).append("\";\"\"\"\";x\n");
+        }
+        CsvLineReaderBytes lineReader = makeReader(input.toString(), "\n", true, 24, QuoteSyntax.RFC4180);
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(new String[]{"a\"b\"" + i, "\"", "x"}, lineReader.readLine(";", '"').toArray());
+        }
+    }
+
+    @Test
+    public void testParse_many_escaped_quotes_rfc4180() throws IOException {
+        StringBuilder input = new StringBuilder("\"");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            input.append("\"\"");
+            expected.append('"');
+        }
+        input.append("\";b");
+        CsvLineReaderBytes lineReader = makeReader(input.toString(), "\n", true, 1024, QuoteSyntax.RFC4180);
+        assertArrayEquals(new String[]{expected.toString(), "b"}, lineReader.readLine(";", '"').toArray());
+    }
+
+}
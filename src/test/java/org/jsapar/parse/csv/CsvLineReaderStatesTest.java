@@ -136,6 +136,31 @@ public class CsvLineReaderStatesTest {
         assertTrue(lineReader.eofReached());
     }
 
+    @Test
+    public void testParse_escaped_quotes_rfc4180_across_buffer_loads() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 20; i++) {
+            input.append("\"a\"\"b\"\"").append(i).append("\";\"\"\"\";x\n");
+        }
+        CsvLineReaderStates lineReader = new CsvLineReaderStates("\n", new StringReader(input.toString()), true, 24, QuoteSyntax.RFC4180);
+        for (int i = 0; i < 20; i++) {
+            assertArrayEquals(new String[]{"a\"b\"" + i, "\"", "x"}, lineReader.readLine(";", '"').toArray());
+        }
+    }
+
+    @Test
+    public void testParse_many_escaped_quotes_rfc4180() throws IOException {
+        StringBuilder input = new StringBuilder("\"");
+        StringBuilder expected = new StringBuilder();
+        for (int i = 0; i < 300; i++) {
+            input.append("\"\"");
+            expected.append('"');
+        }
+        input.append("\";b");
+        CsvLineReaderStates lineReader = new CsvLineReaderStates("\n", new StringReader(input.toString()), true, 1024, QuoteSyntax.RFC4180);
+        assertArrayEquals(new String[]{expected.toString(), "b"}, lineReader.readLine(";", '"').toArray());
+    }
+
     @Test
     public void testSplit_quoted_multi_line_separator() throws IOException {
         Reader reader = new StringReader("A;/B/;;C|+A;/B/;//;/C/C|+/A/;/B/;;/C/|+/A/;B;//;/C/|+/A/;/B/;//;C|+/A/;./B/;.//;.C");
@@ -219,4 +244,18 @@ public class CsvLineReaderStatesTest {
 
 
     
-}
\ No newline at end of file
+
+    @Test
+    public void testReadLine_long_cells_across_buffer_loads() throws IOException {
+        StringBuilder input = new StringBuilder();
+        for (int i = 0; i < 18; i++) {
+            input.append("abcdefghijklmnopq", 0, i).append(";=").append("'x;=").append("yyyyyyyyyyyyyyyyy".substring(0, i)).append("';=").append(i).append('|');
+        }
+        CsvLineReaderStates lineReader = new CsvLineReaderStates("|", new StringReader(input.toString()), true, 48, QuoteSyntax.FIRST_LAST);
+        for (int i = 0; i < 18; i++) {
+            assertArrayEquals(new String[]{"abcdefghijklmnopq".substring(0, i), "x;=" + "yyyyyyyyyyyyyyyyy".substring(0, i), String.valueOf(i)},
+                    lineReader.readLine(";=", '\'').toArray());
+        }
+    }
+
+}
@@ -37,6 +37,22 @@ public class FixedWidthCellParserTest {
         assertEquals("Jonas", cell.getStringValue());
     }
 
+    @Test
+    public final void testBuild_cached() throws IOException, JSaParException {
+        FixedWidthSchemaCell schemaCell = new FixedWidthSchemaCell("Currency", 4);
+        FixedWidthCellParser cellParser = new FixedWidthCellParser(schemaCell, 10);
+        ReadBuffer readBuffer = makeReadBuffer("SEK EUR SEK ");
+        Cell first = cellParser.parse(readBuffer, new ExceptionErrorEventListener());
+        Cell second = cellParser.parse(readBuffer, new ExceptionErrorEventListener());
+        Cell third = cellParser.parse(readBuffer, new ExceptionErrorEventListener());
+
+        assertEquals("SEK", first.getStringValue());
+        assertEquals("EUR", second.getStringValue());
+        assertSame(first, third);
+        assertEquals(1, cellParser.getCacheStatistics().getHits());
+        assertEquals(2, cellParser.getCacheStatistics().getMisses());
+    }
+
     @Test
     public final void testBuild_dont_trim() throws IOException, JSaParException {
         String toParse = "   Jonas   ";
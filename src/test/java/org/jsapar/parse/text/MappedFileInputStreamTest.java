@@ -0,0 +1,92 @@
+package org.jsapar.parse.text;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.Assert.*;
+
+public class MappedFileInputStreamTest {
+
+    private static final String CONTENT = "0123456789abcdefghijklmnopqrstuvwxyz";
+    private Path path;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("jsapar", ".txt");
+        Files.write(path, CONTENT.getBytes(StandardCharsets.US_ASCII));
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    @Test
+    public void testRead_windows() throws IOException {
+        try (InputStream stream = new MappedFileInputStream(path, 5)) {
+            assertEquals(CONTENT, readAll(stream, 3));
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void testRead_single_bytes() throws IOException {
+        try (InputStream stream = new MappedFileInputStream(path, 7)) {
+            StringBuilder sb = new StringBuilder();
+            int b;
+            while ((b = stream.read()) >= 0)
+                sb.append((char) b);
+            assertEquals(CONTENT, sb.toString());
+        }
+    }
+
+    @Test
+    public void testRead_default_window() throws IOException {
+        try (InputStream stream = new MappedFileInputStream(path)) {
+            assertEquals(CONTENT, readAll(stream, 1024));
+        }
+    }
+
+    @Test
+    public void testSkip() throws IOException {
+        try (InputStream stream = new MappedFileInputStream(path, 5)) {
+            assertEquals(2, stream.skip(2));
+            assertEquals('2', stream.read());
+            assertEquals(12, stream.skip(12));
+            assertEquals('f', stream.read());
+            assertEquals(20, stream.skip(100));
+            assertEquals(-1, stream.read());
+        }
+    }
+
+    @Test
+    public void testRead_empty_file() throws IOException {
+        Files.write(path, new byte[0]);
+        try (InputStream stream = new MappedFileInputStream(path, 5)) {
+            assertEquals(-1, stream.read());
+            assertEquals(0, stream.available());
+        }
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testCreate_invalid_window_size() throws IOException {
+        new MappedFileInputStream(path, 0L);
+    }
+
+    private static String readAll(InputStream stream, int chunkSize) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        byte[] chunk = new byte[chunkSize];
+        int count;
+        while ((count = stream.read(chunk, 0, chunkSize)) >= 0)
+            out.write(chunk, 0, count);
+        return new String(out.toByteArray(), StandardCharsets.US_ASCII);
+    }
+}
@@ -0,0 +1,196 @@
+package org.jsapar.parse.text;
+
+import org.jsapar.error.RecordingErrorEventListener;
+import org.jsapar.model.CellType;
+import org.jsapar.model.Line;
+import org.jsapar.schema.*;
+import org.jsapar.text.TextParseConfig;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class ParallelTextParseTaskTest {
+
+    private Path path;
+    private long sequentialCount;
+
+    @Before
+    public void setUp() throws IOException {
+        path = Files.createTempFile("jsapar", ".txt");
+    }
+
+    @After
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(path);
+    }
+
+    private CsvSchema makeCsvSchema(QuoteSyntax quoteSyntax) {
+        CsvSchema schema = new CsvSchema();
+        schema.setLineSeparator("\r\n");
+        schema.setQuoteSyntax(quoteSyntax);
+        CsvSchemaLine schemaLine = new CsvSchemaLine("Person");
+        schemaLine.setCellSeparator(";");
+        schemaLine.addSchemaCell(new CsvSchemaCell("id", CellType.INTEGER));
+        schemaLine.addSchemaCell(new CsvSchemaCell("name"));
+        schema.addSchemaLine(schemaLine);
+        return schema;
+    }
+
+    private String makeCsvText(int lineCount) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 1; i <= lineCount; i++) {
+            sb.append(i).append(';');
+            if (i % 3 == 0)
+                sb.append("\"Multi\r\nline; \"\"").append(i).append("\"\"\"");
+            else
+                sb.append("Åsa ").append(i);
+            sb.append("\r\n");
+        }
+        return sb.toString();
+    }
+
+    private List<Line> parse(Schema schema, boolean ordered, long chunkSize) throws IOException {
+        List<Line> lines = Collections.synchronizedList(new ArrayList<>());
+        ParallelTextParseTask parseTask = new ParallelTextParseTask(schema, path, StandardCharsets.UTF_8, new TextParseConfig(), ordered);
+        parseTask.setChunkSize(chunkSize);
+        parseTask.setLineEventListener(event -> lines.add(event.getLine()));
+        assertEquals(sequentialCount, parseTask.execute());
+        return lines;
+    }
+
+    private List<Line> parseSequential(Schema schema) throws IOException {
+        List<Line> lines = new ArrayList<>();
+        try (TextParseTask parseTask = new TextParseTask(schema, Files.newBufferedReader(path, StandardCharsets.UTF_8), new TextParseConfig())) {
+            parseTask.setLineEventListener(event -> lines.add(event.getLine()));
+            sequentialCount = parseTask.execute();
+        }
+        return lines;
+    }
+
+    private static void assertSameLines(List<Line> expected, List<Line> actual) {
+        assertEquals(expected.size(), actual.size());
+        for (int i = 0; i < expected.size(); i++) {
+            assertEquals(expected.get(i).getLineNumber(), actual.get(i).getLineNumber());
+            assertEquals(expected.get(i).toString(), actual.get(i).toString());
+        }
+    }
+
+    @Test
+    public void testExecute_ordered_rfc4180() throws IOException {
+        Files.write(path, makeCsvText(200).getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.RFC4180);
+        List<Line> expected = parseSequential(schema);
+        assertEquals(200, expected.size());
+        for (long chunkSize : new long[]{1, 7, 64, 1000}) {
+            assertSameLines(expected, parse(schema, true, chunkSize));
+        }
+    }
+
+    @Test
+    public void testExecute_unordered_rfc4180() throws IOException {
+        Files.write(path, makeCsvText(200).getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.RFC4180);
+        List<Line> expected = parseSequential(schema);
+        List<Line> actual = parse(schema, false, 64);
+        actual.sort(Comparator.comparingLong(Line::getLineNumber));
+        assertSameLines(expected, actual);
+    }
+
+    @Test
+    public void testExecute_rfc4180_quote_within_unquoted_cell() throws IOException {
+        String text = makeCsvText(200).replace("\r\n5;Åsa 5\r\n", "\r\n5;12\" ruler\r\n")
+                .replace("\r\n100;Åsa 100\r\n", "\r\n100;12\" ruler\r\n");
+        Files.write(path, text.getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.RFC4180);
+        List<Line> expected = parseSequential(schema);
+        assertEquals(200, expected.size());
+        assertEquals("12\" ruler", expected.get(4).getProperty("name"));
+        for (long chunkSize : new long[]{1, 7, 64, 200, 1000}) {
+            assertSameLines(expected, parse(schema, true, chunkSize));
+        }
+    }
+
+    @Test
+    public void testExecute_first_last_multi_line_quoted() throws IOException {
+        Files.write(path, makeCsvText(200).getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.FIRST_LAST);
+        assertNull(ChunkSplitter.of(schema, StandardCharsets.UTF_8));
+        List<Line> expected = parseSequential(schema);
+        assertEquals(200, expected.size());
+        assertSameLines(expected, parse(schema, true, 64));
+        List<Line> actual = parse(schema, false, 64);
+        actual.sort(Comparator.comparingLong(Line::getLineNumber));
+        assertSameLines(expected, actual);
+    }
+
+    @Test
+    public void testExecute_no_trailing_line_separator() throws IOException {
+        Files.write(path, "1;a\r\n2;b\r\n\r\n4;d".getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.FIRST_LAST);
+        schema.getSchemaLines().iterator().next().disableQuoteChar();
+        assertNotNull(ChunkSplitter.of(schema, StandardCharsets.UTF_8));
+        List<Line> expected = parseSequential(schema);
+        List<Line> actual = parse(schema, true, 3);
+        assertSameLines(expected, actual);
+        assertEquals(4, actual.get(2).getLineNumber());
+    }
+
+    @Test
+    public void testExecute_error_line_numbers() throws IOException {
+        Files.write(path, "1;a\n2;b\nx;c\n4;d\nx;e\n".getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.FIRST_LAST);
+        schema.getSchemaLines().iterator().next().disableQuoteChar();
+        ParallelTextParseTask parseTask = new ParallelTextParseTask(schema, path, StandardCharsets.UTF_8, new TextParseConfig(), true);
+        parseTask.setChunkSize(5);
+        RecordingErrorEventListener errors = new RecordingErrorEventListener();
+        parseTask.setErrorEventListener(errors);
+        parseTask.setLineEventListener(event -> { });
+        parseTask.execute();
+        assertEquals(2, errors.getErrors().size());
+        assertTrue(errors.getErrors().get(0).getMessage(), errors.getErrors().get(0).getMessage().contains("Line=3"));
+        assertTrue(errors.getErrors().get(1).getMessage(), errors.getErrors().get(1).getMessage().contains("Line=5"));
+    }
+
+    @Test
+    public void testExecute_fixed_width() throws IOException {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 100; i++)
+            sb.append(String.format(Locale.US, "%-6s%4d\n", "Åke", i));
+        Files.write(path, sb.toString().getBytes(StandardCharsets.UTF_8));
+        FixedWidthSchema schema = new FixedWidthSchema();
+        schema.setLineSeparator("\n");
+        FixedWidthSchemaLine schemaLine = new FixedWidthSchemaLine("Person");
+        schemaLine.addSchemaCell(new FixedWidthSchemaCell("name", 6));
+        schemaLine.addSchemaCell(new FixedWidthSchemaCell("number", 4));
+        schema.addSchemaLine(schemaLine);
+        List<Line> expected = parseSequential(schema);
+        assertSameLines(expected, parse(schema, true, 32));
+    }
+
+    @Test
+    public void testExecute_sequential_fallback() throws IOException {
+        Files.write(path, "id;name\n1;a\n2;b\n3;c\n".getBytes(StandardCharsets.UTF_8));
+        CsvSchema schema = makeCsvSchema(QuoteSyntax.FIRST_LAST);
+        schema.getSchemaLines().iterator().next().setFirstLineAsSchema(true);
+        List<Line> expected = parseSequential(schema);
+        assertEquals(3, expected.size());
+        assertSameLines(expected, parse(schema, false, 4));
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void testSetChunkSize_invalid() {
+        new ParallelTextParseTask(new CsvSchema(), path, StandardCharsets.UTF_8, new TextParseConfig(), true).setChunkSize(0);
+    }
+}
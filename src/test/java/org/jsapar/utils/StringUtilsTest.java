@@ -2,7 +2,12 @@ package org.jsapar.utils;
 
 import org.junit.Test;
 
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
 
 public class StringUtilsTest {
     @Test
@@ -42,4 +47,19 @@ public class StringUtilsTest {
 		assertEquals("Thistexthasspaces", sResult);
 	}
 	
+	@Test
+	public final void testIsAscii() {
+		assertTrue(StringUtils.isAscii("\r\n;"));
+		assertFalse(StringUtils.isAscii(""));
+		assertFalse(StringUtils.isAscii("§"));
+	}
+
+	@Test
+	public final void testIsAsciiTransparent() {
+		assertTrue(StringUtils.isAsciiTransparent(StandardCharsets.UTF_8));
+		assertTrue(StringUtils.isAsciiTransparent(StandardCharsets.ISO_8859_1));
+		assertTrue(StringUtils.isAsciiTransparent(Charset.forName("windows-1252")));
+		assertFalse(StringUtils.isAsciiTransparent(StandardCharsets.UTF_16));
+	}
+
 }
@@ -0,0 +1,34 @@
+package org.jsapar.utils.cache;
+
+import org.junit.Test;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.junit.Assert.*;
+
+public class CacheTest {
+
+    @Test
+    public void getStatistics_default() {
+        Map<String, String> values = new HashMap<>();
+        Cache<String, String> cache = new Cache<String, String>() {
+            @Override
+            public String get(String key) {
+                return values.get(key);
+            }
+
+            @Override
+            public void put(String key, String value) {
+                values.put(key, value);
+            }
+        };
+        cache.put("one", "1");
+        assertEquals("1", cache.get("one"));
+        CacheStatistics statistics = cache.getStatistics();
+        assertEquals(0L, statistics.getHits());
+        assertEquals(0L, statistics.getMisses());
+        assertEquals(0L, statistics.getEvictions());
+    }
+
+}
@@ -0,0 +1,58 @@
+package org.jsapar.utils.cache;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class FrequencyCacheTest {
+
+    @Test
+    public void get() {
+        FrequencyCache<String> cache = new FrequencyCache<>(3);
+        cache.put("one", "1");
+        cache.put("two", "2");
+        cache.put("three", "3");
+        assertEquals("1", cache.get("one"));
+        assertEquals("1", cache.get("one"));
+        assertEquals("3", cache.get("three"));
+        cache.put("four", "4"); // two has not been used and is evicted
+        assertNull(cache.get("two"));
+        assertEquals("1", cache.get("one"));
+        assertEquals("3", cache.get("three"));
+        assertEquals("4", cache.get("four"));
+        assertEquals(1, cache.getStatistics().getEvictions());
+        assertEquals(6, cache.getStatistics().getHits());
+        assertEquals(1, cache.getStatistics().getMisses());
+    }
+
+    @Test
+    public void get_chars() {
+        FrequencyCache<String> cache = new FrequencyCache<>(10);
+        cache.put("SEK", "sek");
+        cache.put("EUR", "eur");
+        char[] chars = "xxEURSEKUSD".toCharArray();
+        assertEquals("eur", cache.get(chars, 2, 3));
+        assertEquals("sek", cache.get(chars, 5, 3));
+        assertNull(cache.get(chars, 8, 3));
+        assertNull(cache.get(chars, 2, 2));
+    }
+
+    @Test
+    public void put_many() {
+        FrequencyCache<Integer> cache = new FrequencyCache<>(50);
+        for (int i = 0; i < 1000; i++) {
+            cache.put(String.valueOf(i % 7), i % 7); // Frequent values
+            assertEquals(Integer.valueOf(i % 7), cache.get(String.valueOf(i % 7)));
+            cache.put("unique" + i, i);
+            assertEquals(Integer.valueOf(i), cache.get("unique" + i));
+        }
+        for (int i = 0; i < 7; i++)
+            assertEquals(Integer.valueOf(i), cache.get(String.valueOf(i)));
+        assertEquals(1000 + 7 - 50, cache.getStatistics().getEvictions());
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void create_invalid() {
+        new FrequencyCache<String>(0);
+    }
+}
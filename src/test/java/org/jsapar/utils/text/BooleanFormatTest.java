@@ -122,4 +122,14 @@ public class BooleanFormatTest {
         assertFalse(f.parse("NEJ"));
     }
 
+    @Test
+    public void testFormatDirect() {
+        BooleanFormat f = new BooleanFormat("ja", "nej", true);
+        StringBuilder sb = new StringBuilder();
+        assertTrue(f.formatDirect(true, sb));
+        assertTrue(f.formatDirect(false, sb));
+        assertFalse(f.formatDirect("ja", sb));
+        assertEquals("janej", sb.toString());
+    }
+
 }
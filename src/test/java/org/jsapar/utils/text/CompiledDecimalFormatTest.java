@@ -0,0 +1,113 @@
+package org.jsapar.utils.text;
+
+import org.jsapar.text.CompiledDecimalFormat;
+import org.jsapar.text.LocaleDecimalFormat;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.text.DecimalFormat;
+import java.text.DecimalFormatSymbols;
+import java.text.NumberFormat;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.Assert.*;
+
+public class CompiledDecimalFormatTest {
+
+    private static final String[] PATTERNS = {"0", "0.00", "#,##0.00", "#,##0.###", "000000", "#.##", "0.0#", "#",
+            "#,##0", "0,000.0", "#,##0.00;(#,##0.00)", "'+'0.00 'kr'", "0.00%", "0.##E0", "#,##0.00 ¤", ".00", "#.00", ".##"};
+
+    private static final Locale[] LOCALES = {Locale.US, new Locale("sv", "SE"), Locale.GERMANY, new Locale("ar", "EG")};
+
+    private static void assertSameAsDecimalFormat(DecimalFormat expectedFormat, CompiledDecimalFormat actualFormat, Object value) {
+        String expected = expectedFormat.format(value);
+        StringBuilder sb = new StringBuilder("x");
+        if (actualFormat.formatDirect(value, sb))
+            assertEquals(actualFormat.toPattern() + " " + value, "x" + expected, sb.toString());
+        else
+            assertEquals("x", sb.toString());
+        assertEquals(expected, actualFormat.format(value));
+    }
+
+    @Test
+    public void testFormatDirect_sameAsDecimalFormat() {
+        Random random = new Random(4711);
+        for (Locale locale : LOCALES) {
+            for (String pattern : PATTERNS) {
+                DecimalFormat expectedFormat = new DecimalFormat(pattern, new DecimalFormatSymbols(locale));
+                CompiledDecimalFormat actualFormat = new CompiledDecimalFormat(pattern, new DecimalFormatSymbols(locale));
+                Object[] values = {0L, 1L, -1L, 12345678L, -987654321L, Long.MAX_VALUE, Long.MIN_VALUE, 42, (short) 3,
+                        0.0, -0.0, 0.1, 0.5, 1.005, 2.675, -12.5, 1234.56, 0.125, 1e15, 1e-7, Double.NaN,
+                        Double.POSITIVE_INFINITY, 0.1f, new BigDecimal("1234.50"), new BigDecimal("-0.001"),
+                        new BigDecimal("1E+3"), new BigDecimal("12345678901234567890.12")};
+                for (Object value : values) {
+                    assertSameAsDecimalFormat(expectedFormat, actualFormat, value);
+                }
+                for (int i = 0; i < 200; i++) {
+                    assertSameAsDecimalFormat(expectedFormat, actualFormat, random.nextInt(2000000) / 100.0 - 10000.0);
+                    assertSameAsDecimalFormat(expectedFormat, actualFormat, random.nextDouble() * 1000);
+                    assertSameAsDecimalFormat(expectedFormat, actualFormat, random.nextLong() >> random.nextInt(63));
+                    assertSameAsDecimalFormat(expectedFormat, actualFormat, BigDecimal.valueOf(random.nextInt(), random.nextInt(5)));
+                }
+            }
+        }
+    }
+
+    @Test
+    public void testFormatDirect_primitives() {
+        CompiledDecimalFormat format = new CompiledDecimalFormat("#,##0.00", new DecimalFormatSymbols(Locale.US));
+        StringBuilder sb = new StringBuilder();
+        assertTrue(format.formatDirect(1234567L, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(-0.5, sb));
+        sb.append(';');
+        assertFalse(format.formatDirect(0.125, sb));
+        assertEquals("1,234,567.00;-0.50;", sb.toString());
+    }
+
+    @Test
+    public void testFormatDirect_noMinimumIntegerDigits() {
+        CompiledDecimalFormat format = new CompiledDecimalFormat(".00", new DecimalFormatSymbols(Locale.US));
+        StringBuilder sb = new StringBuilder();
+        assertTrue(format.formatDirect(0L, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(0.0, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(new BigDecimal("0.5"), sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(12L, sb));
+        assertEquals(".00;.00;.50;12.00", sb.toString());
+
+        format = new CompiledDecimalFormat(".00", new DecimalFormatSymbols(new Locale("sv", "SE")));
+        sb.setLength(0);
+        assertTrue(format.formatDirect(0L, sb));
+        assertEquals(",00", sb.toString());
+    }
+
+    @Test
+    public void testFormatDirect_changedSettings() {
+        CompiledDecimalFormat format = new CompiledDecimalFormat("0.00", new DecimalFormatSymbols(Locale.US));
+        format.setMinimumIntegerDigits(4);
+        format.setGroupingSize(2);
+        format.setGroupingUsed(true);
+        StringBuilder sb = new StringBuilder();
+        assertTrue(format.formatDirect(5L, sb));
+        assertEquals(format.format(5L), sb.toString());
+        assertEquals("00,05.00", sb.toString());
+
+        format.setRoundingMode(RoundingMode.DOWN);
+        assertFalse(format.formatDirect(1.5, new StringBuilder()));
+        format.setMultiplier(100);
+        assertFalse(format.formatDirect(1L, new StringBuilder()));
+    }
+
+    @Test
+    public void testFormatDirect_localeDecimalFormat() {
+        NumberFormat format = LocaleDecimalFormat.getInstance(new Locale("sv", "SE"));
+        StringBuilder sb = new StringBuilder();
+        assertTrue(((CompiledDecimalFormat) format).formatDirect(-1234.5, sb));
+        assertEquals(format.format(-1234.5), sb.toString());
+    }
+}
@@ -0,0 +1,98 @@
+package org.jsapar.utils.text;
+
+import org.jsapar.text.FixedPatternDateTimeFormat;
+import org.junit.Test;
+
+import java.text.Format;
+import java.text.ParseException;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.TemporalAccessor;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class FixedPatternDateTimeFormatTest {
+
+    private static Format ofPattern(String pattern) {
+        return FixedPatternDateTimeFormat.ofPattern(pattern, Locale.US);
+    }
+
+    @Test
+    public void testOfPattern() {
+        assertTrue(ofPattern("yyyy-MM-dd") instanceof FixedPatternDateTimeFormat);
+        assertTrue(ofPattern("yyyyMMdd") instanceof FixedPatternDateTimeFormat);
+        assertTrue(ofPattern("yyyy-MM-dd HH:mm:ss") instanceof FixedPatternDateTimeFormat);
+        assertTrue(ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS") instanceof FixedPatternDateTimeFormat);
+        assertTrue(ofPattern("HHmmss") instanceof FixedPatternDateTimeFormat);
+        assertFalse(ofPattern("yy-MM-dd") instanceof FixedPatternDateTimeFormat);
+        assertFalse(ofPattern("yyyy-M-d") instanceof FixedPatternDateTimeFormat);
+        assertFalse(ofPattern("dd MMM yyyy") instanceof FixedPatternDateTimeFormat);
+        assertFalse(ofPattern("yyyy-MM") instanceof FixedPatternDateTimeFormat);
+        assertFalse(ofPattern("yyyy-MM-dd[ HH:mm]") instanceof FixedPatternDateTimeFormat);
+    }
+
+    @Test
+    public void testParseObject() throws ParseException {
+        assertEquals(LocalDate.of(2023, 2, 28), ofPattern("yyyy-MM-dd").parseObject("2023-02-28"));
+        assertEquals(LocalDate.of(2024, 2, 29), ofPattern("yyyyMMdd").parseObject("20240229"));
+        assertEquals(LocalDateTime.of(2023, 12, 31, 23, 59, 58), ofPattern("yyyy-MM-dd HH:mm:ss").parseObject("2023-12-31 23:59:58"));
+        assertEquals(LocalDateTime.of(2023, 1, 2, 3, 4, 5, 600_000_000), ofPattern("uuuu-MM-dd'T'HH:mm:ss.SSS").parseObject("2023-01-02T03:04:05.600"));
+        assertEquals(LocalTime.of(13, 14, 15), ofPattern("HHmmss").parseObject("131415"));
+        assertEquals(LocalTime.of(13, 14), ofPattern("HH:mm").parseObject("13:14"));
+    }
+
+    @Test
+    public void testParseObject_sameAsDateTimeFormatter() throws ParseException {
+        Format format = ofPattern("yyyy-MM-dd");
+        Format expected = DateTimeFormatter.ofPattern("yyyy-MM-dd", Locale.US).toFormat();
+        // Resolved to last day of month by DateTimeFormatter
+        assertEquals(LocalDate.from((TemporalAccessor) expected.parseObject("2023-02-30")),
+                LocalDate.from((TemporalAccessor) format.parseObject("2023-02-30")));
+    }
+
+    @Test(expected = ParseException.class)
+    public void testParseObject_invalid() throws ParseException {
+        ofPattern("yyyy-MM-dd").parseObject("2023/02/28");
+    }
+
+    @Test(expected = ParseException.class)
+    public void testParseObject_outOfRange() throws ParseException {
+        ofPattern("yyyy-MM-dd HH:mm").parseObject("2023-02-28 25:00");
+    }
+
+    @Test
+    public void testFormat() {
+        assertEquals("2023-01-02 03:04:05", ofPattern("yyyy-MM-dd HH:mm:ss").format(LocalDateTime.of(2023, 1, 2, 3, 4, 5)));
+        assertEquals("20230102", ofPattern("yyyyMMdd").format(LocalDate.of(2023, 1, 2)));
+    }
+
+    private static void assertFormatDirect(String pattern, Object value) {
+        FixedPatternDateTimeFormat format = (FixedPatternDateTimeFormat) ofPattern(pattern);
+        StringBuilder sb = new StringBuilder("x");
+        assertTrue(format.formatDirect(value, sb));
+        assertEquals("x" + format.format(value), sb.toString());
+    }
+
+    @Test
+    public void testFormatDirect() {
+        LocalDateTime dateTime = LocalDateTime.of(2019, 3, 7, 9, 5, 2, 123_456_789);
+        assertFormatDirect("yyyy-MM-dd", dateTime.toLocalDate());
+        assertFormatDirect("yyyyMMdd", dateTime);
+        assertFormatDirect("uuuu-MM-dd'T'HH:mm:ss.SSS", dateTime);
+        assertFormatDirect("dd/MM/yyyy HH:mm", dateTime);
+        assertFormatDirect("HHmmssSSSSSSSSS", dateTime.toLocalTime());
+        assertFormatDirect("HH:mm", dateTime);
+        assertFormatDirect("yyyy-MM-dd", LocalDate.of(1, 1, 1));
+
+        FixedPatternDateTimeFormat format = (FixedPatternDateTimeFormat) ofPattern("yyyy-MM-dd");
+        StringBuilder sb = new StringBuilder();
+        assertFalse(format.formatDirect(LocalTime.NOON, sb));
+        assertFalse(format.formatDirect(LocalDate.of(10000, 1, 1), sb));
+        assertFalse(format.formatDirect(new java.util.Date(), sb));
+        assertEquals("", sb.toString());
+    }
+
+}
@@ -5,6 +5,7 @@ import org.junit.Test;
 
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.text.ParsePosition;
 
 import static org.junit.Assert.*;
 
@@ -29,4 +30,38 @@ public class ImpliedDecimalFormatTest {
         assertEquals(new BigDecimal("3.14"), format.parse("314"));
         assertEquals(new BigDecimal("4711.00"), format.parse("471100"));
     }
+
+    @Test
+    public void parseObject() {
+        ImpliedDecimalFormat format = new ImpliedDecimalFormat(2);
+        ParsePosition pos = new ParsePosition(0);
+        assertEquals(new BigDecimal("-3.14"), format.parseObject("-314", pos));
+        assertEquals(4, pos.getIndex());
+        assertEquals(new BigDecimal("1234567890123456.78"), format.parseObject("123456789012345678", new ParsePosition(0)));
+        assertNull(format.parseObject("x", new ParsePosition(0)));
+    }
+
+    @Test
+    public void formatDirect() {
+        ImpliedDecimalFormat format = new ImpliedDecimalFormat(2);
+        StringBuilder sb = new StringBuilder();
+        assertTrue(format.formatDirect(0L, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(-17L, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(3.14D, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect(-0.5D, sb));
+        sb.append(';');
+        assertTrue(format.formatDirect((Object) new BigDecimal("12.3"), sb));
+        sb.append(';');
+        assertTrue(format.formatDirect((Object) 42, sb));
+        assertEquals("0;-1700;314;-50;1230;4200", sb.toString());
+
+        assertFalse(format.formatDirect(3.145D, sb));
+        assertFalse(format.formatDirect((Object) new BigDecimal("3.145"), sb));
+        assertFalse(format.formatDirect(Long.MAX_VALUE, sb));
+        assertFalse(format.formatDirect((Object) "5", sb));
+        assertEquals("0;-1700;314;-50;1230;4200", sb.toString());
+    }
 }
\ No newline at end of file
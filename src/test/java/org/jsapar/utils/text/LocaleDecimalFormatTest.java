@@ -0,0 +1,71 @@
+package org.jsapar.utils.text;
+
+import org.jsapar.text.LocaleDecimalFormat;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.text.DecimalFormat;
+import java.text.NumberFormat;
+import java.text.ParsePosition;
+import java.util.Locale;
+
+import static org.junit.Assert.*;
+
+public class LocaleDecimalFormatTest {
+
+    private static final String[] VALUES = {"0", "12", "-12", "1,234", "1,234.5", ",123", "1.0", "1.50", "-1.50", "-0",
+            "0.1", "1.", ".5", "00012", "0.000001", "123456789012345678", "9223372036854775807", "12345678901234567890",
+            "3.14159265358979323846", "1.5E3", "123,", "+5", "-", "12.34.5", "12a"};
+
+    private static void assertSameAsDecimalFormat(NumberFormat expectedFormat, NumberFormat actualFormat, String value) {
+        ParsePosition expectedPos = new ParsePosition(0);
+        ParsePosition actualPos = new ParsePosition(0);
+        Number expected = expectedFormat.parse(value, expectedPos);
+        Number actual = actualFormat.parse(value, actualPos);
+        assertEquals(value, expected, actual);
+        assertEquals(value, expectedPos.getIndex(), actualPos.getIndex());
+    }
+
+    @Test
+    public void testParse_sameAsDecimalFormat() {
+        for (String value : VALUES) {
+            assertSameAsDecimalFormat(NumberFormat.getInstance(Locale.US), LocaleDecimalFormat.getInstance(Locale.US), value);
+            assertSameAsDecimalFormat(NumberFormat.getIntegerInstance(Locale.US), LocaleDecimalFormat.getIntegerInstance(Locale.US), value);
+            DecimalFormat expected = (DecimalFormat) NumberFormat.getInstance(Locale.US);
+            expected.setParseBigDecimal(true);
+            DecimalFormat actual = (DecimalFormat) LocaleDecimalFormat.getInstance(Locale.US);
+            actual.setParseBigDecimal(true);
+            assertSameAsDecimalFormat(expected, actual, value);
+        }
+    }
+
+    @Test
+    public void testParseDirect_locales() {
+        LocaleDecimalFormat swedish = (LocaleDecimalFormat) LocaleDecimalFormat.getInstance(new Locale("sv", "SE"));
+        assertEquals(-1234.5, swedish.parseDirect("-1 234,5"));
+        assertEquals(-1234.5, swedish.parseDirect("−1 234,5"));
+        LocaleDecimalFormat german = (LocaleDecimalFormat) LocaleDecimalFormat.getInstance(Locale.GERMANY);
+        assertEquals(1234567L, german.parseDirect("1.234.567"));
+        assertEquals(3141.59, german.parseDirect("3.141,59"));
+        assertNull(german.parseDirect("1 234"));
+        german.setParseBigDecimal(true);
+        assertEquals(new BigDecimal("3141.590"), german.parseDirect("3.141,590"));
+    }
+
+    @Test
+    public void testParseDirect_fallback() {
+        LocaleDecimalFormat format = (LocaleDecimalFormat) LocaleDecimalFormat.getInstance(Locale.US);
+        assertNull(format.parseDirect("1.5E3"));
+        assertNull(format.parseDirect("12345678901234567890"));
+        assertEquals(1500L, format.parse("1.5E3", new ParsePosition(0)));
+        format.setPositivePrefix("+");
+        assertNull(format.parseDirect("12"));
+    }
+
+    @Test
+    public void testFormat_sameAsDecimalFormat() {
+        Locale locale = new Locale("sv", "SE");
+        assertEquals(NumberFormat.getInstance(locale).format(-1234567.891), LocaleDecimalFormat.getInstance(locale).format(-1234567.891));
+        assertEquals(NumberFormat.getIntegerInstance(locale).format(1234.5), LocaleDecimalFormat.getIntegerInstance(locale).format(1234.5));
+    }
+}